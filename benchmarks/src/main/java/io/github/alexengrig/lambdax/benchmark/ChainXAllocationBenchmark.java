@@ -0,0 +1,85 @@
+/*
+ * Copyright 2019 - 2020 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.alexengrig.lambdax.benchmark;
+
+import io.github.alexengrig.lambdax.ChainX;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Typical {@link io.github.alexengrig.lambdax.ChainX} chains written in one method,
+ * whose intermediate instances must be eliminated by escape analysis.
+ *
+ * <p>
+ * The expected {@code gc.alloc.rate.norm} is zero,
+ * it is asserted by {@code ChainXAllocationTest}.
+ *
+ * @author Grig Alex
+ * @version 0.6.0
+ * @since 0.6.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ChainXAllocationBenchmark {
+    @Param({"value", "", "null"})
+    public String input;
+
+    private String value;
+    private String other;
+    private Function<String, String> mapper;
+    private Predicate<String> predicate;
+
+    @Setup
+    public void setup() {
+        value = "null".equals(input) ? null : input;
+        other = "other";
+        mapper = String::trim;
+        predicate = s -> !s.isEmpty();
+    }
+
+    @Benchmark
+    public String mapFilterOrElse() {
+        return ChainX.of(value).map(mapper).filter(predicate).orElse(other);
+    }
+
+    @Benchmark
+    public String mapFilterOrOrElse() {
+        return ChainX.of(value).map(mapper).filter(predicate).or(ChainX.of(other)).orElse(null);
+    }
+
+    @Benchmark
+    public String flatMapOrElse() {
+        return ChainX.of(value).flatMap(s -> ChainX.of(mapper.apply(s))).filter(predicate).orElse(other);
+    }
+}
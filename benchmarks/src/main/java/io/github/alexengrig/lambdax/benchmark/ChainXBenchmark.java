@@ -0,0 +1,101 @@
+/*
+ * Copyright 2019 - 2020 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.alexengrig.lambdax.benchmark;
+
+import io.github.alexengrig.lambdax.ChainX;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * {@link io.github.alexengrig.lambdax.ChainX} chains of depth 1-20
+ * versus {@link java.util.Optional} and hand-written null checks.
+ *
+ * <p>
+ * Each step of a chain is a {@code map} and a {@code filter}.
+ *
+ * @author Grig Alex
+ * @version 0.6.0
+ * @since 0.6.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ChainXBenchmark {
+    @Param({"1", "2", "5", "10", "20"})
+    public int depth;
+
+    @Param({"false", "true"})
+    public boolean nullable;
+
+    private String value;
+    private Function<String, String> mapper;
+    private Predicate<String> predicate;
+
+    @Setup
+    public void setup() {
+        value = nullable ? null : "value";
+        mapper = s -> s;
+        predicate = s -> !s.isEmpty();
+    }
+
+    @Benchmark
+    public String chainX() {
+        ChainX<String> chain = ChainX.of(value);
+        for (int i = 0; i < depth; i++) {
+            chain = chain.map(mapper).filter(predicate);
+        }
+        return chain.orElse("default");
+    }
+
+    @Benchmark
+    public String optional() {
+        Optional<String> optional = Optional.ofNullable(value);
+        for (int i = 0; i < depth; i++) {
+            optional = optional.map(mapper).filter(predicate);
+        }
+        return optional.orElse("default");
+    }
+
+    @Benchmark
+    public String plain() {
+        String result = value;
+        for (int i = 0; i < depth && result != null; i++) {
+            result = mapper.apply(result);
+            if (result != null && !predicate.test(result)) {
+                result = null;
+            }
+        }
+        return result != null ? result : "default";
+    }
+}
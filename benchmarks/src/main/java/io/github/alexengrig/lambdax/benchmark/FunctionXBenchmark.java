@@ -0,0 +1,289 @@
+/*
+ * Copyright 2019 - 2020 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.alexengrig.lambdax.benchmark;
+
+import io.github.alexengrig.lambdax.function.FunctionPipelineX;
+import io.github.alexengrig.lambdax.function.FunctionX;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * {@link io.github.alexengrig.lambdax.function.FunctionX#pipe} and
+ * {@link io.github.alexengrig.lambdax.function.FunctionX#compose} at every arity (2-16),
+ * and {@link io.github.alexengrig.lambdax.function.FunctionX#pipeline()} of 12 and 16 stages.
+ *
+ * <p>
+ * The composed functions are created once, so only the application is measured.
+ *
+ * @author Grig Alex
+ * @version 0.6.0
+ * @since 0.6.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FunctionXBenchmark {
+    private Integer value;
+    private Function<Integer, Integer> pipe2;
+    private Function<Integer, Integer> pipe3;
+    private Function<Integer, Integer> pipe4;
+    private Function<Integer, Integer> pipe5;
+    private Function<Integer, Integer> pipe6;
+    private Function<Integer, Integer> pipe7;
+    private Function<Integer, Integer> pipe8;
+    private Function<Integer, Integer> pipe9;
+    private Function<Integer, Integer> pipe10;
+    private Function<Integer, Integer> pipe11;
+    private Function<Integer, Integer> pipe12;
+    private Function<Integer, Integer> pipe13;
+    private Function<Integer, Integer> pipe14;
+    private Function<Integer, Integer> pipe15;
+    private Function<Integer, Integer> pipe16;
+    private Function<Integer, Integer> compose2;
+    private Function<Integer, Integer> compose3;
+    private Function<Integer, Integer> compose4;
+    private Function<Integer, Integer> compose5;
+    private Function<Integer, Integer> compose6;
+    private Function<Integer, Integer> compose7;
+    private Function<Integer, Integer> compose8;
+    private Function<Integer, Integer> compose9;
+    private Function<Integer, Integer> compose10;
+    private Function<Integer, Integer> compose11;
+    private Function<Integer, Integer> compose12;
+    private Function<Integer, Integer> compose13;
+    private Function<Integer, Integer> compose14;
+    private Function<Integer, Integer> compose15;
+    private Function<Integer, Integer> compose16;
+    private Function<Integer, Integer> pipeline12;
+    private Function<Integer, Integer> pipeline16;
+
+    @Setup
+    public void setup() {
+        value = 0;
+        Function<Integer, Integer> f = i -> i + 1;
+        pipe2 = FunctionX.pipe(f, f);
+        pipe3 = FunctionX.pipe(f, f, f);
+        pipe4 = FunctionX.pipe(f, f, f, f);
+        pipe5 = FunctionX.pipe(f, f, f, f, f);
+        pipe6 = FunctionX.pipe(f, f, f, f, f, f);
+        pipe7 = FunctionX.pipe(f, f, f, f, f, f, f);
+        pipe8 = FunctionX.pipe(f, f, f, f, f, f, f, f);
+        pipe9 = FunctionX.pipe(f, f, f, f, f, f, f, f, f);
+        pipe10 = FunctionX.pipe(f, f, f, f, f, f, f, f, f, f);
+        pipe11 = FunctionX.pipe(f, f, f, f, f, f, f, f, f, f, f);
+        pipe12 = FunctionX.pipe(f, f, f, f, f, f, f, f, f, f, f, f);
+        pipe13 = FunctionX.pipe(f, f, f, f, f, f, f, f, f, f, f, f, f);
+        pipe14 = FunctionX.pipe(f, f, f, f, f, f, f, f, f, f, f, f, f, f);
+        pipe15 = FunctionX.pipe(f, f, f, f, f, f, f, f, f, f, f, f, f, f, f);
+        pipe16 = FunctionX.pipe(f, f, f, f, f, f, f, f, f, f, f, f, f, f, f, f);
+        compose2 = FunctionX.compose(f, f);
+        compose3 = FunctionX.compose(f, f, f);
+        compose4 = FunctionX.compose(f, f, f, f);
+        compose5 = FunctionX.compose(f, f, f, f, f);
+        compose6 = FunctionX.compose(f, f, f, f, f, f);
+        compose7 = FunctionX.compose(f, f, f, f, f, f, f);
+        compose8 = FunctionX.compose(f, f, f, f, f, f, f, f);
+        compose9 = FunctionX.compose(f, f, f, f, f, f, f, f, f);
+        compose10 = FunctionX.compose(f, f, f, f, f, f, f, f, f, f);
+        compose11 = FunctionX.compose(f, f, f, f, f, f, f, f, f, f, f);
+        compose12 = FunctionX.compose(f, f, f, f, f, f, f, f, f, f, f, f);
+        compose13 = FunctionX.compose(f, f, f, f, f, f, f, f, f, f, f, f, f);
+        compose14 = FunctionX.compose(f, f, f, f, f, f, f, f, f, f, f, f, f, f);
+        compose15 = FunctionX.compose(f, f, f, f, f, f, f, f, f, f, f, f, f, f, f);
+        compose16 = FunctionX.compose(f, f, f, f, f, f, f, f, f, f, f, f, f, f, f, f);
+        FunctionPipelineX<Integer, Integer> pipeline = FunctionX.pipeline(Integer.class);
+        for (int i = 0; i < 12; i++) {
+            pipeline = pipeline.then(f);
+        }
+        pipeline12 = pipeline;
+        pipeline16 = pipeline.then(FunctionX.pipeline(Integer.class).then(f).then(f).then(f).then(f));
+    }
+
+    @Benchmark
+    public Integer pipe2() {
+        return pipe2.apply(value);
+    }
+
+    @Benchmark
+    public Integer pipe3() {
+        return pipe3.apply(value);
+    }
+
+    @Benchmark
+    public Integer pipe4() {
+        return pipe4.apply(value);
+    }
+
+    @Benchmark
+    public Integer pipe5() {
+        return pipe5.apply(value);
+    }
+
+    @Benchmark
+    public Integer pipe6() {
+        return pipe6.apply(value);
+    }
+
+    @Benchmark
+    public Integer pipe7() {
+        return pipe7.apply(value);
+    }
+
+    @Benchmark
+    public Integer pipe8() {
+        return pipe8.apply(value);
+    }
+
+    @Benchmark
+    public Integer pipe9() {
+        return pipe9.apply(value);
+    }
+
+    @Benchmark
+    public Integer pipe10() {
+        return pipe10.apply(value);
+    }
+
+    @Benchmark
+    public Integer pipe11() {
+        return pipe11.apply(value);
+    }
+
+    @Benchmark
+    public Integer pipe12() {
+        return pipe12.apply(value);
+    }
+
+    @Benchmark
+    public Integer pipe13() {
+        return pipe13.apply(value);
+    }
+
+    @Benchmark
+    public Integer pipe14() {
+        return pipe14.apply(value);
+    }
+
+    @Benchmark
+    public Integer pipe15() {
+        return pipe15.apply(value);
+    }
+
+    @Benchmark
+    public Integer pipe16() {
+        return pipe16.apply(value);
+    }
+
+    @Benchmark
+    public Integer compose2() {
+        return compose2.apply(value);
+    }
+
+    @Benchmark
+    public Integer compose3() {
+        return compose3.apply(value);
+    }
+
+    @Benchmark
+    public Integer compose4() {
+        return compose4.apply(value);
+    }
+
+    @Benchmark
+    public Integer compose5() {
+        return compose5.apply(value);
+    }
+
+    @Benchmark
+    public Integer compose6() {
+        return compose6.apply(value);
+    }
+
+    @Benchmark
+    public Integer compose7() {
+        return compose7.apply(value);
+    }
+
+    @Benchmark
+    public Integer compose8() {
+        return compose8.apply(value);
+    }
+
+    @Benchmark
+    public Integer compose9() {
+        return compose9.apply(value);
+    }
+
+    @Benchmark
+    public Integer compose10() {
+        return compose10.apply(value);
+    }
+
+    @Benchmark
+    public Integer compose11() {
+        return compose11.apply(value);
+    }
+
+    @Benchmark
+    public Integer compose12() {
+        return compose12.apply(value);
+    }
+
+    @Benchmark
+    public Integer compose13() {
+        return compose13.apply(value);
+    }
+
+    @Benchmark
+    public Integer compose14() {
+        return compose14.apply(value);
+    }
+
+    @Benchmark
+    public Integer compose15() {
+        return compose15.apply(value);
+    }
+
+    @Benchmark
+    public Integer compose16() {
+        return compose16.apply(value);
+    }
+
+    @Benchmark
+    public Integer pipeline12() {
+        return pipeline12.apply(value);
+    }
+
+    @Benchmark
+    public Integer pipeline16() {
+        return pipeline16.apply(value);
+    }
+}
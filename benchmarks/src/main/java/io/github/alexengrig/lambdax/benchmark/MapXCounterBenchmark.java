@@ -0,0 +1,93 @@
+/*
+ * Copyright 2019 - 2020 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.alexengrig.lambdax.benchmark;
+
+import io.github.alexengrig.lambdax.collection.MapX;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * The striped {@link io.github.alexengrig.lambdax.collection.MapX#increment}
+ * versus {@link io.github.alexengrig.lambdax.collection.MapX#merge} with {@code Long::sum}
+ * on a {@link java.util.concurrent.ConcurrentHashMap} shared by all threads.
+ *
+ * <p>
+ * Each call updates a random key of {@code keys}, so a single key is the most contended case.
+ * Run with {@code -t} to change the number of threads.
+ *
+ * @author Grig Alex
+ * @version 0.6.0
+ * @since 0.6.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(Threads.MAX)
+@State(Scope.Benchmark)
+public class MapXCounterBenchmark {
+    @Param({"1", "64"})
+    public int keys;
+
+    private Map<String, LongAdder> adders;
+    private Map<String, Long> sums;
+    private Consumer<Map<String, LongAdder>>[] increments;
+    private Function<Map<String, Long>, Long>[] merges;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        adders = new ConcurrentHashMap<>();
+        sums = new ConcurrentHashMap<>();
+        increments = new Consumer[keys];
+        merges = new Function[keys];
+        for (int i = 0; i < keys; i++) {
+            String key = "key-" + i;
+            increments[i] = MapX.increment(key);
+            merges[i] = MapX.merge(key, 1L, Long::sum);
+        }
+    }
+
+    @Benchmark
+    public void increment() {
+        increments[ThreadLocalRandom.current().nextInt(keys)].accept(adders);
+    }
+
+    @Benchmark
+    public Long merge() {
+        return merges[ThreadLocalRandom.current().nextInt(keys)].apply(sums);
+    }
+}
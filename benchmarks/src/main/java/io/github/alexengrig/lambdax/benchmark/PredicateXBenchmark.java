@@ -0,0 +1,105 @@
+/*
+ * Copyright 2019 - 2020 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.alexengrig.lambdax.benchmark;
+
+import io.github.alexengrig.lambdax.function.PredicateX;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * The varargs {@link io.github.alexengrig.lambdax.function.PredicateX#and},
+ * {@link io.github.alexengrig.lambdax.function.PredicateX#or} and
+ * {@link io.github.alexengrig.lambdax.function.PredicateX#xor}
+ * versus a hand-written loop over the same predicates.
+ *
+ * <p>
+ * All predicates pass, so {@code and} evaluates every predicate,
+ * {@code or} evaluates only the first one, and {@code xor} always evaluates every predicate.
+ *
+ * @author Grig Alex
+ * @version 0.6.0
+ * @since 0.6.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PredicateXBenchmark {
+    @Param({"2", "5", "10", "50"})
+    public int size;
+
+    private Integer value;
+    private Predicate<Integer>[] predicates;
+    private Predicate<Integer> and;
+    private Predicate<Integer> or;
+    private Predicate<Integer> xor;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        value = 42;
+        predicates = new Predicate[size];
+        for (int i = 0; i < size; i++) {
+            int bound = -i;
+            predicates[i] = n -> n > bound;
+        }
+        Predicate<Integer>[] others = Arrays.copyOfRange(predicates, 2, size);
+        and = PredicateX.and(predicates[0], predicates[1], others);
+        or = PredicateX.or(predicates[0], predicates[1], others);
+        xor = PredicateX.xor(predicates[0], predicates[1], others);
+    }
+
+    @Benchmark
+    public boolean and() {
+        return and.test(value);
+    }
+
+    @Benchmark
+    public boolean or() {
+        return or.test(value);
+    }
+
+    @Benchmark
+    public boolean xor() {
+        return xor.test(value);
+    }
+
+    @Benchmark
+    public boolean plainAnd() {
+        for (Predicate<Integer> predicate : predicates) {
+            if (!predicate.test(value)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2019 - 2020 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.alexengrig.lambdax.benchmark;
+
+import io.github.alexengrig.lambdax.lang.StringX;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Calls of {@link io.github.alexengrig.lambdax.lang.StringX} factories with constant arguments,
+ * whose functions are found in the cache of canonical functions.
+ *
+ * <p>
+ * The expected {@code gc.alloc.rate.norm} is zero,
+ * it is asserted by {@code StringXAllocationTest}.
+ *
+ * @author Grig Alex
+ * @version 0.6.0
+ * @since 0.6.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class StringXAllocationBenchmark {
+    private String prefix = "abc";
+    private String regex = "\\d+";
+    private int beginIndex = 1000;
+    private int endIndex = 2000;
+
+    @Benchmark
+    public Predicate<String> startsWith() {
+        return StringX.startsWith(prefix);
+    }
+
+    @Benchmark
+    public Function<String, String> replaceAll() {
+        return StringX.replaceAll(regex, prefix);
+    }
+
+    @Benchmark
+    public Function<String, String> replaceChar() {
+        return StringX.replace('a', 'b');
+    }
+
+    @Benchmark
+    public Function<String, String> substring() {
+        return StringX.substring(beginIndex, endIndex);
+    }
+
+    @Benchmark
+    public Function<String, Integer> indexOf() {
+        return StringX.indexOf(prefix, beginIndex);
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2019 - 2020 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.alexengrig.lambdax.benchmark;
+
+import io.github.alexengrig.lambdax.lang.StringX;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * The regex-based factories of {@link io.github.alexengrig.lambdax.lang.StringX}.
+ *
+ * <p>
+ * The functions are created once, so only the application is measured.
+ * The regex is not a single literal character,
+ * so {@link java.lang.String} cannot use its fast path.
+ *
+ * @author Grig Alex
+ * @version 0.6.0
+ * @since 0.6.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class StringXBenchmark {
+    private static final String REGEX = "\\d+";
+    private static final String REPLACEMENT = "#";
+
+    private String value;
+    private Function<String, String> replaceFirst;
+    private Function<String, String> leftReplaceFirst;
+    private Function<String, String> rightReplaceFirst;
+    private Function<String, String> replaceAll;
+    private Function<String, String> leftReplaceAll;
+    private Function<String, String> rightReplaceAll;
+    private Function<String, String[]> split;
+    private Function<String, String[]> splitWithLimit;
+    private Function<String, String[]> leftSplit;
+    private Function<String, String[]> rightSplit;
+    private Predicate<String> matches;
+
+    @Setup
+    public void setup() {
+        value = "2020-01-01 12:00:00 request 42 took 17 ms";
+        replaceFirst = StringX.replaceFirst(REGEX, REPLACEMENT);
+        leftReplaceFirst = StringX.leftReplaceFirst(REGEX).apply(REPLACEMENT);
+        rightReplaceFirst = StringX.rightReplaceFirst(REPLACEMENT).apply(REGEX);
+        replaceAll = StringX.replaceAll(REGEX, REPLACEMENT);
+        leftReplaceAll = StringX.leftReplaceAll(REGEX).apply(REPLACEMENT);
+        rightReplaceAll = StringX.rightReplaceAll(REPLACEMENT).apply(REGEX);
+        split = StringX.split(REGEX);
+        splitWithLimit = StringX.split(REGEX, 3);
+        leftSplit = StringX.leftSplit(REGEX).apply(3);
+        rightSplit = StringX.rightSplit(3).apply(REGEX);
+        matches = StringX.matches(".*\\d+ ms");
+    }
+
+    @Benchmark
+    public String replaceFirst() {
+        return replaceFirst.apply(value);
+    }
+
+    @Benchmark
+    public String leftReplaceFirst() {
+        return leftReplaceFirst.apply(value);
+    }
+
+    @Benchmark
+    public String rightReplaceFirst() {
+        return rightReplaceFirst.apply(value);
+    }
+
+    @Benchmark
+    public String replaceAll() {
+        return replaceAll.apply(value);
+    }
+
+    @Benchmark
+    public String leftReplaceAll() {
+        return leftReplaceAll.apply(value);
+    }
+
+    @Benchmark
+    public String rightReplaceAll() {
+        return rightReplaceAll.apply(value);
+    }
+
+    @Benchmark
+    public String[] split() {
+        return split.apply(value);
+    }
+
+    @Benchmark
+    public String[] splitWithLimit() {
+        return splitWithLimit.apply(value);
+    }
+
+    @Benchmark
+    public String[] leftSplit() {
+        return leftSplit.apply(value);
+    }
+
+    @Benchmark
+    public String[] rightSplit() {
+        return rightSplit.apply(value);
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return matches.test(value);
+    }
+
+    @Benchmark
+    public String plainReplaceAll() {
+        return value.replaceAll(REGEX, REPLACEMENT);
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2019 - 2020 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.alexengrig.lambdax.benchmark;
+
+import io.github.alexengrig.lambdax.function.PredicateX;
+import io.github.alexengrig.lambdax.lang.StringX;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * {@link io.github.alexengrig.lambdax.lang.StringX#containsAny(java.util.Collection)}
+ * against an or of {@link io.github.alexengrig.lambdax.lang.StringX#contains(CharSequence)}.
+ *
+ * <p>
+ * The value contains none of the keywords, so every keyword is checked.
+ *
+ * @author Grig Alex
+ * @version 0.6.0
+ * @since 0.6.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class StringXKeywordBenchmark {
+    @Param({"10", "100", "1000"})
+    private int keywords;
+
+    private String value;
+    private Predicate<String> containsAny;
+    private Predicate<String> orOfContains;
+
+    @Setup
+    public void setup() {
+        value = "2020-01-01 12:00:00 INFO request 42 from 10.0.0.1 took 17 ms";
+        List<String> words = new ArrayList<>(keywords);
+        List<Predicate<String>> contains = new ArrayList<>(keywords);
+        for (int i = 0; i < keywords; i++) {
+            String word = "keyword" + i;
+            words.add(word);
+            contains.add(StringX.contains(word));
+        }
+        containsAny = StringX.containsAny(words);
+        @SuppressWarnings("unchecked")
+        Predicate<String>[] others = contains.subList(2, keywords).toArray(new Predicate[0]);
+        orOfContains = PredicateX.or(contains.get(0), contains.get(1), others);
+    }
+
+    @Benchmark
+    public boolean containsAny() {
+        return containsAny.test(value);
+    }
+
+    @Benchmark
+    public boolean orOfContains() {
+        return orOfContains.test(value);
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2019 - 2020 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.alexengrig.lambdax.benchmark;
+
+import org.junit.Test;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.util.Collection;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+
+public class ChainXAllocationTest {
+    private static final String ALLOCATION = "gc.alloc.rate.norm";
+    private static final double EPSILON = 1.0;
+
+    @Test
+    public void checkZeroAllocation() throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(ChainXAllocationBenchmark.class.getName())
+                .addProfiler(GCProfiler.class)
+                .warmupIterations(5)
+                .warmupTime(TimeValue.milliseconds(500))
+                .measurementIterations(3)
+                .measurementTime(TimeValue.milliseconds(500))
+                .forks(1)
+                .shouldFailOnError(true)
+                .build();
+        Collection<RunResult> results = new Runner(options).run();
+        assertFalse("No benchmark was run", results.isEmpty());
+        for (RunResult result : results) {
+            Result<?> allocation = result.getSecondaryResults().get(ALLOCATION);
+            assertNotNull("No " + ALLOCATION + " for " + result.getParams(), allocation);
+            assertEquals(result.getParams().getBenchmark() + " " + result.getParams().getParam("input"),
+                    0.0, allocation.getScore(), EPSILON);
+        }
+    }
+}
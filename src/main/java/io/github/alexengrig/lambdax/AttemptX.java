@@ -0,0 +1,447 @@
+/*
+ * Copyright 2019 - 2020 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.alexengrig.lambdax;
+
+import io.github.alexengrig.lambdax.function.ThrowableFunction;
+import io.github.alexengrig.lambdax.lang.StacklessException;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A result of an attempt: either a nullable value or a failure.
+ *
+ * <p>
+ * Unlike the {@code try*} methods of {@link io.github.alexengrig.lambdax.ChainX},
+ * a failure is carried as a value, so a function may report it without throwing:
+ * <pre>{@code
+ * ChainX.of(text)
+ *         .attemptFlatMap(s -> isNumber(s) ? AttemptX.success(Integer.valueOf(s)) : AttemptX.failure("Not a number"))
+ *         .recover(failure -> -1)
+ *         .get();
+ * }</pre>
+ *
+ * <p>
+ * Like in {@code ChainX}, a {@code null} value of a success is not passed to mapping functions.
+ *
+ * @param <T> the type of value
+ * @author Grig Alex
+ * @version 0.6.0
+ * @see io.github.alexengrig.lambdax.ChainX#attemptMap(ThrowableFunction)
+ * @see io.github.alexengrig.lambdax.ChainX#attemptFlatMap(Function)
+ * @see io.github.alexengrig.lambdax.lang.StacklessException
+ * @since 0.6.0
+ */
+public final class AttemptX<T> {
+    /**
+     * Common instance for {@code success(null)}.
+     *
+     * @since 0.6.0
+     */
+    private static final AttemptX<?> EMPTY = new AttemptX<>(null, null);
+
+    /**
+     * Stored value, {@code null} if failed.
+     *
+     * @since 0.6.0
+     */
+    private final T value;
+
+    /**
+     * Stored failure, {@code null} if succeeded.
+     *
+     * @since 0.6.0
+     */
+    private final Throwable failure;
+
+    /**
+     * Constructs an instance with the stored value or failure.
+     *
+     * @param value   the value to store
+     * @param failure the failure to store
+     * @since 0.6.0
+     */
+    private AttemptX(T value, Throwable failure) {
+        this.value = value;
+        this.failure = failure;
+    }
+
+//    Create
+
+    /**
+     * Returns a successful {@code AttemptX} storing the given nullable value.
+     *
+     * @param value the nullable value to store
+     * @param <T>   the type of the {@code value}
+     * @return A successful {@code AttemptX} with the {@code value}
+     * @since 0.6.0
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> AttemptX<T> success(T value) {
+        return value == null ? (AttemptX<T>) EMPTY : new AttemptX<>(value, null);
+    }
+
+    /**
+     * Returns a failed {@code AttemptX} storing the given failure.
+     *
+     * <p>
+     * The {@code AttemptX} has no mutable state,
+     * so a failure of a known type may be pre-allocated once and shared.
+     *
+     * @param failure the failure to store
+     * @param <T>     the type of value
+     * @return A failed {@code AttemptX} with the {@code failure}
+     * @throws NullPointerException if {@code failure} is {@code null}
+     * @since 0.6.0
+     */
+    public static <T> AttemptX<T> failure(Throwable failure) {
+        return new AttemptX<>(null, Objects.requireNonNull(failure, "The failure must not be null"));
+    }
+
+    /**
+     * Returns a failed {@code AttemptX} storing a {@link io.github.alexengrig.lambdax.lang.StacklessException}
+     * with the given message.
+     *
+     * @param message the message of the failure
+     * @param <T>     the type of value
+     * @return A failed {@code AttemptX} with a failure without a stack trace
+     * @see io.github.alexengrig.lambdax.lang.StacklessException
+     * @since 0.6.0
+     */
+    public static <T> AttemptX<T> failure(String message) {
+        return new AttemptX<>(null, new StacklessException(message));
+    }
+
+    /**
+     * Returns the result of applying the given throwable function to the given value:
+     * a successful {@code AttemptX} storing the returned value,
+     * or a failed {@code AttemptX} storing the thrown exception.
+     *
+     * @param value    the value to apply {@code function} to
+     * @param function the throwable function
+     * @param <T>      the type of the {@code value}
+     * @param <R>      the type of the value returned from the function
+     * @param <X>      the type of exception
+     * @return an {@code AttemptX} of the result of applying {@code function}
+     * @throws NullPointerException if {@code function} is {@code null}
+     * @see io.github.alexengrig.lambdax.function.ThrowableFunction
+     * @since 0.6.0
+     */
+    public static <T, R, X extends Throwable> AttemptX<R> of(
+            T value, ThrowableFunction<? super T, ? extends R, ? extends X> function) {
+        Objects.requireNonNull(function, "The function must not be null");
+        try {
+            return success(function.apply(value));
+        } catch (Throwable throwable) {
+            return new AttemptX<>(null, throwable);
+        }
+    }
+
+//    Check
+
+    /**
+     * If the attempt succeeded, returns {@code true}, otherwise {@code false}.
+     *
+     * @return {@code true} if the attempt succeeded, otherwise {@code false}
+     * @since 0.6.0
+     */
+    public boolean isSuccess() {
+        return failure == null;
+    }
+
+    /**
+     * If the attempt failed, returns {@code true}, otherwise {@code false}.
+     *
+     * @return {@code true} if the attempt failed, otherwise {@code false}
+     * @since 0.6.0
+     */
+    public boolean isFailure() {
+        return failure != null;
+    }
+
+//    Flow
+
+    /**
+     * If the attempt succeeded with a not {@code null} value,
+     * returns a successful {@code AttemptX} storing the result of applying
+     * the given mapping function to the value, otherwise returns this {@code AttemptX}.
+     *
+     * @param mapper the mapping function to apply to a value
+     * @param <R>    the type of the value returned from the mapping function
+     * @return a successful {@code AttemptX} storing the result of {@code mapper},
+     * if the attempt succeeded with a not {@code null} value, otherwise this {@code AttemptX}
+     * @throws NullPointerException if the attempt succeeded with a not {@code null} value
+     *                              and {@code mapper} is {@code null}
+     * @since 0.6.0
+     */
+    @SuppressWarnings("unchecked")
+    public <R> AttemptX<R> map(Function<? super T, ? extends R> mapper) {
+        if (value != null) {
+            return success(mapper.apply(value));
+        }
+        return (AttemptX<R>) this;
+    }
+
+    /**
+     * If the attempt succeeded with a not {@code null} value,
+     * returns the result of applying the given {@code AttemptX}-bearing mapping function to the value,
+     * otherwise returns this {@code AttemptX}.
+     *
+     * @param mapper the mapping function to apply to a value
+     * @param <R>    the type of value of the {@code AttemptX} returned by the mapping function
+     * @return the result of {@code mapper},
+     * if the attempt succeeded with a not {@code null} value, otherwise this {@code AttemptX}
+     * @throws NullPointerException if the attempt succeeded with a not {@code null} value and,
+     *                              {@code mapper} is {@code null} or it returns {@code null}
+     * @since 0.6.0
+     */
+    @SuppressWarnings("unchecked")
+    public <R> AttemptX<R> flatMap(Function<? super T, ? extends AttemptX<? extends R>> mapper) {
+        if (value != null) {
+            return (AttemptX<R>) Objects.requireNonNull(mapper.apply(value), "The resulting AttemptX must not be null");
+        }
+        return (AttemptX<R>) this;
+    }
+
+    /**
+     * If the attempt succeeded with a not {@code null} value,
+     * returns the result of applying the given throwable function to the value
+     * (as if by {@link #of(Object, ThrowableFunction)}),
+     * otherwise returns this {@code AttemptX}.
+     *
+     * @param mapper the throwable mapping function to apply to a value
+     * @param <R>    the type of the value returned from the mapping function
+     * @param <X>    the type of exception
+     * @return an {@code AttemptX} of the result of {@code mapper},
+     * if the attempt succeeded with a not {@code null} value, otherwise this {@code AttemptX}
+     * @throws NullPointerException if the attempt succeeded with a not {@code null} value
+     *                              and {@code mapper} is {@code null}
+     * @see io.github.alexengrig.lambdax.function.ThrowableFunction
+     * @since 0.6.0
+     */
+    @SuppressWarnings("unchecked")
+    public <R, X extends Throwable> AttemptX<R> attemptMap(ThrowableFunction<? super T, ? extends R, ? extends X> mapper) {
+        if (value != null) {
+            return of(value, mapper);
+        }
+        return (AttemptX<R>) this;
+    }
+
+    /**
+     * If the attempt succeeded with a not {@code null} value, which does not match the given predicate,
+     * returns a failed {@code AttemptX} storing the failure produced by the given function,
+     * otherwise returns this {@code AttemptX}.
+     *
+     * @param predicate the predicate to apply to a value
+     * @param producer  the function that produces a failure from the value
+     * @return a failed {@code AttemptX},
+     * if the attempt succeeded with a not {@code null} value, which does not match {@code predicate},
+     * otherwise this {@code AttemptX}
+     * @throws NullPointerException if the attempt succeeded with a not {@code null} value and,
+     *                              {@code predicate} is {@code null},
+     *                              or the value does not match and {@code producer} is {@code null}
+     * @since 0.6.0
+     */
+    public AttemptX<T> filter(Predicate<? super T> predicate, Function<? super T, ? extends Throwable> producer) {
+        if (value != null && !predicate.test(value)) {
+            return failure(producer.apply(value));
+        }
+        return this;
+    }
+
+    /**
+     * If the attempt failed,
+     * returns a successful {@code AttemptX} storing the result of applying
+     * the given recovering function to the failure, otherwise returns this {@code AttemptX}.
+     *
+     * @param recoverer the function to apply to a failure
+     * @return a successful {@code AttemptX} storing the result of {@code recoverer},
+     * if the attempt failed, otherwise this {@code AttemptX}
+     * @throws NullPointerException if the attempt failed and {@code recoverer} is {@code null}
+     * @since 0.6.0
+     */
+    public AttemptX<T> recover(Function<? super Throwable, ? extends T> recoverer) {
+        if (failure != null) {
+            return success(recoverer.apply(failure));
+        }
+        return this;
+    }
+
+//    Value
+
+    /**
+     * Returns a {@code ChainX} storing the value, if the attempt succeeded,
+     * otherwise an empty {@code ChainX}.
+     *
+     * @return the value as a {@code ChainX}
+     * @see io.github.alexengrig.lambdax.ChainX
+     * @since 0.6.0
+     */
+    public ChainX<T> chain() {
+        return ChainX.of(value);
+    }
+
+    /**
+     * Returns the stored value, if the attempt succeeded.
+     *
+     * <p>ATTENTION: The value might be null.
+     *
+     * @return The stored value
+     * @throws NoSuchElementException if the attempt failed, with the failure as the cause
+     * @since 0.6.0
+     */
+    public T get() {
+        if (failure != null) {
+            final NoSuchElementException exception = new NoSuchElementException("Attempt failed");
+            exception.initCause(failure);
+            throw exception;
+        }
+        return value;
+    }
+
+    /**
+     * Returns the stored failure, if the attempt failed.
+     *
+     * @return The stored failure
+     * @throws NoSuchElementException if the attempt succeeded
+     * @since 0.6.0
+     */
+    public Throwable getFailure() {
+        if (failure == null) {
+            throw new NoSuchElementException("Attempt succeeded");
+        }
+        return failure;
+    }
+
+//    Or else
+
+    /**
+     * Return the value if the attempt succeeded, otherwise return {@code other}.
+     *
+     * @param other the value to be returned if the attempt failed, may be null
+     * @return the value, if the attempt succeeded, otherwise {@code other}
+     * @since 0.6.0
+     */
+    public T orElse(T other) {
+        return failure == null ? value : other;
+    }
+
+    /**
+     * Return the value if the attempt succeeded,
+     * otherwise invoke {@code catcher} with the failure and return the result of that invocation.
+     *
+     * @param catcher the function whose result is returned if the attempt failed
+     * @return the value if the attempt succeeded, otherwise the result of {@code catcher}
+     * @throws NullPointerException if the attempt failed and {@code catcher} is {@code null}
+     * @since 0.6.0
+     */
+    public T orElseCatch(Function<? super Throwable, ? extends T> catcher) {
+        return failure == null ? value : catcher.apply(failure);
+    }
+
+    /**
+     * Return the value if the attempt succeeded,
+     * otherwise throws an exception produced from the failure by the given function.
+     *
+     * @param mapper the function that produces an exception to be thrown from the failure
+     * @param <X>    the type of the exception to be thrown
+     * @return the stored value
+     * @throws X                    if the attempt failed
+     * @throws NullPointerException if the attempt failed and {@code mapper} is {@code null}
+     * @since 0.6.0
+     */
+    public <X extends Throwable> T orElseThrow(Function<? super Throwable, ? extends X> mapper) throws X {
+        if (failure == null) {
+            return value;
+        }
+        throw mapper.apply(failure);
+    }
+
+//    If
+
+    /**
+     * Invoke the specified consumer with the value if the attempt succeeded,
+     * otherwise do nothing.
+     *
+     * @param consumer block to be executed if the attempt succeeded
+     * @throws NullPointerException if the attempt succeeded and {@code consumer} is {@code null}
+     * @since 0.6.0
+     */
+    public void ifSuccess(Consumer<? super T> consumer) {
+        if (failure == null) {
+            consumer.accept(value);
+        }
+    }
+
+    /**
+     * Invoke the specified consumer with the failure if the attempt failed,
+     * otherwise do nothing.
+     *
+     * @param consumer block to be executed if the attempt failed
+     * @throws NullPointerException if the attempt failed and {@code consumer} is {@code null}
+     * @since 0.6.0
+     */
+    public void ifFailure(Consumer<? super Throwable> consumer) {
+        if (failure != null) {
+            consumer.accept(failure);
+        }
+    }
+
+//    Object
+
+    /**
+     * Compare by value and failure.
+     *
+     * @param o the object to compare
+     * @since 0.6.0
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        AttemptX<?> other = (AttemptX<?>) o;
+        return Objects.equals(value, other.value) && Objects.equals(failure, other.failure);
+    }
+
+    /**
+     * Calculate by value and failure.
+     *
+     * @since 0.6.0
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(value, failure);
+    }
+
+    /**
+     * Returns a non-empty string representation of this AttemptX.
+     *
+     * @return the string representation of this instance
+     * @since 0.6.0
+     */
+    @Override
+    public String toString() {
+        return failure == null ? "AttemptX.success[" + value + "]" : "AttemptX.failure[" + failure + "]";
+    }
+}
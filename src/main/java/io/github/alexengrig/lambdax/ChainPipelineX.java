@@ -0,0 +1,1085 @@
+/*
+ * Copyright 2019 - 2020 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.alexengrig.lambdax;
+
+import io.github.alexengrig.lambdax.function.ThrowableConsumer;
+import io.github.alexengrig.lambdax.function.ThrowableFunction;
+import io.github.alexengrig.lambdax.function.ThrowablePredicate;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * A lazy {@link io.github.alexengrig.lambdax.ChainX} that records steps
+ * and compiles them into a single reusable function.
+ *
+ * <p>
+ * Each step has the same semantics as the {@code ChainX} method of the same name:
+ * the {@code null} value is empty, and the steps after it are skipped,
+ * except for {@link #or(ChainX)} and {@link #or(Supplier)}.
+ * Applying a compiled function does not allocate {@code ChainX} instances.
+ *
+ * <p>
+ * Usage example:
+ * <pre>{@code
+ * Function<Order, Integer> quantity = ChainX.pipeline(Order.class)
+ *         .map(Order::getQuantity)
+ *         .filter(q -> q > 0)
+ *         .orElse(0);
+ * }</pre>
+ *
+ * <p>
+ * The pipeline is immutable, every step returns a new pipeline.
+ *
+ * @param <T> the type of the input to the pipeline
+ * @param <R> the type of the current value of the pipeline
+ * @author Grig Alex
+ * @version 0.6.0
+ * @see io.github.alexengrig.lambdax.ChainX
+ * @see io.github.alexengrig.lambdax.ChainX#pipeline(Class)
+ * @since 0.6.0
+ */
+public final class ChainPipelineX<T, R> {
+    private final ChainPipelineX<T, ?> previous;
+    private final Function<Object, Object> step;
+    private final boolean nullable;
+    private final int size;
+
+    private ChainPipelineX(ChainPipelineX<T, ?> previous, Function<Object, Object> step, boolean nullable) {
+        this.previous = previous;
+        this.step = step;
+        this.nullable = nullable;
+        this.size = previous == null ? 0 : previous.size + 1;
+    }
+
+    /**
+     * Returns an empty pipeline, which returns its input.
+     *
+     * @param <T> the type of the input to the pipeline
+     * @return the empty pipeline
+     * @since 0.6.0
+     */
+    static <T> ChainPipelineX<T, T> start() {
+        return new ChainPipelineX<>(null, null, false);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <V> ChainPipelineX<T, V> next(Function<? super R, ?> step) {
+        return new ChainPipelineX<>(this, (Function<Object, Object>) step, false);
+    }
+
+    /**
+     * Returns the number of steps.
+     *
+     * @return the number of steps
+     * @since 0.6.0
+     */
+    public int size() {
+        return size;
+    }
+
+//    Flow
+
+    /**
+     * Appends a step like {@link ChainX#filter(Predicate)}.
+     *
+     * @param predicate the predicate to apply to a value, if not {@code null}
+     * @return the pipeline with the step
+     * @throws NullPointerException if {@code predicate} is {@code null}
+     * @see ChainX#filter(Predicate)
+     * @since 0.6.0
+     */
+    public ChainPipelineX<T, R> filter(Predicate<? super R> predicate) {
+        Objects.requireNonNull(predicate, "The predicate must not be null");
+        return next(r -> predicate.test(r) ? r : null);
+    }
+
+    /**
+     * Appends a step like {@link ChainX#mutate(Consumer)}.
+     *
+     * <p>ATTENTION: This step mutates the value.
+     *
+     * @param mutator the consumer function to accept to a value, if not {@code null}
+     * @return the pipeline with the step
+     * @throws NullPointerException if {@code mutator} is {@code null}
+     * @see ChainX#mutate(Consumer)
+     * @since 0.6.0
+     */
+    public ChainPipelineX<T, R> mutate(Consumer<? super R> mutator) {
+        Objects.requireNonNull(mutator, "The mutator must not be null");
+        return next(r -> {
+            mutator.accept(r);
+            return r;
+        });
+    }
+
+    /**
+     * Appends a step like {@link ChainX#map(Function)}.
+     *
+     * @param mapper the mapping function to apply to a value, if not {@code null}
+     * @param <V>    the type of the value returned from the mapping function
+     * @return the pipeline with the step
+     * @throws NullPointerException if {@code mapper} is {@code null}
+     * @see ChainX#map(Function)
+     * @since 0.6.0
+     */
+    public <V> ChainPipelineX<T, V> map(Function<? super R, ? extends V> mapper) {
+        return next(Objects.requireNonNull(mapper, "The mapper must not be null"));
+    }
+
+    /**
+     * Appends a step like {@link ChainX#flatMap(Function)}.
+     *
+     * @param mapper the mapping function to apply to a value, if not {@code null}
+     * @param <V>    the type of value of the {@code ChainX} returned by the mapping function
+     * @return the pipeline with the step
+     * @throws NullPointerException if {@code mapper} is {@code null}
+     * @see ChainX#flatMap(Function)
+     * @since 0.6.0
+     */
+    public <V> ChainPipelineX<T, V> flatMap(Function<? super R, ? extends ChainX<? extends V>> mapper) {
+        Objects.requireNonNull(mapper, "The mapper must not be null");
+        return next(r -> mapper.apply(r).get());
+    }
+
+    /**
+     * Appends a step like {@link ChainX#flatMapOptional(Function)}.
+     *
+     * @param mapper the mapping function to apply to a value, if not {@code null}
+     * @param <V>    the type of value of the {@link java.util.Optional} returned by the mapping function
+     * @return the pipeline with the step
+     * @throws NullPointerException if {@code mapper} is {@code null}
+     * @see ChainX#flatMapOptional(Function)
+     * @since 0.6.0
+     */
+    public <V> ChainPipelineX<T, V> flatMapOptional(Function<? super R, ? extends Optional<? extends V>> mapper) {
+        Objects.requireNonNull(mapper, "The mapper must not be null");
+        return next(r -> mapper.apply(r).orElse(null));
+    }
+
+//    Try filter
+
+    /**
+     * Appends a step like {@link ChainX#tryFilter(ThrowablePredicate)}.
+     *
+     * @param predicate the predicate to apply to a value, if not {@code null}
+     * @param <X>       the type of exception
+     * @return the pipeline with the step
+     * @see ChainX#tryFilter(ThrowablePredicate)
+     * @since 0.6.0
+     */
+    public <X extends Throwable> ChainPipelineX<T, R> tryFilter(
+            ThrowablePredicate<? super R, ? super X> predicate) {
+        return next(r -> {
+            try {
+                return predicate.test(r) ? r : null;
+            } catch (Throwable ignore) {
+                return r;
+            }
+        });
+    }
+
+    /**
+     * Appends a step like {@link ChainX#tryFilter(ThrowablePredicate, Consumer)}.
+     *
+     * @param predicate the predicate to apply to a value, if not {@code null}
+     * @param catcher   the consumer to accept to an exception
+     * @param <X>       the type of exception
+     * @return the pipeline with the step
+     * @see ChainX#tryFilter(ThrowablePredicate, Consumer)
+     * @since 0.6.0
+     */
+    @SuppressWarnings("unchecked")
+    public <X extends Throwable> ChainPipelineX<T, R> tryFilter(
+            ThrowablePredicate<? super R, ? super X> predicate, Consumer<? super X> catcher) {
+        return next(r -> {
+            try {
+                return predicate.test(r) ? r : null;
+            } catch (Throwable throwable) {
+                catcher.accept((X) throwable);
+                return r;
+            }
+        });
+    }
+
+    /**
+     * Appends a step like {@link ChainX#tryFilterOrEmpty(ThrowablePredicate)}.
+     *
+     * @param predicate the predicate to apply to a value, if not {@code null}
+     * @param <X>       the type of exception
+     * @return the pipeline with the step
+     * @see ChainX#tryFilterOrEmpty(ThrowablePredicate)
+     * @since 0.6.0
+     */
+    public <X extends Throwable> ChainPipelineX<T, R> tryFilterOrEmpty(
+            ThrowablePredicate<? super R, ? super X> predicate) {
+        return next(r -> {
+            try {
+                return predicate.test(r) ? r : null;
+            } catch (Throwable ignore) {
+                return null;
+            }
+        });
+    }
+
+    /**
+     * Appends a step like {@link ChainX#tryFilterOrEmpty(ThrowablePredicate, Consumer)}.
+     *
+     * @param predicate the predicate to apply to a value, if not {@code null}
+     * @param catcher   the consumer to accept to an exception
+     * @param <X>       the type of exception
+     * @return the pipeline with the step
+     * @see ChainX#tryFilterOrEmpty(ThrowablePredicate, Consumer)
+     * @since 0.6.0
+     */
+    @SuppressWarnings("unchecked")
+    public <X extends Throwable> ChainPipelineX<T, R> tryFilterOrEmpty(
+            ThrowablePredicate<? super R, ? super X> predicate, Consumer<? super X> catcher) {
+        return next(r -> {
+            try {
+                return predicate.test(r) ? r : null;
+            } catch (Throwable throwable) {
+                catcher.accept((X) throwable);
+                return null;
+            }
+        });
+    }
+
+    /**
+     * Appends a step like {@link ChainX#tryFilterOrElse(ThrowablePredicate, boolean)}.
+     *
+     * @param predicate the predicate to apply to a value, if not {@code null}
+     * @param result    the result in case of exception
+     * @param <X>       the type of exception
+     * @return the pipeline with the step
+     * @see ChainX#tryFilterOrElse(ThrowablePredicate, boolean)
+     * @since 0.6.0
+     */
+    public <X extends Throwable> ChainPipelineX<T, R> tryFilterOrElse(
+            ThrowablePredicate<? super R, ? super X> predicate, boolean result) {
+        return next(r -> {
+            try {
+                return predicate.test(r) ? r : null;
+            } catch (Throwable ignore) {
+                return result ? r : null;
+            }
+        });
+    }
+
+    /**
+     * Appends a step like {@link ChainX#tryFilterOrElse(ThrowablePredicate, boolean, Consumer)}.
+     *
+     * @param predicate the predicate to apply to a value, if not {@code null}
+     * @param result    the result in case of exception
+     * @param catcher   the consumer to accept to an exception
+     * @param <X>       the type of exception
+     * @return the pipeline with the step
+     * @see ChainX#tryFilterOrElse(ThrowablePredicate, boolean, Consumer)
+     * @since 0.6.0
+     */
+    @SuppressWarnings("unchecked")
+    public <X extends Throwable> ChainPipelineX<T, R> tryFilterOrElse(
+            ThrowablePredicate<? super R, ? super X> predicate, boolean result, Consumer<? super X> catcher) {
+        return next(r -> {
+            try {
+                return predicate.test(r) ? r : null;
+            } catch (Throwable throwable) {
+                catcher.accept((X) throwable);
+                return result ? r : null;
+            }
+        });
+    }
+
+    /**
+     * Appends a step like {@link ChainX#tryFilterOrGet(ThrowablePredicate, Supplier)}.
+     *
+     * @param predicate the predicate to apply to a value, if not {@code null}
+     * @param producer  the supplying function that produces a result in case of exception
+     * @param <X>       the type of exception
+     * @return the pipeline with the step
+     * @see ChainX#tryFilterOrGet(ThrowablePredicate, Supplier)
+     * @since 0.6.0
+     */
+    public <X extends Throwable> ChainPipelineX<T, R> tryFilterOrGet(
+            ThrowablePredicate<? super R, ? super X> predicate, Supplier<Boolean> producer) {
+        return next(r -> {
+            try {
+                return predicate.test(r) ? r : null;
+            } catch (Throwable ignore) {
+                return producer.get() ? r : null;
+            }
+        });
+    }
+
+    /**
+     * Appends a step like {@link ChainX#tryFilterOrGet(ThrowablePredicate, Supplier, Consumer)}.
+     *
+     * @param predicate the predicate to apply to a value, if not {@code null}
+     * @param producer  the supplying function that produces a result in case of exception
+     * @param catcher   the consumer to accept to an exception
+     * @param <X>       the type of exception
+     * @return the pipeline with the step
+     * @see ChainX#tryFilterOrGet(ThrowablePredicate, Supplier, Consumer)
+     * @since 0.6.0
+     */
+    @SuppressWarnings("unchecked")
+    public <X extends Throwable> ChainPipelineX<T, R> tryFilterOrGet(
+            ThrowablePredicate<? super R, ? super X> predicate, Supplier<Boolean> producer, Consumer<? super X> catcher) {
+        return next(r -> {
+            try {
+                return predicate.test(r) ? r : null;
+            } catch (Throwable throwable) {
+                catcher.accept((X) throwable);
+                return producer.get() ? r : null;
+            }
+        });
+    }
+
+    /**
+     * Appends a step like {@link ChainX#tryFilterOrCatch(ThrowablePredicate, Predicate)}.
+     *
+     * @param predicate the predicate to apply to a value, if not {@code null}
+     * @param catcher   the predicate to test an exception
+     * @param <X>       the type of exception
+     * @return the pipeline with the step
+     * @see ChainX#tryFilterOrCatch(ThrowablePredicate, Predicate)
+     * @since 0.6.0
+     */
+    @SuppressWarnings("unchecked")
+    public <X extends Throwable> ChainPipelineX<T, R> tryFilterOrCatch(
+            ThrowablePredicate<? super R, ? super X> predicate, Predicate<? super X> catcher) {
+        return next(r -> {
+            try {
+                return predicate.test(r) ? r : null;
+            } catch (Throwable throwable) {
+                return catcher.test((X) throwable) ? r : null;
+            }
+        });
+    }
+
+//    Try mutate
+
+    /**
+     * Appends a step like {@link ChainX#tryMutate(ThrowableConsumer)}.
+     *
+     * @param mutator the consumer function to accept to a value, if not {@code null}
+     * @param <X>     the type of exception
+     * @return the pipeline with the step
+     * @see ChainX#tryMutate(ThrowableConsumer)
+     * @since 0.6.0
+     */
+    public <X extends Throwable> ChainPipelineX<T, R> tryMutate(
+            ThrowableConsumer<? super R, ? super X> mutator) {
+        return next(r -> {
+            try {
+                mutator.accept(r);
+            } catch (Throwable ignore) {
+            }
+            return r;
+        });
+    }
+
+    /**
+     * Appends a step like {@link ChainX#tryMutate(ThrowableConsumer, Consumer)}.
+     *
+     * @param mutator the consumer function to accept to a value, if not {@code null}
+     * @param catcher the consumer to accept to an exception
+     * @param <X>     the type of exception
+     * @return the pipeline with the step
+     * @see ChainX#tryMutate(ThrowableConsumer, Consumer)
+     * @since 0.6.0
+     */
+    @SuppressWarnings("unchecked")
+    public <X extends Throwable> ChainPipelineX<T, R> tryMutate(
+            ThrowableConsumer<? super R, ? super X> mutator, Consumer<? super X> catcher) {
+        return next(r -> {
+            try {
+                mutator.accept(r);
+            } catch (Throwable throwable) {
+                catcher.accept((X) throwable);
+            }
+            return r;
+        });
+    }
+
+//    Try map
+
+    /**
+     * Appends a step like {@link ChainX#tryMapOrEmpty(ThrowableFunction)}.
+     *
+     * @param mapper the mapping function to apply to a value, if not {@code null}
+     * @param <V>    the type of the value returned from the mapping function
+     * @param <X>    the type of exception
+     * @return the pipeline with the step
+     * @see ChainX#tryMapOrEmpty(ThrowableFunction)
+     * @since 0.6.0
+     */
+    public <V, X extends Throwable> ChainPipelineX<T, V> tryMapOrEmpty(
+            ThrowableFunction<? super R, ? extends V, ? extends X> mapper) {
+        return next(r -> {
+            try {
+                return mapper.apply(r);
+            } catch (Throwable ignore) {
+                return null;
+            }
+        });
+    }
+
+    /**
+     * Appends a step like {@link ChainX#tryMapOrEmpty(ThrowableFunction, Consumer)}.
+     *
+     * @param mapper  the mapping function to apply to a value, if not {@code null}
+     * @param catcher the consumer to accept to an exception
+     * @param <V>     the type of the value returned from the mapping function
+     * @param <X>     the type of exception
+     * @return the pipeline with the step
+     * @see ChainX#tryMapOrEmpty(ThrowableFunction, Consumer)
+     * @since 0.6.0
+     */
+    @SuppressWarnings("unchecked")
+    public <V, X extends Throwable> ChainPipelineX<T, V> tryMapOrEmpty(
+            ThrowableFunction<? super R, ? extends V, ? extends X> mapper, Consumer<? super X> catcher) {
+        return next(r -> {
+            try {
+                return mapper.apply(r);
+            } catch (Throwable throwable) {
+                catcher.accept((X) throwable);
+                return null;
+            }
+        });
+    }
+
+    /**
+     * Appends a step like {@link ChainX#tryMapOrElse(ThrowableFunction, Object)}.
+     *
+     * @param mapper the mapping function to apply to a value, if not {@code null}
+     * @param other  the value in case of exception
+     * @param <V>    the type of the value returned from the mapping function
+     * @param <X>    the type of exception
+     * @return the pipeline with the step
+     * @see ChainX#tryMapOrElse(ThrowableFunction, Object)
+     * @since 0.6.0
+     */
+    public <V, X extends Throwable> ChainPipelineX<T, V> tryMapOrElse(
+            ThrowableFunction<? super R, ? extends V, ? extends X> mapper, V other) {
+        return next(r -> {
+            try {
+                return mapper.apply(r);
+            } catch (Throwable ignore) {
+                return other;
+            }
+        });
+    }
+
+    /**
+     * Appends a step like {@link ChainX#tryMapOrElse(ThrowableFunction, Object, Consumer)}.
+     *
+     * @param mapper  the mapping function to apply to a value, if not {@code null}
+     * @param other   the value in case of exception
+     * @param catcher the consumer to accept to an exception
+     * @param <V>     the type of the value returned from the mapping function
+     * @param <X>     the type of exception
+     * @return the pipeline with the step
+     * @see ChainX#tryMapOrElse(ThrowableFunction, Object, Consumer)
+     * @since 0.6.0
+     */
+    @SuppressWarnings("unchecked")
+    public <V, X extends Throwable> ChainPipelineX<T, V> tryMapOrElse(
+            ThrowableFunction<? super R, ? extends V, ? extends X> mapper, V other, Consumer<? super X> catcher) {
+        return next(r -> {
+            try {
+                return mapper.apply(r);
+            } catch (Throwable throwable) {
+                catcher.accept((X) throwable);
+                return other;
+            }
+        });
+    }
+
+    /**
+     * Appends a step like {@link ChainX#tryMapOrGet(ThrowableFunction, Supplier)}.
+     *
+     * @param mapper   the mapping function to apply to a value, if not {@code null}
+     * @param producer the supplying function that produces a value in case of exception
+     * @param <V>      the type of the value returned from the mapping function
+     * @param <X>      the type of exception
+     * @return the pipeline with the step
+     * @see ChainX#tryMapOrGet(ThrowableFunction, Supplier)
+     * @since 0.6.0
+     */
+    public <V, X extends Throwable> ChainPipelineX<T, V> tryMapOrGet(
+            ThrowableFunction<? super R, ? extends V, ? extends X> mapper, Supplier<? extends V> producer) {
+        return next(r -> {
+            try {
+                return mapper.apply(r);
+            } catch (Throwable ignore) {
+                return producer.get();
+            }
+        });
+    }
+
+    /**
+     * Appends a step like {@link ChainX#tryMapOrGet(ThrowableFunction, Supplier, Consumer)}.
+     *
+     * @param mapper   the mapping function to apply to a value, if not {@code null}
+     * @param producer the supplying function that produces a value in case of exception
+     * @param catcher  the consumer to accept to an exception
+     * @param <V>      the type of the value returned from the mapping function
+     * @param <X>      the type of exception
+     * @return the pipeline with the step
+     * @see ChainX#tryMapOrGet(ThrowableFunction, Supplier, Consumer)
+     * @since 0.6.0
+     */
+    @SuppressWarnings("unchecked")
+    public <V, X extends Throwable> ChainPipelineX<T, V> tryMapOrGet(
+            ThrowableFunction<? super R, ? extends V, ? extends X> mapper, Supplier<? extends V> producer, Consumer<? super X> catcher) {
+        return next(r -> {
+            try {
+                return mapper.apply(r);
+            } catch (Throwable throwable) {
+                catcher.accept((X) throwable);
+                return producer.get();
+            }
+        });
+    }
+
+    /**
+     * Appends a step like {@link ChainX#tryMapOrCatch(ThrowableFunction, Function)}.
+     *
+     * @param mapper  the mapping function to apply to a value, if not {@code null}
+     * @param catcher the function to accept to an exception and to return a value
+     * @param <V>     the type of the value returned from the mapping function
+     * @param <X>     the type of exception
+     * @return the pipeline with the step
+     * @see ChainX#tryMapOrCatch(ThrowableFunction, Function)
+     * @since 0.6.0
+     */
+    @SuppressWarnings("unchecked")
+    public <V, X extends Throwable> ChainPipelineX<T, V> tryMapOrCatch(
+            ThrowableFunction<? super R, ? extends V, ? extends X> mapper, Function<? super X, ? extends V> catcher) {
+        return next(r -> {
+            try {
+                return mapper.apply(r);
+            } catch (Throwable throwable) {
+                return catcher.apply((X) throwable);
+            }
+        });
+    }
+
+//    Try flatMap
+
+    /**
+     * Appends a step like {@link ChainX#tryFlatMapOrEmpty(ThrowableFunction)}.
+     *
+     * @param mapper the mapping function to apply to a value, if not {@code null}
+     * @param <V>    the type of value of the {@code ChainX} returned by the mapping function
+     * @param <X>    the type of exception
+     * @return the pipeline with the step
+     * @see ChainX#tryFlatMapOrEmpty(ThrowableFunction)
+     * @since 0.6.0
+     */
+    public <V, X extends Throwable> ChainPipelineX<T, V> tryFlatMapOrEmpty(
+            ThrowableFunction<? super R, ? extends ChainX<? extends V>, ? extends X> mapper) {
+        return next(r -> {
+            try {
+                return mapper.apply(r).get();
+            } catch (Throwable ignore) {
+                return null;
+            }
+        });
+    }
+
+    /**
+     * Appends a step like {@link ChainX#tryFlatMapOrEmpty(ThrowableFunction, Consumer)}.
+     *
+     * @param mapper  the mapping function to apply to a value, if not {@code null}
+     * @param catcher the consumer to accept to an exception
+     * @param <V>     the type of value of the {@code ChainX} returned by the mapping function
+     * @param <X>     the type of exception
+     * @return the pipeline with the step
+     * @see ChainX#tryFlatMapOrEmpty(ThrowableFunction, Consumer)
+     * @since 0.6.0
+     */
+    @SuppressWarnings("unchecked")
+    public <V, X extends Throwable> ChainPipelineX<T, V> tryFlatMapOrEmpty(
+            ThrowableFunction<? super R, ? extends ChainX<? extends V>, ? extends X> mapper, Consumer<? super X> catcher) {
+        return next(r -> {
+            try {
+                return mapper.apply(r).get();
+            } catch (Throwable throwable) {
+                catcher.accept((X) throwable);
+                return null;
+            }
+        });
+    }
+
+    /**
+     * Appends a step like {@link ChainX#tryFlatMapOrElse(ThrowableFunction, ChainX)}.
+     *
+     * @param mapper the mapping function to apply to a value, if not {@code null}
+     * @param other  the {@code ChainX} in case of exception
+     * @param <V>    the type of value of the {@code ChainX} returned by the mapping function
+     * @param <X>    the type of exception
+     * @return the pipeline with the step
+     * @see ChainX#tryFlatMapOrElse(ThrowableFunction, ChainX)
+     * @since 0.6.0
+     */
+    public <V, X extends Throwable> ChainPipelineX<T, V> tryFlatMapOrElse(
+            ThrowableFunction<? super R, ? extends ChainX<? extends V>, ? extends X> mapper, ChainX<V> other) {
+        return next(r -> {
+            ChainX<? extends V> result;
+            try {
+                result = mapper.apply(r);
+            } catch (Throwable ignore) {
+                result = Objects.requireNonNull(other, "The other ChainX must not be null");
+            }
+            return result.get();
+        });
+    }
+
+    /**
+     * Appends a step like {@link ChainX#tryFlatMapOrElse(ThrowableFunction, ChainX, Consumer)}.
+     *
+     * @param mapper  the mapping function to apply to a value, if not {@code null}
+     * @param other   the {@code ChainX} in case of exception
+     * @param catcher the consumer to accept to an exception
+     * @param <V>     the type of value of the {@code ChainX} returned by the mapping function
+     * @param <X>     the type of exception
+     * @return the pipeline with the step
+     * @see ChainX#tryFlatMapOrElse(ThrowableFunction, ChainX, Consumer)
+     * @since 0.6.0
+     */
+    @SuppressWarnings("unchecked")
+    public <V, X extends Throwable> ChainPipelineX<T, V> tryFlatMapOrElse(
+            ThrowableFunction<? super R, ? extends ChainX<? extends V>, ? extends X> mapper, ChainX<V> other, Consumer<? super X> catcher) {
+        return next(r -> {
+            ChainX<? extends V> result;
+            try {
+                result = mapper.apply(r);
+            } catch (Throwable throwable) {
+                catcher.accept((X) throwable);
+                result = Objects.requireNonNull(other, "The other ChainX must not be null");
+            }
+            return result.get();
+        });
+    }
+
+    /**
+     * Appends a step like {@link ChainX#tryFlatMapOrGet(ThrowableFunction, Supplier)}.
+     *
+     * @param mapper   the mapping function to apply to a value, if not {@code null}
+     * @param producer the supplying function that produces a {@code ChainX} in case of exception
+     * @param <V>      the type of value of the {@code ChainX} returned by the mapping function
+     * @param <X>      the type of exception
+     * @return the pipeline with the step
+     * @see ChainX#tryFlatMapOrGet(ThrowableFunction, Supplier)
+     * @since 0.6.0
+     */
+    public <V, X extends Throwable> ChainPipelineX<T, V> tryFlatMapOrGet(
+            ThrowableFunction<? super R, ? extends ChainX<? extends V>, ? extends X> mapper, Supplier<? extends ChainX<V>> producer) {
+        return next(r -> {
+            ChainX<? extends V> result;
+            try {
+                result = mapper.apply(r);
+            } catch (Throwable ignore) {
+                result = Objects.requireNonNull(producer.get(), "The resulting ChainX must not be null");
+            }
+            return result.get();
+        });
+    }
+
+    /**
+     * Appends a step like {@link ChainX#tryFlatMapOrGet(ThrowableFunction, Supplier, Consumer)}.
+     *
+     * @param mapper   the mapping function to apply to a value, if not {@code null}
+     * @param producer the supplying function that produces a {@code ChainX} in case of exception
+     * @param catcher  the consumer to accept to an exception
+     * @param <V>      the type of value of the {@code ChainX} returned by the mapping function
+     * @param <X>      the type of exception
+     * @return the pipeline with the step
+     * @see ChainX#tryFlatMapOrGet(ThrowableFunction, Supplier, Consumer)
+     * @since 0.6.0
+     */
+    @SuppressWarnings("unchecked")
+    public <V, X extends Throwable> ChainPipelineX<T, V> tryFlatMapOrGet(
+            ThrowableFunction<? super R, ? extends ChainX<? extends V>, ? extends X> mapper, Supplier<? extends ChainX<V>> producer, Consumer<? super X> catcher) {
+        return next(r -> {
+            ChainX<? extends V> result;
+            try {
+                result = mapper.apply(r);
+            } catch (Throwable throwable) {
+                catcher.accept((X) throwable);
+                result = Objects.requireNonNull(producer.get(), "The resulting ChainX must not be null");
+            }
+            return result.get();
+        });
+    }
+
+    /**
+     * Appends a step like {@link ChainX#tryFlatMapOrCatch(ThrowableFunction, Function)}.
+     *
+     * @param mapper  the mapping function to apply to a value, if not {@code null}
+     * @param catcher the function to accept to an exception and to return a {@code ChainX}
+     * @param <V>     the type of value of the {@code ChainX} returned by the mapping function
+     * @param <X>     the type of exception
+     * @return the pipeline with the step
+     * @see ChainX#tryFlatMapOrCatch(ThrowableFunction, Function)
+     * @since 0.6.0
+     */
+    @SuppressWarnings("unchecked")
+    public <V, X extends Throwable> ChainPipelineX<T, V> tryFlatMapOrCatch(
+            ThrowableFunction<? super R, ? extends ChainX<? extends V>, ? extends X> mapper, Function<? super X, ? extends ChainX<V>> catcher) {
+        return next(r -> {
+            ChainX<? extends V> result;
+            try {
+                result = mapper.apply(r);
+            } catch (Throwable throwable) {
+                result = Objects.requireNonNull(catcher.apply((X) throwable), "The resulting ChainX must not be null");
+            }
+            return result.get();
+        });
+    }
+
+//    Try flatMapOptional
+
+    /**
+     * Appends a step like {@link ChainX#tryFlatMapOptionalOrEmpty(ThrowableFunction)}.
+     *
+     * @param mapper the mapping function to apply to a value, if not {@code null}
+     * @param <V>    the type of value of the {@link java.util.Optional} returned by the mapping function
+     * @param <X>    the type of exception
+     * @return the pipeline with the step
+     * @see ChainX#tryFlatMapOptionalOrEmpty(ThrowableFunction)
+     * @since 0.6.0
+     */
+    public <V, X extends Throwable> ChainPipelineX<T, V> tryFlatMapOptionalOrEmpty(
+            ThrowableFunction<? super R, ? extends Optional<? extends V>, ? extends X> mapper) {
+        return next(r -> {
+            try {
+                return mapper.apply(r).orElse(null);
+            } catch (Throwable ignore) {
+                return null;
+            }
+        });
+    }
+
+    /**
+     * Appends a step like {@link ChainX#tryFlatMapOptionalOrEmpty(ThrowableFunction, Consumer)}.
+     *
+     * @param mapper  the mapping function to apply to a value, if not {@code null}
+     * @param catcher the consumer to accept to an exception
+     * @param <V>     the type of value of the {@link java.util.Optional} returned by the mapping function
+     * @param <X>     the type of exception
+     * @return the pipeline with the step
+     * @see ChainX#tryFlatMapOptionalOrEmpty(ThrowableFunction, Consumer)
+     * @since 0.6.0
+     */
+    @SuppressWarnings("unchecked")
+    public <V, X extends Throwable> ChainPipelineX<T, V> tryFlatMapOptionalOrEmpty(
+            ThrowableFunction<? super R, ? extends Optional<? extends V>, ? extends X> mapper, Consumer<? super X> catcher) {
+        return next(r -> {
+            try {
+                return mapper.apply(r).orElse(null);
+            } catch (Throwable throwable) {
+                catcher.accept((X) throwable);
+                return null;
+            }
+        });
+    }
+
+    /**
+     * Appends a step like {@link ChainX#tryFlatMapOptionalOrElse(ThrowableFunction, Optional)}.
+     *
+     * @param mapper the mapping function to apply to a value, if not {@code null}
+     * @param other  the {@link java.util.Optional} in case of exception
+     * @param <V>    the type of value of the {@link java.util.Optional} returned by the mapping function
+     * @param <X>    the type of exception
+     * @return the pipeline with the step
+     * @see ChainX#tryFlatMapOptionalOrElse(ThrowableFunction, Optional)
+     * @since 0.6.0
+     */
+    public <V, X extends Throwable> ChainPipelineX<T, V> tryFlatMapOptionalOrElse(
+            ThrowableFunction<? super R, ? extends Optional<? extends V>, ? extends X> mapper, Optional<V> other) {
+        return next(r -> {
+            Optional<? extends V> result;
+            try {
+                result = mapper.apply(r);
+            } catch (Throwable ignore) {
+                result = Objects.requireNonNull(other, "The other Optional must not be null");
+            }
+            return result.orElse(null);
+        });
+    }
+
+    /**
+     * Appends a step like {@link ChainX#tryFlatMapOptionalOrElse(ThrowableFunction, Optional, Consumer)}.
+     *
+     * @param mapper  the mapping function to apply to a value, if not {@code null}
+     * @param other   the {@link java.util.Optional} in case of exception
+     * @param catcher the consumer to accept to an exception
+     * @param <V>     the type of value of the {@link java.util.Optional} returned by the mapping function
+     * @param <X>     the type of exception
+     * @return the pipeline with the step
+     * @see ChainX#tryFlatMapOptionalOrElse(ThrowableFunction, Optional, Consumer)
+     * @since 0.6.0
+     */
+    @SuppressWarnings("unchecked")
+    public <V, X extends Throwable> ChainPipelineX<T, V> tryFlatMapOptionalOrElse(
+            ThrowableFunction<? super R, ? extends Optional<? extends V>, ? extends X> mapper, Optional<V> other, Consumer<? super X> catcher) {
+        return next(r -> {
+            Optional<? extends V> result;
+            try {
+                result = mapper.apply(r);
+            } catch (Throwable throwable) {
+                catcher.accept((X) throwable);
+                result = Objects.requireNonNull(other, "The other Optional must not be null");
+            }
+            return result.orElse(null);
+        });
+    }
+
+    /**
+     * Appends a step like {@link ChainX#tryFlatMapOptionalOrGet(ThrowableFunction, Supplier)}.
+     *
+     * @param mapper   the mapping function to apply to a value, if not {@code null}
+     * @param producer the supplying function that produces a {@link java.util.Optional} in case of exception
+     * @param <V>      the type of value of the {@link java.util.Optional} returned by the mapping function
+     * @param <X>      the type of exception
+     * @return the pipeline with the step
+     * @see ChainX#tryFlatMapOptionalOrGet(ThrowableFunction, Supplier)
+     * @since 0.6.0
+     */
+    public <V, X extends Throwable> ChainPipelineX<T, V> tryFlatMapOptionalOrGet(
+            ThrowableFunction<? super R, ? extends Optional<? extends V>, ? extends X> mapper, Supplier<? extends Optional<V>> producer) {
+        return next(r -> {
+            Optional<? extends V> result;
+            try {
+                result = mapper.apply(r);
+            } catch (Throwable ignore) {
+                result = Objects.requireNonNull(producer.get(), "The resulting Optional must not be null");
+            }
+            return result.orElse(null);
+        });
+    }
+
+    /**
+     * Appends a step like {@link ChainX#tryFlatMapOptionalOrGet(ThrowableFunction, Supplier, Consumer)}.
+     *
+     * @param mapper   the mapping function to apply to a value, if not {@code null}
+     * @param producer the supplying function that produces a {@link java.util.Optional} in case of exception
+     * @param catcher  the consumer to accept to an exception
+     * @param <V>      the type of value of the {@link java.util.Optional} returned by the mapping function
+     * @param <X>      the type of exception
+     * @return the pipeline with the step
+     * @see ChainX#tryFlatMapOptionalOrGet(ThrowableFunction, Supplier, Consumer)
+     * @since 0.6.0
+     */
+    @SuppressWarnings("unchecked")
+    public <V, X extends Throwable> ChainPipelineX<T, V> tryFlatMapOptionalOrGet(
+            ThrowableFunction<? super R, ? extends Optional<? extends V>, ? extends X> mapper, Supplier<? extends Optional<V>> producer, Consumer<? super X> catcher) {
+        return next(r -> {
+            Optional<? extends V> result;
+            try {
+                result = mapper.apply(r);
+            } catch (Throwable throwable) {
+                catcher.accept((X) throwable);
+                result = Objects.requireNonNull(producer.get(), "The resulting Optional must not be null");
+            }
+            return result.orElse(null);
+        });
+    }
+
+    /**
+     * Appends a step like {@link ChainX#tryFlatMapOptionalOrCatch(ThrowableFunction, Function)}.
+     *
+     * @param mapper  the mapping function to apply to a value, if not {@code null}
+     * @param catcher the function to accept to an exception and to return a {@link java.util.Optional}
+     * @param <V>     the type of value of the {@link java.util.Optional} returned by the mapping function
+     * @param <X>     the type of exception
+     * @return the pipeline with the step
+     * @see ChainX#tryFlatMapOptionalOrCatch(ThrowableFunction, Function)
+     * @since 0.6.0
+     */
+    @SuppressWarnings("unchecked")
+    public <V, X extends Throwable> ChainPipelineX<T, V> tryFlatMapOptionalOrCatch(
+            ThrowableFunction<? super R, ? extends Optional<? extends V>, ? extends X> mapper, Function<? super X, ? extends Optional<V>> catcher) {
+        return next(r -> {
+            Optional<? extends V> result;
+            try {
+                result = mapper.apply(r);
+            } catch (Throwable throwable) {
+                result = Objects.requireNonNull(catcher.apply((X) throwable), "The resulting Optional must not be null");
+            }
+            return result.orElse(null);
+        });
+    }
+
+//    Or
+
+    /**
+     * Appends a step like {@link ChainX#or(ChainX)}.
+     *
+     * @param chain the {@code ChainX} whose value is used, if a value is {@code null}
+     * @return the pipeline with the step
+     * @throws NullPointerException if {@code chain} is {@code null}
+     * @see ChainX#or(ChainX)
+     * @since 0.6.0
+     */
+    public ChainPipelineX<T, R> or(ChainX<? extends R> chain) {
+        Object other = Objects.requireNonNull(chain, "Passed ChainX is null").get();
+        return new ChainPipelineX<>(this, r -> r != null ? r : other, true);
+    }
+
+    /**
+     * Appends a step like {@link ChainX#or(Supplier)}.
+     *
+     * @param producer the supplying function that produces a {@code ChainX}, if a value is {@code null}
+     * @return the pipeline with the step
+     * @throws NullPointerException if {@code producer} is {@code null}
+     * @see ChainX#or(Supplier)
+     * @since 0.6.0
+     */
+    public ChainPipelineX<T, R> or(Supplier<? extends ChainX<? extends R>> producer) {
+        Objects.requireNonNull(producer, "The producer must not be null");
+        return new ChainPipelineX<>(this, r -> r != null ? r : producer.get().get(), true);
+    }
+
+//    Compile
+
+    /**
+     * Returns the compiled function that returns the value, which might be {@code null}.
+     *
+     * @return the compiled function
+     * @see ChainX#get()
+     * @since 0.6.0
+     */
+    @SuppressWarnings("unchecked")
+    public Function<T, R> get() {
+        return (Function<T, R>) compile();
+    }
+
+    /**
+     * Returns the compiled function that returns the value as an {@link java.util.Optional}.
+     *
+     * @return the compiled function
+     * @see ChainX#optional()
+     * @since 0.6.0
+     */
+    public Function<T, Optional<R>> optional() {
+        Function<T, R> function = get();
+        return t -> Optional.ofNullable(function.apply(t));
+    }
+
+    /**
+     * Returns the compiled function that returns the value if not {@code null}, otherwise {@code other}.
+     *
+     * @param other the value to be returned if the value is {@code null}, may be null
+     * @return the compiled function
+     * @see ChainX#orElse(Object)
+     * @since 0.6.0
+     */
+    public Function<T, R> orElse(R other) {
+        Function<T, R> function = get();
+        return t -> {
+            R value = function.apply(t);
+            return value != null ? value : other;
+        };
+    }
+
+    /**
+     * Returns the compiled function that returns the value if not {@code null},
+     * otherwise the result of {@code producer.get()}.
+     *
+     * @param producer a {@code Supplier} whose result is returned if the value is {@code null}
+     * @return the compiled function
+     * @throws NullPointerException if {@code producer} is {@code null}
+     * @see ChainX#orElseGet(Supplier)
+     * @since 0.6.0
+     */
+    public Function<T, R> orElseGet(Supplier<? extends R> producer) {
+        Objects.requireNonNull(producer, "The producer must not be null");
+        Function<T, R> function = get();
+        return t -> {
+            R value = function.apply(t);
+            return value != null ? value : producer.get();
+        };
+    }
+
+    /**
+     * Returns the compiled function that returns the value if not {@code null},
+     * otherwise throws {@link java.util.NoSuchElementException}.
+     *
+     * @return the compiled function
+     * @see ChainX#orElseThrow()
+     * @since 0.6.0
+     */
+    public Function<T, R> orElseThrow() {
+        Function<T, R> function = get();
+        return t -> {
+            R value = function.apply(t);
+            if (value != null) {
+                return value;
+            }
+            throw new NoSuchElementException("Value is null");
+        };
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Function<Object, Object> compile() {
+        Function<Object, Object>[] steps = new Function[size];
+        boolean[] nullables = new boolean[size];
+        int last = -1;
+        ChainPipelineX<T, ?> pipeline = this;
+        for (int i = size - 1; i >= 0; i--, pipeline = pipeline.previous) {
+            steps[i] = pipeline.step;
+            nullables[i] = pipeline.nullable;
+            if (pipeline.nullable && last < 0) {
+                last = i;
+            }
+        }
+        return new Compiled(steps, nullables, last);
+    }
+
+    private static final class Compiled implements Function<Object, Object> {
+        private final Function<Object, Object>[] steps;
+        private final boolean[] nullables;
+        private final int lastNullable;
+
+        private Compiled(Function<Object, Object>[] steps, boolean[] nullables, int lastNullable) {
+            this.steps = steps;
+            this.nullables = nullables;
+            this.lastNullable = lastNullable;
+        }
+
+        @Override
+        public Object apply(Object value) {
+            for (int i = 0; i < steps.length; i++) {
+                if (value != null || nullables[i]) {
+                    value = steps[i].apply(value);
+                } else if (i > lastNullable) {
+                    return null;
+                }
+            }
+            return value;
+        }
+    }
+}
@@ -27,6 +27,9 @@ import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 import java.util.stream.Stream;
 
 /**
@@ -38,35 +41,40 @@ import java.util.stream.Stream;
  * {@link #tryMutate(ThrowableConsumer)} and {@link #tryMutate(ThrowableConsumer, Consumer)},
  * are pure functions.
  *
+ * <p>
+ * The class is final and instances are created only by its factories,
+ * so every call site is monomorphic and each operation has a single allocation site;
+ * a chain written in one method does not escape it and is eliminated by escape analysis.
+ *
  * @param <T> the type of value
  * @author Grig Alex
- * @version 0.5.0
+ * @version 0.6.0
  * @see java.util.Optional
  * @see java.util.stream.Stream
  * @since 0.4.0
  */
-public class ChainX<T> {
+public final class ChainX<T> {
     /**
      * Common instance for {@code empty()}.
      *
      * @see io.github.alexengrig.lambdax.ChainX#empty()
      * @since 0.4.0
      */
-    protected static final ChainX<?> EMPTY = new ChainX<>();
+    private static final ChainX<?> EMPTY = new ChainX<>();
 
     /**
      * Stored value.
      *
      * @since 0.4.0
      */
-    protected final T value;
+    private final T value;
 
     /**
      * Constructs an empty instance.
      *
      * @since 0.4.0
      */
-    protected ChainX() {
+    private ChainX() {
         this.value = null;
     }
 
@@ -76,7 +84,7 @@ public class ChainX<T> {
      * @param value the value to store
      * @since 0.4.0
      */
-    protected ChainX(T value) {
+    private ChainX(T value) {
         this.value = value;
     }
 
@@ -129,10 +137,25 @@ public class ChainX<T> {
      * @see java.util.Optional
      * @since 0.4.0
      */
-    @SuppressWarnings({"unchecked", "OptionalUsedAsFieldOrParameterType"})
+    @SuppressWarnings("OptionalUsedAsFieldOrParameterType")
     public static <T> ChainX<T> of(Optional<? extends T> optional) {
-        return (ChainX<T>) Objects.requireNonNull(optional, "Passed Optional is null")
-                .map(ChainX::new).orElseGet(ChainX::empty);
+        return new ChainX<>(Objects.requireNonNull(optional, "Passed Optional is null").orElse(null));
+    }
+
+    /**
+     * Returns an empty {@link io.github.alexengrig.lambdax.ChainPipelineX}
+     * that records steps and compiles them into a single reusable function.
+     *
+     * @param type the type of the input to the pipeline
+     * @param <T>  the type of the input to the pipeline
+     * @return An empty {@code ChainPipelineX}
+     * @throws NullPointerException if {@code type} is {@code null}
+     * @see io.github.alexengrig.lambdax.ChainPipelineX
+     * @since 0.6.0
+     */
+    public static <T> ChainPipelineX<T, T> pipeline(Class<T> type) {
+        Objects.requireNonNull(type, "The type must not be null");
+        return ChainPipelineX.start();
     }
 
 //    Check
@@ -162,11 +185,11 @@ public class ChainX<T> {
     /**
      * If the value is not {@code null},
      * and the value matches the given predicate,
-     * returns this {@code ChainX} storing the value,
+     * returns a {@code ChainX} storing the value,
      * otherwise returns an empty {@code ChainX}.
      *
      * @param predicate the predicate to apply to a value, if not {@code null}
-     * @return this {@code ChainX} storing the value,
+     * @return a {@code ChainX} storing the value,
      * if the value is not {@code null} and
      * the value matches {@code predicate},
      * otherwise an empty {@code ChainX}
@@ -175,10 +198,7 @@ public class ChainX<T> {
      * @since 0.4.0
      */
     public ChainX<T> filter(Predicate<? super T> predicate) {
-        if (isNull() || predicate.test(value)) {
-            return this;
-        }
-        return empty();
+        return new ChainX<>(isNull() || predicate.test(value) ? value : null);
     }
 
     /**
@@ -213,10 +233,7 @@ public class ChainX<T> {
      * @since 0.4.0
      */
     public <R> ChainX<R> map(Function<? super T, ? extends R> mapper) {
-        if (nonNull()) {
-            return of(mapper.apply(value));
-        }
-        return empty();
+        return new ChainX<>(nonNull() ? mapper.apply(value) : null);
     }
 
     /**
@@ -236,12 +253,8 @@ public class ChainX<T> {
      * @see java.util.function.Function
      * @since 0.4.0
      */
-    @SuppressWarnings("unchecked")
     public <R> ChainX<R> flatMap(Function<? super T, ? extends ChainX<? extends R>> mapper) {
-        if (nonNull()) {
-            return (ChainX<R>) mapper.apply(value);
-        }
-        return empty();
+        return new ChainX<>(nonNull() ? valueOf(mapper.apply(value)) : null);
     }
 
     /**
@@ -258,13 +271,74 @@ public class ChainX<T> {
      * @see java.util.Optional
      * @since 0.4.0
      */
-    @SuppressWarnings("unchecked")
     public <R> ChainX<R> flatMapOptional(Function<? super T, ? extends Optional<? extends R>> mapper) {
-        if (nonNull()) {
-            final Optional<R> optional = (Optional<R>) mapper.apply(value);
-            return optional.map(ChainX::of).orElseGet(ChainX::empty);
-        }
-        return empty();
+        return new ChainX<>(nonNull() ? valueOf(mapper.apply(value)) : null);
+    }
+
+    private static <R> R valueOf(ChainX<? extends R> chain) {
+        return chain != null ? chain.value : null;
+    }
+
+    @SuppressWarnings("OptionalUsedAsFieldOrParameterType")
+    private static <R> R valueOf(Optional<? extends R> optional) {
+        return optional != null ? optional.orElse(null) : null;
+    }
+
+    /**
+     * If a value is not {@code null},
+     * returns a {@code IntChainX} storing the result of applying
+     * the given mapping function to the value, otherwise returns an empty {@code IntChainX}.
+     *
+     * <p>The result is a {@code int} chain, so next steps do not box the value.
+     *
+     * @param mapper the mapping function to apply to a value, if not {@code null}
+     * @return a {@code IntChainX} storing the result of applying a mapping
+     * function to the value of this {@code ChainX}, if a value is not {@code null}, otherwise an empty {@code IntChainX}
+     * @throws NullPointerException if value is not {@code null} and {@code mapper} is {@code null}
+     * @see java.util.function.ToIntFunction
+     * @see io.github.alexengrig.lambdax.IntChainX
+     * @since 0.6.0
+     */
+    public IntChainX mapToInt(ToIntFunction<? super T> mapper) {
+        return IntChainX.of(nonNull(), nonNull() ? mapper.applyAsInt(value) : 0);
+    }
+
+    /**
+     * If a value is not {@code null},
+     * returns a {@code LongChainX} storing the result of applying
+     * the given mapping function to the value, otherwise returns an empty {@code LongChainX}.
+     *
+     * <p>The result is a {@code long} chain, so next steps do not box the value.
+     *
+     * @param mapper the mapping function to apply to a value, if not {@code null}
+     * @return a {@code LongChainX} storing the result of applying a mapping
+     * function to the value of this {@code ChainX}, if a value is not {@code null}, otherwise an empty {@code LongChainX}
+     * @throws NullPointerException if value is not {@code null} and {@code mapper} is {@code null}
+     * @see java.util.function.ToLongFunction
+     * @see io.github.alexengrig.lambdax.LongChainX
+     * @since 0.6.0
+     */
+    public LongChainX mapToLong(ToLongFunction<? super T> mapper) {
+        return LongChainX.of(nonNull(), nonNull() ? mapper.applyAsLong(value) : 0);
+    }
+
+    /**
+     * If a value is not {@code null},
+     * returns a {@code DoubleChainX} storing the result of applying
+     * the given mapping function to the value, otherwise returns an empty {@code DoubleChainX}.
+     *
+     * <p>The result is a {@code double} chain, so next steps do not box the value.
+     *
+     * @param mapper the mapping function to apply to a value, if not {@code null}
+     * @return a {@code DoubleChainX} storing the result of applying a mapping
+     * function to the value of this {@code ChainX}, if a value is not {@code null}, otherwise an empty {@code DoubleChainX}
+     * @throws NullPointerException if value is not {@code null} and {@code mapper} is {@code null}
+     * @see java.util.function.ToDoubleFunction
+     * @see io.github.alexengrig.lambdax.DoubleChainX
+     * @since 0.6.0
+     */
+    public DoubleChainX mapToDouble(ToDoubleFunction<? super T> mapper) {
+        return DoubleChainX.of(nonNull(), nonNull() ? mapper.applyAsDouble(value) : 0);
     }
 
 //    Try filter
@@ -1588,45 +1662,88 @@ public class ChainX<T> {
         return empty();
     }
 
+//    Attempt
+
+    /**
+     * If a value is not {@code null},
+     * returns the result of applying the given throwable function to the value
+     * as an {@code AttemptX}, otherwise returns a successful {@code AttemptX} with {@code null}.
+     *
+     * <p>
+     * Unlike the {@code try*} methods, a thrown exception is not passed to handlers,
+     * but carried by the {@code AttemptX} as a failure.
+     *
+     * @param mapper the throwable mapping function to apply to a value, if not {@code null}
+     * @param <R>    the type of the value returned from the mapping function
+     * @param <X>    the type of exception
+     * @return an {@code AttemptX} of the result of {@code mapper},
+     * if the value is not {@code null}, otherwise a successful {@code AttemptX} with {@code null}
+     * @throws NullPointerException if value is not {@code null} and {@code mapper} is {@code null}
+     * @see io.github.alexengrig.lambdax.AttemptX
+     * @see io.github.alexengrig.lambdax.function.ThrowableFunction
+     * @since 0.6.0
+     */
+    public <R, X extends Throwable> AttemptX<R> attemptMap(ThrowableFunction<? super T, ? extends R, ? extends X> mapper) {
+        return nonNull() ? AttemptX.of(value, mapper) : AttemptX.success(null);
+    }
+
+    /**
+     * If a value is not {@code null},
+     * returns the result of applying the given {@code AttemptX}-bearing mapping function to the value,
+     * otherwise returns a successful {@code AttemptX} with {@code null}.
+     *
+     * <p>
+     * The mapping function reports a failure by returning a failed {@code AttemptX} without throwing,
+     * so no stack trace is captured.
+     *
+     * @param mapper the mapping function to apply to a value, if not {@code null}
+     * @param <R>    the type of value of the {@code AttemptX} returned by the mapping function
+     * @return the result of {@code mapper},
+     * if the value is not {@code null}, otherwise a successful {@code AttemptX} with {@code null}
+     * @throws NullPointerException if value is not {@code null} and,
+     *                              {@code mapper} is {@code null} or it returns {@code null}
+     * @see io.github.alexengrig.lambdax.AttemptX
+     * @since 0.6.0
+     */
+    @SuppressWarnings("unchecked")
+    public <R> AttemptX<R> attemptFlatMap(Function<? super T, ? extends AttemptX<? extends R>> mapper) {
+        if (nonNull()) {
+            return (AttemptX<R>) Objects.requireNonNull(mapper.apply(value), "The resulting AttemptX must not be null");
+        }
+        return AttemptX.success(null);
+    }
+
 //    Or
 
     /**
      * If a value is not {@code null},
-     * returns this {@code ChainX} storing the value,
-     * otherwise returns the given {@code ChainX}.
+     * returns a {@code ChainX} storing the value,
+     * otherwise returns a {@code ChainX} storing the value of the given {@code ChainX}.
      *
-     * @param chain the {@code ChainX} to be returned
-     * @return returns this {@code ChainX} storing the value of this {@code ChainX},
-     * if a value is not {@code null}, otherwise the given {@code ChainX}
+     * @param chain the {@code ChainX} to be used
+     * @return a {@code ChainX} storing the value of this {@code ChainX},
+     * if a value is not {@code null}, otherwise the value of the given {@code ChainX}
      * @throws NullPointerException if value is {@code null} and {@code chain} is {@code null}
      * @since 0.4.0
      */
-    @SuppressWarnings("unchecked")
     public ChainX<T> or(ChainX<? extends T> chain) {
-        if (isNull()) {
-            return (ChainX<T>) Objects.requireNonNull(chain, "Passed ChainX is null");
-        }
-        return this;
+        return new ChainX<>(nonNull() ? value : Objects.requireNonNull(chain, "Passed ChainX is null").value);
     }
 
     /**
      * If a value is not {@code null},
-     * returns this {@code ChainX} storing the value,
-     * otherwise returns a {@code ChainX} produced by the producer function.
+     * returns a {@code ChainX} storing the value,
+     * otherwise returns a {@code ChainX} storing the value of a {@code ChainX} produced by the producer function.
      *
-     * @param producer the supplying function that produces a {@code ChainX} to be returned
-     * @return returns this {@code ChainX} storing the value of this {@code ChainX},
-     * if a value is not {@code null}, otherwise a {@code ChainX} produced by the supplying function
+     * @param producer the supplying function that produces a {@code ChainX} to be used
+     * @return a {@code ChainX} storing the value of this {@code ChainX},
+     * if a value is not {@code null}, otherwise the value of a {@code ChainX} produced by the supplying function
      * @throws NullPointerException if value is {@code null} and {@code producer} is {@code null}
      * @see java.util.function.Supplier
      * @since 0.4.0
      */
-    @SuppressWarnings("unchecked")
     public ChainX<T> or(Supplier<? extends ChainX<? extends T>> producer) {
-        if (isNull()) {
-            return (ChainX<T>) producer.get();
-        }
-        return this;
+        return new ChainX<>(nonNull() ? value : valueOf(producer.get()));
     }
 
 //    Value
@@ -0,0 +1,480 @@
+/*
+ * Copyright 2019 - 2020 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.alexengrig.lambdax;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.OptionalDouble;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleSupplier;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Supplier;
+import java.util.stream.DoubleStream;
+
+/**
+ * A {@code double} value container which may manipulate its value without boxing.
+ *
+ * <p>
+ * Unlike {@link io.github.alexengrig.lambdax.ChainX},
+ * the value cannot be {@code null},
+ * so an explicit "present" flag tells whether it is stored.
+ * All methods are pure functions.
+ *
+ * @author Grig Alex
+ * @version 0.6.0
+ * @see io.github.alexengrig.lambdax.ChainX#mapToDouble
+ * @see java.util.OptionalDouble
+ * @see java.util.stream.DoubleStream
+ * @since 0.6.0
+ */
+public final class DoubleChainX {
+    /**
+     * Common instance for {@code empty()}.
+     *
+     * @see io.github.alexengrig.lambdax.DoubleChainX#empty()
+     * @since 0.6.0
+     */
+    private static final DoubleChainX EMPTY = new DoubleChainX(false, 0.0);
+
+    /**
+     * Whether the value is present.
+     *
+     * @since 0.6.0
+     */
+    private final boolean present;
+
+    /**
+     * Stored value, {@code 0.0} if not present.
+     *
+     * @since 0.6.0
+     */
+    private final double value;
+
+    /**
+     * Constructs an instance with the stored value.
+     *
+     * @param present whether the value is present
+     * @param value   the value to store, if present
+     * @since 0.6.0
+     */
+    private DoubleChainX(boolean present, double value) {
+        this.present = present;
+        this.value = present ? value : 0.0;
+    }
+
+//    Create
+
+    /**
+     * Returns an empty {@code DoubleChainX} instance.
+     *
+     * @return An empty {@code DoubleChainX}
+     * @since 0.6.0
+     */
+    public static DoubleChainX empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns an {@code DoubleChainX} storing the given value.
+     *
+     * @param value the value to store
+     * @return A {@code DoubleChainX} with the {@code value}
+     * @since 0.6.0
+     */
+    public static DoubleChainX of(double value) {
+        return new DoubleChainX(true, value);
+    }
+
+    /**
+     * Returns an {@code DoubleChainX} storing the value, if present, from the {@link java.util.OptionalDouble}.
+     *
+     * @param optional the {@link java.util.OptionalDouble} of the value to store
+     * @return A {@code DoubleChainX} with the value, if present, from {@link java.util.OptionalDouble}
+     * @throws NullPointerException if {@code optional} is {@code null}
+     * @see java.util.OptionalDouble
+     * @since 0.6.0
+     */
+    @SuppressWarnings("OptionalUsedAsFieldOrParameterType")
+    public static DoubleChainX of(OptionalDouble optional) {
+        Objects.requireNonNull(optional, "Passed OptionalDouble is null");
+        return new DoubleChainX(optional.isPresent(), optional.orElse(0.0));
+    }
+
+    /**
+     * Returns an {@code DoubleChainX} storing the value, if present.
+     *
+     * @param present whether the value is present
+     * @param value   the value to store, if present
+     * @return A {@code DoubleChainX} with the {@code value}, if {@code present}, otherwise an empty {@code DoubleChainX}
+     * @since 0.6.0
+     */
+    static DoubleChainX of(boolean present, double value) {
+        return new DoubleChainX(present, value);
+    }
+
+//    Check
+
+    /**
+     * If a value is not present, returns {@code true}, otherwise {@code false}.
+     *
+     * @return {@code true} if a value is not present, otherwise {@code false}
+     * @since 0.6.0
+     */
+    public boolean isEmpty() {
+        return !present;
+    }
+
+    /**
+     * If a value is present, returns {@code true}, otherwise {@code false}.
+     *
+     * @return {@code true} if a value is present, otherwise {@code false}
+     * @since 0.6.0
+     */
+    public boolean isPresent() {
+        return present;
+    }
+
+//    Flow
+
+    /**
+     * If a value is present,
+     * and the value matches the given predicate,
+     * returns a {@code DoubleChainX} storing the value,
+     * otherwise returns an empty {@code DoubleChainX}.
+     *
+     * @param predicate the predicate to apply to a value, if present
+     * @return a {@code DoubleChainX} storing the value,
+     * if the value is present and the value matches {@code predicate},
+     * otherwise an empty {@code DoubleChainX}
+     * @throws NullPointerException if value is present and {@code predicate} is {@code null}
+     * @see java.util.function.DoublePredicate
+     * @since 0.6.0
+     */
+    public DoubleChainX filter(DoublePredicate predicate) {
+        return new DoubleChainX(present && predicate.test(value), value);
+    }
+
+    /**
+     * If a value is present,
+     * returns a {@code DoubleChainX} storing the result of applying
+     * the given operator to the value, otherwise returns an empty {@code DoubleChainX}.
+     *
+     * @param operator the operator to apply to a value, if present
+     * @return a {@code DoubleChainX} storing the result of applying an operator
+     * to the value of this {@code DoubleChainX}, if a value is present, otherwise an empty {@code DoubleChainX}
+     * @throws NullPointerException if value is present and {@code operator} is {@code null}
+     * @see java.util.function.DoubleUnaryOperator
+     * @since 0.6.0
+     */
+    public DoubleChainX map(DoubleUnaryOperator operator) {
+        return new DoubleChainX(present, present ? operator.applyAsDouble(value) : 0.0);
+    }
+
+    /**
+     * If a value is present,
+     * returns a {@code ChainX} storing (as if by {@link io.github.alexengrig.lambdax.ChainX#of}) the result of applying
+     * the given mapping function to the value, otherwise returns an empty {@code ChainX}.
+     *
+     * @param mapper the mapping function to apply to a value, if present
+     * @param <R>    the type of the value returned from the mapping function
+     * @return a {@code ChainX} storing the result of applying a mapping
+     * function to the value of this {@code DoubleChainX}, if a value is present, otherwise an empty {@code ChainX}
+     * @throws NullPointerException if value is present and {@code mapper} is {@code null}
+     * @see java.util.function.DoubleFunction
+     * @see io.github.alexengrig.lambdax.ChainX
+     * @since 0.6.0
+     */
+    public <R> ChainX<R> mapToObj(DoubleFunction<? extends R> mapper) {
+        return ChainX.of(present ? mapper.apply(value) : null);
+    }
+
+    /**
+     * If a value is present,
+     * returns a {@code IntChainX} storing the result of applying
+     * the given mapping function to the value, otherwise returns an empty {@code IntChainX}.
+     *
+     * @param mapper the mapping function to apply to a value, if present
+     * @return a {@code IntChainX} storing the result of applying a mapping
+     * function to the value of this {@code DoubleChainX}, if a value is present, otherwise an empty {@code IntChainX}
+     * @throws NullPointerException if value is present and {@code mapper} is {@code null}
+     * @see java.util.function.DoubleToIntFunction
+     * @see io.github.alexengrig.lambdax.IntChainX
+     * @since 0.6.0
+     */
+    public IntChainX mapToInt(DoubleToIntFunction mapper) {
+        return IntChainX.of(present, present ? mapper.applyAsInt(value) : 0);
+    }
+
+    /**
+     * If a value is present,
+     * returns a {@code LongChainX} storing the result of applying
+     * the given mapping function to the value, otherwise returns an empty {@code LongChainX}.
+     *
+     * @param mapper the mapping function to apply to a value, if present
+     * @return a {@code LongChainX} storing the result of applying a mapping
+     * function to the value of this {@code DoubleChainX}, if a value is present, otherwise an empty {@code LongChainX}
+     * @throws NullPointerException if value is present and {@code mapper} is {@code null}
+     * @see java.util.function.DoubleToLongFunction
+     * @see io.github.alexengrig.lambdax.LongChainX
+     * @since 0.6.0
+     */
+    public LongChainX mapToLong(DoubleToLongFunction mapper) {
+        return LongChainX.of(present, present ? mapper.applyAsLong(value) : 0L);
+    }
+
+//    Or
+
+    /**
+     * If a value is present,
+     * returns a {@code DoubleChainX} storing the value,
+     * otherwise returns a {@code DoubleChainX} storing the value, if present, of the given {@code DoubleChainX}.
+     *
+     * @param chain the {@code DoubleChainX} to be used
+     * @return a {@code DoubleChainX} storing the value of this {@code DoubleChainX},
+     * if a value is present, otherwise the value of the given {@code DoubleChainX}
+     * @throws NullPointerException if value is not present and {@code chain} is {@code null}
+     * @since 0.6.0
+     */
+    public DoubleChainX or(DoubleChainX chain) {
+        if (present) {
+            return new DoubleChainX(true, value);
+        }
+        Objects.requireNonNull(chain, "Passed DoubleChainX is null");
+        return new DoubleChainX(chain.present, chain.value);
+    }
+
+    /**
+     * If a value is present,
+     * returns a {@code DoubleChainX} storing the value,
+     * otherwise returns a {@code DoubleChainX} produced by the producer function.
+     *
+     * @param producer the supplying function that produces a {@code DoubleChainX} to be returned
+     * @return a {@code DoubleChainX} storing the value of this {@code DoubleChainX},
+     * if a value is present, otherwise a {@code DoubleChainX} produced by the supplying function
+     * @throws NullPointerException if value is not present and,
+     *                              {@code producer} is {@code null} or it produces {@code null}
+     * @see java.util.function.Supplier
+     * @since 0.6.0
+     */
+    public DoubleChainX or(Supplier<DoubleChainX> producer) {
+        if (present) {
+            return new DoubleChainX(true, value);
+        }
+        final DoubleChainX chain = Objects.requireNonNull(producer.get(), "The resulting DoubleChainX must not be null");
+        return new DoubleChainX(chain.present, chain.value);
+    }
+
+//    Value
+
+    /**
+     * If a value is present,
+     * returns a sequential {@link DoubleStream} containing only that value,
+     * otherwise returns an empty {@code DoubleStream}.
+     *
+     * @return the value as a {@code DoubleStream}
+     * @see java.util.stream.DoubleStream
+     * @since 0.6.0
+     */
+    public DoubleStream stream() {
+        return present ? DoubleStream.of(value) : DoubleStream.empty();
+    }
+
+    /**
+     * If a value is present,
+     * returns an {@link java.util.OptionalDouble} containing that value,
+     * otherwise returns an empty {@link java.util.OptionalDouble}.
+     *
+     * @return the value as an {@link java.util.OptionalDouble}
+     * @see java.util.OptionalDouble
+     * @since 0.6.0
+     */
+    public OptionalDouble optional() {
+        return present ? OptionalDouble.of(value) : OptionalDouble.empty();
+    }
+
+    /**
+     * If a value is present,
+     * returns a {@code ChainX} storing the boxed value,
+     * otherwise returns an empty {@code ChainX}.
+     *
+     * @return the value as a {@code ChainX}
+     * @see io.github.alexengrig.lambdax.ChainX
+     * @since 0.6.0
+     */
+    public ChainX<Double> boxed() {
+        return ChainX.of(present ? Double.valueOf(value) : null);
+    }
+
+//    Or else
+
+    /**
+     * Return the value if present, otherwise return {@code other}.
+     *
+     * @param other the value to be returned if the value is not present
+     * @return the value, if present, otherwise {@code other}
+     * @since 0.6.0
+     */
+    public double orElse(double other) {
+        return present ? value : other;
+    }
+
+    /**
+     * Return the value if present,
+     * otherwise invoke {@code producer} and return the result of that invocation.
+     *
+     * @param producer a {@code DoubleSupplier} whose result is returned if the value is not present
+     * @return the value if present, otherwise the result of {@code producer.getAsDouble()}
+     * @throws NullPointerException if value is not present and {@code producer} is {@code null}
+     * @see java.util.function.DoubleSupplier
+     * @since 0.6.0
+     */
+    public double orElseGet(DoubleSupplier producer) {
+        return present ? value : producer.getAsDouble();
+    }
+
+    /**
+     * Return the value if present,
+     * otherwise throws NoSuchElementException.
+     *
+     * @return the stored value
+     * @throws NoSuchElementException if value is not present
+     * @see java.util.NoSuchElementException
+     * @since 0.6.0
+     */
+    public double orElseThrow() {
+        if (present) {
+            return value;
+        }
+        throw new NoSuchElementException("Value is not present");
+    }
+
+    /**
+     * Return the value if present,
+     * otherwise throws an exception.
+     *
+     * @param throwable the exception to be thrown
+     * @param <X>       the type of the exception to be thrown
+     * @return the stored value
+     * @throws X if value is not present
+     * @see java.lang.Throwable
+     * @since 0.6.0
+     */
+    public <X extends Throwable> double orElseThrow(X throwable) throws X {
+        if (present) {
+            return value;
+        }
+        throw throwable;
+    }
+
+    /**
+     * Return the value if present,
+     * otherwise throws an exception produced by the exception supplying function.
+     *
+     * @param producer the supplying function that produces an exception to be thrown
+     * @param <X>      the type of the exception to be thrown
+     * @return the stored value
+     * @throws X                    if value is not present
+     * @throws NullPointerException if value is not present and {@code producer} is {@code null}
+     * @see java.lang.Throwable
+     * @see java.util.function.Supplier
+     * @since 0.6.0
+     */
+    public <X extends Throwable> double orElseThrowGet(Supplier<? extends X> producer) throws X {
+        if (present) {
+            return value;
+        }
+        throw producer.get();
+    }
+
+//    If
+
+    /**
+     * Invoke the specified runnable if value is not present,
+     * otherwise do nothing.
+     *
+     * @param runnable block to be executed if value is not present
+     * @throws NullPointerException if value is not present and {@code runnable} is {@code null}
+     * @see java.lang.Runnable
+     * @since 0.6.0
+     */
+    public void ifEmpty(Runnable runnable) {
+        if (!present) {
+            runnable.run();
+        }
+    }
+
+    /**
+     * Invoke the specified consumer with the value if present,
+     * otherwise do nothing.
+     *
+     * @param consumer block to be executed if value is present
+     * @throws NullPointerException if value is present and {@code consumer} is {@code null}
+     * @see java.util.function.DoubleConsumer
+     * @since 0.6.0
+     */
+    public void ifPresent(DoubleConsumer consumer) {
+        if (present) {
+            consumer.accept(value);
+        }
+    }
+
+//    Object
+
+    /**
+     * Compare by value.
+     *
+     * @param o the object to compare
+     * @since 0.6.0
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        DoubleChainX other = (DoubleChainX) o;
+        return present == other.present && Double.compare(value, other.value) == 0;
+    }
+
+    /**
+     * Calculate by value.
+     *
+     * @since 0.6.0
+     */
+    @Override
+    public int hashCode() {
+        return present ? Double.hashCode(value) : 0;
+    }
+
+    /**
+     * Returns a non-empty string representation of this DoubleChainX.
+     *
+     * @return the string representation of this instance
+     * @since 0.6.0
+     */
+    @Override
+    public String toString() {
+        return present ? "DoubleChainX[" + value + "]" : "DoubleChainX.empty";
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2019 - 2020 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.alexengrig.lambdax;
+
+import io.github.alexengrig.lambdax.function.PredicateX;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.BooleanSupplier;
+import java.util.function.DoublePredicate;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * A predicate container of a {@code double} value which compares raw primitives.
+ *
+ * <p>
+ * Unlike {@link io.github.alexengrig.lambdax.PredicateChainX},
+ * the value is neither boxed nor compared by a {@link java.util.Comparator}.
+ * Values are compared as if by {@link java.lang.Double#compare(double, double)}.
+ *
+ * @param <T> the type of predicate value
+ * @author Grig Alex
+ * @version 0.6.0
+ * @see io.github.alexengrig.lambdax.function.PredicateX#chainDouble(ToDoubleFunction)
+ * @since 0.6.0
+ */
+public class DoublePredicateChainX<T> {
+    protected final ToDoubleFunction<T> function;
+
+    protected DoublePredicateChainX(ToDoubleFunction<T> function) {
+        this.function = function;
+    }
+
+//    Create
+
+    public static <T> DoublePredicateChainX<T> of(ToDoubleFunction<T> function) {
+        return new DoublePredicateChainX<>(Objects.requireNonNull(function, "The function must not be null"));
+    }
+
+//    Result
+
+    public Result check(DoublePredicate checker) {
+        return new Result(Objects.requireNonNull(checker, "The checker must not be null"));
+    }
+
+    public Result equalTo(double other) {
+        return new Result(value -> Double.compare(value, other) == 0);
+    }
+
+    public Result less(double other) {
+        return new Result(value -> Double.compare(value, other) < 0);
+    }
+
+    public Result greater(double other) {
+        return new Result(value -> Double.compare(value, other) > 0);
+    }
+
+    public Result lessOrEqual(double other) {
+        return new Result(value -> Double.compare(value, other) <= 0);
+    }
+
+    public Result greaterOrEqual(double other) {
+        return new Result(value -> Double.compare(value, other) >= 0);
+    }
+
+    /**
+     * Returns the result checking that the value is between the bounds inclusive.
+     *
+     * @param from the lower bound
+     * @param to   the upper bound
+     * @return the result checking {@code from <= value <= to}
+     * @throws IllegalArgumentException if {@code from} is greater than {@code to}
+     * @since 0.6.0
+     */
+    public Result between(double from, double to) {
+        if (Double.compare(from, to) > 0) {
+            throw new IllegalArgumentException("The lower bound " + from + " is greater than the upper bound " + to);
+        }
+        return new Result(value -> Double.compare(from, value) <= 0 && Double.compare(value, to) <= 0);
+    }
+
+    /**
+     * Returns the result checking that the value is one of the given values.
+     *
+     * <p>The values are copied and sorted once, each check is a binary search.
+     *
+     * @param values the values
+     * @return the result checking that the value is one of {@code values}
+     * @throws NullPointerException if {@code values} is {@code null}
+     * @since 0.6.0
+     */
+    public Result in(double... values) {
+        final double[] sorted = Objects.requireNonNull(values, "The values must not be null").clone();
+        Arrays.sort(sorted);
+        return new Result(value -> Arrays.binarySearch(sorted, value) >= 0);
+    }
+
+    /**
+     * A predicate of the value, which may handle {@code null} input.
+     *
+     * <p>
+     * As a predicate, it passes the input to the function as is;
+     * {@code orElse}, {@code orTruth} and {@code orLie} return a predicate
+     * that checks the input for {@code null} before the function.
+     *
+     * @since 0.6.0
+     */
+    public class Result implements PredicateX<T> {
+        protected final DoublePredicate predicate;
+
+        public Result(DoublePredicate predicate) {
+            this.predicate = predicate;
+        }
+
+        @Override
+        public boolean test(T t) {
+            return predicate.test(function.applyAsDouble(t));
+        }
+
+        public Predicate<T> orElse(Predicate<? super T> checker) {
+            return t -> {
+                if (t != null) {
+                    return predicate.test(function.applyAsDouble(t));
+                }
+                return checker.test(null);
+            };
+        }
+
+        public Predicate<T> orElse(boolean check) {
+            return t -> {
+                if (t != null) {
+                    return predicate.test(function.applyAsDouble(t));
+                }
+                return check;
+            };
+        }
+
+        public Predicate<T> orElse(BooleanSupplier producer) {
+            return t -> {
+                if (t != null) {
+                    return predicate.test(function.applyAsDouble(t));
+                }
+                return producer.getAsBoolean();
+            };
+        }
+
+        public Predicate<T> orTruth() {
+            return orElse(true);
+        }
+
+        public Predicate<T> orLie() {
+            return orElse(false);
+        }
+    }
+}
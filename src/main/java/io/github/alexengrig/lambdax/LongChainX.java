@@ -0,0 +1,480 @@
+/*
+ * Copyright 2019 - 2020 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.alexengrig.lambdax;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongSupplier;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
+
+/**
+ * A {@code long} value container which may manipulate its value without boxing.
+ *
+ * <p>
+ * Unlike {@link io.github.alexengrig.lambdax.ChainX},
+ * the value cannot be {@code null},
+ * so an explicit "present" flag tells whether it is stored.
+ * All methods are pure functions.
+ *
+ * @author Grig Alex
+ * @version 0.6.0
+ * @see io.github.alexengrig.lambdax.ChainX#mapToLong
+ * @see java.util.OptionalLong
+ * @see java.util.stream.LongStream
+ * @since 0.6.0
+ */
+public final class LongChainX {
+    /**
+     * Common instance for {@code empty()}.
+     *
+     * @see io.github.alexengrig.lambdax.LongChainX#empty()
+     * @since 0.6.0
+     */
+    private static final LongChainX EMPTY = new LongChainX(false, 0L);
+
+    /**
+     * Whether the value is present.
+     *
+     * @since 0.6.0
+     */
+    private final boolean present;
+
+    /**
+     * Stored value, {@code 0L} if not present.
+     *
+     * @since 0.6.0
+     */
+    private final long value;
+
+    /**
+     * Constructs an instance with the stored value.
+     *
+     * @param present whether the value is present
+     * @param value   the value to store, if present
+     * @since 0.6.0
+     */
+    private LongChainX(boolean present, long value) {
+        this.present = present;
+        this.value = present ? value : 0L;
+    }
+
+//    Create
+
+    /**
+     * Returns an empty {@code LongChainX} instance.
+     *
+     * @return An empty {@code LongChainX}
+     * @since 0.6.0
+     */
+    public static LongChainX empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns an {@code LongChainX} storing the given value.
+     *
+     * @param value the value to store
+     * @return A {@code LongChainX} with the {@code value}
+     * @since 0.6.0
+     */
+    public static LongChainX of(long value) {
+        return new LongChainX(true, value);
+    }
+
+    /**
+     * Returns an {@code LongChainX} storing the value, if present, from the {@link java.util.OptionalLong}.
+     *
+     * @param optional the {@link java.util.OptionalLong} of the value to store
+     * @return A {@code LongChainX} with the value, if present, from {@link java.util.OptionalLong}
+     * @throws NullPointerException if {@code optional} is {@code null}
+     * @see java.util.OptionalLong
+     * @since 0.6.0
+     */
+    @SuppressWarnings("OptionalUsedAsFieldOrParameterType")
+    public static LongChainX of(OptionalLong optional) {
+        Objects.requireNonNull(optional, "Passed OptionalLong is null");
+        return new LongChainX(optional.isPresent(), optional.orElse(0L));
+    }
+
+    /**
+     * Returns an {@code LongChainX} storing the value, if present.
+     *
+     * @param present whether the value is present
+     * @param value   the value to store, if present
+     * @return A {@code LongChainX} with the {@code value}, if {@code present}, otherwise an empty {@code LongChainX}
+     * @since 0.6.0
+     */
+    static LongChainX of(boolean present, long value) {
+        return new LongChainX(present, value);
+    }
+
+//    Check
+
+    /**
+     * If a value is not present, returns {@code true}, otherwise {@code false}.
+     *
+     * @return {@code true} if a value is not present, otherwise {@code false}
+     * @since 0.6.0
+     */
+    public boolean isEmpty() {
+        return !present;
+    }
+
+    /**
+     * If a value is present, returns {@code true}, otherwise {@code false}.
+     *
+     * @return {@code true} if a value is present, otherwise {@code false}
+     * @since 0.6.0
+     */
+    public boolean isPresent() {
+        return present;
+    }
+
+//    Flow
+
+    /**
+     * If a value is present,
+     * and the value matches the given predicate,
+     * returns a {@code LongChainX} storing the value,
+     * otherwise returns an empty {@code LongChainX}.
+     *
+     * @param predicate the predicate to apply to a value, if present
+     * @return a {@code LongChainX} storing the value,
+     * if the value is present and the value matches {@code predicate},
+     * otherwise an empty {@code LongChainX}
+     * @throws NullPointerException if value is present and {@code predicate} is {@code null}
+     * @see java.util.function.LongPredicate
+     * @since 0.6.0
+     */
+    public LongChainX filter(LongPredicate predicate) {
+        return new LongChainX(present && predicate.test(value), value);
+    }
+
+    /**
+     * If a value is present,
+     * returns a {@code LongChainX} storing the result of applying
+     * the given operator to the value, otherwise returns an empty {@code LongChainX}.
+     *
+     * @param operator the operator to apply to a value, if present
+     * @return a {@code LongChainX} storing the result of applying an operator
+     * to the value of this {@code LongChainX}, if a value is present, otherwise an empty {@code LongChainX}
+     * @throws NullPointerException if value is present and {@code operator} is {@code null}
+     * @see java.util.function.LongUnaryOperator
+     * @since 0.6.0
+     */
+    public LongChainX map(LongUnaryOperator operator) {
+        return new LongChainX(present, present ? operator.applyAsLong(value) : 0L);
+    }
+
+    /**
+     * If a value is present,
+     * returns a {@code ChainX} storing (as if by {@link io.github.alexengrig.lambdax.ChainX#of}) the result of applying
+     * the given mapping function to the value, otherwise returns an empty {@code ChainX}.
+     *
+     * @param mapper the mapping function to apply to a value, if present
+     * @param <R>    the type of the value returned from the mapping function
+     * @return a {@code ChainX} storing the result of applying a mapping
+     * function to the value of this {@code LongChainX}, if a value is present, otherwise an empty {@code ChainX}
+     * @throws NullPointerException if value is present and {@code mapper} is {@code null}
+     * @see java.util.function.LongFunction
+     * @see io.github.alexengrig.lambdax.ChainX
+     * @since 0.6.0
+     */
+    public <R> ChainX<R> mapToObj(LongFunction<? extends R> mapper) {
+        return ChainX.of(present ? mapper.apply(value) : null);
+    }
+
+    /**
+     * If a value is present,
+     * returns a {@code IntChainX} storing the result of applying
+     * the given mapping function to the value, otherwise returns an empty {@code IntChainX}.
+     *
+     * @param mapper the mapping function to apply to a value, if present
+     * @return a {@code IntChainX} storing the result of applying a mapping
+     * function to the value of this {@code LongChainX}, if a value is present, otherwise an empty {@code IntChainX}
+     * @throws NullPointerException if value is present and {@code mapper} is {@code null}
+     * @see java.util.function.LongToIntFunction
+     * @see io.github.alexengrig.lambdax.IntChainX
+     * @since 0.6.0
+     */
+    public IntChainX mapToInt(LongToIntFunction mapper) {
+        return IntChainX.of(present, present ? mapper.applyAsInt(value) : 0);
+    }
+
+    /**
+     * If a value is present,
+     * returns a {@code DoubleChainX} storing the result of applying
+     * the given mapping function to the value, otherwise returns an empty {@code DoubleChainX}.
+     *
+     * @param mapper the mapping function to apply to a value, if present
+     * @return a {@code DoubleChainX} storing the result of applying a mapping
+     * function to the value of this {@code LongChainX}, if a value is present, otherwise an empty {@code DoubleChainX}
+     * @throws NullPointerException if value is present and {@code mapper} is {@code null}
+     * @see java.util.function.LongToDoubleFunction
+     * @see io.github.alexengrig.lambdax.DoubleChainX
+     * @since 0.6.0
+     */
+    public DoubleChainX mapToDouble(LongToDoubleFunction mapper) {
+        return DoubleChainX.of(present, present ? mapper.applyAsDouble(value) : 0.0);
+    }
+
+//    Or
+
+    /**
+     * If a value is present,
+     * returns a {@code LongChainX} storing the value,
+     * otherwise returns a {@code LongChainX} storing the value, if present, of the given {@code LongChainX}.
+     *
+     * @param chain the {@code LongChainX} to be used
+     * @return a {@code LongChainX} storing the value of this {@code LongChainX},
+     * if a value is present, otherwise the value of the given {@code LongChainX}
+     * @throws NullPointerException if value is not present and {@code chain} is {@code null}
+     * @since 0.6.0
+     */
+    public LongChainX or(LongChainX chain) {
+        if (present) {
+            return new LongChainX(true, value);
+        }
+        Objects.requireNonNull(chain, "Passed LongChainX is null");
+        return new LongChainX(chain.present, chain.value);
+    }
+
+    /**
+     * If a value is present,
+     * returns a {@code LongChainX} storing the value,
+     * otherwise returns a {@code LongChainX} produced by the producer function.
+     *
+     * @param producer the supplying function that produces a {@code LongChainX} to be returned
+     * @return a {@code LongChainX} storing the value of this {@code LongChainX},
+     * if a value is present, otherwise a {@code LongChainX} produced by the supplying function
+     * @throws NullPointerException if value is not present and,
+     *                              {@code producer} is {@code null} or it produces {@code null}
+     * @see java.util.function.Supplier
+     * @since 0.6.0
+     */
+    public LongChainX or(Supplier<LongChainX> producer) {
+        if (present) {
+            return new LongChainX(true, value);
+        }
+        final LongChainX chain = Objects.requireNonNull(producer.get(), "The resulting LongChainX must not be null");
+        return new LongChainX(chain.present, chain.value);
+    }
+
+//    Value
+
+    /**
+     * If a value is present,
+     * returns a sequential {@link LongStream} containing only that value,
+     * otherwise returns an empty {@code LongStream}.
+     *
+     * @return the value as a {@code LongStream}
+     * @see java.util.stream.LongStream
+     * @since 0.6.0
+     */
+    public LongStream stream() {
+        return present ? LongStream.of(value) : LongStream.empty();
+    }
+
+    /**
+     * If a value is present,
+     * returns an {@link java.util.OptionalLong} containing that value,
+     * otherwise returns an empty {@link java.util.OptionalLong}.
+     *
+     * @return the value as an {@link java.util.OptionalLong}
+     * @see java.util.OptionalLong
+     * @since 0.6.0
+     */
+    public OptionalLong optional() {
+        return present ? OptionalLong.of(value) : OptionalLong.empty();
+    }
+
+    /**
+     * If a value is present,
+     * returns a {@code ChainX} storing the boxed value,
+     * otherwise returns an empty {@code ChainX}.
+     *
+     * @return the value as a {@code ChainX}
+     * @see io.github.alexengrig.lambdax.ChainX
+     * @since 0.6.0
+     */
+    public ChainX<Long> boxed() {
+        return ChainX.of(present ? Long.valueOf(value) : null);
+    }
+
+//    Or else
+
+    /**
+     * Return the value if present, otherwise return {@code other}.
+     *
+     * @param other the value to be returned if the value is not present
+     * @return the value, if present, otherwise {@code other}
+     * @since 0.6.0
+     */
+    public long orElse(long other) {
+        return present ? value : other;
+    }
+
+    /**
+     * Return the value if present,
+     * otherwise invoke {@code producer} and return the result of that invocation.
+     *
+     * @param producer a {@code LongSupplier} whose result is returned if the value is not present
+     * @return the value if present, otherwise the result of {@code producer.getAsLong()}
+     * @throws NullPointerException if value is not present and {@code producer} is {@code null}
+     * @see java.util.function.LongSupplier
+     * @since 0.6.0
+     */
+    public long orElseGet(LongSupplier producer) {
+        return present ? value : producer.getAsLong();
+    }
+
+    /**
+     * Return the value if present,
+     * otherwise throws NoSuchElementException.
+     *
+     * @return the stored value
+     * @throws NoSuchElementException if value is not present
+     * @see java.util.NoSuchElementException
+     * @since 0.6.0
+     */
+    public long orElseThrow() {
+        if (present) {
+            return value;
+        }
+        throw new NoSuchElementException("Value is not present");
+    }
+
+    /**
+     * Return the value if present,
+     * otherwise throws an exception.
+     *
+     * @param throwable the exception to be thrown
+     * @param <X>       the type of the exception to be thrown
+     * @return the stored value
+     * @throws X if value is not present
+     * @see java.lang.Throwable
+     * @since 0.6.0
+     */
+    public <X extends Throwable> long orElseThrow(X throwable) throws X {
+        if (present) {
+            return value;
+        }
+        throw throwable;
+    }
+
+    /**
+     * Return the value if present,
+     * otherwise throws an exception produced by the exception supplying function.
+     *
+     * @param producer the supplying function that produces an exception to be thrown
+     * @param <X>      the type of the exception to be thrown
+     * @return the stored value
+     * @throws X                    if value is not present
+     * @throws NullPointerException if value is not present and {@code producer} is {@code null}
+     * @see java.lang.Throwable
+     * @see java.util.function.Supplier
+     * @since 0.6.0
+     */
+    public <X extends Throwable> long orElseThrowGet(Supplier<? extends X> producer) throws X {
+        if (present) {
+            return value;
+        }
+        throw producer.get();
+    }
+
+//    If
+
+    /**
+     * Invoke the specified runnable if value is not present,
+     * otherwise do nothing.
+     *
+     * @param runnable block to be executed if value is not present
+     * @throws NullPointerException if value is not present and {@code runnable} is {@code null}
+     * @see java.lang.Runnable
+     * @since 0.6.0
+     */
+    public void ifEmpty(Runnable runnable) {
+        if (!present) {
+            runnable.run();
+        }
+    }
+
+    /**
+     * Invoke the specified consumer with the value if present,
+     * otherwise do nothing.
+     *
+     * @param consumer block to be executed if value is present
+     * @throws NullPointerException if value is present and {@code consumer} is {@code null}
+     * @see java.util.function.LongConsumer
+     * @since 0.6.0
+     */
+    public void ifPresent(LongConsumer consumer) {
+        if (present) {
+            consumer.accept(value);
+        }
+    }
+
+//    Object
+
+    /**
+     * Compare by value.
+     *
+     * @param o the object to compare
+     * @since 0.6.0
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        LongChainX other = (LongChainX) o;
+        return present == other.present && value == other.value;
+    }
+
+    /**
+     * Calculate by value.
+     *
+     * @since 0.6.0
+     */
+    @Override
+    public int hashCode() {
+        return present ? Long.hashCode(value) : 0;
+    }
+
+    /**
+     * Returns a non-empty string representation of this LongChainX.
+     *
+     * @return the string representation of this instance
+     * @since 0.6.0
+     */
+    @Override
+    public String toString() {
+        return present ? "LongChainX[" + value + "]" : "LongChainX.empty";
+    }
+}
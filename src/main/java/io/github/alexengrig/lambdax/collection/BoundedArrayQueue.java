@@ -0,0 +1,243 @@
+/*
+ * Copyright 2019 - 2020 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.alexengrig.lambdax.collection;
+
+import java.util.AbstractQueue;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * A lock-free bounded queue on a ring array for a single consumer thread.
+ *
+ * <p>
+ * The producer and consumer indices grow monotonically and are padded against false sharing.
+ * A slot is published by an ordered store of the element and freed by an ordered store of {@code null},
+ * so neither side allocates nodes.
+ * {@link #poll()}, {@link #peek()}, {@link #drain(Consumer, int)} and {@link #clear()}
+ * must be called by one consumer thread at a time;
+ * {@link #drain(Consumer, int)} reads the producer index once per call
+ * and frees each slot before it passes the element to the action, so the action may poll or peek the queue.
+ * Elements must not be {@code null}.
+ * The iterator is weakly consistent and does not support removal.
+ *
+ * @param <E> a type of elements
+ * @author Grig Alex
+ * @version 0.6.0
+ * @see io.github.alexengrig.lambdax.collection.SpscArrayQueue
+ * @see io.github.alexengrig.lambdax.collection.MpscArrayQueue
+ * @see io.github.alexengrig.lambdax.collection.QueueX
+ * @since 0.6.0
+ */
+public abstract class BoundedArrayQueue<E> extends AbstractQueue<E> {
+    final AtomicReferenceArray<E> buffer;
+    final int mask;
+    final Sequence producer = new Sequence();
+    final Sequence consumer = new Sequence();
+
+    BoundedArrayQueue(int capacity) {
+        if (capacity < 1 || capacity > PrimitiveX.MAX_TABLE_SIZE) {
+            throw new IllegalArgumentException("The capacity must be from 1 to 2^30: " + capacity);
+        }
+        final int size = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        buffer = new AtomicReferenceArray<>(size);
+        mask = size - 1;
+    }
+
+    /**
+     * Returns the maximal number of elements, the requested capacity rounded up to a power of two.
+     *
+     * @return the capacity of the queue
+     * @since 0.6.0
+     */
+    public int capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * Returns the number of elements which can be offered without rejection at the moment.
+     *
+     * @return the remaining capacity of the queue
+     * @since 0.6.0
+     */
+    public int remainingCapacity() {
+        return capacity() - size();
+    }
+
+    /**
+     * Polls and passes elements to the consumer until the queue is empty or the maximum is reached.
+     * The elements are passed straight from their slots without copying,
+     * and each slot is freed before its element is passed,
+     * so if the action throws an exception, the elements which have not been passed stay in the queue.
+     *
+     * @param action an action for each element
+     * @param max    the maximal number of elements
+     * @return the number of drained elements
+     * @since 0.6.0
+     */
+    public int drain(Consumer<? super E> action, int max) {
+        Objects.requireNonNull(action, "The action must not be null");
+        final long limit = producer.value;
+        int count = 0;
+        for (long index; count < max && (index = consumer.value) < limit; count++) {
+            final int slot = (int) index & mask;
+            E element;
+            do {
+                element = buffer.get(slot);
+            } while (element == null);
+            buffer.lazySet(slot, null);
+            consumer.lazySet(index + 1);
+            action.accept(element);
+        }
+        return count;
+    }
+
+    /**
+     * Inserts the leading elements of the collection which fit into the queue at the moment.
+     * The elements are published with a single update of the producer index instead of one per element.
+     *
+     * @param elements a collection of non-null elements
+     * @return the number of inserted elements
+     * @throws NullPointerException if {@code elements} is or contains {@code null}
+     * @since 0.6.0
+     */
+    public int offerBatch(Collection<? extends E> elements) {
+        final Object[] array = elements.toArray();
+        for (Object element : array) {
+            Objects.requireNonNull(element, "The element must not be null");
+        }
+        return array.length == 0 ? 0 : offerArray(array);
+    }
+
+    abstract int offerArray(Object[] elements);
+
+    @SuppressWarnings("unchecked")
+    final void publish(long index, Object[] elements, int count) {
+        for (int i = 0; i < count; i++) {
+            buffer.lazySet((int) (index + i) & mask, (E) elements[i]);
+        }
+    }
+
+    @Override
+    public E poll() {
+        final long index = consumer.value;
+        final int slot = (int) index & mask;
+        E element = buffer.get(slot);
+        if (element == null) {
+            if (index == producer.value) {
+                return null;
+            }
+            do {
+                element = buffer.get(slot);
+            } while (element == null);
+        }
+        buffer.lazySet(slot, null);
+        consumer.lazySet(index + 1);
+        return element;
+    }
+
+    @Override
+    public E peek() {
+        final long index = consumer.value;
+        final int slot = (int) index & mask;
+        E element = buffer.get(slot);
+        if (element == null && index != producer.value) {
+            do {
+                element = buffer.get(slot);
+            } while (element == null);
+        }
+        return element;
+    }
+
+    @Override
+    public int size() {
+        long after = consumer.value;
+        while (true) {
+            final long before = after;
+            final long produced = producer.value;
+            after = consumer.value;
+            if (before == after) {
+                return (int) Math.max(0, Math.min(produced - after, capacity()));
+            }
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return consumer.value == producer.value;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+            private final long end = producer.value;
+            private long index = consumer.value;
+            private E next = advance();
+
+            private E advance() {
+                for (; index < end; index++) {
+                    final E element = buffer.get((int) index & mask);
+                    if (element != null) {
+                        index++;
+                        return element;
+                    }
+                }
+                return null;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public E next() {
+                if (next == null) {
+                    throw new NoSuchElementException();
+                }
+                final E element = next;
+                next = advance();
+                return element;
+            }
+        };
+    }
+
+    /**
+     * An index padded against false sharing with neighbouring objects.
+     */
+    @SuppressWarnings("unused")
+    static final class Sequence {
+        private static final AtomicLongFieldUpdater<Sequence> VALUE =
+                AtomicLongFieldUpdater.newUpdater(Sequence.class, "value");
+
+        private long p1, p2, p3, p4, p5, p6, p7;
+        volatile long value;
+        private long q1, q2, q3, q4, q5, q6, q7;
+
+        void lazySet(long newValue) {
+            VALUE.lazySet(this, newValue);
+        }
+
+        boolean compareAndSet(long expected, long newValue) {
+            return VALUE.compareAndSet(this, expected, newValue);
+        }
+    }
+}
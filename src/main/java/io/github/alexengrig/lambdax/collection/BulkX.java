@@ -0,0 +1,80 @@
+/*
+ * Copyright 2019 - 2020 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.alexengrig.lambdax.collection;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Bulk removal and retention without the quadratic cost of {@link java.util.Collection#removeAll(Collection)}.
+ *
+ * <p>
+ * An argument that is not a {@link java.util.Set} and has more than {@link #HASH_THRESHOLD} elements
+ * is copied to a {@link java.util.HashSet} before the removal,
+ * so each membership check takes constant time instead of a linear scan.
+ * A {@link java.util.Set} larger than the argument removes the elements of the argument one by one,
+ * as {@link java.util.AbstractSet#removeAll(Collection)} does, so it is not scanned at all.
+ * The collection always removes by its own bulk operation,
+ * so its atomicity, copy-on-write and unsupported operations are kept.
+ *
+ * @author Grig Alex
+ * @version 0.6.0
+ * @see io.github.alexengrig.lambdax.collection.CollectionX#removeAll(Collection)
+ * @see io.github.alexengrig.lambdax.collection.ListX#removeIf(Predicate)
+ * @since 0.6.0
+ */
+final class BulkX {
+    /**
+     * The maximal size of an argument that is scanned without hashing.
+     *
+     * @since 0.6.0
+     */
+    static final int HASH_THRESHOLD = 16;
+
+    private BulkX() {
+    }
+
+    static Collection<?> lookup(Collection<?> all) {
+        if (all instanceof Set || all.size() <= HASH_THRESHOLD) {
+            return all;
+        }
+        return new HashSet<>(all);
+    }
+
+    static <E> boolean removeAll(Collection<E> collection, Collection<?> all) {
+        if (all.isEmpty() || collection.isEmpty()) {
+            return false;
+        }
+        if (collection instanceof Set && collection.size() > all.size()) {
+            return collection.removeAll(all);
+        }
+        return collection.removeAll(lookup(all));
+    }
+
+    static <E> boolean retainAll(Collection<E> collection, Collection<?> all) {
+        if (collection.isEmpty()) {
+            return false;
+        }
+        return collection.retainAll(lookup(all));
+    }
+
+    static <E> boolean removeIf(Collection<E> collection, Predicate<? super E> filter, boolean expected) {
+        return collection.removeIf(e -> filter.test(e) == expected);
+    }
+}
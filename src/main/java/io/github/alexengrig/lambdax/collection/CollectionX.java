@@ -26,7 +26,7 @@ import java.util.function.Predicate;
  * <p>This utility class contains useful lambdas for {@link java.util.Collection}.</p>
  *
  * @author Grig Alex
- * @version 0.3.0
+ * @version 0.6.0
  * @see java.util.Collection
  * @see java.util.function.Consumer
  * @see java.util.function.Function
@@ -176,6 +176,8 @@ public final class CollectionX {
     /**
      * <p>Returns the carrying of {@link java.util.Collection#removeAll(Collection)}:
      * all -&gt; collection -&gt; collection.removeAll(all).</p>
+     * <p>An argument that is not a set and has more than 16 elements is hashed first,
+     * so the operation takes linear time.</p>
      *
      * @param all a {@link java.util.Collection} that is passed as the argument to {@link java.util.Collection#removeAll(Collection)}
      * @param <E> a type of elements in a collection
@@ -185,7 +187,7 @@ public final class CollectionX {
      * @since 0.1.0
      */
     public static <E> Predicate<Collection<E>> removeAll(Collection<? extends E> all) {
-        return c -> c.removeAll(all);
+        return c -> BulkX.removeAll(c, all);
     }
 
     /**
@@ -206,6 +208,8 @@ public final class CollectionX {
     /**
      * <p>Returns the carrying of {@link java.util.Collection#removeAll(Collection)}:
      * all -&gt; collection -&gt; collection.removeAll(all).</p>
+     * <p>An argument that is not a set and has more than 16 elements is hashed first,
+     * so the operation takes linear time.</p>
      *
      * @param all a {@link java.util.Collection} that is passed as the argument to {@link java.util.Collection#removeAll(Collection)}
      * @param <E> a type of elements in a collection
@@ -215,12 +219,14 @@ public final class CollectionX {
      * @since 0.1.0
      */
     public static <E> Consumer<Collection<E>> onlyRemoveAll(Collection<? extends E> all) {
-        return c -> c.removeAll(all);
+        return c -> BulkX.removeAll(c, all);
     }
 
     /**
      * <p>Returns the carrying of {@link java.util.Collection#retainAll(Collection)}:
      * all -&gt; collection -&gt; collection.retainAll(all).</p>
+     * <p>An argument that is not a set and has more than 16 elements is hashed first,
+     * so the operation takes linear time.</p>
      *
      * @param all a {@link java.util.Collection} that is passed as the argument to {@link java.util.Collection#retainAll(Collection)}
      * @param <E> a type of elements in a collection
@@ -230,12 +236,14 @@ public final class CollectionX {
      * @since 0.1.0
      */
     public static <E> Predicate<Collection<E>> retainAll(Collection<? extends E> all) {
-        return c -> c.retainAll(all);
+        return c -> BulkX.retainAll(c, all);
     }
 
     /**
      * <p>Returns the carrying of {@link java.util.Collection#retainAll(Collection)}:
      * all -&gt; collection -&gt; collection.retainAll(all).</p>
+     * <p>An argument that is not a set and has more than 16 elements is hashed first,
+     * so the operation takes linear time.</p>
      *
      * @param all a {@link java.util.Collection} that is passed as the argument to {@link java.util.Collection#retainAll(Collection)}
      * @param <E> a type of elements in a collection
@@ -245,7 +253,7 @@ public final class CollectionX {
      * @since 0.1.0
      */
     public static <E> Consumer<Collection<E>> onlyRetainAll(Collection<? extends E> all) {
-        return c -> c.retainAll(all);
+        return c -> BulkX.retainAll(c, all);
     }
 
     /**
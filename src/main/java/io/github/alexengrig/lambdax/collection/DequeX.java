@@ -16,17 +16,22 @@
 
 package io.github.alexengrig.lambdax.collection;
 
+import java.util.ArrayList;
 import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.BlockingDeque;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 /**
  * <p>This utility class contains useful lambdas for {@link java.util.Deque}.</p>
  *
  * @author Grig Alex
- * @version 0.3.0
+ * @version 0.6.0
  * @see java.util.Deque
  * @see java.util.function.Consumer
+ * @see java.util.function.Function
  * @see java.util.function.Predicate
  * @since 0.1.0
  */
@@ -318,4 +323,52 @@ public final class DequeX {
     public static <E> Consumer<Deque<E>> onlyRemoveLastOccurrence(E item) {
         return d -> d.removeLastOccurrence(item);
     }
+
+    /**
+     * <p>Returns the polling of first elements:
+     * n -&gt; deque -&gt; up to n of deque.pollFirst().</p>
+     * <p>A {@link java.util.concurrent.BlockingDeque} polls with
+     * {@link java.util.concurrent.BlockingQueue#drainTo(java.util.Collection, int)}.</p>
+     *
+     * @param n   the maximal number of elements to poll
+     * @param <E> a type of elements in a deque
+     * @return a {@link java.util.function.Function} which returns the polled elements from the head
+     * @see java.util.Deque#pollFirst()
+     * @see java.util.function.Function
+     * @since 0.6.0
+     */
+    public static <E> Function<Deque<E>, List<E>> pollFirstN(int n) {
+        return d -> {
+            final List<E> polled = new ArrayList<>();
+            if (d instanceof BlockingDeque) {
+                ((BlockingDeque<E>) d).drainTo(polled, n);
+            } else {
+                for (E element; polled.size() < n && (element = d.pollFirst()) != null; ) {
+                    polled.add(element);
+                }
+            }
+            return polled;
+        };
+    }
+
+    /**
+     * <p>Returns the polling of last elements:
+     * n -&gt; deque -&gt; up to n of deque.pollLast().</p>
+     *
+     * @param n   the maximal number of elements to poll
+     * @param <E> a type of elements in a deque
+     * @return a {@link java.util.function.Function} which returns the polled elements from the tail
+     * @see java.util.Deque#pollLast()
+     * @see java.util.function.Function
+     * @since 0.6.0
+     */
+    public static <E> Function<Deque<E>, List<E>> pollLastN(int n) {
+        return d -> {
+            final List<E> polled = new ArrayList<>();
+            for (E element; polled.size() < n && (element = d.pollLast()) != null; ) {
+                polled.add(element);
+            }
+            return polled;
+        };
+    }
 }
@@ -0,0 +1,313 @@
+/*
+ * Copyright 2019 - 2020 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.alexengrig.lambdax.collection;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * A hash set of {@code int} values with open addressing, without boxing.
+ *
+ * <p>
+ * Values are stored in a single array with linear probing,
+ * the value {@code 0} marks a free slot and is kept aside by a flag.
+ * A removal shifts the following values back, so the table has no tombstones.
+ * A set of {@code n} values takes from {@code 5.3·n} to {@code 10.7·n} bytes,
+ * instead of a node and a boxed value per value of {@link java.util.HashSet}.
+ * It is not thread-safe.
+ *
+ * @author Grig Alex
+ * @version 0.6.0
+ * @see io.github.alexengrig.lambdax.collection.IntSetX
+ * @see java.util.HashSet
+ * @since 0.6.0
+ */
+public final class IntHashSet {
+    private int[] keys;
+    private int mask;
+    private int resizeAt;
+    private boolean containsZero;
+    private int size;
+
+    /**
+     * Constructs an empty set.
+     *
+     * @since 0.6.0
+     */
+    public IntHashSet() {
+        this(0);
+    }
+
+    /**
+     * Constructs an empty set which holds the expected number of values without resizing.
+     *
+     * @param expectedSize the expected number of values
+     * @throws IllegalArgumentException if {@code expectedSize} is negative or too large
+     * @since 0.6.0
+     */
+    public IntHashSet(int expectedSize) {
+        allocate(PrimitiveX.tableSize(expectedSize));
+    }
+
+    /**
+     * Returns a set of the values.
+     *
+     * @param values values of the set
+     * @return a {@link io.github.alexengrig.lambdax.collection.IntHashSet}
+     * @since 0.6.0
+     */
+    public static IntHashSet of(int... values) {
+        Objects.requireNonNull(values, "The values must not be null");
+        final IntHashSet set = new IntHashSet(values.length);
+        for (int value : values) {
+            set.add(value);
+        }
+        return set;
+    }
+
+//    Query
+
+    /**
+     * Returns the number of values.
+     *
+     * @return the number of values
+     * @since 0.6.0
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks whether the set has no values.
+     *
+     * @return {@code true} if the set is empty
+     * @since 0.6.0
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Checks whether the set contains the value.
+     *
+     * @param value a value to find
+     * @return {@code true} if the set contains the value
+     * @since 0.6.0
+     */
+    public boolean contains(int value) {
+        if (value == 0) {
+            return containsZero;
+        }
+        for (int i = PrimitiveX.mix(value) & mask; ; i = (i + 1) & mask) {
+            final int key = keys[i];
+            if (key == value) {
+                return true;
+            }
+            if (key == 0) {
+                return false;
+            }
+        }
+    }
+
+//    Modify
+
+    /**
+     * Adds the value if it is not present.
+     *
+     * @param value a value to add
+     * @return {@code true} if the set did not contain the value
+     * @since 0.6.0
+     */
+    public boolean add(int value) {
+        if (value == 0) {
+            if (containsZero) {
+                return false;
+            }
+            containsZero = true;
+            size++;
+            return true;
+        }
+        int i = PrimitiveX.mix(value) & mask;
+        for (int key; (key = keys[i]) != 0; i = (i + 1) & mask) {
+            if (key == value) {
+                return false;
+            }
+        }
+        keys[i] = value;
+        if (++size - (containsZero ? 1 : 0) > resizeAt) {
+            rehash(keys.length << 1);
+        }
+        return true;
+    }
+
+    /**
+     * Removes the value if it is present.
+     *
+     * @param value a value to remove
+     * @return {@code true} if the set contained the value
+     * @since 0.6.0
+     */
+    public boolean remove(int value) {
+        if (value == 0) {
+            if (!containsZero) {
+                return false;
+            }
+            containsZero = false;
+            size--;
+            return true;
+        }
+        for (int i = PrimitiveX.mix(value) & mask; ; i = (i + 1) & mask) {
+            final int key = keys[i];
+            if (key == 0) {
+                return false;
+            }
+            if (key == value) {
+                shiftKeys(i);
+                size--;
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Removes all values, keeping the capacity.
+     *
+     * @since 0.6.0
+     */
+    public void clear() {
+        Arrays.fill(keys, 0);
+        containsZero = false;
+        size = 0;
+    }
+
+//    Traverse
+
+    /**
+     * Performs the action for each value in no particular order.
+     *
+     * @param action an action for each value
+     * @since 0.6.0
+     */
+    public void forEach(IntConsumer action) {
+        Objects.requireNonNull(action, "The action must not be null");
+        if (containsZero) {
+            action.accept(0);
+        }
+        for (int key : keys) {
+            if (key != 0) {
+                action.accept(key);
+            }
+        }
+    }
+
+    /**
+     * Returns a sequential stream of the values in no particular order.
+     *
+     * @return a {@link java.util.stream.IntStream}
+     * @since 0.6.0
+     */
+    public IntStream stream() {
+        return Arrays.stream(toArray());
+    }
+
+    /**
+     * Returns an array of the values in no particular order.
+     *
+     * @return a new array of the values
+     * @since 0.6.0
+     */
+    public int[] toArray() {
+        final int[] array = new int[size];
+        int index = containsZero ? 1 : 0;
+        for (int key : keys) {
+            if (key != 0) {
+                array[index++] = key;
+            }
+        }
+        return array;
+    }
+
+//    Table
+
+    private void allocate(int tableSize) {
+        keys = new int[tableSize];
+        mask = tableSize - 1;
+        resizeAt = PrimitiveX.resizeAt(tableSize);
+    }
+
+    private void rehash(int tableSize) {
+        if (keys.length == PrimitiveX.MAX_TABLE_SIZE) {
+            throw new IllegalStateException("The set is full: " + size);
+        }
+        final int[] oldKeys = keys;
+        allocate(tableSize);
+        for (int key : oldKeys) {
+            if (key != 0) {
+                int i = PrimitiveX.mix(key) & mask;
+                while (keys[i] != 0) {
+                    i = (i + 1) & mask;
+                }
+                keys[i] = key;
+            }
+        }
+    }
+
+    private void shiftKeys(int free) {
+        for (int last = free, i = (free + 1) & mask; ; i = (i + 1) & mask) {
+            final int key = keys[i];
+            if (key == 0) {
+                keys[last] = 0;
+                return;
+            }
+            final int slot = PrimitiveX.mix(key) & mask;
+            if (last <= i ? (last >= slot || slot > i) : (last >= slot && slot > i)) {
+                keys[last] = key;
+                last = i;
+            }
+        }
+    }
+
+//    Object
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        final IntHashSet that = (IntHashSet) o;
+        if (size != that.size || containsZero != that.containsZero) return false;
+        for (int key : keys) {
+            if (key != 0 && !that.contains(key)) return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        for (int key : keys) {
+            result += Integer.hashCode(key);
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+}
@@ -0,0 +1,404 @@
+/*
+ * Copyright 2019 - 2020 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.alexengrig.lambdax.collection;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * A hash map from {@code int} keys to {@code int} values with open addressing, without boxing.
+ *
+ * <p>
+ * Keys and values are stored in parallel arrays with linear probing,
+ * the key {@code 0} marks a free slot and its entry is kept aside.
+ * A removal shifts the following entries back, so the table has no tombstones.
+ * Methods which return a previous value return {@code 0} for an absent key,
+ * use {@link #containsKey(int)} to tell them apart.
+ * It is not thread-safe.
+ *
+ * @author Grig Alex
+ * @version 0.6.0
+ * @see io.github.alexengrig.lambdax.collection.IntIntMapX
+ * @see java.util.HashMap
+ * @since 0.6.0
+ */
+public final class IntIntMap {
+    private int[] keys;
+    private int[] values;
+    private int mask;
+    private int resizeAt;
+    private boolean containsZeroKey;
+    private int zeroValue;
+    private int size;
+
+    /**
+     * Constructs an empty map.
+     *
+     * @since 0.6.0
+     */
+    public IntIntMap() {
+        this(0);
+    }
+
+    /**
+     * Constructs an empty map which holds the expected number of entries without resizing.
+     *
+     * @param expectedSize the expected number of entries
+     * @throws IllegalArgumentException if {@code expectedSize} is negative or too large
+     * @since 0.6.0
+     */
+    public IntIntMap(int expectedSize) {
+        allocate(PrimitiveX.tableSize(expectedSize));
+    }
+
+//    Query
+
+    /**
+     * Returns the number of entries.
+     *
+     * @return the number of entries
+     * @since 0.6.0
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks whether the map has no entries.
+     *
+     * @return {@code true} if the map is empty
+     * @since 0.6.0
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Checks whether the map contains the key.
+     *
+     * @param key a key to find
+     * @return {@code true} if the map contains the key
+     * @since 0.6.0
+     */
+    public boolean containsKey(int key) {
+        return key == 0 ? containsZeroKey : find(key) >= 0;
+    }
+
+    /**
+     * Returns the value of the key.
+     *
+     * @param key a key of the value
+     * @return the value of the key
+     * @throws NoSuchElementException if the map does not contain the key
+     * @since 0.6.0
+     */
+    public int get(int key) {
+        if (key == 0) {
+            if (containsZeroKey) {
+                return zeroValue;
+            }
+        } else {
+            final int i = find(key);
+            if (i >= 0) {
+                return values[i];
+            }
+        }
+        throw new NoSuchElementException("No value for key: " + key);
+    }
+
+    /**
+     * Returns the value of the key or the default value if the map does not contain the key.
+     *
+     * @param key          a key of the value
+     * @param defaultValue a value for an absent key
+     * @return the value of the key or {@code defaultValue}
+     * @since 0.6.0
+     */
+    public int getOrDefault(int key, int defaultValue) {
+        if (key == 0) {
+            return containsZeroKey ? zeroValue : defaultValue;
+        }
+        final int i = find(key);
+        return i >= 0 ? values[i] : defaultValue;
+    }
+
+//    Modify
+
+    /**
+     * Associates the value with the key.
+     *
+     * @param key   a key of the value
+     * @param value a value to associate
+     * @return the previous value of the key or {@code 0}
+     * @since 0.6.0
+     */
+    public int put(int key, int value) {
+        if (key == 0) {
+            final int previous = zeroValue;
+            zeroValue = value;
+            if (!containsZeroKey) {
+                containsZeroKey = true;
+                size++;
+            }
+            return previous;
+        }
+        final int i = slot(key);
+        if (keys[i] == key) {
+            final int previous = values[i];
+            values[i] = value;
+            return previous;
+        }
+        insert(i, key, value);
+        return 0;
+    }
+
+    /**
+     * Adds the delta to the value of the key, an absent key starts from {@code 0}.
+     *
+     * @param key   a key of the value
+     * @param delta a delta to add
+     * @return the new value of the key
+     * @since 0.6.0
+     */
+    public int addTo(int key, int delta) {
+        if (key == 0) {
+            if (!containsZeroKey) {
+                containsZeroKey = true;
+                size++;
+            }
+            return zeroValue += delta;
+        }
+        final int i = slot(key);
+        if (keys[i] == key) {
+            return values[i] += delta;
+        }
+        insert(i, key, delta);
+        return delta;
+    }
+
+    /**
+     * Removes the entry of the key.
+     *
+     * @param key a key of the entry
+     * @return the previous value of the key or {@code 0}
+     * @since 0.6.0
+     */
+    public int remove(int key) {
+        if (key == 0) {
+            if (!containsZeroKey) {
+                return 0;
+            }
+            final int previous = zeroValue;
+            containsZeroKey = false;
+            zeroValue = 0;
+            size--;
+            return previous;
+        }
+        final int i = find(key);
+        if (i < 0) {
+            return 0;
+        }
+        final int previous = values[i];
+        shiftKeys(i);
+        size--;
+        return previous;
+    }
+
+    /**
+     * Removes all entries, keeping the capacity.
+     *
+     * @since 0.6.0
+     */
+    public void clear() {
+        Arrays.fill(keys, 0);
+        Arrays.fill(values, 0);
+        containsZeroKey = false;
+        zeroValue = 0;
+        size = 0;
+    }
+
+//    Traverse
+
+    /**
+     * Performs the action for each entry in no particular order.
+     *
+     * @param action an action for each entry
+     * @since 0.6.0
+     */
+    public void forEach(EntryConsumer action) {
+        Objects.requireNonNull(action, "The action must not be null");
+        if (containsZeroKey) {
+            action.accept(0, zeroValue);
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) {
+                action.accept(keys[i], values[i]);
+            }
+        }
+    }
+
+    /**
+     * Returns an array of the keys in no particular order.
+     *
+     * @return a new array of the keys
+     * @since 0.6.0
+     */
+    public int[] keys() {
+        final int[] array = new int[size];
+        int index = containsZeroKey ? 1 : 0;
+        for (int key : keys) {
+            if (key != 0) {
+                array[index++] = key;
+            }
+        }
+        return array;
+    }
+
+//    Table
+
+    private int find(int key) {
+        for (int i = PrimitiveX.mix(key) & mask; ; i = (i + 1) & mask) {
+            final int current = keys[i];
+            if (current == key) {
+                return i;
+            }
+            if (current == 0) {
+                return -1;
+            }
+        }
+    }
+
+    private int slot(int key) {
+        int i = PrimitiveX.mix(key) & mask;
+        int current;
+        while ((current = keys[i]) != 0 && current != key) {
+            i = (i + 1) & mask;
+        }
+        return i;
+    }
+
+    private void insert(int i, int key, int value) {
+        keys[i] = key;
+        values[i] = value;
+        if (++size - (containsZeroKey ? 1 : 0) > resizeAt) {
+            rehash(keys.length << 1);
+        }
+    }
+
+    private void allocate(int tableSize) {
+        keys = new int[tableSize];
+        values = new int[tableSize];
+        mask = tableSize - 1;
+        resizeAt = PrimitiveX.resizeAt(tableSize);
+    }
+
+    private void rehash(int tableSize) {
+        if (keys.length == PrimitiveX.MAX_TABLE_SIZE) {
+            throw new IllegalStateException("The map is full: " + size);
+        }
+        final int[] oldKeys = keys;
+        final int[] oldValues = values;
+        allocate(tableSize);
+        for (int j = 0; j < oldKeys.length; j++) {
+            final int key = oldKeys[j];
+            if (key != 0) {
+                final int i = slot(key);
+                keys[i] = key;
+                values[i] = oldValues[j];
+            }
+        }
+    }
+
+    private void shiftKeys(int free) {
+        for (int last = free, i = (free + 1) & mask; ; i = (i + 1) & mask) {
+            final int key = keys[i];
+            if (key == 0) {
+                keys[last] = 0;
+                values[last] = 0;
+                return;
+            }
+            final int slot = PrimitiveX.mix(key) & mask;
+            if (last <= i ? (last >= slot || slot > i) : (last >= slot && slot > i)) {
+                keys[last] = key;
+                values[last] = values[i];
+                last = i;
+            }
+        }
+    }
+
+//    Object
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        final IntIntMap that = (IntIntMap) o;
+        if (size != that.size || containsZeroKey != that.containsZeroKey) return false;
+        if (containsZeroKey && zeroValue != that.zeroValue) return false;
+        for (int i = 0; i < keys.length; i++) {
+            final int key = keys[i];
+            if (key != 0) {
+                final int j = that.find(key);
+                if (j < 0 || values[i] != that.values[j]) return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = containsZeroKey ? zeroValue : 0;
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) {
+                result += keys[i] ^ values[i];
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder("{");
+        forEach((key, value) -> {
+            if (builder.length() > 1) {
+                builder.append(", ");
+            }
+            builder.append(key).append('=').append(value);
+        });
+        return builder.append('}').toString();
+    }
+
+    /**
+     * Represents an operation that accepts an entry of {@link io.github.alexengrig.lambdax.collection.IntIntMap}.
+     *
+     * @author Grig Alex
+     * @version 0.6.0
+     * @since 0.6.0
+     */
+    @FunctionalInterface
+    public interface EntryConsumer {
+        /**
+         * Performs this operation on the entry.
+         *
+         * @param key   a key of the entry
+         * @param value a value of the entry
+         * @since 0.6.0
+         */
+        void accept(int key, int value);
+    }
+}
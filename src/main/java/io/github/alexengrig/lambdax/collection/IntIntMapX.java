@@ -0,0 +1,182 @@
+/*
+ * Copyright 2019 - 2020 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.alexengrig.lambdax.collection;
+
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
+/**
+ * <p>This utility class contains useful lambdas for {@link io.github.alexengrig.lambdax.collection.IntIntMap}.</p>
+ *
+ * @author Grig Alex
+ * @version 0.6.0
+ * @see io.github.alexengrig.lambdax.collection.IntIntMap
+ * @see java.util.function.Consumer
+ * @see java.util.function.Predicate
+ * @see java.util.function.ToIntFunction
+ * @since 0.6.0
+ */
+public final class IntIntMapX {
+    private IntIntMapX() {
+    }
+
+    /**
+     * <p>Returns the carrying of {@link io.github.alexengrig.lambdax.collection.IntIntMap#containsKey(int)}:
+     * key -&gt; map -&gt; map.containsKey(key).</p>
+     *
+     * @param key a key that is passed as the argument to {@link io.github.alexengrig.lambdax.collection.IntIntMap#containsKey(int)}
+     * @return a {@link java.util.function.Predicate}
+     * @see io.github.alexengrig.lambdax.collection.IntIntMap#containsKey(int)
+     * @see java.util.function.Predicate
+     * @since 0.6.0
+     */
+    public static Predicate<IntIntMap> containsKey(int key) {
+        return m -> m.containsKey(key);
+    }
+
+    /**
+     * <p>Returns the carrying of {@link io.github.alexengrig.lambdax.collection.IntIntMap#containsKey(int)}:
+     * key -&gt; map -&gt; !map.containsKey(key).</p>
+     *
+     * @param key a key that is passed as the argument to {@link io.github.alexengrig.lambdax.collection.IntIntMap#containsKey(int)}
+     * @return a {@link java.util.function.Predicate}
+     * @see io.github.alexengrig.lambdax.collection.IntIntMap#containsKey(int)
+     * @see java.util.function.Predicate
+     * @since 0.6.0
+     */
+    public static Predicate<IntIntMap> notContainsKey(int key) {
+        return m -> !m.containsKey(key);
+    }
+
+    /**
+     * <p>Returns the carrying of {@link io.github.alexengrig.lambdax.collection.IntIntMap#get(int)}:
+     * key -&gt; map -&gt; map.get(key).</p>
+     *
+     * @param key a key that is passed as the argument to {@link io.github.alexengrig.lambdax.collection.IntIntMap#get(int)}
+     * @return a {@link java.util.function.ToIntFunction}
+     * @see io.github.alexengrig.lambdax.collection.IntIntMap#get(int)
+     * @see java.util.function.ToIntFunction
+     * @since 0.6.0
+     */
+    public static ToIntFunction<IntIntMap> get(int key) {
+        return m -> m.get(key);
+    }
+
+    /**
+     * <p>Returns the carrying of {@link io.github.alexengrig.lambdax.collection.IntIntMap#getOrDefault(int, int)}:
+     * (key, defaultValue) -&gt; map -&gt; map.getOrDefault(key, defaultValue).</p>
+     *
+     * @param key          a key that is passed as the argument to {@link io.github.alexengrig.lambdax.collection.IntIntMap#getOrDefault(int, int)}
+     * @param defaultValue a default value that is passed as the argument to {@link io.github.alexengrig.lambdax.collection.IntIntMap#getOrDefault(int, int)}
+     * @return a {@link java.util.function.ToIntFunction}
+     * @see io.github.alexengrig.lambdax.collection.IntIntMap#getOrDefault(int, int)
+     * @see java.util.function.ToIntFunction
+     * @since 0.6.0
+     */
+    public static ToIntFunction<IntIntMap> getOrDefault(int key, int defaultValue) {
+        return m -> m.getOrDefault(key, defaultValue);
+    }
+
+    /**
+     * <p>Returns the carrying of {@link io.github.alexengrig.lambdax.collection.IntIntMap#put(int, int)}:
+     * (key, value) -&gt; map -&gt; map.put(key, value).</p>
+     *
+     * @param key   a key that is passed as the argument to {@link io.github.alexengrig.lambdax.collection.IntIntMap#put(int, int)}
+     * @param value a value that is passed as the argument to {@link io.github.alexengrig.lambdax.collection.IntIntMap#put(int, int)}
+     * @return a {@link java.util.function.ToIntFunction}
+     * @see io.github.alexengrig.lambdax.collection.IntIntMap#put(int, int)
+     * @see java.util.function.ToIntFunction
+     * @since 0.6.0
+     */
+    public static ToIntFunction<IntIntMap> put(int key, int value) {
+        return m -> m.put(key, value);
+    }
+
+    /**
+     * <p>Returns the carrying of {@link io.github.alexengrig.lambdax.collection.IntIntMap#put(int, int)}:
+     * (key, value) -&gt; map -&gt; map.put(key, value).</p>
+     *
+     * @param key   a key that is passed as the argument to {@link io.github.alexengrig.lambdax.collection.IntIntMap#put(int, int)}
+     * @param value a value that is passed as the argument to {@link io.github.alexengrig.lambdax.collection.IntIntMap#put(int, int)}
+     * @return a {@link java.util.function.Consumer}
+     * @see io.github.alexengrig.lambdax.collection.IntIntMap#put(int, int)
+     * @see java.util.function.Consumer
+     * @since 0.6.0
+     */
+    public static Consumer<IntIntMap> onlyPut(int key, int value) {
+        return m -> m.put(key, value);
+    }
+
+    /**
+     * <p>Returns the carrying of {@link io.github.alexengrig.lambdax.collection.IntIntMap#addTo(int, int)}:
+     * (key, delta) -&gt; map -&gt; map.addTo(key, delta).</p>
+     *
+     * @param key   a key that is passed as the argument to {@link io.github.alexengrig.lambdax.collection.IntIntMap#addTo(int, int)}
+     * @param delta a delta that is passed as the argument to {@link io.github.alexengrig.lambdax.collection.IntIntMap#addTo(int, int)}
+     * @return a {@link java.util.function.ToIntFunction}
+     * @see io.github.alexengrig.lambdax.collection.IntIntMap#addTo(int, int)
+     * @see java.util.function.ToIntFunction
+     * @since 0.6.0
+     */
+    public static ToIntFunction<IntIntMap> addTo(int key, int delta) {
+        return m -> m.addTo(key, delta);
+    }
+
+    /**
+     * <p>Returns the carrying of {@link io.github.alexengrig.lambdax.collection.IntIntMap#addTo(int, int)}:
+     * (key, delta) -&gt; map -&gt; map.addTo(key, delta).</p>
+     *
+     * @param key   a key that is passed as the argument to {@link io.github.alexengrig.lambdax.collection.IntIntMap#addTo(int, int)}
+     * @param delta a delta that is passed as the argument to {@link io.github.alexengrig.lambdax.collection.IntIntMap#addTo(int, int)}
+     * @return a {@link java.util.function.Consumer}
+     * @see io.github.alexengrig.lambdax.collection.IntIntMap#addTo(int, int)
+     * @see java.util.function.Consumer
+     * @since 0.6.0
+     */
+    public static Consumer<IntIntMap> onlyAddTo(int key, int delta) {
+        return m -> m.addTo(key, delta);
+    }
+
+    /**
+     * <p>Returns the carrying of {@link io.github.alexengrig.lambdax.collection.IntIntMap#remove(int)}:
+     * key -&gt; map -&gt; map.remove(key).</p>
+     *
+     * @param key a key that is passed as the argument to {@link io.github.alexengrig.lambdax.collection.IntIntMap#remove(int)}
+     * @return a {@link java.util.function.ToIntFunction}
+     * @see io.github.alexengrig.lambdax.collection.IntIntMap#remove(int)
+     * @see java.util.function.ToIntFunction
+     * @since 0.6.0
+     */
+    public static ToIntFunction<IntIntMap> remove(int key) {
+        return m -> m.remove(key);
+    }
+
+    /**
+     * <p>Returns the carrying of {@link io.github.alexengrig.lambdax.collection.IntIntMap#remove(int)}:
+     * key -&gt; map -&gt; map.remove(key).</p>
+     *
+     * @param key a key that is passed as the argument to {@link io.github.alexengrig.lambdax.collection.IntIntMap#remove(int)}
+     * @return a {@link java.util.function.Consumer}
+     * @see io.github.alexengrig.lambdax.collection.IntIntMap#remove(int)
+     * @see java.util.function.Consumer
+     * @since 0.6.0
+     */
+    public static Consumer<IntIntMap> onlyRemove(int key) {
+        return m -> m.remove(key);
+    }
+}
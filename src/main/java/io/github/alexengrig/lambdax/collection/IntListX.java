@@ -0,0 +1,278 @@
+/*
+ * Copyright 2019 - 2020 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.alexengrig.lambdax.collection;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
+/**
+ * <p>This utility class contains useful lambdas for {@link io.github.alexengrig.lambdax.collection.IntList}.</p>
+ *
+ * @author Grig Alex
+ * @version 0.6.0
+ * @see io.github.alexengrig.lambdax.collection.IntList
+ * @see java.util.function.Consumer
+ * @see java.util.function.Function
+ * @see java.util.function.Predicate
+ * @since 0.6.0
+ */
+public final class IntListX {
+    private IntListX() {
+    }
+
+    /**
+     * <p>Returns the carrying of {@link io.github.alexengrig.lambdax.collection.IntList#contains(int)}:
+     * value -&gt; list -&gt; list.contains(value).</p>
+     *
+     * @param value a {@code int} value that is passed as the argument to {@link io.github.alexengrig.lambdax.collection.IntList#contains(int)}
+     * @return a {@link java.util.function.Predicate}
+     * @see io.github.alexengrig.lambdax.collection.IntList#contains(int)
+     * @see java.util.function.Predicate
+     * @since 0.6.0
+     */
+    public static Predicate<IntList> contains(int value) {
+        return l -> l.contains(value);
+    }
+
+    /**
+     * <p>Returns the carrying of {@link io.github.alexengrig.lambdax.collection.IntList#contains(int)}:
+     * value -&gt; list -&gt; !list.contains(value).</p>
+     *
+     * @param value a {@code int} value that is passed as the argument to {@link io.github.alexengrig.lambdax.collection.IntList#contains(int)}
+     * @return a {@link java.util.function.Predicate}
+     * @see io.github.alexengrig.lambdax.collection.IntList#contains(int)
+     * @see java.util.function.Predicate
+     * @since 0.6.0
+     */
+    public static Predicate<IntList> notContains(int value) {
+        return l -> !l.contains(value);
+    }
+
+    /**
+     * <p>Returns the carrying of {@link io.github.alexengrig.lambdax.collection.IntList#get(int)}:
+     * index -&gt; list -&gt; list.get(index).</p>
+     *
+     * @param index an index that is passed as the argument to {@link io.github.alexengrig.lambdax.collection.IntList#get(int)}
+     * @return a {@link java.util.function.ToIntFunction}
+     * @see io.github.alexengrig.lambdax.collection.IntList#get(int)
+     * @see java.util.function.ToIntFunction
+     * @since 0.6.0
+     */
+    public static ToIntFunction<IntList> get(int index) {
+        return l -> l.get(index);
+    }
+
+    /**
+     * <p>Returns the carrying of {@link io.github.alexengrig.lambdax.collection.IntList#set(int, int)}:
+     * (index, value) -&gt; list -&gt; list.set(index, value).</p>
+     *
+     * @param index an index that is passed as the argument to {@link io.github.alexengrig.lambdax.collection.IntList#set(int, int)}
+     * @param value a {@code int} value that is passed as the argument to {@link io.github.alexengrig.lambdax.collection.IntList#set(int, int)}
+     * @return a {@link java.util.function.ToIntFunction}
+     * @see io.github.alexengrig.lambdax.collection.IntList#set(int, int)
+     * @see java.util.function.ToIntFunction
+     * @since 0.6.0
+     */
+    public static ToIntFunction<IntList> set(int index, int value) {
+        return l -> l.set(index, value);
+    }
+
+    /**
+     * <p>Returns the carrying of {@link io.github.alexengrig.lambdax.collection.IntList#indexOf(int)}:
+     * value -&gt; list -&gt; list.indexOf(value).</p>
+     *
+     * @param value a {@code int} value that is passed as the argument to {@link io.github.alexengrig.lambdax.collection.IntList#indexOf(int)}
+     * @return a {@link java.util.function.ToIntFunction}
+     * @see io.github.alexengrig.lambdax.collection.IntList#indexOf(int)
+     * @see java.util.function.ToIntFunction
+     * @since 0.6.0
+     */
+    public static ToIntFunction<IntList> indexOf(int value) {
+        return l -> l.indexOf(value);
+    }
+
+    /**
+     * <p>Returns the carrying of {@link io.github.alexengrig.lambdax.collection.IntList#add(int)}:
+     * value -&gt; list -&gt; list.add(value).</p>
+     *
+     * @param value a {@code int} value that is passed as the argument to {@link io.github.alexengrig.lambdax.collection.IntList#add(int)}
+     * @return a {@link java.util.function.Predicate}
+     * @see io.github.alexengrig.lambdax.collection.IntList#add(int)
+     * @see java.util.function.Predicate
+     * @since 0.6.0
+     */
+    public static Predicate<IntList> add(int value) {
+        return l -> l.add(value);
+    }
+
+    /**
+     * <p>Returns the carrying of {@link io.github.alexengrig.lambdax.collection.IntList#add(int, int)}:
+     * (index, value) -&gt; list -&gt; list.add(index, value).</p>
+     *
+     * @param index an index that is passed as the argument to {@link io.github.alexengrig.lambdax.collection.IntList#add(int, int)}
+     * @param value a {@code int} value that is passed as the argument to {@link io.github.alexengrig.lambdax.collection.IntList#add(int, int)}
+     * @return a {@link java.util.function.Consumer}
+     * @see io.github.alexengrig.lambdax.collection.IntList#add(int, int)
+     * @see java.util.function.Consumer
+     * @since 0.6.0
+     */
+    public static Consumer<IntList> add(int index, int value) {
+        return l -> l.add(index, value);
+    }
+
+    /**
+     * <p>Returns the carrying of {@link io.github.alexengrig.lambdax.collection.IntList#addAll(int...)}:
+     * values -&gt; list -&gt; list.addAll(values).</p>
+     *
+     * @param values values that are passed as the argument to {@link io.github.alexengrig.lambdax.collection.IntList#addAll(int...)}
+     * @return a {@link java.util.function.Predicate}
+     * @see io.github.alexengrig.lambdax.collection.IntList#addAll(int...)
+     * @see java.util.function.Predicate
+     * @since 0.6.0
+     */
+    public static Predicate<IntList> addAll(int... values) {
+        return l -> l.addAll(values);
+    }
+
+    /**
+     * <p>Returns the carrying of {@link io.github.alexengrig.lambdax.collection.IntList#add(int)}:
+     * value -&gt; list -&gt; list.add(value).</p>
+     *
+     * @param value a {@code int} value that is passed as the argument to {@link io.github.alexengrig.lambdax.collection.IntList#add(int)}
+     * @return a {@link java.util.function.Consumer}
+     * @see io.github.alexengrig.lambdax.collection.IntList#add(int)
+     * @see java.util.function.Consumer
+     * @since 0.6.0
+     */
+    public static Consumer<IntList> onlyAdd(int value) {
+        return l -> l.add(value);
+    }
+
+    /**
+     * <p>Returns the carrying of {@link io.github.alexengrig.lambdax.collection.IntList#addAll(int...)}:
+     * values -&gt; list -&gt; list.addAll(values).</p>
+     *
+     * @param values values that are passed as the argument to {@link io.github.alexengrig.lambdax.collection.IntList#addAll(int...)}
+     * @return a {@link java.util.function.Consumer}
+     * @see io.github.alexengrig.lambdax.collection.IntList#addAll(int...)
+     * @see java.util.function.Consumer
+     * @since 0.6.0
+     */
+    public static Consumer<IntList> onlyAddAll(int... values) {
+        return l -> l.addAll(values);
+    }
+
+    /**
+     * <p>Returns the carrying of {@link io.github.alexengrig.lambdax.collection.IntList#remove(int)}:
+     * value -&gt; list -&gt; list.remove(value).</p>
+     *
+     * @param value a {@code int} value that is passed as the argument to {@link io.github.alexengrig.lambdax.collection.IntList#remove(int)}
+     * @return a {@link java.util.function.Predicate}
+     * @see io.github.alexengrig.lambdax.collection.IntList#remove(int)
+     * @see java.util.function.Predicate
+     * @since 0.6.0
+     */
+    public static Predicate<IntList> remove(int value) {
+        return l -> l.remove(value);
+    }
+
+    /**
+     * <p>Returns the carrying of {@link io.github.alexengrig.lambdax.collection.IntList#remove(int)}:
+     * value -&gt; list -&gt; list.remove(value).</p>
+     *
+     * @param value a {@code int} value that is passed as the argument to {@link io.github.alexengrig.lambdax.collection.IntList#remove(int)}
+     * @return a {@link java.util.function.Consumer}
+     * @see io.github.alexengrig.lambdax.collection.IntList#remove(int)
+     * @see java.util.function.Consumer
+     * @since 0.6.0
+     */
+    public static Consumer<IntList> onlyRemove(int value) {
+        return l -> l.remove(value);
+    }
+
+    /**
+     * <p>Returns the carrying of {@link io.github.alexengrig.lambdax.collection.IntList#removeIf(IntPredicate)}:
+     * filter -&gt; list -&gt; list.removeIf(filter).</p>
+     *
+     * @param filter a predicate that is passed as the argument to {@link io.github.alexengrig.lambdax.collection.IntList#removeIf(IntPredicate)}
+     * @return a {@link java.util.function.Predicate}
+     * @see io.github.alexengrig.lambdax.collection.IntList#removeIf(IntPredicate)
+     * @see java.util.function.Predicate
+     * @since 0.6.0
+     */
+    public static Predicate<IntList> removeIf(IntPredicate filter) {
+        return l -> l.removeIf(filter);
+    }
+
+    /**
+     * <p>Returns the carrying of {@link io.github.alexengrig.lambdax.collection.IntList#removeIf(IntPredicate)}:
+     * filter -&gt; list -&gt; list.removeIf(filter).</p>
+     *
+     * @param filter a predicate that is passed as the argument to {@link io.github.alexengrig.lambdax.collection.IntList#removeIf(IntPredicate)}
+     * @return a {@link java.util.function.Consumer}
+     * @see io.github.alexengrig.lambdax.collection.IntList#removeIf(IntPredicate)
+     * @see java.util.function.Consumer
+     * @since 0.6.0
+     */
+    public static Consumer<IntList> onlyRemoveIf(IntPredicate filter) {
+        return l -> l.removeIf(filter);
+    }
+
+    /**
+     * <p>Returns the carrying of {@link io.github.alexengrig.lambdax.collection.IntList#toArray()}:
+     * list -&gt; list.toArray().</p>
+     *
+     * @return a {@link java.util.function.Function}
+     * @see io.github.alexengrig.lambdax.collection.IntList#toArray()
+     * @see java.util.function.Function
+     * @since 0.6.0
+     */
+    public static Function<IntList, int[]> toArray() {
+        return IntList::toArray;
+    }
+
+    /**
+     * <p>Returns the carrying of {@link io.github.alexengrig.lambdax.collection.IntList#equals(Object)}:
+     * other -&gt; list -&gt; list.equals(other).</p>
+     *
+     * @param other an object that is passed as the argument to {@link io.github.alexengrig.lambdax.collection.IntList#equals(Object)}
+     * @return a {@link java.util.function.Predicate}
+     * @see io.github.alexengrig.lambdax.collection.IntList#equals(Object)
+     * @see java.util.function.Predicate
+     * @since 0.6.0
+     */
+    public static Predicate<IntList> equalsTo(Object other) {
+        return l -> l.equals(other);
+    }
+
+    /**
+     * <p>Returns the carrying of {@link io.github.alexengrig.lambdax.collection.IntList#equals(Object)}:
+     * other -&gt; list -&gt; !list.equals(other).</p>
+     *
+     * @param other an object that is passed as the argument to {@link io.github.alexengrig.lambdax.collection.IntList#equals(Object)}
+     * @return a {@link java.util.function.Predicate}
+     * @see io.github.alexengrig.lambdax.collection.IntList#equals(Object)
+     * @see java.util.function.Predicate
+     * @since 0.6.0
+     */
+    public static Predicate<IntList> notEqualsTo(Object other) {
+        return l -> !l.equals(other);
+    }
+}
@@ -26,7 +26,7 @@ import java.util.function.*;
  * <p>This utility class contains useful lambdas for {@link java.util.List}.</p>
  *
  * @author Grig Alex
- * @version 0.3.0
+ * @version 0.6.0
  * @see java.util.Collection
  * @see java.util.List
  * @see java.util.Comparator
@@ -288,6 +288,8 @@ public final class ListX {
     /**
      * <p>Returns the carrying of {@link java.util.List#removeAll(Collection)}:
      * all -&gt; list -&gt; list.removeAll(all).</p>
+     * <p>An argument that is not a set and has more than 16 elements is hashed first,
+     * so the operation takes linear time.</p>
      *
      * @param all a {@link java.util.Collection} that is passed as the argument to {@link java.util.List#removeAll(Collection)}
      * @param <E> a type of elements in a list
@@ -297,7 +299,7 @@ public final class ListX {
      * @since 0.1.0
      */
     public static <E> Predicate<List<E>> removeAll(Collection<? extends E> all) {
-        return l -> l.removeAll(all);
+        return l -> BulkX.removeAll(l, all);
     }
 
     /**
@@ -318,6 +320,8 @@ public final class ListX {
     /**
      * <p>Returns the carrying of {@link java.util.List#removeAll(Collection)}:
      * all -&gt; list -&gt; list.removeAll(all).</p>
+     * <p>An argument that is not a set and has more than 16 elements is hashed first,
+     * so the operation takes linear time.</p>
      *
      * @param all a {@link java.util.Collection} that is passed as the argument to {@link java.util.List#removeAll(Collection)}
      * @param <E> a type of elements in a list
@@ -327,12 +331,14 @@ public final class ListX {
      * @since 0.1.0
      */
     public static <E> Consumer<List<E>> onlyRemoveAll(Collection<? extends E> all) {
-        return l -> l.removeAll(all);
+        return l -> BulkX.removeAll(l, all);
     }
 
     /**
      * <p>Returns the carrying of {@link java.util.List#retainAll(Collection)}:
      * all -&gt; list -&gt; list.retainAll(all).</p>
+     * <p>An argument that is not a set and has more than 16 elements is hashed first,
+     * so the operation takes linear time.</p>
      *
      * @param all a {@link java.util.Collection} that is passed as the argument to {@link java.util.List#retainAll(Collection)}
      * @param <E> a type of elements in a list
@@ -342,12 +348,14 @@ public final class ListX {
      * @since 0.1.0
      */
     public static <E> Predicate<List<E>> retainAll(Collection<? extends E> all) {
-        return l -> l.retainAll(all);
+        return l -> BulkX.retainAll(l, all);
     }
 
     /**
      * <p>Returns the carrying of {@link java.util.List#retainAll(Collection)}:
      * all -&gt; list -&gt; list.retainAll(all).</p>
+     * <p>An argument that is not a set and has more than 16 elements is hashed first,
+     * so the operation takes linear time.</p>
      *
      * @param all a {@link java.util.Collection} that is passed as the argument to {@link java.util.List#retainAll(Collection)}
      * @param <E> a type of elements in a list
@@ -357,7 +365,67 @@ public final class ListX {
      * @since 0.1.0
      */
     public static <E> Consumer<List<E>> onlyRetainAll(Collection<? extends E> all) {
-        return l -> l.retainAll(all);
+        return l -> BulkX.retainAll(l, all);
+    }
+
+    /**
+     * <p>Returns the carrying of {@link java.util.List#removeIf(Predicate)}:
+     * filter -&gt; list -&gt; list.removeIf(filter).</p>
+     *
+     * @param filter a {@link java.util.function.Predicate} which returns {@code true} for elements to be removed
+     * @param <E>    a type of elements in a list
+     * @return a {@link java.util.function.Predicate}
+     * @see java.util.List#removeIf(Predicate)
+     * @see java.util.function.Predicate
+     * @since 0.6.0
+     */
+    public static <E> Predicate<List<E>> removeIf(Predicate<? super E> filter) {
+        return l -> BulkX.removeIf(l, filter, true);
+    }
+
+    /**
+     * <p>Returns the carrying of {@link java.util.List#removeIf(Predicate)}:
+     * filter -&gt; list -&gt; list.removeIf(filter).</p>
+     *
+     * @param filter a {@link java.util.function.Predicate} which returns {@code true} for elements to be removed
+     * @param <E>    a type of elements in a list
+     * @return a {@link java.util.function.Consumer}
+     * @see java.util.List#removeIf(Predicate)
+     * @see java.util.function.Consumer
+     * @since 0.6.0
+     */
+    public static <E> Consumer<List<E>> onlyRemoveIf(Predicate<? super E> filter) {
+        return l -> BulkX.removeIf(l, filter, true);
+    }
+
+    /**
+     * <p>Returns the carrying of {@link java.util.List#removeIf(Predicate)} with the negated filter:
+     * filter -&gt; list -&gt; list.removeIf(filter.negate()).</p>
+     *
+     * @param filter a {@link java.util.function.Predicate} which returns {@code true} for elements to be retained
+     * @param <E>    a type of elements in a list
+     * @return a {@link java.util.function.Predicate}
+     * @see java.util.List#removeIf(Predicate)
+     * @see java.util.function.Predicate
+     * @since 0.6.0
+     */
+    public static <E> Predicate<List<E>> retainIf(Predicate<? super E> filter) {
+        return l -> BulkX.removeIf(l, filter, false);
+    }
+
+    /**
+     * <p>Returns the carrying of {@link java.util.List#removeIf(Predicate)} with the negated filter:
+     * filter -&gt; list -&gt; list.removeIf(filter.negate()).</p>
+     *
+     * @param filter a {@link java.util.function.Predicate} which returns {@code true} for elements to be retained
+     * @param <E>    a type of elements in a list
+     * @return a {@link java.util.function.Consumer}
+     * @see java.util.List#removeIf(Predicate)
+     * @see java.util.function.Consumer
+     * @since 0.6.0
+     */
+    public static <E> Consumer<List<E>> onlyRetainIf(Predicate<? super E> filter) {
+        return l -> BulkX.removeIf(l, filter, false);
     }
 
     /**
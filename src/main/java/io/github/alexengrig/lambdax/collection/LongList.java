@@ -0,0 +1,408 @@
+/*
+ * Copyright 2019 - 2020 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.alexengrig.lambdax.collection;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.LongConsumer;
+import java.util.function.LongPredicate;
+import java.util.stream.LongStream;
+
+/**
+ * A growable list of {@code long} values backed by an array, without boxing.
+ *
+ * <p>
+ * A list of {@code n} values takes {@code 8·n} bytes plus the spare capacity,
+ * instead of an object per value of {@link java.util.List}.
+ * It is not thread-safe.
+ *
+ * @author Grig Alex
+ * @version 0.6.0
+ * @see io.github.alexengrig.lambdax.collection.LongListX
+ * @see java.util.ArrayList
+ * @since 0.6.0
+ */
+public final class LongList {
+    private static final long[] EMPTY_ELEMENTS = {};
+
+    private long[] elements;
+    private int size;
+
+    /**
+     * Constructs an empty list.
+     *
+     * @since 0.6.0
+     */
+    public LongList() {
+        elements = EMPTY_ELEMENTS;
+    }
+
+    /**
+     * Constructs an empty list with the initial capacity.
+     *
+     * @param initialCapacity the initial capacity of the list
+     * @throws IllegalArgumentException if {@code initialCapacity} is negative
+     * @since 0.6.0
+     */
+    public LongList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("The initial capacity must not be negative: " + initialCapacity);
+        }
+        elements = initialCapacity == 0 ? EMPTY_ELEMENTS : new long[initialCapacity];
+    }
+
+    /**
+     * Returns a list of the values.
+     *
+     * @param values values of the list
+     * @return a {@link io.github.alexengrig.lambdax.collection.LongList}
+     * @since 0.6.0
+     */
+    public static LongList of(long... values) {
+        Objects.requireNonNull(values, "The values must not be null");
+        final LongList list = new LongList(values.length);
+        list.addAll(values);
+        return list;
+    }
+
+//    Query
+
+    /**
+     * Returns the number of values.
+     *
+     * @return the number of values
+     * @since 0.6.0
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks whether the list has no values.
+     *
+     * @return {@code true} if the list is empty
+     * @since 0.6.0
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the value at the index.
+     *
+     * @param index an index of the value
+     * @return the value at the index
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * @since 0.6.0
+     */
+    public long get(int index) {
+        PrimitiveX.checkIndex(index, size);
+        return elements[index];
+    }
+
+    /**
+     * Checks whether the list contains the value.
+     *
+     * @param value a value to find
+     * @return {@code true} if the list contains the value
+     * @since 0.6.0
+     */
+    public boolean contains(long value) {
+        return indexOf(value) >= 0;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the value.
+     *
+     * @param value a value to find
+     * @return the index of the value or {@code -1}
+     * @since 0.6.0
+     */
+    public int indexOf(long value) {
+        for (int i = 0; i < size; i++) {
+            if (elements[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the last occurrence of the value.
+     *
+     * @param value a value to find
+     * @return the index of the value or {@code -1}
+     * @since 0.6.0
+     */
+    public int lastIndexOf(long value) {
+        for (int i = size - 1; i >= 0; i--) {
+            if (elements[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+//    Modify
+
+    /**
+     * Replaces the value at the index.
+     *
+     * @param index an index of the value
+     * @param value a new value
+     * @return the previous value
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * @since 0.6.0
+     */
+    public long set(int index, long value) {
+        PrimitiveX.checkIndex(index, size);
+        final long previous = elements[index];
+        elements[index] = value;
+        return previous;
+    }
+
+    /**
+     * Appends the value to the end of the list.
+     *
+     * @param value a value to append
+     * @return {@code true}
+     * @since 0.6.0
+     */
+    public boolean add(long value) {
+        if (size == elements.length) {
+            elements = Arrays.copyOf(elements, PrimitiveX.grow(elements.length, size + 1));
+        }
+        elements[size++] = value;
+        return true;
+    }
+
+    /**
+     * Inserts the value at the index and shifts the subsequent values.
+     *
+     * @param index an index at which the value is to be inserted
+     * @param value a value to insert
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * @since 0.6.0
+     */
+    public void add(int index, long value) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        if (size == elements.length) {
+            elements = Arrays.copyOf(elements, PrimitiveX.grow(elements.length, size + 1));
+        }
+        System.arraycopy(elements, index, elements, index + 1, size - index);
+        elements[index] = value;
+        size++;
+    }
+
+    /**
+     * Appends the values to the end of the list.
+     *
+     * @param values values to append
+     * @return {@code true} if the list changed
+     * @since 0.6.0
+     */
+    public boolean addAll(long... values) {
+        Objects.requireNonNull(values, "The values must not be null");
+        return addAll(values, values.length);
+    }
+
+    /**
+     * Appends the values of the other list to the end of the list.
+     *
+     * @param other a list of values to append
+     * @return {@code true} if the list changed
+     * @since 0.6.0
+     */
+    public boolean addAll(LongList other) {
+        Objects.requireNonNull(other, "The other must not be null");
+        return addAll(other.elements, other.size);
+    }
+
+    private boolean addAll(long[] values, int length) {
+        if (length == 0) {
+            return false;
+        }
+        ensureCapacity(size + length);
+        System.arraycopy(values, 0, elements, size, length);
+        size += length;
+        return true;
+    }
+
+    /**
+     * Removes the value at the index and shifts the subsequent values.
+     *
+     * @param index an index of the value
+     * @return the removed value
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * @since 0.6.0
+     */
+    public long removeAt(int index) {
+        PrimitiveX.checkIndex(index, size);
+        final long previous = elements[index];
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+        size--;
+        return previous;
+    }
+
+    /**
+     * Removes the first occurrence of the value.
+     *
+     * @param value a value to remove
+     * @return {@code true} if the list contained the value
+     * @since 0.6.0
+     */
+    public boolean remove(long value) {
+        final int index = indexOf(value);
+        if (index < 0) {
+            return false;
+        }
+        removeAt(index);
+        return true;
+    }
+
+    /**
+     * Removes all values which satisfy the filter, compacting the list in one pass.
+     *
+     * @param filter a predicate which returns {@code true} for values to be removed
+     * @return {@code true} if any value was removed
+     * @since 0.6.0
+     */
+    public boolean removeIf(LongPredicate filter) {
+        Objects.requireNonNull(filter, "The filter must not be null");
+        int write = 0;
+        for (int read = 0; read < size; read++) {
+            final long value = elements[read];
+            if (!filter.test(value)) {
+                elements[write++] = value;
+            }
+        }
+        final boolean changed = write != size;
+        size = write;
+        return changed;
+    }
+
+    /**
+     * Removes all values, keeping the capacity.
+     * @since 0.6.0
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Sorts the values into ascending order.
+     * @since 0.6.0
+     */
+    public void sort() {
+        Arrays.sort(elements, 0, size);
+    }
+
+    /**
+     * Grows the backing array to hold at least the capacity values.
+     *
+     * @param capacity the required capacity
+     * @since 0.6.0
+     */
+    public void ensureCapacity(int capacity) {
+        if (capacity > elements.length) {
+            elements = Arrays.copyOf(elements, PrimitiveX.grow(elements.length, capacity));
+        }
+    }
+
+    /**
+     * Shrinks the backing array to the size of the list.
+     *
+     * @since 0.6.0
+     */
+    public void trimToSize() {
+        if (size < elements.length) {
+            elements = size == 0 ? EMPTY_ELEMENTS : Arrays.copyOf(elements, size);
+        }
+    }
+
+//    Traverse
+
+    /**
+     * Performs the action for each value in order.
+     *
+     * @param action an action for each value
+     * @since 0.6.0
+     */
+    public void forEach(LongConsumer action) {
+        Objects.requireNonNull(action, "The action must not be null");
+        for (int i = 0; i < size; i++) {
+            action.accept(elements[i]);
+        }
+    }
+
+    /**
+     * Returns a sequential stream of the values.
+     *
+     * @return a {@link java.util.stream.LongStream}
+     * @since 0.6.0
+     */
+    public LongStream stream() {
+        return Arrays.stream(elements, 0, size);
+    }
+
+    /**
+     * Returns an array of the values.
+     *
+     * @return a new array of the values
+     * @since 0.6.0
+     */
+    public long[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+//    Object
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        final LongList that = (LongList) o;
+        if (size != that.size) return false;
+        for (int i = 0; i < size; i++) {
+            if (elements[i] != that.elements[i]) return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (int i = 0; i < size; i++) {
+            result = 31 * result + Long.hashCode(elements[i]);
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            builder.append(elements[i]);
+        }
+        return builder.append(']').toString();
+    }
+}
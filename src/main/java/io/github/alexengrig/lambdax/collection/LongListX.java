@@ -0,0 +1,279 @@
+/*
+ * Copyright 2019 - 2020 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.alexengrig.lambdax.collection;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongPredicate;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * <p>This utility class contains useful lambdas for {@link io.github.alexengrig.lambdax.collection.LongList}.</p>
+ *
+ * @author Grig Alex
+ * @version 0.6.0
+ * @see io.github.alexengrig.lambdax.collection.LongList
+ * @see java.util.function.Consumer
+ * @see java.util.function.Function
+ * @see java.util.function.Predicate
+ * @since 0.6.0
+ */
+public final class LongListX {
+    private LongListX() {
+    }
+
+    /**
+     * <p>Returns the carrying of {@link io.github.alexengrig.lambdax.collection.LongList#contains(long)}:
+     * value -&gt; list -&gt; list.contains(value).</p>
+     *
+     * @param value a {@code long} value that is passed as the argument to {@link io.github.alexengrig.lambdax.collection.LongList#contains(long)}
+     * @return a {@link java.util.function.Predicate}
+     * @see io.github.alexengrig.lambdax.collection.LongList#contains(long)
+     * @see java.util.function.Predicate
+     * @since 0.6.0
+     */
+    public static Predicate<LongList> contains(long value) {
+        return l -> l.contains(value);
+    }
+
+    /**
+     * <p>Returns the carrying of {@link io.github.alexengrig.lambdax.collection.LongList#contains(long)}:
+     * value -&gt; list -&gt; !list.contains(value).</p>
+     *
+     * @param value a {@code long} value that is passed as the argument to {@link io.github.alexengrig.lambdax.collection.LongList#contains(long)}
+     * @return a {@link java.util.function.Predicate}
+     * @see io.github.alexengrig.lambdax.collection.LongList#contains(long)
+     * @see java.util.function.Predicate
+     * @since 0.6.0
+     */
+    public static Predicate<LongList> notContains(long value) {
+        return l -> !l.contains(value);
+    }
+
+    /**
+     * <p>Returns the carrying of {@link io.github.alexengrig.lambdax.collection.LongList#get(int)}:
+     * index -&gt; list -&gt; list.get(index).</p>
+     *
+     * @param index an index that is passed as the argument to {@link io.github.alexengrig.lambdax.collection.LongList#get(int)}
+     * @return a {@link java.util.function.ToLongFunction}
+     * @see io.github.alexengrig.lambdax.collection.LongList#get(int)
+     * @see java.util.function.ToLongFunction
+     * @since 0.6.0
+     */
+    public static ToLongFunction<LongList> get(int index) {
+        return l -> l.get(index);
+    }
+
+    /**
+     * <p>Returns the carrying of {@link io.github.alexengrig.lambdax.collection.LongList#set(int, long)}:
+     * (index, value) -&gt; list -&gt; list.set(index, value).</p>
+     *
+     * @param index an index that is passed as the argument to {@link io.github.alexengrig.lambdax.collection.LongList#set(int, long)}
+     * @param value a {@code long} value that is passed as the argument to {@link io.github.alexengrig.lambdax.collection.LongList#set(int, long)}
+     * @return a {@link java.util.function.ToLongFunction}
+     * @see io.github.alexengrig.lambdax.collection.LongList#set(int, long)
+     * @see java.util.function.ToLongFunction
+     * @since 0.6.0
+     */
+    public static ToLongFunction<LongList> set(int index, long value) {
+        return l -> l.set(index, value);
+    }
+
+    /**
+     * <p>Returns the carrying of {@link io.github.alexengrig.lambdax.collection.LongList#indexOf(long)}:
+     * value -&gt; list -&gt; list.indexOf(value).</p>
+     *
+     * @param value a {@code long} value that is passed as the argument to {@link io.github.alexengrig.lambdax.collection.LongList#indexOf(long)}
+     * @return a {@link java.util.function.ToIntFunction}
+     * @see io.github.alexengrig.lambdax.collection.LongList#indexOf(long)
+     * @see java.util.function.ToIntFunction
+     * @since 0.6.0
+     */
+    public static ToIntFunction<LongList> indexOf(long value) {
+        return l -> l.indexOf(value);
+    }
+
+    /**
+     * <p>Returns the carrying of {@link io.github.alexengrig.lambdax.collection.LongList#add(long)}:
+     * value -&gt; list -&gt; list.add(value).</p>
+     *
+     * @param value a {@code long} value that is passed as the argument to {@link io.github.alexengrig.lambdax.collection.LongList#add(long)}
+     * @return a {@link java.util.function.Predicate}
+     * @see io.github.alexengrig.lambdax.collection.LongList#add(long)
+     * @see java.util.function.Predicate
+     * @since 0.6.0
+     */
+    public static Predicate<LongList> add(long value) {
+        return l -> l.add(value);
+    }
+
+    /**
+     * <p>Returns the carrying of {@link io.github.alexengrig.lambdax.collection.LongList#add(int, long)}:
+     * (index, value) -&gt; list -&gt; list.add(index, value).</p>
+     *
+     * @param index an index that is passed as the argument to {@link io.github.alexengrig.lambdax.collection.LongList#add(int, long)}
+     * @param value a {@code long} value that is passed as the argument to {@link io.github.alexengrig.lambdax.collection.LongList#add(int, long)}
+     * @return a {@link java.util.function.Consumer}
+     * @see io.github.alexengrig.lambdax.collection.LongList#add(int, long)
+     * @see java.util.function.Consumer
+     * @since 0.6.0
+     */
+    public static Consumer<LongList> add(int index, long value) {
+        return l -> l.add(index, value);
+    }
+
+    /**
+     * <p>Returns the carrying of {@link io.github.alexengrig.lambdax.collection.LongList#addAll(long...)}:
+     * values -&gt; list -&gt; list.addAll(values).</p>
+     *
+     * @param values values that are passed as the argument to {@link io.github.alexengrig.lambdax.collection.LongList#addAll(long...)}
+     * @return a {@link java.util.function.Predicate}
+     * @see io.github.alexengrig.lambdax.collection.LongList#addAll(long...)
+     * @see java.util.function.Predicate
+     * @since 0.6.0
+     */
+    public static Predicate<LongList> addAll(long... values) {
+        return l -> l.addAll(values);
+    }
+
+    /**
+     * <p>Returns the carrying of {@link io.github.alexengrig.lambdax.collection.LongList#add(long)}:
+     * value -&gt; list -&gt; list.add(value).</p>
+     *
+     * @param value a {@code long} value that is passed as the argument to {@link io.github.alexengrig.lambdax.collection.LongList#add(long)}
+     * @return a {@link java.util.function.Consumer}
+     * @see io.github.alexengrig.lambdax.collection.LongList#add(long)
+     * @see java.util.function.Consumer
+     * @since 0.6.0
+     */
+    public static Consumer<LongList> onlyAdd(long value) {
+        return l -> l.add(value);
+    }
+
+    /**
+     * <p>Returns the carrying of {@link io.github.alexengrig.lambdax.collection.LongList#addAll(long...)}:
+     * values -&gt; list -&gt; list.addAll(values).</p>
+     *
+     * @param values values that are passed as the argument to {@link io.github.alexengrig.lambdax.collection.LongList#addAll(long...)}
+     * @return a {@link java.util.function.Consumer}
+     * @see io.github.alexengrig.lambdax.collection.LongList#addAll(long...)
+     * @see java.util.function.Consumer
+     * @since 0.6.0
+     */
+    public static Consumer<LongList> onlyAddAll(long... values) {
+        return l -> l.addAll(values);
+    }
+
+    /**
+     * <p>Returns the carrying of {@link io.github.alexengrig.lambdax.collection.LongList#remove(long)}:
+     * value -&gt; list -&gt; list.remove(value).</p>
+     *
+     * @param value a {@code long} value that is passed as the argument to {@link io.github.alexengrig.lambdax.collection.LongList#remove(long)}
+     * @return a {@link java.util.function.Predicate}
+     * @see io.github.alexengrig.lambdax.collection.LongList#remove(long)
+     * @see java.util.function.Predicate
+     * @since 0.6.0
+     */
+    public static Predicate<LongList> remove(long value) {
+        return l -> l.remove(value);
+    }
+
+    /**
+     * <p>Returns the carrying of {@link io.github.alexengrig.lambdax.collection.LongList#remove(long)}:
+     * value -&gt; list -&gt; list.remove(value).</p>
+     *
+     * @param value a {@code long} value that is passed as the argument to {@link io.github.alexengrig.lambdax.collection.LongList#remove(long)}
+     * @return a {@link java.util.function.Consumer}
+     * @see io.github.alexengrig.lambdax.collection.LongList#remove(long)
+     * @see java.util.function.Consumer
+     * @since 0.6.0
+     */
+    public static Consumer<LongList> onlyRemove(long value) {
+        return l -> l.remove(value);
+    }
+
+    /**
+     * <p>Returns the carrying of {@link io.github.alexengrig.lambdax.collection.LongList#removeIf(LongPredicate)}:
+     * filter -&gt; list -&gt; list.removeIf(filter).</p>
+     *
+     * @param filter a predicate that is passed as the argument to {@link io.github.alexengrig.lambdax.collection.LongList#removeIf(LongPredicate)}
+     * @return a {@link java.util.function.Predicate}
+     * @see io.github.alexengrig.lambdax.collection.LongList#removeIf(LongPredicate)
+     * @see java.util.function.Predicate
+     * @since 0.6.0
+     */
+    public static Predicate<LongList> removeIf(LongPredicate filter) {
+        return l -> l.removeIf(filter);
+    }
+
+    /**
+     * <p>Returns the carrying of {@link io.github.alexengrig.lambdax.collection.LongList#removeIf(LongPredicate)}:
+     * filter -&gt; list -&gt; list.removeIf(filter).</p>
+     *
+     * @param filter a predicate that is passed as the argument to {@link io.github.alexengrig.lambdax.collection.LongList#removeIf(LongPredicate)}
+     * @return a {@link java.util.function.Consumer}
+     * @see io.github.alexengrig.lambdax.collection.LongList#removeIf(LongPredicate)
+     * @see java.util.function.Consumer
+     * @since 0.6.0
+     */
+    public static Consumer<LongList> onlyRemoveIf(LongPredicate filter) {
+        return l -> l.removeIf(filter);
+    }
+
+    /**
+     * <p>Returns the carrying of {@link io.github.alexengrig.lambdax.collection.LongList#toArray()}:
+     * list -&gt; list.toArray().</p>
+     *
+     * @return a {@link java.util.function.Function}
+     * @see io.github.alexengrig.lambdax.collection.LongList#toArray()
+     * @see java.util.function.Function
+     * @since 0.6.0
+     */
+    public static Function<LongList, long[]> toArray() {
+        return LongList::toArray;
+    }
+
+    /**
+     * <p>Returns the carrying of {@link io.github.alexengrig.lambdax.collection.LongList#equals(Object)}:
+     * other -&gt; list -&gt; list.equals(other).</p>
+     *
+     * @param other an object that is passed as the argument to {@link io.github.alexengrig.lambdax.collection.LongList#equals(Object)}
+     * @return a {@link java.util.function.Predicate}
+     * @see io.github.alexengrig.lambdax.collection.LongList#equals(Object)
+     * @see java.util.function.Predicate
+     * @since 0.6.0
+     */
+    public static Predicate<LongList> equalsTo(Object other) {
+        return l -> l.equals(other);
+    }
+
+    /**
+     * <p>Returns the carrying of {@link io.github.alexengrig.lambdax.collection.LongList#equals(Object)}:
+     * other -&gt; list -&gt; !list.equals(other).</p>
+     *
+     * @param other an object that is passed as the argument to {@link io.github.alexengrig.lambdax.collection.LongList#equals(Object)}
+     * @return a {@link java.util.function.Predicate}
+     * @see io.github.alexengrig.lambdax.collection.LongList#equals(Object)
+     * @see java.util.function.Predicate
+     * @since 0.6.0
+     */
+    public static Predicate<LongList> notEqualsTo(Object other) {
+        return l -> !l.equals(other);
+    }
+}
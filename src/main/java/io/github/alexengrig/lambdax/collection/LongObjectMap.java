@@ -0,0 +1,418 @@
+/*
+ * Copyright 2019 - 2020 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.alexengrig.lambdax.collection;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.LongFunction;
+
+/**
+ * A hash map from {@code long} keys to non-null values with open addressing, without boxing of keys.
+ *
+ * <p>
+ * Keys and values are stored in parallel arrays with linear probing,
+ * the key {@code 0} marks a free slot and its entry is kept aside.
+ * A removal shifts the following entries back, so the table has no tombstones.
+ * Values must not be {@code null}, so {@code null} means an absent key.
+ * It is not thread-safe.
+ *
+ * @param <V> a type of values
+ * @author Grig Alex
+ * @version 0.6.0
+ * @see io.github.alexengrig.lambdax.collection.LongObjectMapX
+ * @see java.util.HashMap
+ * @since 0.6.0
+ */
+public final class LongObjectMap<V> {
+    private long[] keys;
+    private Object[] values;
+    private int mask;
+    private int resizeAt;
+    private V zeroValue;
+    private int size;
+
+    /**
+     * Constructs an empty map.
+     *
+     * @since 0.6.0
+     */
+    public LongObjectMap() {
+        this(0);
+    }
+
+    /**
+     * Constructs an empty map which holds the expected number of entries without resizing.
+     *
+     * @param expectedSize the expected number of entries
+     * @throws IllegalArgumentException if {@code expectedSize} is negative or too large
+     * @since 0.6.0
+     */
+    public LongObjectMap(int expectedSize) {
+        allocate(PrimitiveX.tableSize(expectedSize));
+    }
+
+//    Query
+
+    /**
+     * Returns the number of entries.
+     *
+     * @return the number of entries
+     * @since 0.6.0
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks whether the map has no entries.
+     *
+     * @return {@code true} if the map is empty
+     * @since 0.6.0
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Checks whether the map contains the key.
+     *
+     * @param key a key to find
+     * @return {@code true} if the map contains the key
+     * @since 0.6.0
+     */
+    public boolean containsKey(long key) {
+        return key == 0 ? zeroValue != null : find(key) >= 0;
+    }
+
+    /**
+     * Returns the value of the key.
+     *
+     * @param key a key of the value
+     * @return the value of the key or {@code null}
+     * @since 0.6.0
+     */
+    @SuppressWarnings("unchecked")
+    public V get(long key) {
+        if (key == 0) {
+            return zeroValue;
+        }
+        final int i = find(key);
+        return i >= 0 ? (V) values[i] : null;
+    }
+
+    /**
+     * Returns the value of the key or the default value if the map does not contain the key.
+     *
+     * @param key          a key of the value
+     * @param defaultValue a value for an absent key
+     * @return the value of the key or {@code defaultValue}
+     * @since 0.6.0
+     */
+    public V getOrDefault(long key, V defaultValue) {
+        final V value = get(key);
+        return value != null ? value : defaultValue;
+    }
+
+//    Modify
+
+    /**
+     * Associates the value with the key.
+     *
+     * @param key   a key of the value
+     * @param value a non-null value to associate
+     * @return the previous value of the key or {@code null}
+     * @throws NullPointerException if {@code value} is {@code null}
+     * @since 0.6.0
+     */
+    @SuppressWarnings("unchecked")
+    public V put(long key, V value) {
+        Objects.requireNonNull(value, "The value must not be null");
+        if (key == 0) {
+            final V previous = zeroValue;
+            zeroValue = value;
+            if (previous == null) {
+                size++;
+            }
+            return previous;
+        }
+        final int i = slot(key);
+        if (keys[i] == key) {
+            final V previous = (V) values[i];
+            values[i] = value;
+            return previous;
+        }
+        insert(i, key, value);
+        return null;
+    }
+
+    /**
+     * Associates the value with the key if the map does not contain the key.
+     *
+     * @param key   a key of the value
+     * @param value a non-null value to associate
+     * @return the current value of the key or {@code null}
+     * @throws NullPointerException if {@code value} is {@code null}
+     * @since 0.6.0
+     */
+    public V putIfAbsent(long key, V value) {
+        Objects.requireNonNull(value, "The value must not be null");
+        final V current = get(key);
+        if (current != null) {
+            return current;
+        }
+        put(key, value);
+        return null;
+    }
+
+    /**
+     * Returns the value of the key, computing and associating it if the map does not contain the key.
+     *
+     * @param key      a key of the value
+     * @param function a function computing a value for an absent key
+     * @return the current or computed value, or {@code null} if the function returns {@code null}
+     * @since 0.6.0
+     */
+    @SuppressWarnings("unchecked")
+    public V computeIfAbsent(long key, LongFunction<? extends V> function) {
+        Objects.requireNonNull(function, "The function must not be null");
+        if (key == 0) {
+            if (zeroValue == null && (zeroValue = function.apply(key)) != null) {
+                size++;
+            }
+            return zeroValue;
+        }
+        final int i = slot(key);
+        if (keys[i] == key) {
+            return (V) values[i];
+        }
+        final V value = function.apply(key);
+        if (value != null) {
+            insert(i, key, value);
+        }
+        return value;
+    }
+
+    /**
+     * Removes the entry of the key.
+     *
+     * @param key a key of the entry
+     * @return the previous value of the key or {@code null}
+     * @since 0.6.0
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(long key) {
+        if (key == 0) {
+            final V previous = zeroValue;
+            if (previous != null) {
+                zeroValue = null;
+                size--;
+            }
+            return previous;
+        }
+        final int i = find(key);
+        if (i < 0) {
+            return null;
+        }
+        final V previous = (V) values[i];
+        shiftKeys(i);
+        size--;
+        return previous;
+    }
+
+    /**
+     * Removes all entries, keeping the capacity.
+     *
+     * @since 0.6.0
+     */
+    public void clear() {
+        Arrays.fill(keys, 0L);
+        Arrays.fill(values, null);
+        zeroValue = null;
+        size = 0;
+    }
+
+//    Traverse
+
+    /**
+     * Performs the action for each entry in no particular order.
+     *
+     * @param action an action for each entry
+     * @since 0.6.0
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(EntryConsumer<? super V> action) {
+        Objects.requireNonNull(action, "The action must not be null");
+        if (zeroValue != null) {
+            action.accept(0L, zeroValue);
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) {
+                action.accept(keys[i], (V) values[i]);
+            }
+        }
+    }
+
+    /**
+     * Returns an array of the keys in no particular order.
+     *
+     * @return a new array of the keys
+     * @since 0.6.0
+     */
+    public long[] keys() {
+        final long[] array = new long[size];
+        int index = zeroValue != null ? 1 : 0;
+        for (long key : keys) {
+            if (key != 0) {
+                array[index++] = key;
+            }
+        }
+        return array;
+    }
+
+//    Table
+
+    private int find(long key) {
+        for (int i = PrimitiveX.mix(key) & mask; ; i = (i + 1) & mask) {
+            final long current = keys[i];
+            if (current == key) {
+                return i;
+            }
+            if (current == 0) {
+                return -1;
+            }
+        }
+    }
+
+    private int slot(long key) {
+        int i = PrimitiveX.mix(key) & mask;
+        long current;
+        while ((current = keys[i]) != 0 && current != key) {
+            i = (i + 1) & mask;
+        }
+        return i;
+    }
+
+    private void insert(int i, long key, V value) {
+        keys[i] = key;
+        values[i] = value;
+        if (++size - (zeroValue != null ? 1 : 0) > resizeAt) {
+            rehash(keys.length << 1);
+        }
+    }
+
+    private void allocate(int tableSize) {
+        keys = new long[tableSize];
+        values = new Object[tableSize];
+        mask = tableSize - 1;
+        resizeAt = PrimitiveX.resizeAt(tableSize);
+    }
+
+    private void rehash(int tableSize) {
+        if (keys.length == PrimitiveX.MAX_TABLE_SIZE) {
+            throw new IllegalStateException("The map is full: " + size);
+        }
+        final long[] oldKeys = keys;
+        final Object[] oldValues = values;
+        allocate(tableSize);
+        for (int j = 0; j < oldKeys.length; j++) {
+            final long key = oldKeys[j];
+            if (key != 0) {
+                final int i = slot(key);
+                keys[i] = key;
+                values[i] = oldValues[j];
+            }
+        }
+    }
+
+    private void shiftKeys(int free) {
+        for (int last = free, i = (free + 1) & mask; ; i = (i + 1) & mask) {
+            final long key = keys[i];
+            if (key == 0) {
+                keys[last] = 0;
+                values[last] = null;
+                return;
+            }
+            final int slot = PrimitiveX.mix(key) & mask;
+            if (last <= i ? (last >= slot || slot > i) : (last >= slot && slot > i)) {
+                keys[last] = key;
+                values[last] = values[i];
+                last = i;
+            }
+        }
+    }
+
+//    Object
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        final LongObjectMap<?> that = (LongObjectMap<?>) o;
+        if (size != that.size || !Objects.equals(zeroValue, that.zeroValue)) return false;
+        for (int i = 0; i < keys.length; i++) {
+            final long key = keys[i];
+            if (key != 0) {
+                final int j = that.find(key);
+                if (j < 0 || !values[i].equals(that.values[j])) return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = zeroValue != null ? zeroValue.hashCode() : 0;
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) {
+                result += Long.hashCode(keys[i]) ^ values[i].hashCode();
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder("{");
+        forEach((key, value) -> {
+            if (builder.length() > 1) {
+                builder.append(", ");
+            }
+            builder.append(key).append('=').append(value);
+        });
+        return builder.append('}').toString();
+    }
+
+    /**
+     * Represents an operation that accepts an entry of {@link io.github.alexengrig.lambdax.collection.LongObjectMap}.
+     *
+     * @param <V> a type of values
+     * @author Grig Alex
+     * @version 0.6.0
+     * @since 0.6.0
+     */
+    @FunctionalInterface
+    public interface EntryConsumer<V> {
+        /**
+         * Performs this operation on the entry.
+         *
+         * @param key   a key of the entry
+         * @param value a value of the entry
+         * @since 0.6.0
+         */
+        void accept(long key, V value);
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2019 - 2020 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.alexengrig.lambdax.collection;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+import java.util.function.Predicate;
+
+/**
+ * <p>This utility class contains useful lambdas for {@link io.github.alexengrig.lambdax.collection.LongObjectMap}.</p>
+ *
+ * @author Grig Alex
+ * @version 0.6.0
+ * @see io.github.alexengrig.lambdax.collection.LongObjectMap
+ * @see java.util.function.Consumer
+ * @see java.util.function.Function
+ * @see java.util.function.Predicate
+ * @since 0.6.0
+ */
+public final class LongObjectMapX {
+    private LongObjectMapX() {
+    }
+
+    /**
+     * <p>Returns the carrying of {@link io.github.alexengrig.lambdax.collection.LongObjectMap#containsKey(long)}:
+     * key -&gt; map -&gt; map.containsKey(key).</p>
+     *
+     * @param key a key that is passed as the argument to {@link io.github.alexengrig.lambdax.collection.LongObjectMap#containsKey(long)}
+     * @param <V> a type of values
+     * @return a {@link java.util.function.Predicate}
+     * @see io.github.alexengrig.lambdax.collection.LongObjectMap#containsKey(long)
+     * @see java.util.function.Predicate
+     * @since 0.6.0
+     */
+    public static <V> Predicate<LongObjectMap<V>> containsKey(long key) {
+        return m -> m.containsKey(key);
+    }
+
+    /**
+     * <p>Returns the carrying of {@link io.github.alexengrig.lambdax.collection.LongObjectMap#containsKey(long)}:
+     * key -&gt; map -&gt; !map.containsKey(key).</p>
+     *
+     * @param key a key that is passed as the argument to {@link io.github.alexengrig.lambdax.collection.LongObjectMap#containsKey(long)}
+     * @param <V> a type of values
+     * @return a {@link java.util.function.Predicate}
+     * @see io.github.alexengrig.lambdax.collection.LongObjectMap#containsKey(long)
+     * @see java.util.function.Predicate
+     * @since 0.6.0
+     */
+    public static <V> Predicate<LongObjectMap<V>> notContainsKey(long key) {
+        return m -> !m.containsKey(key);
+    }
+
+    /**
+     * <p>Returns the carrying of {@link io.github.alexengrig.lambdax.collection.LongObjectMap#get(long)}:
+     * key -&gt; map -&gt; map.get(key).</p>
+     *
+     * @param key a key that is passed as the argument to {@link io.github.alexengrig.lambdax.collection.LongObjectMap#get(long)}
+     * @param <V> a type of values
+     * @return a {@link java.util.function.Function}
+     * @see io.github.alexengrig.lambdax.collection.LongObjectMap#get(long)
+     * @see java.util.function.Function
+     * @since 0.6.0
+     */
+    public static <V> Function<LongObjectMap<V>, V> get(long key) {
+        return m -> m.get(key);
+    }
+
+    /**
+     * <p>Returns the carrying of {@link io.github.alexengrig.lambdax.collection.LongObjectMap#put(long, Object)}:
+     * (key, value) -&gt; map -&gt; map.put(key, value).</p>
+     *
+     * @param key   a key that is passed as the argument to {@link io.github.alexengrig.lambdax.collection.LongObjectMap#put(long, Object)}
+     * @param value a value that is passed as the argument to {@link io.github.alexengrig.lambdax.collection.LongObjectMap#put(long, Object)}
+     * @param <V>   a type of values
+     * @return a {@link java.util.function.Function}
+     * @see io.github.alexengrig.lambdax.collection.LongObjectMap#put(long, Object)
+     * @see java.util.function.Function
+     * @since 0.6.0
+     */
+    public static <V> Function<LongObjectMap<V>, V> put(long key, V value) {
+        return m -> m.put(key, value);
+    }
+
+    /**
+     * <p>Returns the carrying of {@link io.github.alexengrig.lambdax.collection.LongObjectMap#put(long, Object)}:
+     * (key, value) -&gt; map -&gt; map.put(key, value).</p>
+     *
+     * @param key   a key that is passed as the argument to {@link io.github.alexengrig.lambdax.collection.LongObjectMap#put(long, Object)}
+     * @param value a value that is passed as the argument to {@link io.github.alexengrig.lambdax.collection.LongObjectMap#put(long, Object)}
+     * @param <V>   a type of values
+     * @return a {@link java.util.function.Consumer}
+     * @see io.github.alexengrig.lambdax.collection.LongObjectMap#put(long, Object)
+     * @see java.util.function.Consumer
+     * @since 0.6.0
+     */
+    public static <V> Consumer<LongObjectMap<V>> onlyPut(long key, V value) {
+        return m -> m.put(key, value);
+    }
+
+    /**
+     * <p>Returns the carrying of {@link io.github.alexengrig.lambdax.collection.LongObjectMap#putIfAbsent(long, Object)}:
+     * (key, value) -&gt; map -&gt; map.putIfAbsent(key, value).</p>
+     *
+     * @param key   a key that is passed as the argument to {@link io.github.alexengrig.lambdax.collection.LongObjectMap#putIfAbsent(long, Object)}
+     * @param value a value that is passed as the argument to {@link io.github.alexengrig.lambdax.collection.LongObjectMap#putIfAbsent(long, Object)}
+     * @param <V>   a type of values
+     * @return a {@link java.util.function.Function}
+     * @see io.github.alexengrig.lambdax.collection.LongObjectMap#putIfAbsent(long, Object)
+     * @see java.util.function.Function
+     * @since 0.6.0
+     */
+    public static <V> Function<LongObjectMap<V>, V> putIfAbsent(long key, V value) {
+        return m -> m.putIfAbsent(key, value);
+    }
+
+    /**
+     * <p>Returns the carrying of {@link io.github.alexengrig.lambdax.collection.LongObjectMap#computeIfAbsent(long, LongFunction)}:
+     * (key, function) -&gt; map -&gt; map.computeIfAbsent(key, function).</p>
+     *
+     * @param key      a key that is passed as the argument to {@link io.github.alexengrig.lambdax.collection.LongObjectMap#computeIfAbsent(long, LongFunction)}
+     * @param function a function that is passed as the argument to {@link io.github.alexengrig.lambdax.collection.LongObjectMap#computeIfAbsent(long, LongFunction)}
+     * @param <V>      a type of values
+     * @return a {@link java.util.function.Function}
+     * @see io.github.alexengrig.lambdax.collection.LongObjectMap#computeIfAbsent(long, LongFunction)
+     * @see java.util.function.Function
+     * @since 0.6.0
+     */
+    public static <V> Function<LongObjectMap<V>, V> computeIfAbsent(long key, LongFunction<? extends V> function) {
+        return m -> m.computeIfAbsent(key, function);
+    }
+
+    /**
+     * <p>Returns the carrying of {@link io.github.alexengrig.lambdax.collection.LongObjectMap#remove(long)}:
+     * key -&gt; map -&gt; map.remove(key).</p>
+     *
+     * @param key a key that is passed as the argument to {@link io.github.alexengrig.lambdax.collection.LongObjectMap#remove(long)}
+     * @param <V> a type of values
+     * @return a {@link java.util.function.Function}
+     * @see io.github.alexengrig.lambdax.collection.LongObjectMap#remove(long)
+     * @see java.util.function.Function
+     * @since 0.6.0
+     */
+    public static <V> Function<LongObjectMap<V>, V> remove(long key) {
+        return m -> m.remove(key);
+    }
+
+    /**
+     * <p>Returns the carrying of {@link io.github.alexengrig.lambdax.collection.LongObjectMap#remove(long)}:
+     * key -&gt; map -&gt; map.remove(key).</p>
+     *
+     * @param key a key that is passed as the argument to {@link io.github.alexengrig.lambdax.collection.LongObjectMap#remove(long)}
+     * @param <V> a type of values
+     * @return a {@link java.util.function.Consumer}
+     * @see io.github.alexengrig.lambdax.collection.LongObjectMap#remove(long)
+     * @see java.util.function.Consumer
+     * @since 0.6.0
+     */
+    public static <V> Consumer<LongObjectMap<V>> onlyRemove(long key) {
+        return m -> m.remove(key);
+    }
+}
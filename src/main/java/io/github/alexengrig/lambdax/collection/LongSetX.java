@@ -0,0 +1,162 @@
+/*
+ * Copyright 2019 - 2020 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.alexengrig.lambdax.collection;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * <p>This utility class contains useful lambdas for {@link io.github.alexengrig.lambdax.collection.LongHashSet}.</p>
+ *
+ * @author Grig Alex
+ * @version 0.6.0
+ * @see io.github.alexengrig.lambdax.collection.LongHashSet
+ * @see java.util.function.Consumer
+ * @see java.util.function.Function
+ * @see java.util.function.Predicate
+ * @since 0.6.0
+ */
+public final class LongSetX {
+    private LongSetX() {
+    }
+
+    /**
+     * <p>Returns the carrying of {@link io.github.alexengrig.lambdax.collection.LongHashSet#contains(long)}:
+     * value -&gt; set -&gt; set.contains(value).</p>
+     *
+     * @param value a {@code long} value that is passed as the argument to {@link io.github.alexengrig.lambdax.collection.LongHashSet#contains(long)}
+     * @return a {@link java.util.function.Predicate}
+     * @see io.github.alexengrig.lambdax.collection.LongHashSet#contains(long)
+     * @see java.util.function.Predicate
+     * @since 0.6.0
+     */
+    public static Predicate<LongHashSet> contains(long value) {
+        return s -> s.contains(value);
+    }
+
+    /**
+     * <p>Returns the carrying of {@link io.github.alexengrig.lambdax.collection.LongHashSet#contains(long)}:
+     * value -&gt; set -&gt; !set.contains(value).</p>
+     *
+     * @param value a {@code long} value that is passed as the argument to {@link io.github.alexengrig.lambdax.collection.LongHashSet#contains(long)}
+     * @return a {@link java.util.function.Predicate}
+     * @see io.github.alexengrig.lambdax.collection.LongHashSet#contains(long)
+     * @see java.util.function.Predicate
+     * @since 0.6.0
+     */
+    public static Predicate<LongHashSet> notContains(long value) {
+        return s -> !s.contains(value);
+    }
+
+    /**
+     * <p>Returns the carrying of {@link io.github.alexengrig.lambdax.collection.LongHashSet#add(long)}:
+     * value -&gt; set -&gt; set.add(value).</p>
+     *
+     * @param value a {@code long} value that is passed as the argument to {@link io.github.alexengrig.lambdax.collection.LongHashSet#add(long)}
+     * @return a {@link java.util.function.Predicate}
+     * @see io.github.alexengrig.lambdax.collection.LongHashSet#add(long)
+     * @see java.util.function.Predicate
+     * @since 0.6.0
+     */
+    public static Predicate<LongHashSet> add(long value) {
+        return s -> s.add(value);
+    }
+
+    /**
+     * <p>Returns the carrying of {@link io.github.alexengrig.lambdax.collection.LongHashSet#add(long)}:
+     * value -&gt; set -&gt; set.add(value).</p>
+     *
+     * @param value a {@code long} value that is passed as the argument to {@link io.github.alexengrig.lambdax.collection.LongHashSet#add(long)}
+     * @return a {@link java.util.function.Consumer}
+     * @see io.github.alexengrig.lambdax.collection.LongHashSet#add(long)
+     * @see java.util.function.Consumer
+     * @since 0.6.0
+     */
+    public static Consumer<LongHashSet> onlyAdd(long value) {
+        return s -> s.add(value);
+    }
+
+    /**
+     * <p>Returns the carrying of {@link io.github.alexengrig.lambdax.collection.LongHashSet#remove(long)}:
+     * value -&gt; set -&gt; set.remove(value).</p>
+     *
+     * @param value a {@code long} value that is passed as the argument to {@link io.github.alexengrig.lambdax.collection.LongHashSet#remove(long)}
+     * @return a {@link java.util.function.Predicate}
+     * @see io.github.alexengrig.lambdax.collection.LongHashSet#remove(long)
+     * @see java.util.function.Predicate
+     * @since 0.6.0
+     */
+    public static Predicate<LongHashSet> remove(long value) {
+        return s -> s.remove(value);
+    }
+
+    /**
+     * <p>Returns the carrying of {@link io.github.alexengrig.lambdax.collection.LongHashSet#remove(long)}:
+     * value -&gt; set -&gt; set.remove(value).</p>
+     *
+     * @param value a {@code long} value that is passed as the argument to {@link io.github.alexengrig.lambdax.collection.LongHashSet#remove(long)}
+     * @return a {@link java.util.function.Consumer}
+     * @see io.github.alexengrig.lambdax.collection.LongHashSet#remove(long)
+     * @see java.util.function.Consumer
+     * @since 0.6.0
+     */
+    public static Consumer<LongHashSet> onlyRemove(long value) {
+        return s -> s.remove(value);
+    }
+
+    /**
+     * <p>Returns the carrying of {@link io.github.alexengrig.lambdax.collection.LongHashSet#toArray()}:
+     * set -&gt; set.toArray().</p>
+     *
+     * @return a {@link java.util.function.Function}
+     * @see io.github.alexengrig.lambdax.collection.LongHashSet#toArray()
+     * @see java.util.function.Function
+     * @since 0.6.0
+     */
+    public static Function<LongHashSet, long[]> toArray() {
+        return LongHashSet::toArray;
+    }
+
+    /**
+     * <p>Returns the carrying of {@link io.github.alexengrig.lambdax.collection.LongHashSet#equals(Object)}:
+     * other -&gt; set -&gt; set.equals(other).</p>
+     *
+     * @param other an object that is passed as the argument to {@link io.github.alexengrig.lambdax.collection.LongHashSet#equals(Object)}
+     * @return a {@link java.util.function.Predicate}
+     * @see io.github.alexengrig.lambdax.collection.LongHashSet#equals(Object)
+     * @see java.util.function.Predicate
+     * @since 0.6.0
+     */
+    public static Predicate<LongHashSet> equalsTo(Object other) {
+        return s -> s.equals(other);
+    }
+
+    /**
+     * <p>Returns the carrying of {@link io.github.alexengrig.lambdax.collection.LongHashSet#equals(Object)}:
+     * other -&gt; set -&gt; !set.equals(other).</p>
+     *
+     * @param other an object that is passed as the argument to {@link io.github.alexengrig.lambdax.collection.LongHashSet#equals(Object)}
+     * @return a {@link java.util.function.Predicate}
+     * @see io.github.alexengrig.lambdax.collection.LongHashSet#equals(Object)
+     * @see java.util.function.Predicate
+     * @since 0.6.0
+     */
+    public static Predicate<LongHashSet> notEqualsTo(Object other) {
+        return s -> !s.equals(other);
+    }
+}
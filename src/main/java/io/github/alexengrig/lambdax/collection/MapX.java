@@ -16,17 +16,25 @@
 
 package io.github.alexengrig.lambdax.collection;
 
+import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
 
 /**
  * <p>This utility class contains useful lambdas for {@link java.util.Map}.</p>
  *
  * @author Grig Alex
- * @version 0.3.0
+ * @version 0.6.0
  * @see java.util.Map
+ * @see java.util.concurrent.ConcurrentMap
+ * @see java.util.concurrent.atomic.LongAdder
+ * @see java.util.function.BiFunction
  * @see java.util.function.Consumer
  * @see java.util.function.Function
  * @see java.util.function.Predicate
@@ -198,6 +206,229 @@ public final class MapX {
         return map -> map.remove(key);
     }
 
+    /**
+     * <p>Returns the carrying of {@link java.util.Map#putIfAbsent(Object, Object)}:
+     * (key, value) -&gt; map -&gt; map.putIfAbsent(key, value).</p>
+     * <p>A {@link java.util.concurrent.ConcurrentMap} is read first, so a present key takes no lock.</p>
+     *
+     * @param key   a key of {@link K} that is passed as the first argument to {@link java.util.Map#putIfAbsent(Object, Object)}
+     * @param value a value of {@link V} that is passed as the second argument to {@link java.util.Map#putIfAbsent(Object, Object)}
+     * @param <K>   a type of keys in a map
+     * @param <V>   a type of values in a map
+     * @return a {@link java.util.function.Function}
+     * @see java.util.Map#putIfAbsent(Object, Object)
+     * @see java.util.function.Function
+     * @since 0.6.0
+     */
+    public static <K, V> Function<Map<K, V>, V> putIfAbsent(K key, V value) {
+        return map -> {
+            if (map instanceof ConcurrentMap) {
+                final V current = map.get(key);
+                if (current != null) {
+                    return current;
+                }
+            }
+            return map.putIfAbsent(key, value);
+        };
+    }
+
+    /**
+     * <p>Returns the carrying of {@link java.util.Map#computeIfAbsent(Object, Function)}:
+     * (key, function) -&gt; map -&gt; map.computeIfAbsent(key, function).</p>
+     * <p>A {@link java.util.concurrent.ConcurrentMap} is read first, so a present key takes no lock.</p>
+     *
+     * @param key      a key of {@link K} that is passed as the first argument to {@link java.util.Map#computeIfAbsent(Object, Function)}
+     * @param function a {@link java.util.function.Function} that is passed as the second argument to {@link java.util.Map#computeIfAbsent(Object, Function)}
+     * @param <K>      a type of keys in a map
+     * @param <V>      a type of values in a map
+     * @return a {@link java.util.function.Function}
+     * @see java.util.Map#computeIfAbsent(Object, Function)
+     * @see java.util.function.Function
+     * @since 0.6.0
+     */
+    public static <K, V> Function<Map<K, V>, V> computeIfAbsent(K key, Function<? super K, ? extends V> function) {
+        return map -> {
+            if (map instanceof ConcurrentMap) {
+                final V current = map.get(key);
+                if (current != null) {
+                    return current;
+                }
+            }
+            return map.computeIfAbsent(key, function);
+        };
+    }
+
+    /**
+     * <p>Returns the carrying of {@link java.util.Map#compute(Object, BiFunction)}:
+     * (key, function) -&gt; map -&gt; map.compute(key, function).</p>
+     * <p>A {@link java.util.concurrent.ConcurrentMap} computes atomically.</p>
+     *
+     * @param key      a key of {@link K} that is passed as the first argument to {@link java.util.Map#compute(Object, BiFunction)}
+     * @param function a {@link java.util.function.BiFunction} that is passed as the second argument to {@link java.util.Map#compute(Object, BiFunction)}
+     * @param <K>      a type of keys in a map
+     * @param <V>      a type of values in a map
+     * @return a {@link java.util.function.Function}
+     * @see java.util.Map#compute(Object, BiFunction)
+     * @see java.util.function.Function
+     * @since 0.6.0
+     */
+    public static <K, V> Function<Map<K, V>, V> compute(K key,
+                                                        BiFunction<? super K, ? super V, ? extends V> function) {
+        return map -> map.compute(key, function);
+    }
+
+    /**
+     * <p>Returns the carrying of {@link java.util.Map#merge(Object, Object, BiFunction)}:
+     * (key, value, function) -&gt; map -&gt; map.merge(key, value, function).</p>
+     * <p>A {@link java.util.concurrent.ConcurrentMap} merges atomically.</p>
+     *
+     * @param key      a key of {@link K} that is passed as the first argument to {@link java.util.Map#merge(Object, Object, BiFunction)}
+     * @param value    a value of {@link V} that is passed as the second argument to {@link java.util.Map#merge(Object, Object, BiFunction)}
+     * @param function a {@link java.util.function.BiFunction} that is passed as the third argument to {@link java.util.Map#merge(Object, Object, BiFunction)}
+     * @param <K>      a type of keys in a map
+     * @param <V>      a type of values in a map
+     * @return a {@link java.util.function.Function}
+     * @see java.util.Map#merge(Object, Object, BiFunction)
+     * @see java.util.function.Function
+     * @since 0.6.0
+     */
+    public static <K, V> Function<Map<K, V>, V> merge(K key, V value,
+                                                      BiFunction<? super V, ? super V, ? extends V> function) {
+        return map -> map.merge(key, value, function);
+    }
+
+    /**
+     * <p>Returns the carrying of {@link java.util.Map#replace(Object, Object, Object)}:
+     * (key, oldValue, newValue) -&gt; map -&gt; map.replace(key, oldValue, newValue).</p>
+     * <p>A {@link java.util.concurrent.ConcurrentMap} compares and sets atomically.</p>
+     *
+     * @param key      a key of {@link K} that is passed as the first argument to {@link java.util.Map#replace(Object, Object, Object)}
+     * @param oldValue a value of {@link V} that is passed as the second argument to {@link java.util.Map#replace(Object, Object, Object)}
+     * @param newValue a value of {@link V} that is passed as the third argument to {@link java.util.Map#replace(Object, Object, Object)}
+     * @param <K>      a type of keys in a map
+     * @param <V>      a type of values in a map
+     * @return a {@link java.util.function.Predicate}
+     * @see java.util.Map#replace(Object, Object, Object)
+     * @see java.util.function.Predicate
+     * @since 0.6.0
+     */
+    public static <K, V> Predicate<Map<K, V>> replace(K key, V oldValue, V newValue) {
+        return map -> map.replace(key, oldValue, newValue);
+    }
+
+    /**
+     * <p>Returns the removing of the key if its value satisfies the predicate:
+     * (key, predicate) -&gt; map -&gt; predicate.test(map.get(key)) &amp;&amp; map.remove(key).</p>
+     * <p>A {@link java.util.concurrent.ConcurrentMap} removes by {@link java.util.concurrent.ConcurrentMap#remove(Object, Object)}
+     * and retries if the value was changed concurrently.</p>
+     *
+     * @param key       a key of {@link K} to remove
+     * @param predicate a {@link java.util.function.Predicate} which returns {@code true} for a value to be removed
+     * @param <K>       a type of keys in a map
+     * @param <V>       a type of values in a map
+     * @return a {@link java.util.function.Predicate}
+     * @see java.util.Map#remove(Object, Object)
+     * @see java.util.function.Predicate
+     * @since 0.6.0
+     */
+    public static <K, V> Predicate<Map<K, V>> removeIf(K key, Predicate<? super V> predicate) {
+        return map -> {
+            if (map instanceof ConcurrentMap) {
+                for (V value; (value = map.get(key)) != null && predicate.test(value); ) {
+                    if (map.remove(key, value)) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+            final V value = map.get(key);
+            if ((value != null || map.containsKey(key)) && predicate.test(value)) {
+                map.remove(key);
+                return true;
+            }
+            return false;
+        };
+    }
+
+    /**
+     * <p>Returns the incrementing of the counter of the key:
+     * key -&gt; map -&gt; map.computeIfAbsent(key, LongAdder::new).increment().</p>
+     * <p>A {@link java.util.concurrent.atomic.LongAdder} spreads updates over striped cells,
+     * so threads incrementing the same key do not contend on one value.
+     * Use it with a {@link java.util.concurrent.ConcurrentHashMap}.</p>
+     *
+     * @param key a key of {@link K} of the counter
+     * @param <K> a type of keys in a map
+     * @return a {@link java.util.function.Consumer}
+     * @see java.util.concurrent.atomic.LongAdder#increment()
+     * @see java.util.function.Consumer
+     * @since 0.6.0
+     */
+    public static <K> Consumer<Map<K, LongAdder>> increment(K key) {
+        return map -> adder(map, key).increment();
+    }
+
+    /**
+     * <p>Returns the adding of the delta to the counter of the key:
+     * (key, delta) -&gt; map -&gt; map.computeIfAbsent(key, LongAdder::new).add(delta).</p>
+     * <p>A {@link java.util.concurrent.atomic.LongAdder} spreads updates over striped cells,
+     * so threads adding to the same key do not contend on one value.
+     * Use it with a {@link java.util.concurrent.ConcurrentHashMap}.</p>
+     *
+     * @param key   a key of {@link K} of the counter
+     * @param delta a value to add
+     * @param <K>   a type of keys in a map
+     * @return a {@link java.util.function.Consumer}
+     * @see java.util.concurrent.atomic.LongAdder#add(long)
+     * @see java.util.function.Consumer
+     * @since 0.6.0
+     */
+    public static <K> Consumer<Map<K, LongAdder>> add(K key, long delta) {
+        return map -> adder(map, key).add(delta);
+    }
+
+    /**
+     * <p>Returns the sum of the counter of the key:
+     * key -&gt; map -&gt; map.get(key).sum().</p>
+     *
+     * @param key a key of {@link K} of the counter
+     * @param <K> a type of keys in a map
+     * @return a {@link java.util.function.ToLongFunction} which returns {@code 0} for an absent key
+     * @see java.util.concurrent.atomic.LongAdder#sum()
+     * @see java.util.function.ToLongFunction
+     * @since 0.6.0
+     */
+    public static <K> ToLongFunction<Map<K, LongAdder>> sum(K key) {
+        return map -> {
+            final LongAdder adder = map.get(key);
+            return adder != null ? adder.sum() : 0L;
+        };
+    }
+
+    /**
+     * <p>Returns the snapshot of the counters:
+     * map -&gt; {key: map.get(key).sum()}.</p>
+     * <p>The sums are not an atomic snapshot, updates during the call may or may not be counted.</p>
+     *
+     * @param <K> a type of keys in a map
+     * @return a {@link java.util.function.Function} which returns a new {@link java.util.HashMap}
+     * @see java.util.concurrent.atomic.LongAdder#sum()
+     * @see java.util.function.Function
+     * @since 0.6.0
+     */
+    public static <K> Function<Map<K, LongAdder>, Map<K, Long>> snapshot() {
+        return map -> {
+            final Map<K, Long> sums = new HashMap<>();
+            map.forEach((key, adder) -> sums.put(key, adder.sum()));
+            return sums;
+        };
+    }
+
+    private static <K> LongAdder adder(Map<K, LongAdder> map, K key) {
+        final LongAdder adder = map.get(key);
+        return adder != null ? adder : map.computeIfAbsent(key, k -> new LongAdder());
+    }
+
     /**
      * <p>Returns the carrying of {@link java.util.Map#equals(Object)}:
      * other -&gt; map -&gt; map.equals(other).</p>
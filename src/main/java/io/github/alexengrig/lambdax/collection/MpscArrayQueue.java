@@ -0,0 +1,98 @@
+/*
+ * Copyright 2019 - 2020 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.alexengrig.lambdax.collection;
+
+import java.util.Objects;
+
+/**
+ * A lock-free bounded queue for many producer threads and a single consumer thread.
+ *
+ * <p>
+ * A producer claims a slot by a compare-and-set of the producer index
+ * and then publishes the element by an ordered store;
+ * {@link #offerBatch(java.util.Collection)} claims all slots of a batch by one compare-and-set.
+ * The consumer waits for a claimed slot to be published.
+ * Producers share a cached limit of the consumer index and reread the index only when the limit is reached.
+ *
+ * @param <E> a type of elements
+ * @author Grig Alex
+ * @version 0.6.0
+ * @see io.github.alexengrig.lambdax.collection.BoundedArrayQueue
+ * @see io.github.alexengrig.lambdax.collection.SpscArrayQueue
+ * @since 0.6.0
+ */
+public final class MpscArrayQueue<E> extends BoundedArrayQueue<E> {
+    private final Sequence producerLimit = new Sequence();
+
+    /**
+     * Constructs an empty queue.
+     *
+     * @param capacity the minimal capacity, rounded up to a power of two
+     * @throws IllegalArgumentException if {@code capacity} is less than 1 or greater than 2^30
+     * @since 0.6.0
+     */
+    public MpscArrayQueue(int capacity) {
+        super(capacity);
+        producerLimit.lazySet(capacity());
+    }
+
+    /**
+     * Inserts the element if the queue is not full.
+     *
+     * @param element a non-null element
+     * @return {@code true} if the element was inserted, {@code false} if the queue is full
+     * @throws NullPointerException if {@code element} is {@code null}
+     * @since 0.6.0
+     */
+    @Override
+    public boolean offer(E element) {
+        Objects.requireNonNull(element, "The element must not be null");
+        long index;
+        do {
+            index = producer.value;
+            if (index >= producerLimit.value) {
+                final long limit = consumer.value + capacity();
+                if (index >= limit) {
+                    return false;
+                }
+                producerLimit.lazySet(limit);
+            }
+        } while (!producer.compareAndSet(index, index + 1));
+        buffer.lazySet((int) index & mask, element);
+        return true;
+    }
+
+    @Override
+    int offerArray(Object[] elements) {
+        long index;
+        int count;
+        do {
+            index = producer.value;
+            long limit = producerLimit.value;
+            if (index + elements.length > limit) {
+                limit = consumer.value + capacity();
+                producerLimit.lazySet(limit);
+            }
+            count = (int) Math.min(limit - index, elements.length);
+            if (count <= 0) {
+                return 0;
+            }
+        } while (!producer.compareAndSet(index, index + count));
+        publish(index, elements, count);
+        return count;
+    }
+}
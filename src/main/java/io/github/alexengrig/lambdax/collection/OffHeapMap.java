@@ -0,0 +1,518 @@
+/*
+ * Copyright 2019 - 2020 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.alexengrig.lambdax.collection;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A {@link java.util.Map} which keeps its keys and values in direct byte buffers outside the collected heap.
+ *
+ * <p>
+ * Entries are appended to a data buffer as records of a header, key bytes and value bytes.
+ * An index buffer is an open addressing table with linear probing,
+ * a slot holds the key hash and the record offset.
+ * A replaced or removed record becomes garbage,
+ * which is compacted away when the data buffer runs out of space.
+ * Both buffers are resized on demand.
+ *
+ * <p>
+ * Keys and values are converted by {@link io.github.alexengrig.lambdax.collection.OffHeapSerializer},
+ * so {@link #get(Object)} returns a new copy of the value.
+ * Keys and values must not be {@code null}.
+ * The entries of {@link #entrySet()} are immutable snapshots.
+ * It is not thread-safe.
+ *
+ * @param <K> a type of keys
+ * @param <V> a type of values
+ * @author Grig Alex
+ * @version 0.6.0
+ * @see io.github.alexengrig.lambdax.collection.OffHeapSerializer
+ * @see io.github.alexengrig.lambdax.collection.MapX
+ * @see java.nio.ByteBuffer#allocateDirect(int)
+ * @since 0.6.0
+ */
+public final class OffHeapMap<K, V> extends AbstractMap<K, V> {
+    /**
+     * The default capacity of the data buffer in bytes.
+     *
+     * @since 0.6.0
+     */
+    public static final int DEFAULT_DATA_CAPACITY = 1 << 16;
+
+    /**
+     * The size of a record header: hash, key length and value length.
+     */
+    private static final int HEADER = 12;
+
+    /**
+     * The size of an index slot: hash and record offset plus one.
+     */
+    private static final int SLOT = 8;
+
+    private final OffHeapSerializer<K> keySerializer;
+    private final OffHeapSerializer<V> valueSerializer;
+
+    private ByteBuffer index;
+    private int mask;
+    private int resizeAt;
+
+    private ByteBuffer data;
+    private ByteBuffer reader;
+    private ByteBuffer writer;
+    private int end;
+    private int garbage;
+
+    private ByteBuffer scratch = ByteBuffer.allocate(256);
+    private int keyLength;
+    private int valueLength;
+
+    private int size;
+    private int modCount;
+    private Set<Entry<K, V>> entrySet;
+
+    /**
+     * Constructs an empty map with the default capacity.
+     *
+     * @param keySerializer   a serializer of keys
+     * @param valueSerializer a serializer of values
+     * @since 0.6.0
+     */
+    public OffHeapMap(OffHeapSerializer<K> keySerializer, OffHeapSerializer<V> valueSerializer) {
+        this(keySerializer, valueSerializer, 0, DEFAULT_DATA_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty map with the initial capacity.
+     *
+     * @param keySerializer   a serializer of keys
+     * @param valueSerializer a serializer of values
+     * @param expectedSize    the expected number of entries
+     * @param dataCapacity    the initial capacity of the data buffer in bytes
+     * @throws IllegalArgumentException if {@code expectedSize} or {@code dataCapacity} is negative
+     * @since 0.6.0
+     */
+    public OffHeapMap(OffHeapSerializer<K> keySerializer, OffHeapSerializer<V> valueSerializer,
+                      int expectedSize, int dataCapacity) {
+        this.keySerializer = Objects.requireNonNull(keySerializer, "The key serializer must not be null");
+        this.valueSerializer = Objects.requireNonNull(valueSerializer, "The value serializer must not be null");
+        if (dataCapacity < 0) {
+            throw new IllegalArgumentException("The data capacity must not be negative: " + dataCapacity);
+        }
+        allocateIndex(PrimitiveX.tableSize(expectedSize));
+        allocateData(dataCapacity);
+    }
+
+//    Statistics
+
+    /**
+     * Returns the ratio of the number of entries to the number of index slots.
+     *
+     * @return the occupancy of the index from {@code 0.0} to {@code 1.0}
+     * @since 0.6.0
+     */
+    public double occupancy() {
+        return (double) size / (mask + 1);
+    }
+
+    /**
+     * Returns the number of bytes allocated outside the heap by the index and data buffers.
+     *
+     * @return the number of off-heap bytes
+     * @since 0.6.0
+     */
+    public long offHeapBytes() {
+        return (long) index.capacity() + data.capacity();
+    }
+
+    /**
+     * Returns the number of bytes taken by records of the entries.
+     *
+     * @return the number of live bytes
+     * @since 0.6.0
+     */
+    public long liveBytes() {
+        return end - garbage;
+    }
+
+    /**
+     * Returns the number of bytes taken by replaced and removed records.
+     *
+     * @return the number of garbage bytes
+     * @since 0.6.0
+     */
+    public long garbageBytes() {
+        return garbage;
+    }
+
+//    Map
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return find(key) >= 0;
+    }
+
+    @Override
+    public V get(Object key) {
+        final int slot = find(key);
+        return slot < 0 ? null : readValue(offsetAt(slot));
+    }
+
+    @Override
+    public V put(K key, V value) {
+        Objects.requireNonNull(key, "The key must not be null");
+        Objects.requireNonNull(value, "The value must not be null");
+        serialize(key, value);
+        ensureData(HEADER + keyLength + valueLength);
+        final int hash = hash();
+        int slot = hash & mask;
+        for (int offset; (offset = offsetAt(slot)) >= 0; slot = (slot + 1) & mask) {
+            if (hashAt(slot) == hash && keyEquals(offset)) {
+                final V previous = readValue(offset);
+                kill(offset);
+                index.putInt(slot * SLOT + 4, append(hash) + 1);
+                modCount++;
+                return previous;
+            }
+        }
+        index.putInt(slot * SLOT, hash);
+        index.putInt(slot * SLOT + 4, append(hash) + 1);
+        modCount++;
+        if (++size > resizeAt) {
+            rehash((mask + 1) << 1);
+        }
+        return null;
+    }
+
+    @Override
+    public V remove(Object key) {
+        final int slot = find(key);
+        if (slot < 0) {
+            return null;
+        }
+        final int offset = offsetAt(slot);
+        final V previous = readValue(offset);
+        removeAt(slot, offset);
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        for (int i = 0; i < index.capacity(); i += SLOT) {
+            index.putLong(i, 0L);
+        }
+        end = 0;
+        garbage = 0;
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+        }
+        return entrySet;
+    }
+
+//    Records
+
+    @SuppressWarnings("unchecked")
+    private int find(Object key) {
+        if (key == null) {
+            return -1;
+        }
+        try {
+            serialize((K) key, null);
+        } catch (ClassCastException e) {
+            return -1;
+        }
+        final int hash = hash();
+        for (int slot = hash & mask, offset; (offset = offsetAt(slot)) >= 0; slot = (slot + 1) & mask) {
+            if (hashAt(slot) == hash && keyEquals(offset)) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    private void serialize(K key, V value) {
+        while (true) {
+            scratch.clear();
+            try {
+                keySerializer.write(key, scratch);
+                keyLength = scratch.position();
+                if (value != null) {
+                    valueSerializer.write(value, scratch);
+                }
+                valueLength = scratch.position() - keyLength;
+                return;
+            } catch (BufferOverflowException e) {
+                if (scratch.capacity() >= PrimitiveX.MAX_ARRAY_SIZE / 2) {
+                    throw e;
+                }
+                scratch = ByteBuffer.allocate(scratch.capacity() << 1);
+            }
+        }
+    }
+
+    private int hash() {
+        final byte[] bytes = scratch.array();
+        int h = 1;
+        for (int i = 0; i < keyLength; i++) {
+            h = 31 * h + bytes[i];
+        }
+        return PrimitiveX.mix(h);
+    }
+
+    private boolean keyEquals(int offset) {
+        if (data.getInt(offset + 4) != keyLength) {
+            return false;
+        }
+        final byte[] bytes = scratch.array();
+        final int from = offset + HEADER;
+        for (int i = 0; i < keyLength; i++) {
+            if (data.get(from + i) != bytes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int append(int hash) {
+        final int offset = end;
+        data.putInt(offset, hash);
+        data.putInt(offset + 4, keyLength);
+        data.putInt(offset + 8, valueLength);
+        writer.clear();
+        writer.position(offset + HEADER);
+        writer.put(scratch.array(), 0, keyLength + valueLength);
+        end = offset + HEADER + keyLength + valueLength;
+        return offset;
+    }
+
+    private void kill(int offset) {
+        final int length = data.getInt(offset + 4);
+        data.putInt(offset + 4, ~length);
+        garbage += HEADER + length + data.getInt(offset + 8);
+    }
+
+    private K readKey(int offset) {
+        final int from = offset + HEADER;
+        reader.clear();
+        reader.position(from).limit(from + data.getInt(offset + 4));
+        return keySerializer.read(reader);
+    }
+
+    private V readValue(int offset) {
+        final int from = offset + HEADER + data.getInt(offset + 4);
+        reader.clear();
+        reader.position(from).limit(from + data.getInt(offset + 8));
+        return valueSerializer.read(reader);
+    }
+
+    private void removeAt(int slot, int offset) {
+        kill(offset);
+        for (int last = slot, i = (slot + 1) & mask; ; i = (i + 1) & mask) {
+            final int current = offsetAt(i);
+            if (current < 0) {
+                index.putLong(last * SLOT, 0L);
+                break;
+            }
+            final int home = hashAt(i) & mask;
+            if (last <= i ? (last >= home || home > i) : (last >= home && home > i)) {
+                index.putLong(last * SLOT, index.getLong(i * SLOT));
+                last = i;
+            }
+        }
+        size--;
+        modCount++;
+    }
+
+//    Buffers
+
+    private int hashAt(int slot) {
+        return index.getInt(slot * SLOT);
+    }
+
+    private int offsetAt(int slot) {
+        return index.getInt(slot * SLOT + 4) - 1;
+    }
+
+    private void allocateIndex(int tableSize) {
+        if ((long) tableSize * SLOT > PrimitiveX.MAX_ARRAY_SIZE) {
+            throw new IllegalStateException("The index is full: " + size);
+        }
+        index = ByteBuffer.allocateDirect(tableSize * SLOT).order(ByteOrder.nativeOrder());
+        mask = tableSize - 1;
+        resizeAt = PrimitiveX.resizeAt(tableSize);
+    }
+
+    private void allocateData(int capacity) {
+        data = ByteBuffer.allocateDirect(capacity);
+        reader = data.duplicate();
+        writer = data.duplicate();
+    }
+
+    private void ensureData(int recordSize) {
+        final long required = (long) end + recordSize;
+        if (required <= data.capacity()) {
+            return;
+        }
+        final long live = required - garbage;
+        if (live > PrimitiveX.MAX_ARRAY_SIZE) {
+            throw new IllegalStateException("The data is full: " + size);
+        }
+        long capacity = data.capacity();
+        while (capacity < live + (live >>> 1)) {
+            capacity = Math.max(capacity << 1, 1024);
+        }
+        compact((int) Math.min(capacity, PrimitiveX.MAX_ARRAY_SIZE));
+    }
+
+    private void compact(int capacity) {
+        final ByteBuffer old = data.duplicate();
+        final int oldEnd = end;
+        allocateData(capacity);
+        end = 0;
+        garbage = 0;
+        for (int i = 0; i < index.capacity(); i += SLOT) {
+            index.putLong(i, 0L);
+        }
+        for (int offset = 0; offset < oldEnd; ) {
+            final int keyBytes = old.getInt(offset + 4);
+            final int length = HEADER + (keyBytes < 0 ? ~keyBytes : keyBytes) + old.getInt(offset + 8);
+            if (keyBytes >= 0) {
+                old.limit(offset + length).position(offset);
+                writer.clear();
+                writer.position(end);
+                writer.put(old);
+                old.clear();
+                insert(data.getInt(end), end);
+                end += length;
+            }
+            offset += length;
+        }
+    }
+
+    private void rehash(int tableSize) {
+        allocateIndex(tableSize);
+        for (int offset = 0; offset < end; ) {
+            final int keyBytes = data.getInt(offset + 4);
+            if (keyBytes >= 0) {
+                insert(data.getInt(offset), offset);
+            }
+            offset += HEADER + (keyBytes < 0 ? ~keyBytes : keyBytes) + data.getInt(offset + 8);
+        }
+    }
+
+    private void insert(int hash, int offset) {
+        int slot = hash & mask;
+        while (offsetAt(slot) >= 0) {
+            slot = (slot + 1) & mask;
+        }
+        index.putInt(slot * SLOT, hash);
+        index.putInt(slot * SLOT + 4, offset + 1);
+    }
+
+    private int slotOf(int offset) {
+        for (int slot = data.getInt(offset) & mask; ; slot = (slot + 1) & mask) {
+            if (offsetAt(slot) == offset) {
+                return slot;
+            }
+        }
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<K, V>> {
+        @Override
+        public Iterator<Entry<K, V>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public void clear() {
+            OffHeapMap.this.clear();
+        }
+    }
+
+    private final class EntryIterator implements Iterator<Entry<K, V>> {
+        private int expectedModCount = modCount;
+        private int next = advance(0);
+        private int current = -1;
+
+        private int advance(int offset) {
+            while (offset < end) {
+                final int keyBytes = data.getInt(offset + 4);
+                if (keyBytes >= 0) {
+                    return offset;
+                }
+                offset += HEADER + ~keyBytes + data.getInt(offset + 8);
+            }
+            return -1;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next >= 0;
+        }
+
+        @Override
+        public Entry<K, V> next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (next < 0) {
+                throw new NoSuchElementException();
+            }
+            current = next;
+            next = advance(current + HEADER + data.getInt(current + 4) + data.getInt(current + 8));
+            return new SimpleImmutableEntry<>(readKey(current), readValue(current));
+        }
+
+        @Override
+        public void remove() {
+            if (current < 0) {
+                throw new IllegalStateException();
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            removeAt(slotOf(current), current);
+            current = -1;
+            expectedModCount = modCount;
+        }
+    }
+}
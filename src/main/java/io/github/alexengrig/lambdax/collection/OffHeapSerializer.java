@@ -0,0 +1,96 @@
+/*
+ * Copyright 2019 - 2020 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.alexengrig.lambdax.collection;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Converts keys or values of {@link io.github.alexengrig.lambdax.collection.OffHeapMap} to bytes and back.
+ *
+ * <p>
+ * A key serializer must be canonical: equal keys must have equal bytes,
+ * because the map hashes and compares keys by their bytes.
+ *
+ * @param <T> a type of serializing objects
+ * @author Grig Alex
+ * @version 0.6.0
+ * @see io.github.alexengrig.lambdax.collection.OffHeapMap
+ * @since 0.6.0
+ */
+public interface OffHeapSerializer<T> {
+    /**
+     * Returns a serializer of {@link java.lang.Integer} to 4 bytes.
+     *
+     * @return an {@link io.github.alexengrig.lambdax.collection.OffHeapSerializer}
+     * @since 0.6.0
+     */
+    static OffHeapSerializer<Integer> integers() {
+        return OffHeapSerializers.INTEGERS;
+    }
+
+    /**
+     * Returns a serializer of {@link java.lang.Long} to 8 bytes.
+     *
+     * @return an {@link io.github.alexengrig.lambdax.collection.OffHeapSerializer}
+     * @since 0.6.0
+     */
+    static OffHeapSerializer<Long> longs() {
+        return OffHeapSerializers.LONGS;
+    }
+
+    /**
+     * Returns a serializer of {@link java.lang.String} to UTF-8 bytes.
+     *
+     * @return an {@link io.github.alexengrig.lambdax.collection.OffHeapSerializer}
+     * @since 0.6.0
+     */
+    static OffHeapSerializer<String> strings() {
+        return OffHeapSerializers.STRINGS;
+    }
+
+    /**
+     * Returns a serializer of byte arrays as they are.
+     *
+     * @return an {@link io.github.alexengrig.lambdax.collection.OffHeapSerializer}
+     * @since 0.6.0
+     */
+    static OffHeapSerializer<byte[]> bytes() {
+        return OffHeapSerializers.BYTES;
+    }
+
+    /**
+     * Writes the object to the buffer at its position.
+     *
+     * <p>
+     * The map retries with a larger buffer on {@link java.nio.BufferOverflowException}.
+     *
+     * @param object a non-null object to write
+     * @param buffer a buffer to write to
+     * @throws java.nio.BufferOverflowException if the buffer has not enough space
+     * @since 0.6.0
+     */
+    void write(T object, ByteBuffer buffer);
+
+    /**
+     * Reads an object from all remaining bytes of the buffer.
+     *
+     * @param buffer a buffer to read from, its limit is the end of the object
+     * @return a read object
+     * @since 0.6.0
+     */
+    T read(ByteBuffer buffer);
+}
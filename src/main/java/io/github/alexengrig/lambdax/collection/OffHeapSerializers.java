@@ -0,0 +1,83 @@
+/*
+ * Copyright 2019 - 2020 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.alexengrig.lambdax.collection;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Common serializers of {@link io.github.alexengrig.lambdax.collection.OffHeapSerializer}.
+ *
+ * @author Grig Alex
+ * @version 0.6.0
+ * @see io.github.alexengrig.lambdax.collection.OffHeapSerializer
+ * @since 0.6.0
+ */
+final class OffHeapSerializers {
+    static final OffHeapSerializer<Integer> INTEGERS = new OffHeapSerializer<Integer>() {
+        @Override
+        public void write(Integer object, ByteBuffer buffer) {
+            buffer.putInt(object);
+        }
+
+        @Override
+        public Integer read(ByteBuffer buffer) {
+            return buffer.getInt();
+        }
+    };
+
+    static final OffHeapSerializer<Long> LONGS = new OffHeapSerializer<Long>() {
+        @Override
+        public void write(Long object, ByteBuffer buffer) {
+            buffer.putLong(object);
+        }
+
+        @Override
+        public Long read(ByteBuffer buffer) {
+            return buffer.getLong();
+        }
+    };
+
+    static final OffHeapSerializer<String> STRINGS = new OffHeapSerializer<String>() {
+        @Override
+        public void write(String object, ByteBuffer buffer) {
+            buffer.put(object.getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public String read(ByteBuffer buffer) {
+            return new String(BYTES.read(buffer), StandardCharsets.UTF_8);
+        }
+    };
+
+    static final OffHeapSerializer<byte[]> BYTES = new OffHeapSerializer<byte[]>() {
+        @Override
+        public void write(byte[] object, ByteBuffer buffer) {
+            buffer.put(object);
+        }
+
+        @Override
+        public byte[] read(ByteBuffer buffer) {
+            final byte[] bytes = new byte[buffer.remaining()];
+            buffer.get(bytes);
+            return bytes;
+        }
+    };
+
+    private OffHeapSerializers() {
+    }
+}
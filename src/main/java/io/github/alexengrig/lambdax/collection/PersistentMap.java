@@ -0,0 +1,725 @@
+/*
+ * Copyright 2019 - 2020 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.alexengrig.lambdax.collection;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+/**
+ * A {@link java.util.Map} which keeps its entries in a directory and survives restarts.
+ *
+ * <p>
+ * The directory holds a memory-mapped data file with compacted entries
+ * and an append-only log of puts and removals after the last compaction.
+ * Both files consist of records of a length, a CRC-32 checksum, a type, a key and a value.
+ * Opening a map only maps the data file.
+ * The first access builds the index of key hashes and record locations by a full scan of both files,
+ * which verifies the checksum of every record and hashes every key but does not deserialize values,
+ * so its cost grows with the size of the files;
+ * a value is read on each {@link #get(Object)}.
+ *
+ * <p>
+ * A torn record at the end of the log, left by a killed process, fails its checksum and is truncated on indexing.
+ * When the log outgrows both the compaction threshold and the data file,
+ * the live records are copied to a temporary file which atomically replaces the data file,
+ * the directory is forced so the replacement survives a power loss, then the log is truncated.
+ * Replaying the log over the new data file gives the same entries,
+ * so a crash between these steps loses nothing.
+ * A write reaches the operating system before the method returns,
+ * use {@link #flush()} to force it to the storage device.
+ *
+ * <p>
+ * Keys and values are converted by {@link io.github.alexengrig.lambdax.collection.OffHeapSerializer}
+ * and must not be {@code null}.
+ * The data file is limited to 2 GiB.
+ * It is not thread-safe.
+ *
+ * @param <K> a type of keys
+ * @param <V> a type of values
+ * @author Grig Alex
+ * @version 0.6.0
+ * @see io.github.alexengrig.lambdax.collection.OffHeapMap
+ * @see io.github.alexengrig.lambdax.collection.MapX
+ * @since 0.6.0
+ */
+public final class PersistentMap<K, V> extends AbstractMap<K, V> implements Closeable {
+    /**
+     * The default size of the log in bytes which triggers compaction.
+     *
+     * @since 0.6.0
+     */
+    public static final long DEFAULT_COMPACTION_THRESHOLD = 64L << 20;
+
+    private static final String DATA_FILE = "map.data";
+    private static final String LOG_FILE = "map.log";
+    private static final String TEMP_FILE = "map.data.tmp";
+
+    private static final byte PUT = 1;
+    private static final byte REMOVE = 2;
+
+    /**
+     * The size of a record header: body length and checksum.
+     */
+    private static final int HEADER = 8;
+
+    /**
+     * The size of a body header: type and key length.
+     */
+    private static final int BODY_HEADER = 5;
+
+    private static final long LOG_BIT = 1L << 62;
+
+    private final Path dataPath;
+    private final Path logPath;
+    private final Path tempPath;
+    private final OffHeapSerializer<K> keySerializer;
+    private final OffHeapSerializer<V> valueSerializer;
+    private final long compactionThreshold;
+    private final CRC32 crc = new CRC32();
+
+    private FileChannel log;
+    private long logSize;
+    private ByteBuffer data;
+
+    private boolean indexed;
+    private int[] hashes;
+    private long[] locations;
+    private int mask;
+    private int resizeAt;
+
+    private ByteBuffer scratch = ByteBuffer.allocate(256);
+    private ByteBuffer record = ByteBuffer.allocate(256);
+    private int keyLength;
+    private int valueLength;
+
+    private int size;
+    private int modCount;
+    private boolean closed;
+    private Set<Entry<K, V>> entrySet;
+
+    private PersistentMap(Path directory, OffHeapSerializer<K> keySerializer, OffHeapSerializer<V> valueSerializer,
+                          long compactionThreshold) throws IOException {
+        this.dataPath = directory.resolve(DATA_FILE);
+        this.logPath = directory.resolve(LOG_FILE);
+        this.tempPath = directory.resolve(TEMP_FILE);
+        this.keySerializer = keySerializer;
+        this.valueSerializer = valueSerializer;
+        this.compactionThreshold = compactionThreshold;
+        Files.createDirectories(directory);
+        Files.deleteIfExists(tempPath);
+        log = FileChannel.open(logPath, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        logSize = log.size();
+        mapData();
+    }
+
+    /**
+     * Opens a map in the directory with the default compaction threshold, creating it if necessary.
+     *
+     * @param directory       a directory of the map files
+     * @param keySerializer   a serializer of keys
+     * @param valueSerializer a serializer of values
+     * @param <K>             a type of keys
+     * @param <V>             a type of values
+     * @return a {@link io.github.alexengrig.lambdax.collection.PersistentMap}
+     * @throws IOException if the files cannot be opened
+     * @since 0.6.0
+     */
+    public static <K, V> PersistentMap<K, V> open(Path directory, OffHeapSerializer<K> keySerializer,
+                                                  OffHeapSerializer<V> valueSerializer) throws IOException {
+        return open(directory, keySerializer, valueSerializer, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Opens a map in the directory, creating it if necessary.
+     *
+     * @param directory           a directory of the map files
+     * @param keySerializer       a serializer of keys
+     * @param valueSerializer     a serializer of values
+     * @param compactionThreshold the minimal size of the log in bytes which triggers compaction
+     * @param <K>                 a type of keys
+     * @param <V>                 a type of values
+     * @return a {@link io.github.alexengrig.lambdax.collection.PersistentMap}
+     * @throws IOException              if the files cannot be opened
+     * @throws IllegalArgumentException if {@code compactionThreshold} is negative
+     * @since 0.6.0
+     */
+    public static <K, V> PersistentMap<K, V> open(Path directory, OffHeapSerializer<K> keySerializer,
+                                                  OffHeapSerializer<V> valueSerializer,
+                                                  long compactionThreshold) throws IOException {
+        Objects.requireNonNull(directory, "The directory must not be null");
+        Objects.requireNonNull(keySerializer, "The key serializer must not be null");
+        Objects.requireNonNull(valueSerializer, "The value serializer must not be null");
+        if (compactionThreshold < 0) {
+            throw new IllegalArgumentException("The compaction threshold must not be negative: " + compactionThreshold);
+        }
+        return new PersistentMap<>(directory, keySerializer, valueSerializer, compactionThreshold);
+    }
+
+//    Storage
+
+    /**
+     * Rewrites the live entries to the data file and truncates the log.
+     *
+     * @throws UncheckedIOException if the files cannot be written
+     * @since 0.6.0
+     */
+    public void compact() {
+        ensureIndexed();
+        try {
+            final long[] compacted = new long[locations.length];
+            try (FileChannel out = FileChannel.open(tempPath, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                long position = 0;
+                for (int slot = 0; slot < locations.length; slot++) {
+                    if (locations[slot] != 0) {
+                        final ByteBuffer source = read(locations[slot] - 1);
+                        compacted[slot] = position + 1;
+                        position += source.remaining();
+                        while (source.hasRemaining()) {
+                            out.write(source);
+                        }
+                    }
+                }
+                if (position > Integer.MAX_VALUE) {
+                    throw new IllegalStateException("The data file is too large: " + position);
+                }
+                out.force(true);
+            }
+            Files.move(tempPath, dataPath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            forceDirectory();
+            mapData();
+            locations = compacted;
+            log.truncate(0);
+            log.force(true);
+            logSize = 0;
+            modCount++;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void forceDirectory() throws IOException {
+        final FileChannel directory;
+        try {
+            directory = FileChannel.open(dataPath.getParent(), StandardOpenOption.READ);
+        } catch (IOException | UnsupportedOperationException e) {
+            // Directories cannot be opened on every platform, where a rename is durable by itself
+            return;
+        }
+        try (FileChannel channel = directory) {
+            channel.force(true);
+        }
+    }
+
+    /**
+     * Forces the log to the storage device.
+     *
+     * @throws UncheckedIOException if the log cannot be forced
+     * @since 0.6.0
+     */
+    public void flush() {
+        ensureOpen();
+        try {
+            log.force(false);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Closes the log, the map cannot be used after that.
+     *
+     * @throws IOException if the log cannot be closed
+     * @since 0.6.0
+     */
+    @Override
+    public void close() throws IOException {
+        if (!closed) {
+            closed = true;
+            data = null;
+            log.close();
+        }
+    }
+
+    /**
+     * Returns the size of the log in bytes.
+     *
+     * @return the size of the log
+     * @since 0.6.0
+     */
+    public long logBytes() {
+        return logSize;
+    }
+
+    /**
+     * Returns the size of the data file in bytes.
+     *
+     * @return the size of the data file
+     * @since 0.6.0
+     */
+    public long dataBytes() {
+        ensureOpen();
+        return data.capacity();
+    }
+
+//    Map
+
+    @Override
+    public int size() {
+        ensureIndexed();
+        return size;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return find(key) >= 0;
+    }
+
+    @Override
+    public V get(Object key) {
+        final int slot = find(key);
+        return slot < 0 ? null : readValue(locations[slot] - 1);
+    }
+
+    @Override
+    public V put(K key, V value) {
+        Objects.requireNonNull(key, "The key must not be null");
+        Objects.requireNonNull(value, "The value must not be null");
+        ensureIndexed();
+        serialize(key, value);
+        final int hash = hash(scratch, 0, keyLength);
+        final int slot = probe(hash, scratch, 0, keyLength);
+        final V previous = slot >= 0 ? readValue(locations[slot] - 1) : null;
+        final long location = append(PUT);
+        if (slot >= 0) {
+            locations[slot] = location + 1;
+        } else {
+            insert(-slot - 1, hash, location);
+        }
+        modCount++;
+        compactIfNeeded();
+        return previous;
+    }
+
+    @Override
+    public V remove(Object key) {
+        final V previous = removeKey(key);
+        if (previous != null) {
+            compactIfNeeded();
+        }
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        ensureIndexed();
+        hashes = new int[hashes.length];
+        locations = new long[locations.length];
+        size = 0;
+        compact();
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+        }
+        return entrySet;
+    }
+
+//    Index
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("The map is closed");
+        }
+    }
+
+    private void ensureIndexed() {
+        ensureOpen();
+        if (indexed) {
+            return;
+        }
+        allocate(PrimitiveX.tableSize(0));
+        try {
+            scan(data, 0);
+            if (logSize > Integer.MAX_VALUE) {
+                throw new IllegalStateException("The log is too large: " + logSize);
+            }
+            final ByteBuffer mapped = log.map(FileChannel.MapMode.READ_ONLY, 0, logSize);
+            final int valid = scan(mapped, LOG_BIT);
+            if (valid < logSize) {
+                log.truncate(valid);
+                logSize = valid;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        indexed = true;
+    }
+
+    private int scan(ByteBuffer buffer, long base) {
+        final int limit = buffer.capacity();
+        int offset = 0;
+        while (offset + HEADER + BODY_HEADER <= limit) {
+            final int length = buffer.getInt(offset);
+            if (length < BODY_HEADER || length > limit - offset - HEADER
+                    || checksum(buffer, offset + HEADER, length) != buffer.getInt(offset + 4)) {
+                break;
+            }
+            final int body = offset + HEADER;
+            final int keyBytes = buffer.getInt(body + 1);
+            if (keyBytes < 0 || keyBytes > length - BODY_HEADER) {
+                break;
+            }
+            final int hash = hash(buffer, body + BODY_HEADER, keyBytes);
+            final int slot = probe(hash, buffer, body + BODY_HEADER, keyBytes);
+            if (buffer.get(body) == PUT) {
+                if (slot >= 0) {
+                    locations[slot] = (base | offset) + 1;
+                } else {
+                    insert(-slot - 1, hash, base | offset);
+                }
+            } else if (slot >= 0) {
+                delete(slot);
+            }
+            offset += HEADER + length;
+        }
+        if (base == 0 && offset != limit) {
+            throw new IllegalStateException("The data file is corrupted at " + offset);
+        }
+        return offset;
+    }
+
+    @SuppressWarnings("unchecked")
+    private int find(Object key) {
+        ensureIndexed();
+        if (key == null) {
+            return -1;
+        }
+        try {
+            serialize((K) key, null);
+        } catch (ClassCastException e) {
+            return -1;
+        }
+        return Math.max(-1, probe(hash(scratch, 0, keyLength), scratch, 0, keyLength));
+    }
+
+    private V removeKey(Object key) {
+        final int slot = find(key);
+        if (slot < 0) {
+            return null;
+        }
+        final V previous = readValue(locations[slot] - 1);
+        append(REMOVE);
+        delete(slot);
+        modCount++;
+        return previous;
+    }
+
+    /**
+     * Returns the slot of the key, or {@code -1 - slot} of a free slot for it.
+     */
+    private int probe(int hash, ByteBuffer key, int from, int length) {
+        int slot = hash & mask;
+        for (long location; (location = locations[slot]) != 0; slot = (slot + 1) & mask) {
+            if (hashes[slot] == hash && keyEquals(location - 1, key, from, length)) {
+                return slot;
+            }
+        }
+        return -1 - slot;
+    }
+
+    private void insert(int slot, int hash, long location) {
+        hashes[slot] = hash;
+        locations[slot] = location + 1;
+        if (++size > resizeAt) {
+            final int[] oldHashes = hashes;
+            final long[] oldLocations = locations;
+            allocate(oldHashes.length << 1);
+            for (int i = 0; i < oldHashes.length; i++) {
+                if (oldLocations[i] != 0) {
+                    int free = oldHashes[i] & mask;
+                    while (locations[free] != 0) {
+                        free = (free + 1) & mask;
+                    }
+                    hashes[free] = oldHashes[i];
+                    locations[free] = oldLocations[i];
+                }
+            }
+        }
+    }
+
+    private void delete(int slot) {
+        for (int last = slot, i = (slot + 1) & mask; ; i = (i + 1) & mask) {
+            if (locations[i] == 0) {
+                hashes[last] = 0;
+                locations[last] = 0;
+                break;
+            }
+            final int home = hashes[i] & mask;
+            if (last <= i ? (last >= home || home > i) : (last >= home && home > i)) {
+                hashes[last] = hashes[i];
+                locations[last] = locations[i];
+                last = i;
+            }
+        }
+        size--;
+    }
+
+    private void allocate(int tableSize) {
+        hashes = new int[tableSize];
+        locations = new long[tableSize];
+        mask = tableSize - 1;
+        resizeAt = PrimitiveX.resizeAt(tableSize);
+    }
+
+//    Records
+
+    private void serialize(K key, V value) {
+        while (true) {
+            scratch.clear();
+            try {
+                keySerializer.write(key, scratch);
+                keyLength = scratch.position();
+                if (value != null) {
+                    valueSerializer.write(value, scratch);
+                }
+                valueLength = scratch.position() - keyLength;
+                return;
+            } catch (BufferOverflowException e) {
+                if (scratch.capacity() >= PrimitiveX.MAX_ARRAY_SIZE / 2) {
+                    throw e;
+                }
+                scratch = ByteBuffer.allocate(scratch.capacity() << 1);
+            }
+        }
+    }
+
+    private long append(byte type) {
+        final int length = BODY_HEADER + keyLength + valueLength;
+        final ByteBuffer buffer = recordBuffer(HEADER + length);
+        buffer.putInt(length).putInt(0).put(type).putInt(keyLength).put(scratch.array(), 0, keyLength + valueLength);
+        buffer.putInt(4, checksum(buffer, HEADER, length));
+        buffer.flip();
+        final long offset = logSize;
+        try {
+            for (long position = offset; buffer.hasRemaining(); ) {
+                position += log.write(buffer, position);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        logSize += HEADER + length;
+        return LOG_BIT | offset;
+    }
+
+    /**
+     * Returns a buffer with the record at the location between its position and limit.
+     */
+    private ByteBuffer read(long location) {
+        if ((location & LOG_BIT) == 0) {
+            final ByteBuffer buffer = data.duplicate();
+            final int offset = (int) location;
+            buffer.position(offset).limit(offset + HEADER + data.getInt(offset));
+            return buffer;
+        }
+        final long offset = location & ~LOG_BIT;
+        try {
+            ByteBuffer buffer = recordBuffer(HEADER);
+            readFully(buffer, offset);
+            final int length = HEADER + buffer.getInt(0);
+            buffer = recordBuffer(length);
+            readFully(buffer, offset);
+            buffer.flip();
+            return buffer;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void readFully(ByteBuffer buffer, long offset) throws IOException {
+        for (long position = offset; buffer.hasRemaining(); ) {
+            final int read = log.read(buffer, position);
+            if (read < 0) {
+                throw new IOException("Unexpected end of the log at " + position);
+            }
+            position += read;
+        }
+    }
+
+    private ByteBuffer recordBuffer(int length) {
+        if (record.capacity() < length) {
+            record = ByteBuffer.allocate(Math.max(length, record.capacity() << 1));
+        }
+        record.clear();
+        record.limit(length);
+        return record;
+    }
+
+    private boolean keyEquals(long location, ByteBuffer key, int from, int length) {
+        final ByteBuffer buffer = read(location);
+        final int body = buffer.position() + HEADER;
+        if (buffer.getInt(body + 1) != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (buffer.get(body + BODY_HEADER + i) != key.get(from + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private K readKey(long location) {
+        final ByteBuffer buffer = read(location);
+        final int from = buffer.position() + HEADER + BODY_HEADER;
+        buffer.position(from).limit(from + buffer.getInt(from - 4));
+        return keySerializer.read(buffer);
+    }
+
+    private V readValue(long location) {
+        final ByteBuffer buffer = read(location);
+        buffer.position(buffer.position() + HEADER + BODY_HEADER + buffer.getInt(buffer.position() + HEADER + 1));
+        return valueSerializer.read(buffer);
+    }
+
+    private int hash(ByteBuffer key, int from, int length) {
+        int h = 1;
+        for (int i = from, to = from + length; i < to; i++) {
+            h = 31 * h + key.get(i);
+        }
+        return PrimitiveX.mix(h);
+    }
+
+    private int checksum(ByteBuffer buffer, int from, int length) {
+        crc.reset();
+        final ByteBuffer body = buffer.duplicate();
+        body.limit(from + length).position(from);
+        crc.update(body);
+        return (int) crc.getValue();
+    }
+
+    private void compactIfNeeded() {
+        if (logSize > compactionThreshold && logSize > data.capacity()) {
+            compact();
+        }
+    }
+
+    private void mapData() throws IOException {
+        if (!Files.exists(dataPath)) {
+            data = ByteBuffer.allocate(0);
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(dataPath, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IllegalStateException("The data file is too large: " + channel.size());
+            }
+            data = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<K, V>> {
+        @Override
+        public Iterator<Entry<K, V>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            return PersistentMap.this.size();
+        }
+
+        @Override
+        public void clear() {
+            PersistentMap.this.clear();
+        }
+    }
+
+    /**
+     * Iterates over a snapshot of the record locations.
+     */
+    private final class EntryIterator implements Iterator<Entry<K, V>> {
+        private final long[] snapshot;
+        private int expectedModCount;
+        private int next;
+        private K current;
+
+        EntryIterator() {
+            ensureIndexed();
+            snapshot = locations.clone();
+            expectedModCount = modCount;
+            next = advance(0);
+        }
+
+        private int advance(int slot) {
+            while (slot < snapshot.length && snapshot[slot] == 0) {
+                slot++;
+            }
+            return slot;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < snapshot.length;
+        }
+
+        @Override
+        public Entry<K, V> next() {
+            ensureOpen();
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (next >= snapshot.length) {
+                throw new NoSuchElementException();
+            }
+            final long location = snapshot[next] - 1;
+            next = advance(next + 1);
+            current = readKey(location);
+            return new SimpleImmutableEntry<>(current, readValue(location));
+        }
+
+        @Override
+        public void remove() {
+            if (current == null) {
+                throw new IllegalStateException();
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            removeKey(current);
+            current = null;
+            expectedModCount = modCount;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2019 - 2020 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.alexengrig.lambdax.collection;
+
+/**
+ * Sizing and hashing shared by the primitive collections.
+ *
+ * <p>
+ * Hash tables use open addressing with linear probing,
+ * their capacity is a power of two and at most three quarters of it is filled.
+ *
+ * @author Grig Alex
+ * @version 0.6.0
+ * @see io.github.alexengrig.lambdax.collection.IntHashSet
+ * @see io.github.alexengrig.lambdax.collection.IntList
+ * @since 0.6.0
+ */
+final class PrimitiveX {
+    /**
+     * The maximal size of an array.
+     *
+     * @since 0.6.0
+     */
+    static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+    /**
+     * The maximal capacity of a hash table.
+     *
+     * @since 0.6.0
+     */
+    static final int MAX_TABLE_SIZE = 1 << 30;
+
+    /**
+     * The default capacity of a hash table.
+     *
+     * @since 0.6.0
+     */
+    static final int DEFAULT_TABLE_SIZE = 16;
+
+    private PrimitiveX() {
+    }
+
+    static int mix(int key) {
+        final int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    static int mix(long key) {
+        final long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    static int tableSize(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("The expected size must not be negative: " + expectedSize);
+        }
+        final long required = Math.max(2L, (long) Math.ceil(expectedSize / 0.75));
+        if (required > MAX_TABLE_SIZE) {
+            throw new IllegalArgumentException("The expected size is too large: " + expectedSize);
+        }
+        return Math.max(DEFAULT_TABLE_SIZE, Integer.highestOneBit((int) required - 1) << 1);
+    }
+
+    static int resizeAt(int tableSize) {
+        return tableSize == MAX_TABLE_SIZE ? MAX_TABLE_SIZE - 1 : tableSize - (tableSize >>> 2);
+    }
+
+    static int grow(int length, int minLength) {
+        if (minLength < 0 || minLength > MAX_ARRAY_SIZE) {
+            throw new OutOfMemoryError("Required array size too large");
+        }
+        final long grown = (long) length + (length >>> 1);
+        return (int) Math.min(MAX_ARRAY_SIZE, Math.max(minLength, Math.max(grown, 10)));
+    }
+
+    static void checkIndex(int index, int size) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+}
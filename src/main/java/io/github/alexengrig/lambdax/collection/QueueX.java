@@ -16,21 +16,30 @@
 
 package io.github.alexengrig.lambdax.collection;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
 
 /**
  * This utility class contains useful lambdas for {@link java.util.Queue}.
  *
  * @author Grig Alex
- * @version 0.3.0
+ * @version 0.6.0
  * @see java.util.Queue
+ * @see io.github.alexengrig.lambdax.collection.BoundedArrayQueue
  * @see java.util.function.Consumer
  * @see java.util.function.Predicate
+ * @see java.util.function.ToIntFunction
  * @since 0.1.0
  */
 public final class QueueX {
+    private static final int CHUNK_CAPACITY = 1024;
+
     private QueueX() {
     }
 
@@ -93,4 +102,135 @@ public final class QueueX {
     public static <E> Consumer<Queue<E>> onlyOffer(E item) {
         return q -> q.offer(item);
     }
+
+    /**
+     * <p>Returns the draining of the queue:
+     * (action, max) -&gt; queue -&gt; poll up to max elements to action.</p>
+     * <p>A {@link io.github.alexengrig.lambdax.collection.BoundedArrayQueue} drains with
+     * {@link io.github.alexengrig.lambdax.collection.BoundedArrayQueue#drain(Consumer, int)}.</p>
+     *
+     * @param action a {@link java.util.function.Consumer} for each polled element
+     * @param max    the maximal number of elements to poll
+     * @param <E>    a type of elements in a queue
+     * @return a {@link java.util.function.ToIntFunction} which returns the number of drained elements
+     * @see java.util.Queue#poll()
+     * @see java.util.function.ToIntFunction
+     * @since 0.6.0
+     */
+    public static <E> ToIntFunction<Queue<E>> drainTo(Consumer<? super E> action, int max) {
+        return q -> drain(q, action, max);
+    }
+
+    /**
+     * <p>Returns the draining of the queue by chunks:
+     * (max, action) -&gt; queue -&gt; action.accept(up to max polled elements).</p>
+     * <p>A {@link java.util.concurrent.BlockingQueue} drains with
+     * {@link java.util.concurrent.BlockingQueue#drainTo(Collection, int)},
+     * other queues fill the chunk as {@link #drainTo(Consumer, int)} does;
+     * the action is not called if the queue is empty.</p>
+     *
+     * @param max    the maximal number of elements in the chunk
+     * @param action a {@link java.util.function.Consumer} for the chunk
+     * @param <E>    a type of elements in a queue
+     * @return a {@link java.util.function.ToIntFunction} which returns the number of drained elements
+     * @see java.util.concurrent.BlockingQueue#drainTo(Collection, int)
+     * @see java.util.function.ToIntFunction
+     * @since 0.6.0
+     */
+    public static <E> ToIntFunction<Queue<E>> drain(int max, Consumer<? super List<E>> action) {
+        return q -> {
+            final List<E> chunk = new ArrayList<>(Math.min(Math.max(max, 0), CHUNK_CAPACITY));
+            if (q instanceof BlockingQueue) {
+                ((BlockingQueue<E>) q).drainTo(chunk, max);
+            } else {
+                drain(q, chunk::add, max);
+            }
+            if (!chunk.isEmpty()) {
+                action.accept(chunk);
+            }
+            return chunk.size();
+        };
+    }
+
+    /**
+     * <p>Returns the offering of the leading elements which fit into the queue:
+     * all -&gt; queue -&gt; offer each of all while accepted.</p>
+     * <p>A {@link io.github.alexengrig.lambdax.collection.BoundedArrayQueue} inserts the elements with
+     * {@link io.github.alexengrig.lambdax.collection.BoundedArrayQueue#offerBatch(Collection)}.</p>
+     *
+     * @param all a {@link java.util.Collection} of elements to offer
+     * @param <E> a type of elements in a queue
+     * @return a {@link java.util.function.ToIntFunction} which returns the number of offered elements
+     * @see io.github.alexengrig.lambdax.collection.BoundedArrayQueue#offerBatch(Collection)
+     * @see java.util.function.ToIntFunction
+     * @since 0.6.0
+     */
+    public static <E> ToIntFunction<Queue<E>> offerBatch(Collection<? extends E> all) {
+        return q -> {
+            if (q instanceof BoundedArrayQueue) {
+                return ((BoundedArrayQueue<E>) q).offerBatch(all);
+            }
+            int count = 0;
+            for (E element : all) {
+                if (!q.offer(element)) {
+                    break;
+                }
+                count++;
+            }
+            return count;
+        };
+    }
+
+    /**
+     * <p>Returns the checking of back pressure:
+     * queue -&gt; queue.remainingCapacity() == 0.</p>
+     * <p>Only {@link io.github.alexengrig.lambdax.collection.BoundedArrayQueue}
+     * and {@link java.util.concurrent.BlockingQueue} can be full.</p>
+     *
+     * @param <E> a type of elements in a queue
+     * @return a {@link java.util.function.Predicate}
+     * @see io.github.alexengrig.lambdax.collection.BoundedArrayQueue#remainingCapacity()
+     * @see java.util.concurrent.BlockingQueue#remainingCapacity()
+     * @see java.util.function.Predicate
+     * @since 0.6.0
+     */
+    public static <E> Predicate<Queue<E>> isFull() {
+        return QueueX::full;
+    }
+
+    /**
+     * <p>Returns the checking of no back pressure:
+     * queue -&gt; queue.remainingCapacity() &gt; 0.</p>
+     *
+     * @param <E> a type of elements in a queue
+     * @return a {@link java.util.function.Predicate}
+     * @see io.github.alexengrig.lambdax.collection.BoundedArrayQueue#remainingCapacity()
+     * @see java.util.concurrent.BlockingQueue#remainingCapacity()
+     * @see java.util.function.Predicate
+     * @since 0.6.0
+     */
+    public static <E> Predicate<Queue<E>> notFull() {
+        return q -> !full(q);
+    }
+
+    private static <E> int drain(Queue<E> queue, Consumer<? super E> action, int max) {
+        if (queue instanceof BoundedArrayQueue) {
+            return ((BoundedArrayQueue<E>) queue).drain(action, max);
+        }
+        int count = 0;
+        for (E element; count < max && (element = queue.poll()) != null; count++) {
+            action.accept(element);
+        }
+        return count;
+    }
+
+    private static boolean full(Queue<?> queue) {
+        if (queue instanceof BoundedArrayQueue) {
+            return ((BoundedArrayQueue<?>) queue).remainingCapacity() == 0;
+        }
+        if (queue instanceof BlockingQueue) {
+            return ((BlockingQueue<?>) queue).remainingCapacity() == 0;
+        }
+        return false;
+    }
 }
@@ -27,7 +27,7 @@ import java.util.function.Predicate;
  * <p>This utility class contains useful lambdas for {@link java.util.Set}.</p>
  *
  * @author Grig Alex
- * @version 0.3.0
+ * @version 0.6.0
  * @see java.util.Collection
  * @see java.util.Set
  * @see java.util.function.Consumer
@@ -178,6 +178,8 @@ public final class SetX {
     /**
      * <p>Returns the carrying of {@link java.util.Set#removeAll(Collection)}:
      * all -&gt; set -&gt; set.removeAll(all).</p>
+     * <p>An argument that is not a set and has more than 16 elements is hashed first,
+     * so the operation takes linear time.</p>
      *
      * @param all a {@link java.util.Collection} that is passed as the argument to {@link java.util.Set#removeAll(Collection)}
      * @param <E> a type of elements in a set
@@ -187,7 +189,7 @@ public final class SetX {
      * @since 0.1.0
      */
     public static <E> Predicate<Set<E>> removeAll(Collection<? extends E> all) {
-        return s -> s.removeAll(all);
+        return s -> BulkX.removeAll(s, all);
     }
 
     /**
@@ -208,6 +210,8 @@ public final class SetX {
     /**
      * <p>Returns the carrying of {@link java.util.Set#removeAll(Collection)}:
      * all -&gt; set -&gt; set.removeAll(all).</p>
+     * <p>An argument that is not a set and has more than 16 elements is hashed first,
+     * so the operation takes linear time.</p>
      *
      * @param all a {@link java.util.Collection} that is passed as the argument to {@link java.util.Set#removeAll(Collection)}
      * @param <E> a type of elements in a set
@@ -217,12 +221,14 @@ public final class SetX {
      * @since 0.1.0
      */
     public static <E> Consumer<Set<E>> onlyRemoveAll(Collection<? extends E> all) {
-        return s -> s.removeAll(all);
+        return s -> BulkX.removeAll(s, all);
     }
 
     /**
      * <p>Returns the carrying of {@link java.util.Set#retainAll(Collection)}:
      * all -&gt; set -&gt; set.retainAll(all).</p>
+     * <p>An argument that is not a set and has more than 16 elements is hashed first,
+     * so the operation takes linear time.</p>
      *
      * @param all a {@link java.util.Collection} that is passed as the argument to {@link java.util.Set#retainAll(Collection)}
      * @param <E> a type of elements in a set
@@ -232,12 +238,14 @@ public final class SetX {
      * @since 0.1.0
      */
     public static <E> Predicate<Set<E>> retainAll(Collection<? extends E> all) {
-        return s -> s.retainAll(all);
+        return s -> BulkX.retainAll(s, all);
     }
 
     /**
      * <p>Returns the carrying of {@link java.util.Set#retainAll(Collection)}:
      * all -&gt; set -&gt; set.retainAll(all).</p>
+     * <p>An argument that is not a set and has more than 16 elements is hashed first,
+     * so the operation takes linear time.</p>
      *
      * @param all a {@link java.util.Collection} that is passed as the argument to {@link java.util.Set#retainAll(Collection)}
      * @param <E> a type of elements in a set
@@ -247,7 +255,7 @@ public final class SetX {
      * @since 0.1.0
      */
     public static <E> Consumer<Set<E>> onlyRetainAll(Collection<? extends E> all) {
-        return s -> s.retainAll(all);
+        return s -> BulkX.retainAll(s, all);
     }
 
     /**
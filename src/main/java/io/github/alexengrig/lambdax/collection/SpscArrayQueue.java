@@ -0,0 +1,88 @@
+/*
+ * Copyright 2019 - 2020 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.alexengrig.lambdax.collection;
+
+import java.util.Objects;
+
+/**
+ * A lock-free bounded queue for a single producer thread and a single consumer thread.
+ *
+ * <p>
+ * The producer caches the consumer index and rereads it only when the cached value shows a full queue,
+ * so an offer is an ordered store of the element and of the index.
+ * {@link #offer(Object)} and {@link #offerBatch(java.util.Collection)} must be called by one producer thread at a time.
+ *
+ * @param <E> a type of elements
+ * @author Grig Alex
+ * @version 0.6.0
+ * @see io.github.alexengrig.lambdax.collection.BoundedArrayQueue
+ * @see io.github.alexengrig.lambdax.collection.MpscArrayQueue
+ * @since 0.6.0
+ */
+public final class SpscArrayQueue<E> extends BoundedArrayQueue<E> {
+    private long consumerCache;
+
+    /**
+     * Constructs an empty queue.
+     *
+     * @param capacity the minimal capacity, rounded up to a power of two
+     * @throws IllegalArgumentException if {@code capacity} is less than 1 or greater than 2^30
+     * @since 0.6.0
+     */
+    public SpscArrayQueue(int capacity) {
+        super(capacity);
+    }
+
+    /**
+     * Inserts the element if the queue is not full.
+     *
+     * @param element a non-null element
+     * @return {@code true} if the element was inserted, {@code false} if the queue is full
+     * @throws NullPointerException if {@code element} is {@code null}
+     * @since 0.6.0
+     */
+    @Override
+    public boolean offer(E element) {
+        Objects.requireNonNull(element, "The element must not be null");
+        final long index = producer.value;
+        if (index - consumerCache > mask) {
+            consumerCache = consumer.value;
+            if (index - consumerCache > mask) {
+                return false;
+            }
+        }
+        buffer.lazySet((int) index & mask, element);
+        producer.lazySet(index + 1);
+        return true;
+    }
+
+    @Override
+    int offerArray(Object[] elements) {
+        final long index = producer.value;
+        long free = capacity() - (index - consumerCache);
+        if (free < elements.length) {
+            consumerCache = consumer.value;
+            free = capacity() - (index - consumerCache);
+        }
+        final int count = (int) Math.min(free, elements.length);
+        if (count > 0) {
+            publish(index, elements, count);
+            producer.lazySet(index + count);
+        }
+        return count;
+    }
+}
@@ -15,9 +15,10 @@
  */
 
 /**
- * <p>This package contains utility classes with useful lambdas for major collection interfaces.</p>
+ * <p>This package contains utility classes with useful lambdas for major collection interfaces
+ * and primitive collections without boxing.</p>
  *
- * @version 0.3.0
+ * @version 0.6.0
  * @author Grig Alex
  * @since 0.1.0
  */
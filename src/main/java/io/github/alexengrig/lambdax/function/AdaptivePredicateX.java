@@ -0,0 +1,215 @@
+/*
+ * Copyright 2019 - 2020 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.alexengrig.lambdax.function;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A composed predicate that reorders its clauses by observed selectivity and cost.
+ *
+ * <p>
+ * Every {@code sampleRate}-th test (on average) is sampled:
+ * the pass rate and the evaluation time of each evaluated clause are recorded.
+ * After {@code period} samples the clauses are sorted so that cheap,
+ * highly selective ones run first, and the statistics start over.
+ *
+ * <p>
+ * The clauses must be commutative and side-effect-free,
+ * the result does not depend on the order of their evaluation.
+ * The predicate is thread-safe, the order is replaced by a volatile write.
+ *
+ * @param <T> the type of the input to the predicate
+ * @author Grig Alex
+ * @version 0.6.0
+ * @see io.github.alexengrig.lambdax.function.PredicateX#adaptiveAnd(Predicate, Predicate, Predicate[])
+ * @see io.github.alexengrig.lambdax.function.PredicateX#adaptiveOr(Predicate, Predicate, Predicate[])
+ * @since 0.6.0
+ */
+abstract class AdaptivePredicateX<T> implements PredicateX<T> {
+    static final int SAMPLE_RATE = 64;
+    static final int PERIOD = 256;
+
+    private final int sampleRate;
+    private final int period;
+    private final LongAdder samples = new LongAdder();
+    private final AtomicBoolean reordering = new AtomicBoolean();
+    volatile Clause<T>[] clauses;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    AdaptivePredicateX(Predicate<? super T>[] predicates, int sampleRate, int period) {
+        this.sampleRate = sampleRate;
+        this.period = period;
+        Clause<T>[] clauses = new Clause[predicates.length];
+        for (int i = 0; i < predicates.length; i++) {
+            clauses[i] = new Clause<>(predicates[i]);
+        }
+        this.clauses = clauses;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static <T> Predicate<? super T>[] operands(Predicate<? super T> first, Predicate<? super T> second,
+                                               Predicate<? super T>[] others) {
+        Predicate<? super T>[] operands = new Predicate[2 + others.length];
+        operands[0] = requireNonNull(first, "The first predicate must not be null");
+        operands[1] = requireNonNull(second, "The second predicate must not be null");
+        for (int i = 0; i < others.length; i++) {
+            operands[2 + i] = requireNonNull(others[i], "The other predicate must not be null");
+        }
+        return operands;
+    }
+
+    @Override
+    public boolean test(T t) {
+        if (sampleRate > 1 && ThreadLocalRandom.current().nextInt(sampleRate) != 0) {
+            return evaluate(clauses, t);
+        }
+        boolean result = sample(clauses, t);
+        samples.increment();
+        if (samples.sum() >= period && reordering.compareAndSet(false, true)) {
+            try {
+                reorder();
+            } finally {
+                reordering.set(false);
+            }
+        }
+        return result;
+    }
+
+    abstract boolean evaluate(Clause<T>[] clauses, T t);
+
+    abstract boolean sample(Clause<T>[] clauses, T t);
+
+    /**
+     * Returns the expected cost of the clause to reach the short-circuit result.
+     */
+    abstract double rank(double cost, double passRate);
+
+    private void reorder() {
+        Clause<T>[] current = clauses;
+        double[] ranks = new double[current.length];
+        Integer[] indexes = new Integer[current.length];
+        for (int i = 0; i < current.length; i++) {
+            Clause<T> clause = current[i];
+            long evaluations = clause.evaluations.sumThenReset();
+            long passes = clause.passes.sumThenReset();
+            long nanos = clause.nanos.sumThenReset();
+            ranks[i] = evaluations == 0
+                    ? Double.MAX_VALUE
+                    : rank((double) Math.max(nanos, 1) / evaluations, (double) passes / evaluations);
+            indexes[i] = i;
+        }
+        samples.reset();
+        Arrays.sort(indexes, Comparator.comparingDouble(i -> ranks[i]));
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Clause<T>[] reordered = new Clause[current.length];
+        for (int i = 0; i < current.length; i++) {
+            reordered[i] = current[indexes[i]];
+        }
+        clauses = reordered;
+    }
+
+    static final class Clause<T> {
+        final Predicate<? super T> predicate;
+        final LongAdder evaluations = new LongAdder();
+        final LongAdder passes = new LongAdder();
+        final LongAdder nanos = new LongAdder();
+
+        Clause(Predicate<? super T> predicate) {
+            this.predicate = predicate;
+        }
+
+        boolean sample(T t) {
+            long start = System.nanoTime();
+            boolean result = predicate.test(t);
+            nanos.add(System.nanoTime() - start);
+            evaluations.increment();
+            if (result) {
+                passes.increment();
+            }
+            return result;
+        }
+    }
+
+    static final class And<T> extends AdaptivePredicateX<T> {
+        And(Predicate<? super T>[] predicates, int sampleRate, int period) {
+            super(predicates, sampleRate, period);
+        }
+
+        @Override
+        boolean evaluate(Clause<T>[] clauses, T t) {
+            for (Clause<T> clause : clauses) {
+                if (!clause.predicate.test(t)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        boolean sample(Clause<T>[] clauses, T t) {
+            for (Clause<T> clause : clauses) {
+                if (!clause.sample(t)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        double rank(double cost, double passRate) {
+            return cost / Math.max(1 - passRate, Double.MIN_NORMAL);
+        }
+    }
+
+    static final class Or<T> extends AdaptivePredicateX<T> {
+        Or(Predicate<? super T>[] predicates, int sampleRate, int period) {
+            super(predicates, sampleRate, period);
+        }
+
+        @Override
+        boolean evaluate(Clause<T>[] clauses, T t) {
+            for (Clause<T> clause : clauses) {
+                if (clause.predicate.test(t)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        boolean sample(Clause<T>[] clauses, T t) {
+            for (Clause<T> clause : clauses) {
+                if (clause.sample(t)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        double rank(double cost, double passRate) {
+            return cost / Math.max(passRate, Double.MIN_NORMAL);
+        }
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2019 - 2020 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.alexengrig.lambdax.function;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A composed predicate that holds a flat array of predicates
+ * and evaluates them in one loop, from left to right.
+ *
+ * <p>
+ * The result is the same as of the left fold of the predicates by the logical operation,
+ * e.g. {@code nand(a, b, c)} is {@code nand(nand(a, b), c)}.
+ * Nested predicates of the same operation are flattened when composing,
+ * if the flattening does not change the result.
+ *
+ * @param <T> the type of the input to the predicate
+ * @author Grig Alex
+ * @version 0.6.0
+ * @see io.github.alexengrig.lambdax.function.PredicateX
+ * @since 0.6.0
+ */
+abstract class CompositePredicateX<T> implements PredicateX<T> {
+    @SuppressWarnings("rawtypes")
+    private static final Predicate[] NONE = new Predicate[0];
+
+    final Predicate<? super T>[] predicates;
+
+    CompositePredicateX(Predicate<? super T>[] predicates) {
+        this.predicates = predicates;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> Predicate<? super T>[] none() {
+        return NONE;
+    }
+
+    static <T> PredicateX<T> and(Predicate<? super T> first, Predicate<? super T> second,
+                                 Predicate<? super T>[] others) {
+        return new And<>(operands(And.class, true, first, second, others));
+    }
+
+    static <T> PredicateX<T> or(Predicate<? super T> first, Predicate<? super T> second,
+                                Predicate<? super T>[] others) {
+        return new Or<>(operands(Or.class, true, first, second, others));
+    }
+
+    static <T> PredicateX<T> xor(Predicate<? super T> first, Predicate<? super T> second,
+                                 Predicate<? super T>[] others) {
+        return new Xor<>(operands(Xor.class, true, first, second, others));
+    }
+
+    static <T> PredicateX<T> nand(Predicate<? super T> first, Predicate<? super T> second,
+                                  Predicate<? super T>[] others) {
+        return new Nand<>(operands(Nand.class, false, first, second, others));
+    }
+
+    static <T> PredicateX<T> nor(Predicate<? super T> first, Predicate<? super T> second,
+                                 Predicate<? super T>[] others) {
+        return new Nor<>(operands(Nor.class, false, first, second, others));
+    }
+
+    static <T> PredicateX<T> xnor(Predicate<? super T> first, Predicate<? super T> second,
+                                  Predicate<? super T>[] others) {
+        return new Xnor<>(operands(Xnor.class, true, first, second, others));
+    }
+
+    /**
+     * Returns the flat array of operands.
+     * The first operand of the same type is always flattened (it is the left fold),
+     * the following ones only if the operation is associative.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <T> Predicate<? super T>[] operands(
+            Class<?> type, boolean associative,
+            Predicate<? super T> first, Predicate<? super T> second, Predicate<? super T>[] others) {
+        List<Predicate<? super T>> operands = new ArrayList<>(2 + others.length);
+        add(operands, type, true, requireNonNull(first, "The first predicate must not be null"));
+        add(operands, type, associative, requireNonNull(second, "The second predicate must not be null"));
+        for (Predicate<? super T> other : others) {
+            add(operands, type, associative, requireNonNull(other, "The other predicate must not be null"));
+        }
+        return operands.toArray(new Predicate[0]);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> void add(List<Predicate<? super T>> operands, Class<?> type, boolean flatten,
+                                Predicate<? super T> predicate) {
+        if (flatten && predicate.getClass() == type) {
+            Collections.addAll(operands, ((CompositePredicateX<? super T>) predicate).predicates);
+        } else {
+            operands.add(predicate);
+        }
+    }
+
+    static final class And<T> extends CompositePredicateX<T> {
+        And(Predicate<? super T>[] predicates) {
+            super(predicates);
+        }
+
+        @Override
+        public boolean test(T t) {
+            for (Predicate<? super T> predicate : predicates) {
+                if (!predicate.test(t)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    static final class Or<T> extends CompositePredicateX<T> {
+        Or(Predicate<? super T>[] predicates) {
+            super(predicates);
+        }
+
+        @Override
+        public boolean test(T t) {
+            for (Predicate<? super T> predicate : predicates) {
+                if (predicate.test(t)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    static final class Xor<T> extends CompositePredicateX<T> {
+        Xor(Predicate<? super T>[] predicates) {
+            super(predicates);
+        }
+
+        @Override
+        public boolean test(T t) {
+            boolean result = false;
+            for (Predicate<? super T> predicate : predicates) {
+                result ^= predicate.test(t);
+            }
+            return result;
+        }
+    }
+
+    static final class Nand<T> extends CompositePredicateX<T> {
+        Nand(Predicate<? super T>[] predicates) {
+            super(predicates);
+        }
+
+        @Override
+        public boolean test(T t) {
+            boolean result = predicates[0].test(t);
+            for (int i = 1; i < predicates.length; i++) {
+                result = !(result && predicates[i].test(t));
+            }
+            return result;
+        }
+    }
+
+    static final class Nor<T> extends CompositePredicateX<T> {
+        Nor(Predicate<? super T>[] predicates) {
+            super(predicates);
+        }
+
+        @Override
+        public boolean test(T t) {
+            boolean result = predicates[0].test(t);
+            for (int i = 1; i < predicates.length; i++) {
+                result = !(result || predicates[i].test(t));
+            }
+            return result;
+        }
+    }
+
+    static final class Xnor<T> extends CompositePredicateX<T> {
+        Xnor(Predicate<? super T>[] predicates) {
+            super(predicates);
+        }
+
+        @Override
+        public boolean test(T t) {
+            boolean result = predicates[0].test(t);
+            for (int i = 1; i < predicates.length; i++) {
+                result = result == predicates[i].test(t);
+            }
+            return result;
+        }
+    }
+}
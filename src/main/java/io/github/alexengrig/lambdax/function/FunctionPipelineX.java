@@ -0,0 +1,184 @@
+/*
+ * Copyright 2019 - 2020 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.alexengrig.lambdax.function;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * A function that applies stages kept in a flat array in one loop.
+ *
+ * <p>
+ * Unlike nested {@link java.util.function.Function#andThen(Function)} calls,
+ * the depth of calls does not grow with the number of stages,
+ * and a {@code FunctionPipelineX} passed as a stage is flattened into its stages.
+ * <p>
+ * Usage example:
+ * <pre>{@code
+ * Function<String, Integer> parse = FunctionX.pipeline(String.class)
+ *         .then(String::trim)
+ *         .then(Integer::valueOf)
+ *         .then(Math::abs);
+ * }</pre>
+ *
+ * <p>
+ * Instances are immutable, each adding method returns a new instance.
+ *
+ * @param <T> the type of the input to the pipeline
+ * @param <R> the type of the result of the pipeline
+ * @author Grig Alex
+ * @version 0.6.0
+ * @see io.github.alexengrig.lambdax.function.FunctionX#pipeline()
+ * @since 0.6.0
+ */
+public final class FunctionPipelineX<T, R> implements Function<T, R> {
+    /**
+     * Common instance for {@code identity()}.
+     *
+     * @since 0.6.0
+     */
+    private static final FunctionPipelineX<?, ?> IDENTITY = new FunctionPipelineX<>(newStages(0));
+
+    /**
+     * Stages in order of application.
+     *
+     * @since 0.6.0
+     */
+    private final Function<Object, Object>[] stages;
+
+    private FunctionPipelineX(Function<Object, Object>[] stages) {
+        this.stages = stages;
+    }
+
+    /**
+     * Returns a pipeline without stages that returns its input.
+     *
+     * @param <T> the type of the input to the pipeline
+     * @return the pipeline without stages
+     * @since 0.6.0
+     */
+    @SuppressWarnings("unchecked")
+    static <T> FunctionPipelineX<T, T> identity() {
+        return (FunctionPipelineX<T, T>) IDENTITY;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Function<Object, Object>[] newStages(int length) {
+        return new Function[length];
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Function<Object, Object>[] stagesOf(Function<?, ?> function) {
+        if (function instanceof FunctionPipelineX) {
+            return ((FunctionPipelineX<?, ?>) function).stages;
+        }
+        final Function<Object, Object>[] stages = newStages(1);
+        stages[0] = (Function<Object, Object>) function;
+        return stages;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T, R> FunctionPipelineX<T, R> concat(Function<Object, Object>[] first,
+                                                         Function<Object, Object>[] second) {
+        final Function<Object, Object>[] stages = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, stages, first.length, second.length);
+        return new FunctionPipelineX<>(stages);
+    }
+
+    /**
+     * Returns the number of stages.
+     *
+     * @return the number of stages
+     * @since 0.6.0
+     */
+    public int size() {
+        return stages.length;
+    }
+
+    /**
+     * Returns a pipeline that applies the given function after the stages of this pipeline.
+     * If the function is a {@code FunctionPipelineX}, its stages are added.
+     *
+     * @param after the function to apply after this pipeline
+     * @param <V>   the type of output of the {@code after} function, and of the pipeline
+     * @return a pipeline with the {@code after} function as the last stages
+     * @throws NullPointerException if {@code after} is {@code null}
+     * @since 0.6.0
+     */
+    public <V> FunctionPipelineX<T, V> then(Function<? super R, ? extends V> after) {
+        return concat(stages, stagesOf(Objects.requireNonNull(after, "The function must not be null")));
+    }
+
+    /**
+     * The same as {@link #then(Function)}.
+     *
+     * @param after the function to apply after this pipeline
+     * @param <V>   the type of output of the {@code after} function, and of the pipeline
+     * @return a pipeline with the {@code after} function as the last stages
+     * @throws NullPointerException if {@code after} is {@code null}
+     * @since 0.6.0
+     */
+    @Override
+    public <V> FunctionPipelineX<T, V> andThen(Function<? super R, ? extends V> after) {
+        return then(after);
+    }
+
+    /**
+     * Returns a pipeline that applies the given function before the stages of this pipeline.
+     * If the function is a {@code FunctionPipelineX}, its stages are added.
+     *
+     * @param before the function to apply before this pipeline
+     * @param <V>    the type of input to the {@code before} function, and to the pipeline
+     * @return a pipeline with the {@code before} function as the first stages
+     * @throws NullPointerException if {@code before} is {@code null}
+     * @since 0.6.0
+     */
+    @Override
+    public <V> FunctionPipelineX<V, R> compose(Function<? super V, ? extends T> before) {
+        return concat(stagesOf(Objects.requireNonNull(before, "The function must not be null")), stages);
+    }
+
+    /**
+     * Applies the stages in order to the input.
+     * If evaluation of a stage throws an exception, it is relayed to the caller.
+     *
+     * @param t the input
+     * @return the result of the last stage, or {@code t} if there are no stages
+     * @since 0.6.0
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public R apply(T t) {
+        Object value = t;
+        for (Function<Object, Object> stage : stages) {
+            value = stage.apply(value);
+        }
+        return (R) value;
+    }
+
+    /**
+     * Returns a non-empty string representation of this FunctionPipelineX.
+     *
+     * @return the string representation of this instance
+     * @since 0.6.0
+     */
+    @Override
+    public String toString() {
+        return "FunctionPipelineX[" + stages.length + " stages]";
+    }
+}
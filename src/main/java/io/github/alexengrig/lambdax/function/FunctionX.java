@@ -16,6 +16,8 @@
 
 package io.github.alexengrig.lambdax.function;
 
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
@@ -24,7 +26,7 @@ import java.util.function.Function;
  * for {@link java.util.function.Function}.</p>
  *
  * @author Grig Alex
- * @version 0.4.0
+ * @version 0.6.0
  * @see java.util.function.Function
  * @see java.util.function.BiFunction
  * @since 0.3.0
@@ -1551,4 +1553,192 @@ public final class FunctionX {
                 .compose(ab)
                 .compose(ta);
     }
+
+    /**
+     * Returns a function that caches results of the function by its input in an unbounded cache.
+     * A hit does not lock.
+     *
+     * @param function the function to memoize
+     * @param <T>      the type of the input to the {@code function}
+     * @param <R>      the type of output of the {@code function}
+     * @return a memoized function with the cache statistics
+     * @throws NullPointerException if {@code function} is {@code null}
+     * @see io.github.alexengrig.lambdax.function.MemoizedFunction
+     * @since 0.6.0
+     */
+    public static <T, R> MemoizedFunction<T, R> memoize(Function<? super T, ? extends R> function) {
+        return memoize(function, Memoizer.unbounded());
+    }
+
+    /**
+     * Returns a function that caches results of the function by its input in a cache with the settings.
+     * A hit does not lock.
+     *
+     * @param function the function to memoize
+     * @param memoizer the settings of the cache
+     * @param <T>      the type of the input to the {@code function}
+     * @param <R>      the type of output of the {@code function}
+     * @return a memoized function with the cache statistics
+     * @throws NullPointerException if {@code function} or {@code memoizer} is {@code null}
+     * @see io.github.alexengrig.lambdax.function.MemoizedFunction
+     * @see io.github.alexengrig.lambdax.function.Memoizer
+     * @since 0.6.0
+     */
+    public static <T, R> MemoizedFunction<T, R> memoize(Function<? super T, ? extends R> function, Memoizer memoizer) {
+        return MemoizedCache.of(function, memoizer);
+    }
+
+    /**
+     * Returns a function that caches results of the function by its inputs in an unbounded cache.
+     * A hit does not lock.
+     *
+     * @param function the function to memoize
+     * @param <T>      the type of the first input to the {@code function}
+     * @param <U>      the type of the second input to the {@code function}
+     * @param <R>      the type of output of the {@code function}
+     * @return a memoized function with the cache statistics
+     * @throws NullPointerException if {@code function} is {@code null}
+     * @see io.github.alexengrig.lambdax.function.MemoizedBiFunction
+     * @since 0.6.0
+     */
+    public static <T, U, R> MemoizedBiFunction<T, U, R> memoize(BiFunction<? super T, ? super U, ? extends R> function) {
+        return memoize(function, Memoizer.unbounded());
+    }
+
+    /**
+     * Returns a function that caches results of the function by its inputs in a cache with the settings.
+     * A hit does not lock.
+     *
+     * @param function the function to memoize
+     * @param memoizer the settings of the cache
+     * @param <T>      the type of the first input to the {@code function}
+     * @param <U>      the type of the second input to the {@code function}
+     * @param <R>      the type of output of the {@code function}
+     * @return a memoized function with the cache statistics
+     * @throws NullPointerException if {@code function} or {@code memoizer} is {@code null}
+     * @see io.github.alexengrig.lambdax.function.MemoizedBiFunction
+     * @see io.github.alexengrig.lambdax.function.Memoizer
+     * @since 0.6.0
+     */
+    public static <T, U, R> MemoizedBiFunction<T, U, R> memoize(
+            BiFunction<? super T, ? super U, ? extends R> function, Memoizer memoizer) {
+        return MemoizedCache.of(function, memoizer);
+    }
+
+    /**
+     * Returns a function that caches results of the function by its inputs in an unbounded cache.
+     * A hit does not lock.
+     *
+     * @param function the function to memoize
+     * @param <T>      the type of the first input to the {@code function}
+     * @param <U>      the type of the second input to the {@code function}
+     * @param <S>      the type of the third input to the {@code function}
+     * @param <R>      the type of output of the {@code function}
+     * @return a memoized function with the cache statistics
+     * @throws NullPointerException if {@code function} is {@code null}
+     * @see io.github.alexengrig.lambdax.function.MemoizedTerFunction
+     * @since 0.6.0
+     */
+    public static <T, U, S, R> MemoizedTerFunction<T, U, S, R> memoize(
+            TerFunction<? super T, ? super U, ? super S, ? extends R> function) {
+        return memoize(function, Memoizer.unbounded());
+    }
+
+    /**
+     * Returns a function that caches results of the function by its inputs in a cache with the settings.
+     * A hit does not lock.
+     *
+     * @param function the function to memoize
+     * @param memoizer the settings of the cache
+     * @param <T>      the type of the first input to the {@code function}
+     * @param <U>      the type of the second input to the {@code function}
+     * @param <S>      the type of the third input to the {@code function}
+     * @param <R>      the type of output of the {@code function}
+     * @return a memoized function with the cache statistics
+     * @throws NullPointerException if {@code function} or {@code memoizer} is {@code null}
+     * @see io.github.alexengrig.lambdax.function.MemoizedTerFunction
+     * @see io.github.alexengrig.lambdax.function.Memoizer
+     * @since 0.6.0
+     */
+    public static <T, U, S, R> MemoizedTerFunction<T, U, S, R> memoize(
+            TerFunction<? super T, ? super U, ? super S, ? extends R> function, Memoizer memoizer) {
+        return MemoizedCache.of(function, memoizer);
+    }
+
+    /**
+     * Returns a function that shares one in-flight computation of an input between concurrent callers.
+     * The first caller of an input applies the function,
+     * the others wait for and get the same result or the same exception.
+     * The result is not kept after the computation.
+     *
+     * @param function the function to apply
+     * @param <T>      the type of the input to the {@code function}
+     * @param <R>      the type of output of the {@code function}
+     * @return a single flight function
+     * @throws NullPointerException if {@code function} is {@code null}
+     * @since 0.6.0
+     */
+    public static <T, R> Function<T, R> singleFlight(Function<? super T, ? extends R> function) {
+        return new SingleFlightFunction<>(function, 0, System::nanoTime);
+    }
+
+    /**
+     * Returns a function that shares one in-flight computation of an input between concurrent callers,
+     * and keeps the result for the time to live.
+     * The first caller of an input applies the function,
+     * the others wait for and get the same result or the same exception.
+     * An exception is not kept, so the next caller applies the function again.
+     *
+     * @param function   the function to apply
+     * @param timeToLive the time to keep a result
+     * @param unit       the unit of {@code timeToLive}
+     * @param <T>        the type of the input to the {@code function}
+     * @param <R>        the type of output of the {@code function}
+     * @return a single flight function
+     * @throws NullPointerException     if {@code function} or {@code unit} is {@code null}
+     * @throws IllegalArgumentException if {@code timeToLive} is negative
+     * @since 0.6.0
+     */
+    public static <T, R> Function<T, R> singleFlight(
+            Function<? super T, ? extends R> function, long timeToLive, TimeUnit unit) {
+        if (timeToLive < 0) {
+            throw new IllegalArgumentException("The time to live must not be negative: " + timeToLive);
+        }
+        return new SingleFlightFunction<>(function,
+                Objects.requireNonNull(unit, "The time unit must not be null").toNanos(timeToLive), System::nanoTime);
+    }
+
+    /**
+     * Returns a pipeline without stages that keeps stages in a flat array and applies them in one loop.
+     * <p>
+     * Usage example:
+     * <pre>{@code
+     * Function<String, Integer> parse = FunctionX.<String>pipeline()
+     *         .then(String::trim)
+     *         .then(Integer::valueOf);
+     * }</pre>
+     *
+     * @param <T> the type of the input to the pipeline
+     * @return the pipeline without stages
+     * @see io.github.alexengrig.lambdax.function.FunctionPipelineX
+     * @since 0.6.0
+     */
+    public static <T> FunctionPipelineX<T, T> pipeline() {
+        return FunctionPipelineX.identity();
+    }
+
+    /**
+     * Returns a pipeline without stages that keeps stages in a flat array and applies them in one loop.
+     *
+     * @param type the type of the input to the pipeline
+     * @param <T>  the type of the input to the pipeline
+     * @return the pipeline without stages
+     * @throws NullPointerException if {@code type} is {@code null}
+     * @see io.github.alexengrig.lambdax.function.FunctionPipelineX
+     * @since 0.6.0
+     */
+    public static <T> FunctionPipelineX<T, T> pipeline(Class<T> type) {
+        Objects.requireNonNull(type, "The type must not be null");
+        return FunctionPipelineX.identity();
+    }
 }
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2019 - 2020 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.alexengrig.lambdax.function;
+
+/**
+ * A memoized function, which caches its results, with the cache statistics.
+ *
+ * @author Grig Alex
+ * @version 0.6.0
+ * @see io.github.alexengrig.lambdax.function.FunctionX#memoize(java.util.function.Function)
+ * @see io.github.alexengrig.lambdax.function.Memoizer
+ * @since 0.6.0
+ */
+public interface Memoized {
+    /**
+     * Returns the number of calls that returned a cached result.
+     *
+     * @return the number of hits
+     * @since 0.6.0
+     */
+    long hitCount();
+
+    /**
+     * Returns the number of calls that applied the function.
+     *
+     * @return the number of misses
+     * @since 0.6.0
+     */
+    long missCount();
+
+    /**
+     * Returns the number of results removed from the cache because of its size or expiration.
+     *
+     * @return the number of evictions
+     * @since 0.6.0
+     */
+    long evictionCount();
+
+    /**
+     * Returns the number of cached results, including expired ones not yet removed.
+     *
+     * @return the number of cached results
+     * @since 0.6.0
+     */
+    int size();
+
+    /**
+     * Removes all cached results, the statistics are kept.
+     *
+     * @since 0.6.0
+     */
+    void clear();
+}
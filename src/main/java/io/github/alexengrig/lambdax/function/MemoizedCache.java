@@ -0,0 +1,380 @@
+/*
+ * Copyright 2019 - 2020 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.alexengrig.lambdax.function;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * A cache of results of a memoized function.
+ *
+ * <p>
+ * A hit is a lock-free read of a {@link java.util.concurrent.ConcurrentHashMap}.
+ * A miss applies the function outside of any lock, so the function may call itself recursively;
+ * concurrent misses of the same key may apply the function more than once, the first stored result wins.
+ * When the size exceeds the maximum size, one thread samples up to 64 results,
+ * estimates the policy threshold of the excess with a slack of 1/16 of the maximum size
+ * and evicts the results below it in a second pass;
+ * a writer that finds an eviction running leaves its result to that thread,
+ * which repeats the eviction while the size exceeds the maximum size.
+ * The result that caused the eviction is kept, so a new result is not evicted before it is reused.
+ * Expired results are evicted when they are read or sorted, and swept out after as many writes
+ * as results were left by the previous sweep, at least 64,
+ * so results of keys that are never read again do not accumulate.
+ *
+ * @param <K> the type of keys
+ * @param <R> the type of results
+ * @author Grig Alex
+ * @version 0.6.0
+ * @see io.github.alexengrig.lambdax.function.Memoizer
+ * @since 0.6.0
+ */
+abstract class MemoizedCache<K, R> implements Memoized {
+    private static final Object NULL_KEY = new Object();
+    private static final int SWEEP_INTERVAL = 64;
+    private static final int SAMPLE_SIZE = 64;
+
+    private final ConcurrentHashMap<Object, Entry<R>> entries = new ConcurrentHashMap<>();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final AtomicInteger writesSinceSweep = new AtomicInteger();
+    private volatile int sweepInterval = SWEEP_INTERVAL;
+    private final Memoizer memoizer;
+    private final boolean tracksAccess;
+    private final boolean tracksTime;
+    private final boolean expires;
+
+    MemoizedCache(Memoizer memoizer) {
+        this.memoizer = Objects.requireNonNull(memoizer, "The memoizer must not be null");
+        this.tracksAccess = memoizer.tracksAccess();
+        this.tracksTime = memoizer.tracksTime();
+        this.expires = memoizer.expireAfterWriteNanos > 0 || memoizer.expireAfterAccessNanos > 0;
+    }
+
+    static <T, R> MemoizedFunction<T, R> of(Function<? super T, ? extends R> function, Memoizer memoizer) {
+        return new OfFunction<>(Objects.requireNonNull(function, "The function must not be null"), memoizer);
+    }
+
+    static <T, U, R> MemoizedBiFunction<T, U, R> of(
+            BiFunction<? super T, ? super U, ? extends R> function, Memoizer memoizer) {
+        return new OfBiFunction<>(Objects.requireNonNull(function, "The function must not be null"), memoizer);
+    }
+
+    static <T, U, S, R> MemoizedTerFunction<T, U, S, R> of(
+            TerFunction<? super T, ? super U, ? super S, ? extends R> function, Memoizer memoizer) {
+        return new OfTerFunction<>(Objects.requireNonNull(function, "The function must not be null"), memoizer);
+    }
+
+    final R get(K key, Function<? super K, ? extends R> loader) {
+        final Object mapKey = key == null ? NULL_KEY : key;
+        final Entry<R> entry = entries.get(mapKey);
+        if (entry != null) {
+            final long now = tracksTime ? memoizer.ticker.getAsLong() : 0;
+            if (!isExpired(entry, now)) {
+                if (tracksAccess) {
+                    entry.touch(now);
+                }
+                hits.increment();
+                return entry.result;
+            }
+            if (entries.remove(mapKey, entry)) {
+                evictions.increment();
+            }
+        }
+        misses.increment();
+        final R result = loader.apply(key);
+        final Entry<R> created = new Entry<>(result, tracksTime ? memoizer.ticker.getAsLong() : 0);
+        final Entry<R> existing = entries.putIfAbsent(mapKey, created);
+        if (existing == null) {
+            if (entries.size() > memoizer.maximumSize) {
+                evict(created);
+            } else if (expires && writesSinceSweep.incrementAndGet() >= sweepInterval) {
+                sweep();
+            }
+        }
+        return existing == null ? result : existing.result;
+    }
+
+    private boolean isExpired(Entry<R> entry, long now) {
+        return memoizer.expireAfterWriteNanos > 0 && now - entry.writeTime >= memoizer.expireAfterWriteNanos
+                || memoizer.expireAfterAccessNanos > 0 && now - entry.accessTime >= memoizer.expireAfterAccessNanos;
+    }
+
+    private void sweep() {
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            writesSinceSweep.set(0);
+            final long now = memoizer.ticker.getAsLong();
+            for (Map.Entry<Object, Entry<R>> e : entries.entrySet()) {
+                if (isExpired(e.getValue(), now) && entries.remove(e.getKey(), e.getValue())) {
+                    evictions.increment();
+                }
+            }
+            sweepInterval = Math.max(SWEEP_INTERVAL, entries.size());
+        } finally {
+            evicting.set(false);
+        }
+        if (entries.size() > memoizer.maximumSize) {
+            evict(null);
+        }
+    }
+
+    private void evict(Entry<R> created) {
+        do {
+            if (!evicting.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                evictExcess(created);
+            } finally {
+                evicting.set(false);
+            }
+        } while (entries.size() > memoizer.maximumSize);
+    }
+
+    private void evictExcess(Entry<R> created) {
+        final long now = memoizer.ticker.getAsLong();
+        final boolean lfu = memoizer.policy == Memoizer.Policy.LFU;
+        final long[] times = new long[SAMPLE_SIZE];
+        final int[] frequencies = new int[SAMPLE_SIZE];
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        int seen = 0;
+        for (Map.Entry<Object, Entry<R>> e : entries.entrySet()) {
+            final Entry<R> entry = e.getValue();
+            if (isExpired(entry, now)) {
+                if (entries.remove(e.getKey(), entry)) {
+                    evictions.increment();
+                }
+            } else if (entry != created) {
+                final int slot = seen < SAMPLE_SIZE ? seen : random.nextInt(seen + 1);
+                if (slot < SAMPLE_SIZE) {
+                    times[slot] = entry.accessTime;
+                    frequencies[slot] = lfu ? entry.frequency : 0;
+                }
+                seen++;
+            }
+        }
+        final int target = memoizer.maximumSize - (memoizer.maximumSize >> 4);
+        int excess = entries.size() - target;
+        if (excess <= 0 || seen == 0) {
+            return;
+        }
+        final int sampled = Math.min(seen, SAMPLE_SIZE);
+        sort(times, frequencies, sampled);
+        final int rank = (int) Math.min(sampled, ((long) excess * sampled + seen - 1) / seen);
+        final long thresholdTime = times[rank - 1];
+        final int thresholdFrequency = frequencies[rank - 1];
+        boolean evicted = false;
+        for (Map.Entry<Object, Entry<R>> e : entries.entrySet()) {
+            if (excess <= 0) {
+                return;
+            }
+            final Entry<R> entry = e.getValue();
+            if (entry != created
+                    && !isColder(thresholdTime, thresholdFrequency, entry.accessTime, lfu ? entry.frequency : 0)
+                    && entries.remove(e.getKey(), entry)) {
+                evictions.increment();
+                evicted = true;
+                excess--;
+            }
+        }
+        if (!evicted) {
+            // The sampled results were used meanwhile, evict in iteration order to make progress
+            for (Map.Entry<Object, Entry<R>> e : entries.entrySet()) {
+                if (excess <= 0) {
+                    return;
+                }
+                if (e.getValue() != created && entries.remove(e.getKey(), e.getValue())) {
+                    evictions.increment();
+                    excess--;
+                }
+            }
+        }
+    }
+
+    private static void sort(long[] times, int[] frequencies, int length) {
+        for (int i = 1; i < length; i++) {
+            final long time = times[i];
+            final int frequency = frequencies[i];
+            int j = i - 1;
+            while (j >= 0 && isColder(time, frequency, times[j], frequencies[j])) {
+                times[j + 1] = times[j];
+                frequencies[j + 1] = frequencies[j];
+                j--;
+            }
+            times[j + 1] = time;
+            frequencies[j + 1] = frequency;
+        }
+    }
+
+    private static boolean isColder(long time, int frequency, long otherTime, int otherFrequency) {
+        return frequency != otherFrequency ? frequency < otherFrequency : time < otherTime;
+    }
+
+    @Override
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    @Override
+    public long missCount() {
+        return misses.sum();
+    }
+
+    @Override
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    @Override
+    public int size() {
+        return entries.size();
+    }
+
+    @Override
+    public void clear() {
+        entries.clear();
+    }
+
+    @Override
+    public String toString() {
+        return "Memoized[size=" + size() + ", hits=" + hitCount() + ", misses=" + missCount()
+                + ", evictions=" + evictionCount() + "]";
+    }
+
+    /**
+     * A cached result with its usage.
+     * The usage is updated without synchronization, lost updates only affect the eviction order.
+     *
+     * @param <R> the type of result
+     * @since 0.6.0
+     */
+    static final class Entry<R> {
+        final R result;
+        final long writeTime;
+        volatile long accessTime;
+        int frequency;
+
+        Entry(R result, long writeTime) {
+            this.result = result;
+            this.writeTime = writeTime;
+            this.accessTime = writeTime;
+        }
+
+        void touch(long now) {
+            accessTime = now;
+            frequency++;
+        }
+    }
+
+    static final class OfFunction<T, R> extends MemoizedCache<T, R> implements MemoizedFunction<T, R> {
+        private final Function<? super T, ? extends R> function;
+
+        OfFunction(Function<? super T, ? extends R> function, Memoizer memoizer) {
+            super(memoizer);
+            this.function = function;
+        }
+
+        @Override
+        public R apply(T t) {
+            return get(t, function);
+        }
+    }
+
+    static final class OfBiFunction<T, U, R> extends MemoizedCache<Key<T, U, ?>, R>
+            implements MemoizedBiFunction<T, U, R> {
+        private final Function<Key<T, U, ?>, R> loader;
+
+        OfBiFunction(BiFunction<? super T, ? super U, ? extends R> function, Memoizer memoizer) {
+            super(memoizer);
+            this.loader = key -> function.apply(key.first, key.second);
+        }
+
+        @Override
+        public R apply(T t, U u) {
+            return get(new Key<>(t, u, null), loader);
+        }
+    }
+
+    static final class OfTerFunction<T, U, S, R> extends MemoizedCache<Key<T, U, S>, R>
+            implements MemoizedTerFunction<T, U, S, R> {
+        private final Function<Key<T, U, S>, R> loader;
+
+        OfTerFunction(TerFunction<? super T, ? super U, ? super S, ? extends R> function, Memoizer memoizer) {
+            super(memoizer);
+            this.loader = key -> function.apply(key.first, key.second, key.third);
+        }
+
+        @Override
+        public R apply(T t, U u, S s) {
+            return get(new Key<>(t, u, s), loader);
+        }
+    }
+
+    /**
+     * A composite key of nullable arguments.
+     *
+     * @param <T> the type of the first argument
+     * @param <U> the type of the second argument
+     * @param <S> the type of the third argument
+     * @since 0.6.0
+     */
+    static final class Key<T, U, S> {
+        final T first;
+        final U second;
+        final S third;
+        private final int hash;
+
+        Key(T first, U second, S third) {
+            this.first = first;
+            this.second = second;
+            this.third = third;
+            this.hash = (Objects.hashCode(first) * 31 + Objects.hashCode(second)) * 31 + Objects.hashCode(third);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key<?, ?, ?> other = (Key<?, ?, ?>) o;
+            return hash == other.hash
+                    && Objects.equals(first, other.first)
+                    && Objects.equals(second, other.second)
+                    && Objects.equals(third, other.third);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright 2019 - 2020 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.alexengrig.lambdax.function;
+
+import java.util.function.Function;
+
+/**
+ * A {@link java.util.function.Function} which caches its results.
+ *
+ * @author Grig Alex
+ * @version 0.6.0
+ * @see java.util.function.Function
+ * @see io.github.alexengrig.lambdax.function.Memoized
+ * @since 0.6.0
+ */
+public interface MemoizedFunction<T, R> extends Function<T, R>, Memoized {
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2019 - 2020 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.alexengrig.lambdax.function;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Settings of a cache of a memoized function:
+ * the maximum size with the eviction policy and the expiration.
+ * <p>
+ * Usage example:
+ * <pre>{@code
+ * MemoizedFunction<String, Locale> toLocale = FunctionX.memoize(Locale::forLanguageTag,
+ *         Memoizer.lru(1000).expireAfterWrite(10, TimeUnit.MINUTES));
+ * }</pre>
+ *
+ * <p>
+ * Instances are immutable, each setting method returns a new instance.
+ *
+ * @author Grig Alex
+ * @version 0.6.0
+ * @see io.github.alexengrig.lambdax.function.FunctionX#memoize(java.util.function.Function, Memoizer)
+ * @since 0.6.0
+ */
+public final class Memoizer {
+    private static final Memoizer UNBOUNDED = new Memoizer(Policy.NONE, Integer.MAX_VALUE, 0, 0, System::nanoTime);
+
+    final Policy policy;
+    final int maximumSize;
+    final long expireAfterWriteNanos;
+    final long expireAfterAccessNanos;
+    final LongSupplier ticker;
+
+    private Memoizer(Policy policy, int maximumSize,
+                     long expireAfterWriteNanos, long expireAfterAccessNanos, LongSupplier ticker) {
+        this.policy = policy;
+        this.maximumSize = maximumSize;
+        this.expireAfterWriteNanos = expireAfterWriteNanos;
+        this.expireAfterAccessNanos = expireAfterAccessNanos;
+        this.ticker = ticker;
+    }
+
+//    Create
+
+    /**
+     * Returns the settings of an unbounded cache without expiration.
+     *
+     * @return the settings of an unbounded cache
+     * @since 0.6.0
+     */
+    public static Memoizer unbounded() {
+        return UNBOUNDED;
+    }
+
+    /**
+     * Returns the settings of a cache that evicts the least recently used results
+     * when its size exceeds the maximum size.
+     *
+     * @param maximumSize the maximum number of cached results
+     * @return the settings of an LRU cache
+     * @throws IllegalArgumentException if {@code maximumSize} is not positive
+     * @since 0.6.0
+     */
+    public static Memoizer lru(int maximumSize) {
+        return new Memoizer(Policy.LRU, requirePositive(maximumSize), 0, 0, System::nanoTime);
+    }
+
+    /**
+     * Returns the settings of a cache that evicts the least frequently used results
+     * when its size exceeds the maximum size.
+     *
+     * @param maximumSize the maximum number of cached results
+     * @return the settings of an LFU cache
+     * @throws IllegalArgumentException if {@code maximumSize} is not positive
+     * @since 0.6.0
+     */
+    public static Memoizer lfu(int maximumSize) {
+        return new Memoizer(Policy.LFU, requirePositive(maximumSize), 0, 0, System::nanoTime);
+    }
+
+    private static int requirePositive(int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("The maximum size must be positive: " + maximumSize);
+        }
+        return maximumSize;
+    }
+
+    private static long toNanos(long duration, TimeUnit unit) {
+        if (duration <= 0) {
+            throw new IllegalArgumentException("The duration must be positive: " + duration);
+        }
+        return Objects.requireNonNull(unit, "The time unit must not be null").toNanos(duration);
+    }
+
+//    Settings
+
+    /**
+     * Returns these settings with the expiration of a result after the duration since it was computed.
+     *
+     * @param duration the duration
+     * @param unit     the unit of {@code duration}
+     * @return new settings with the expiration after write
+     * @throws IllegalArgumentException if {@code duration} is not positive
+     * @throws NullPointerException     if {@code unit} is {@code null}
+     * @since 0.6.0
+     */
+    public Memoizer expireAfterWrite(long duration, TimeUnit unit) {
+        return new Memoizer(policy, maximumSize, toNanos(duration, unit), expireAfterAccessNanos, ticker);
+    }
+
+    /**
+     * Returns these settings with the expiration of a result after the duration since it was last returned.
+     *
+     * @param duration the duration
+     * @param unit     the unit of {@code duration}
+     * @return new settings with the expiration after access
+     * @throws IllegalArgumentException if {@code duration} is not positive
+     * @throws NullPointerException     if {@code unit} is {@code null}
+     * @since 0.6.0
+     */
+    public Memoizer expireAfterAccess(long duration, TimeUnit unit) {
+        return new Memoizer(policy, maximumSize, expireAfterWriteNanos, toNanos(duration, unit), ticker);
+    }
+
+    /**
+     * Returns these settings with the source of nanosecond time.
+     *
+     * @param ticker the source of nanosecond time
+     * @return new settings with the ticker
+     * @since 0.6.0
+     */
+    Memoizer ticker(LongSupplier ticker) {
+        return new Memoizer(policy, maximumSize, expireAfterWriteNanos, expireAfterAccessNanos, ticker);
+    }
+
+    /**
+     * Whether a cache needs the time of the last access.
+     *
+     * @return {@code true} if the policy or the expiration depends on the last access
+     * @since 0.6.0
+     */
+    boolean tracksAccess() {
+        return policy != Policy.NONE || expireAfterAccessNanos > 0;
+    }
+
+    /**
+     * Whether a cache needs the current time.
+     *
+     * @return {@code true} if the policy or the expiration depends on time
+     * @since 0.6.0
+     */
+    boolean tracksTime() {
+        return tracksAccess() || expireAfterWriteNanos > 0;
+    }
+
+    /**
+     * Eviction policies.
+     *
+     * @since 0.6.0
+     */
+    enum Policy {
+        NONE, LRU, LFU
+    }
+}
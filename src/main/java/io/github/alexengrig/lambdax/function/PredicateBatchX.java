@@ -0,0 +1,261 @@
+/*
+ * Copyright 2019 - 2020 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.alexengrig.lambdax.function;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+
+/**
+ * Batch evaluation of a predicate over arrays and lists on a {@link java.util.concurrent.ForkJoinPool}.
+ *
+ * <p>
+ * Items are split into ranges by size, a range of at most {@link #MIN_RANGE} items is evaluated sequentially.
+ * Ranges start at multiples of 64, so each range of a bitmap writes its own words.
+ *
+ * @author Grig Alex
+ * @version 0.6.0
+ * @see io.github.alexengrig.lambdax.function.PredicateX#evaluate(Object[])
+ * @since 0.6.0
+ */
+final class PredicateBatchX {
+    /**
+     * The minimal number of items to evaluate in a task, a multiple of 64.
+     *
+     * @since 0.6.0
+     */
+    static final int MIN_RANGE = 1 << 12;
+
+    private PredicateBatchX() {
+    }
+
+    static <T> IntFunction<T> accessor(T[] items) {
+        Objects.requireNonNull(items, "The items must not be null");
+        return i -> items[i];
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> IntFunction<T> accessor(List<? extends T> items) {
+        Objects.requireNonNull(items, "The items must not be null");
+        if (items instanceof RandomAccess) {
+            return items::get;
+        }
+        final Object[] array = items.toArray();
+        return i -> (T) array[i];
+    }
+
+    static ForkJoinPool requirePool(ForkJoinPool pool) {
+        return Objects.requireNonNull(pool, "The pool must not be null");
+    }
+
+    private static int rangeOf(int size, ForkJoinPool pool) {
+        final int range = size / (pool.getParallelism() << 2);
+        return Math.max(MIN_RANGE, (range + 63) & ~63);
+    }
+
+    static <T> BitSet evaluate(int size, IntFunction<? extends T> items, Predicate<? super T> predicate,
+                               ForkJoinPool pool) {
+        Objects.requireNonNull(predicate, "The predicate must not be null");
+        final long[] words = new long[(size + 63) >>> 6];
+        final int range = rangeOf(size, pool);
+        if (size <= range) {
+            evaluate(items, predicate, words, 0, size);
+        } else {
+            pool.invoke(new EvaluateTask<>(items, predicate, words, 0, size, range));
+        }
+        return BitSet.valueOf(words);
+    }
+
+    private static <T> void evaluate(IntFunction<? extends T> items, Predicate<? super T> predicate,
+                                     long[] words, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (predicate.test(items.apply(i))) {
+                words[i >>> 6] |= 1L << i;
+            }
+        }
+    }
+
+    static <T> List<T> filter(int size, IntFunction<T> items, Predicate<? super T> predicate, ForkJoinPool pool) {
+        final BitSet matches = evaluate(size, items, predicate, pool);
+        final List<T> result = new ArrayList<>(matches.cardinality());
+        for (int i = matches.nextSetBit(0); i >= 0; i = matches.nextSetBit(i + 1)) {
+            result.add(items.apply(i));
+        }
+        return result;
+    }
+
+    static <T> long count(int size, IntFunction<? extends T> items, Predicate<? super T> predicate,
+                          ForkJoinPool pool) {
+        Objects.requireNonNull(predicate, "The predicate must not be null");
+        final int range = rangeOf(size, pool);
+        if (size <= range) {
+            return count(items, predicate, 0, size);
+        }
+        return pool.invoke(new CountTask<>(items, predicate, 0, size, range));
+    }
+
+    private static <T> long count(IntFunction<? extends T> items, Predicate<? super T> predicate, int from, int to) {
+        long count = 0;
+        for (int i = from; i < to; i++) {
+            if (predicate.test(items.apply(i))) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns whether any item matches the predicate, or does not match if {@code expected} is {@code false}.
+     * Tasks stop as soon as one of them finds such item.
+     */
+    static <T> boolean any(int size, IntFunction<? extends T> items, Predicate<? super T> predicate,
+                           boolean expected, ForkJoinPool pool) {
+        Objects.requireNonNull(predicate, "The predicate must not be null");
+        final AtomicBoolean found = new AtomicBoolean();
+        final int range = rangeOf(size, pool);
+        if (size <= range) {
+            any(items, predicate, expected, found, 0, size);
+        } else {
+            pool.invoke(new AnyTask<>(items, predicate, expected, found, 0, size, range));
+        }
+        return found.get();
+    }
+
+    private static <T> void any(IntFunction<? extends T> items, Predicate<? super T> predicate, boolean expected,
+                                AtomicBoolean found, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if ((i & 63) == 0 && found.get()) {
+                return;
+            }
+            if (predicate.test(items.apply(i)) == expected) {
+                found.set(true);
+                return;
+            }
+        }
+    }
+
+    private static int middle(int from, int to) {
+        return from + (((to - from) >>> 1) & ~63);
+    }
+
+    static final class EvaluateTask<T> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final IntFunction<? extends T> items;
+        private final Predicate<? super T> predicate;
+        private final long[] words;
+        private final int from;
+        private final int to;
+        private final int range;
+
+        EvaluateTask(IntFunction<? extends T> items, Predicate<? super T> predicate, long[] words,
+                     int from, int to, int range) {
+            this.items = items;
+            this.predicate = predicate;
+            this.words = words;
+            this.from = from;
+            this.to = to;
+            this.range = range;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= range) {
+                evaluate(items, predicate, words, from, to);
+            } else {
+                final int middle = middle(from, to);
+                invokeAll(new EvaluateTask<>(items, predicate, words, from, middle, range),
+                        new EvaluateTask<>(items, predicate, words, middle, to, range));
+            }
+        }
+    }
+
+    static final class CountTask<T> extends RecursiveTask<Long> {
+        private static final long serialVersionUID = 1L;
+
+        private final IntFunction<? extends T> items;
+        private final Predicate<? super T> predicate;
+        private final int from;
+        private final int to;
+        private final int range;
+
+        CountTask(IntFunction<? extends T> items, Predicate<? super T> predicate, int from, int to, int range) {
+            this.items = items;
+            this.predicate = predicate;
+            this.from = from;
+            this.to = to;
+            this.range = range;
+        }
+
+        @Override
+        protected Long compute() {
+            if (to - from <= range) {
+                return count(items, predicate, from, to);
+            }
+            final int middle = middle(from, to);
+            final CountTask<T> left = new CountTask<>(items, predicate, from, middle, range);
+            left.fork();
+            final long right = new CountTask<>(items, predicate, middle, to, range).compute();
+            return left.join() + right;
+        }
+    }
+
+    static final class AnyTask<T> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final IntFunction<? extends T> items;
+        private final Predicate<? super T> predicate;
+        private final boolean expected;
+        private final AtomicBoolean found;
+        private final int from;
+        private final int to;
+        private final int range;
+
+        AnyTask(IntFunction<? extends T> items, Predicate<? super T> predicate, boolean expected,
+                AtomicBoolean found, int from, int to, int range) {
+            this.items = items;
+            this.predicate = predicate;
+            this.expected = expected;
+            this.found = found;
+            this.from = from;
+            this.to = to;
+            this.range = range;
+        }
+
+        @Override
+        protected void compute() {
+            if (found.get()) {
+                return;
+            }
+            if (to - from <= range) {
+                any(items, predicate, expected, found, from, to);
+            } else {
+                final int middle = middle(from, to);
+                invokeAll(new AnyTask<>(items, predicate, expected, found, from, middle, range),
+                        new AnyTask<>(items, predicate, expected, found, middle, to, range));
+            }
+        }
+    }
+}
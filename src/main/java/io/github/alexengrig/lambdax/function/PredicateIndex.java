@@ -0,0 +1,394 @@
+/*
+ * Copyright 2019 - 2020 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.alexengrig.lambdax.function;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
+
+/**
+ * An index of predicates over a snapshot of items,
+ * which evaluates each registered predicate once per snapshot and keeps the result as a bitmap.
+ * Combinations of the predicates are answered by bitwise operations on the bitmaps
+ * instead of evaluation of each item.
+ * <p>
+ * Usage example:
+ * <pre>{@code
+ * PredicateIndex<Order> index = PredicateIndex.of(orders);
+ * PredicateIndex.Query<Order> large = index.register(order -> order.getTotal() > 100);
+ * PredicateIndex.Query<Order> paid = index.register(Order::isPaid);
+ * List<Order> largeUnpaid = large.and(paid.not()).filter();
+ * // a minute later
+ * index.update(newOrders);
+ * }</pre>
+ *
+ * <p>
+ * A bitmap is evaluated lazily, on the first query after registration or
+ * {@link #update(List)}, on the common {@link java.util.concurrent.ForkJoinPool}.
+ * A query uses one snapshot for all its predicates even if the index is updated concurrently.
+ *
+ * @param <T> the type of items
+ * @author Grig Alex
+ * @version 0.6.0
+ * @see io.github.alexengrig.lambdax.function.PredicateX#evaluate(List)
+ * @since 0.6.0
+ */
+public final class PredicateIndex<T> {
+    private volatile Snapshot<T> snapshot;
+
+    private PredicateIndex(List<? extends T> items) {
+        this.snapshot = new Snapshot<>(items);
+    }
+
+    /**
+     * Returns an index of predicates over the snapshot of items.
+     *
+     * <p>ATTENTION: The list must not be changed while it is the snapshot of the index,
+     * otherwise call {@link #invalidate()} after each change.
+     *
+     * @param items the snapshot of items
+     * @param <T>   the type of items
+     * @return an index of predicates without predicates
+     * @throws NullPointerException if {@code items} is {@code null}
+     * @since 0.6.0
+     */
+    public static <T> PredicateIndex<T> of(List<? extends T> items) {
+        return new PredicateIndex<>(Objects.requireNonNull(items, "The items must not be null"));
+    }
+
+    /**
+     * Registers the predicate and returns the query of it.
+     *
+     * @param predicate the predicate to register
+     * @return the query of {@code predicate}
+     * @throws NullPointerException if {@code predicate} is {@code null}
+     * @since 0.6.0
+     */
+    public Query<T> register(Predicate<? super T> predicate) {
+        return new Leaf<>(this, Objects.requireNonNull(predicate, "The predicate must not be null"));
+    }
+
+    /**
+     * Replaces the snapshot of items, the bitmaps of the previous snapshot are discarded.
+     *
+     * @param items the new snapshot of items
+     * @throws NullPointerException if {@code items} is {@code null}
+     * @since 0.6.0
+     */
+    public void update(List<? extends T> items) {
+        snapshot = new Snapshot<>(Objects.requireNonNull(items, "The items must not be null"));
+    }
+
+    /**
+     * Discards the bitmaps of the current snapshot, e.g. after the list of items was changed.
+     *
+     * @since 0.6.0
+     */
+    public void invalidate() {
+        snapshot = new Snapshot<>(snapshot.items);
+    }
+
+    /**
+     * Returns the number of items of the current snapshot.
+     *
+     * @return the number of items
+     * @since 0.6.0
+     */
+    public int size() {
+        return snapshot.size;
+    }
+
+    /**
+     * A snapshot of items, bitmaps are valid for one snapshot.
+     *
+     * @param <T> the type of items
+     * @since 0.6.0
+     */
+    static final class Snapshot<T> {
+        final List<? extends T> items;
+        final int size;
+
+        Snapshot(List<? extends T> items) {
+            this.items = items;
+            this.size = items.size();
+        }
+    }
+
+    /**
+     * A combination of the registered predicates of an index.
+     * All operations are lazy, the result is calculated by {@link #bits()}, {@link #count()} or {@link #filter()}.
+     *
+     * @param <T> the type of items
+     * @since 0.6.0
+     */
+    public abstract static class Query<T> {
+        final PredicateIndex<T> index;
+
+        Query(PredicateIndex<T> index) {
+            this.index = index;
+        }
+
+        /**
+         * Calculates the bitmap of this query against the snapshot.
+         *
+         * @param snapshot the snapshot of items
+         * @return a bitmap that may be changed by the caller
+         * @since 0.6.0
+         */
+        abstract BitSet bits(Snapshot<T> snapshot);
+
+        private Query<T> requireSameIndex(Query<T> other) {
+            if (Objects.requireNonNull(other, "The query must not be null").index != index) {
+                throw new IllegalArgumentException("The query belongs to another index");
+            }
+            return other;
+        }
+
+        /**
+         * Returns a query of the logical AND of this query and the other query.
+         *
+         * @param other the query of the same index
+         * @return a query of {@code this && other}
+         * @throws NullPointerException     if {@code other} is {@code null}
+         * @throws IllegalArgumentException if {@code other} belongs to another index
+         * @see java.util.BitSet#and(BitSet)
+         * @since 0.6.0
+         */
+        public Query<T> and(Query<T> other) {
+            return new Binary<>(Operation.AND, this, requireSameIndex(other));
+        }
+
+        /**
+         * Returns a query of the logical OR of this query and the other query.
+         *
+         * @param other the query of the same index
+         * @return a query of {@code this || other}
+         * @throws NullPointerException     if {@code other} is {@code null}
+         * @throws IllegalArgumentException if {@code other} belongs to another index
+         * @see java.util.BitSet#or(BitSet)
+         * @since 0.6.0
+         */
+        public Query<T> or(Query<T> other) {
+            return new Binary<>(Operation.OR, this, requireSameIndex(other));
+        }
+
+        /**
+         * Returns a query of the logical XOR of this query and the other query.
+         *
+         * @param other the query of the same index
+         * @return a query of {@code this ^ other}
+         * @throws NullPointerException     if {@code other} is {@code null}
+         * @throws IllegalArgumentException if {@code other} belongs to another index
+         * @see java.util.BitSet#xor(BitSet)
+         * @since 0.6.0
+         */
+        public Query<T> xor(Query<T> other) {
+            return new Binary<>(Operation.XOR, this, requireSameIndex(other));
+        }
+
+        /**
+         * Returns a query of the logical NAND of this query and the other query.
+         *
+         * @param other the query of the same index
+         * @return a query of {@code !(this && other)}
+         * @throws NullPointerException     if {@code other} is {@code null}
+         * @throws IllegalArgumentException if {@code other} belongs to another index
+         * @since 0.6.0
+         */
+        public Query<T> nand(Query<T> other) {
+            return and(other).not();
+        }
+
+        /**
+         * Returns a query of the logical NOR of this query and the other query.
+         *
+         * @param other the query of the same index
+         * @return a query of {@code !(this || other)}
+         * @throws NullPointerException     if {@code other} is {@code null}
+         * @throws IllegalArgumentException if {@code other} belongs to another index
+         * @since 0.6.0
+         */
+        public Query<T> nor(Query<T> other) {
+            return or(other).not();
+        }
+
+        /**
+         * Returns a query of the logical XNOR of this query and the other query.
+         *
+         * @param other the query of the same index
+         * @return a query of {@code !(this ^ other)}
+         * @throws NullPointerException     if {@code other} is {@code null}
+         * @throws IllegalArgumentException if {@code other} belongs to another index
+         * @since 0.6.0
+         */
+        public Query<T> xnor(Query<T> other) {
+            return xor(other).not();
+        }
+
+        /**
+         * Returns a query of the logical negation of this query.
+         *
+         * @return a query of {@code !this}
+         * @since 0.6.0
+         */
+        public Query<T> not() {
+            return new Not<>(this);
+        }
+
+        /**
+         * Returns the bitmap of the items of the current snapshot that match this query.
+         *
+         * @return a new bitmap of the matching items
+         * @since 0.6.0
+         */
+        public BitSet bits() {
+            return bits(index.snapshot);
+        }
+
+        /**
+         * Returns the number of the items of the current snapshot that match this query.
+         *
+         * @return the number of the matching items
+         * @since 0.6.0
+         */
+        public int count() {
+            return bits(index.snapshot).cardinality();
+        }
+
+        /**
+         * Returns the items of the current snapshot that match this query.
+         *
+         * @return a new list of the matching items in their order
+         * @since 0.6.0
+         */
+        public List<T> filter() {
+            final Snapshot<T> snapshot = index.snapshot;
+            final BitSet bits = bits(snapshot);
+            if (bits.isEmpty()) {
+                return Collections.emptyList();
+            }
+            final List<T> result = new ArrayList<>(bits.cardinality());
+            for (int i = bits.nextSetBit(0); i >= 0; i = bits.nextSetBit(i + 1)) {
+                result.add(snapshot.items.get(i));
+            }
+            return result;
+        }
+    }
+
+    /**
+     * A registered predicate with its bitmap of the last evaluated snapshot.
+     *
+     * @param <T> the type of items
+     * @since 0.6.0
+     */
+    static final class Leaf<T> extends Query<T> {
+        private final Predicate<? super T> predicate;
+        private volatile Evaluated<T> evaluated;
+
+        Leaf(PredicateIndex<T> index, Predicate<? super T> predicate) {
+            super(index);
+            this.predicate = predicate;
+        }
+
+        @Override
+        BitSet bits(Snapshot<T> snapshot) {
+            Evaluated<T> current = evaluated;
+            if (current == null || current.snapshot != snapshot) {
+                synchronized (this) {
+                    current = evaluated;
+                    if (current == null || current.snapshot != snapshot) {
+                        current = new Evaluated<>(snapshot, PredicateBatchX.evaluate(snapshot.size,
+                                PredicateBatchX.accessor(snapshot.items), predicate, ForkJoinPool.commonPool()));
+                        evaluated = current;
+                    }
+                }
+            }
+            return (BitSet) current.bits.clone();
+        }
+    }
+
+    /**
+     * A bitmap of a snapshot.
+     *
+     * @param <T> the type of items
+     * @since 0.6.0
+     */
+    static final class Evaluated<T> {
+        final Snapshot<T> snapshot;
+        final BitSet bits;
+
+        Evaluated(Snapshot<T> snapshot, BitSet bits) {
+            this.snapshot = snapshot;
+            this.bits = bits;
+        }
+    }
+
+    enum Operation {
+        AND, OR, XOR
+    }
+
+    static final class Binary<T> extends Query<T> {
+        private final Operation operation;
+        private final Query<T> left;
+        private final Query<T> right;
+
+        Binary(Operation operation, Query<T> left, Query<T> right) {
+            super(left.index);
+            this.operation = operation;
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        BitSet bits(Snapshot<T> snapshot) {
+            final BitSet bits = left.bits(snapshot);
+            switch (operation) {
+                case AND:
+                    if (!bits.isEmpty()) {
+                        bits.and(right.bits(snapshot));
+                    }
+                    break;
+                case OR:
+                    bits.or(right.bits(snapshot));
+                    break;
+                default:
+                    bits.xor(right.bits(snapshot));
+            }
+            return bits;
+        }
+    }
+
+    static final class Not<T> extends Query<T> {
+        private final Query<T> query;
+
+        Not(Query<T> query) {
+            super(query.index);
+            this.query = query;
+        }
+
+        @Override
+        BitSet bits(Snapshot<T> snapshot) {
+            final BitSet bits = query.bits(snapshot);
+            bits.flip(0, snapshot.size);
+            return bits;
+        }
+    }
+}
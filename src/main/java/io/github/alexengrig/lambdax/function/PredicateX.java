@@ -16,11 +16,20 @@
 
 package io.github.alexengrig.lambdax.function;
 
+import io.github.alexengrig.lambdax.DoublePredicateChainX;
+import io.github.alexengrig.lambdax.IntPredicateChainX;
+import io.github.alexengrig.lambdax.LongPredicateChainX;
 import io.github.alexengrig.lambdax.PredicateChainX;
 import io.github.alexengrig.lambdax.SafePredicateChainX;
 
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 import static java.util.Objects.requireNonNull;
 
@@ -82,6 +91,66 @@ public interface PredicateX<T> extends Predicate<T> {
         return SafePredicateChainX.of(mapper);
     }
 
+    /**
+     * Returns {@link io.github.alexengrig.lambdax.IntPredicateChainX} of a {@code int} mapping function,
+     * which compares raw primitives without boxing.
+     * <p>
+     * Usage example:
+     * <pre>{@code
+     * PredicateX.chainInt(Order::getQuantity).between(1, 10).orLie();
+     * }</pre>
+     *
+     * @param mapper the {@code int} mapping function
+     * @param <T>    the type of the input to the mapping function
+     * @return IntPredicateChainX of {@code mapper}
+     * @throws NullPointerException if {@code mapper} is {@code null}
+     * @see io.github.alexengrig.lambdax.IntPredicateChainX#of(ToIntFunction)
+     * @since 0.6.0
+     */
+    static <T> IntPredicateChainX<T> chainInt(ToIntFunction<T> mapper) {
+        return IntPredicateChainX.of(mapper);
+    }
+
+    /**
+     * Returns {@link io.github.alexengrig.lambdax.LongPredicateChainX} of a {@code long} mapping function,
+     * which compares raw primitives without boxing.
+     * <p>
+     * Usage example:
+     * <pre>{@code
+     * PredicateX.chainLong(Order::getQuantity).between(1, 10).orLie();
+     * }</pre>
+     *
+     * @param mapper the {@code long} mapping function
+     * @param <T>    the type of the input to the mapping function
+     * @return LongPredicateChainX of {@code mapper}
+     * @throws NullPointerException if {@code mapper} is {@code null}
+     * @see io.github.alexengrig.lambdax.LongPredicateChainX#of(ToLongFunction)
+     * @since 0.6.0
+     */
+    static <T> LongPredicateChainX<T> chainLong(ToLongFunction<T> mapper) {
+        return LongPredicateChainX.of(mapper);
+    }
+
+    /**
+     * Returns {@link io.github.alexengrig.lambdax.DoublePredicateChainX} of a {@code double} mapping function,
+     * which compares raw primitives without boxing.
+     * <p>
+     * Usage example:
+     * <pre>{@code
+     * PredicateX.chainDouble(Order::getQuantity).between(1, 10).orLie();
+     * }</pre>
+     *
+     * @param mapper the {@code double} mapping function
+     * @param <T>    the type of the input to the mapping function
+     * @return DoublePredicateChainX of {@code mapper}
+     * @throws NullPointerException if {@code mapper} is {@code null}
+     * @see io.github.alexengrig.lambdax.DoublePredicateChainX#of(ToDoubleFunction)
+     * @since 0.6.0
+     */
+    static <T> DoublePredicateChainX<T> chainDouble(ToDoubleFunction<T> mapper) {
+        return DoublePredicateChainX.of(mapper);
+    }
+
     /**
      * Returns the predicate:
      * <pre>{@code
@@ -137,14 +206,12 @@ public interface PredicateX<T> extends Predicate<T> {
      * @param second the predicate that will be logically-ANDed with the {@code first}
      * @return the composed predicate that represents the short-circuiting logical
      * AND of the {@code first} predicate and the {@code second} predicate
-     * @throws NullPointerException if {@code first} is {@code null}
-     *                              or if {@code first} is {@code true} and {@code second} is {@code null}
+     * @throws NullPointerException if {@code first} or {@code second} is {@code null}
      * @see java.util.function.Predicate#and(java.util.function.Predicate)
      * @since 0.3.0
      */
     static <T> PredicateX<T> and(Predicate<? super T> first, Predicate<? super T> second) {
-        return t -> requireNonNull(first, "The first predicate must not be null").test(t)
-                && requireNonNull(second, "The second predicate must not be null").test(t);
+        return CompositePredicateX.and(first, second, CompositePredicateX.none());
     }
 
     /**
@@ -161,18 +228,15 @@ public interface PredicateX<T> extends Predicate<T> {
      *               starting from the result of the {@code first} and the {@code first}
      * @return the composed predicate that represents the short-circuiting logical
      * AND of the {@code first} predicate, the {@code second} predicate and the {@code others} predicates
-     * @throws NullPointerException if any predicate is {@code null} and previous is {@code true}
+     * @throws NullPointerException if any predicate is {@code null}
      * @see #and(java.util.function.Predicate, java.util.function.Predicate)
      * @since 0.3.0
      */
     @SafeVarargs
+    @SuppressWarnings("varargs")
     static <T> PredicateX<T> and(Predicate<? super T> first, Predicate<? super T> second,
                                  Predicate<? super T>... others) {
-        PredicateX<T> predicate = and(first, second);
-        for (Predicate<? super T> other : others) {
-            predicate = and(predicate, other);
-        }
-        return predicate;
+        return CompositePredicateX.and(first, second, others);
     }
 
     /**
@@ -188,14 +252,12 @@ public interface PredicateX<T> extends Predicate<T> {
      * @param second the predicate that will be logically-ORed with the {@code first}
      * @return the composed predicate that represents the short-circuiting logical
      * OR of the {@code first} predicate and the {@code second} predicate
-     * @throws NullPointerException if {@code first} is {@code null}
-     *                              or if {@code first} is {@code false} and {@code second} is {@code null}
+     * @throws NullPointerException if {@code first} or {@code second} is {@code null}
      * @see java.util.function.Predicate#or(java.util.function.Predicate)
      * @since 0.3.0
      */
     static <T> PredicateX<T> or(Predicate<? super T> first, Predicate<? super T> second) {
-        return t -> requireNonNull(first, "The first predicate must not be null").test(t)
-                || requireNonNull(second, "The second predicate must not be null").test(t);
+        return CompositePredicateX.or(first, second, CompositePredicateX.none());
     }
 
     /**
@@ -212,18 +274,71 @@ public interface PredicateX<T> extends Predicate<T> {
      *               starting from the result of the {@code first} and the {@code second}
      * @return the composed predicate that represents the short-circuiting logical
      * OR of the {@code first} predicate, the {@code second} predicate and the {@code others} predicates
-     * @throws NullPointerException if any predicate is {@code null} and previous is {@code false}
+     * @throws NullPointerException if any predicate is {@code null}
      * @see #or(java.util.function.Predicate, java.util.function.Predicate)
      * @since 0.3.0
      */
     @SafeVarargs
+    @SuppressWarnings("varargs")
     static <T> PredicateX<T> or(Predicate<? super T> first, Predicate<? super T> second,
                                 Predicate<? super T>... others) {
-        PredicateX<T> predicate = or(first, second);
-        for (Predicate<? super T> other : others) {
-            predicate = or(predicate, other);
-        }
-        return predicate;
+        return CompositePredicateX.or(first, second, others);
+    }
+
+    /**
+     * Returns a composed predicate that represents a short-circuiting logical AND of predicates,
+     * which reorders the predicates by observed selectivity and cost.
+     * <p>
+     * Some evaluations are sampled to record the pass rate and the evaluation time of each predicate,
+     * and periodically the predicates are reordered so that cheap, highly selective ones run first.
+     * <p>
+     * ATTENTION: By calling this method the caller declares that the predicates are
+     * commutative and side-effect-free, i.e. the result does not depend on the order of their evaluation.
+     *
+     * @param <T>    the type of arguments to the predicate
+     * @param first  the predicate that will be logically-ANDed with the {@code second}
+     * @param second the predicate that will be logically-ANDed with the {@code first}
+     * @param others the predicates that will be logically-ANDed with the {@code first} and the {@code second}
+     * @return the composed thread-safe predicate that represents the short-circuiting logical
+     * AND of the {@code first} predicate, the {@code second} predicate and the {@code others} predicates
+     * @throws NullPointerException if any predicate is {@code null}
+     * @see #and(java.util.function.Predicate, java.util.function.Predicate, java.util.function.Predicate[])
+     * @since 0.6.0
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    static <T> PredicateX<T> adaptiveAnd(Predicate<? super T> first, Predicate<? super T> second,
+                                         Predicate<? super T>... others) {
+        return new AdaptivePredicateX.And<>(AdaptivePredicateX.operands(first, second, others),
+                AdaptivePredicateX.SAMPLE_RATE, AdaptivePredicateX.PERIOD);
+    }
+
+    /**
+     * Returns a composed predicate that represents a short-circuiting logical OR of predicates,
+     * which reorders the predicates by observed selectivity and cost.
+     * <p>
+     * Some evaluations are sampled to record the pass rate and the evaluation time of each predicate,
+     * and periodically the predicates are reordered so that cheap, highly selective ones run first.
+     * <p>
+     * ATTENTION: By calling this method the caller declares that the predicates are
+     * commutative and side-effect-free, i.e. the result does not depend on the order of their evaluation.
+     *
+     * @param <T>    the type of arguments to the predicate
+     * @param first  the predicate that will be logically-ORed with the {@code second}
+     * @param second the predicate that will be logically-ORed with the {@code first}
+     * @param others the predicates that will be logically-ORed with the {@code first} and the {@code second}
+     * @return the composed thread-safe predicate that represents the short-circuiting logical
+     * OR of the {@code first} predicate, the {@code second} predicate and the {@code others} predicates
+     * @throws NullPointerException if any predicate is {@code null}
+     * @see #or(java.util.function.Predicate, java.util.function.Predicate, java.util.function.Predicate[])
+     * @since 0.6.0
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    static <T> PredicateX<T> adaptiveOr(Predicate<? super T> first, Predicate<? super T> second,
+                                        Predicate<? super T>... others) {
+        return new AdaptivePredicateX.Or<>(AdaptivePredicateX.operands(first, second, others),
+                AdaptivePredicateX.SAMPLE_RATE, AdaptivePredicateX.PERIOD);
     }
 
     /**
@@ -239,8 +354,7 @@ public interface PredicateX<T> extends Predicate<T> {
      * @since 0.3.0
      */
     static <T> PredicateX<T> xor(Predicate<? super T> first, Predicate<? super T> second) {
-        return t -> requireNonNull(first, "The first predicate must not be null").test(t)
-                ^ requireNonNull(second, "The second predicate must not be null").test(t);
+        return CompositePredicateX.xor(first, second, CompositePredicateX.none());
     }
 
     /**
@@ -258,13 +372,10 @@ public interface PredicateX<T> extends Predicate<T> {
      * @since 0.3.0
      */
     @SafeVarargs
+    @SuppressWarnings("varargs")
     static <T> PredicateX<T> xor(Predicate<? super T> first, Predicate<? super T> second,
                                  Predicate<? super T>... others) {
-        PredicateX<T> predicate = xor(first, second);
-        for (Predicate<? super T> other : others) {
-            predicate = xor(predicate, other);
-        }
-        return predicate;
+        return CompositePredicateX.xor(first, second, others);
     }
 
     /**
@@ -280,13 +391,11 @@ public interface PredicateX<T> extends Predicate<T> {
      * @param second the predicate that will be logically-NANDed with the {@code first}
      * @return the composed predicate that represents the short-circuiting logical
      * NAND of the {@code first} predicate and the {@code second} predicate
-     * @throws NullPointerException if any predicate is {@code null}
-     *                              or if {@code first} is {@code true} and {@code second} is {@code null}
+     * @throws NullPointerException if {@code first} or {@code second} is {@code null}
      * @since 0.3.0
      */
     static <T> PredicateX<T> nand(Predicate<? super T> first, Predicate<? super T> second) {
-        return t -> !(requireNonNull(first, "The first predicate must not be null").test(t)
-                && requireNonNull(second, "The second predicate must not be null").test(t));
+        return CompositePredicateX.nand(first, second, CompositePredicateX.none());
     }
 
     /**
@@ -301,18 +410,15 @@ public interface PredicateX<T> extends Predicate<T> {
      *               starting from the result of the {@code first} and the {@code second}
      * @return the composed predicate that represents the short-circuiting logical
      * NAND of the {@code first} predicate, the {@code second} predicate and the {@code others} predicates
-     * @throws NullPointerException if any predicate is {@code null} and previous is {@code true}
+     * @throws NullPointerException if any predicate is {@code null}
      * @see #nand(java.util.function.Predicate, java.util.function.Predicate)
      * @since 0.3.0
      */
     @SafeVarargs
+    @SuppressWarnings("varargs")
     static <T> PredicateX<T> nand(Predicate<? super T> first, Predicate<? super T> second,
                                   Predicate<? super T>... others) {
-        PredicateX<T> predicate = nand(first, second);
-        for (Predicate<? super T> other : others) {
-            predicate = nand(predicate, other);
-        }
-        return predicate;
+        return CompositePredicateX.nand(first, second, others);
     }
 
     /**
@@ -327,11 +433,12 @@ public interface PredicateX<T> extends Predicate<T> {
      * @param second a predicate that will be logically-NORed with the {@code first}
      * @return a composed predicate that represents the short-circuiting logical
      * NOR of the {@code first} predicate and the {@code second} predicate
+     * @throws NullPointerException if {@code first} or {@code second} is {@code null}
      * @see java.util.function.Predicate
      * @since 0.3.0
      */
     static <T> PredicateX<T> nor(Predicate<? super T> first, Predicate<? super T> second) {
-        return t -> !(first.test(t) || second.test(t));
+        return CompositePredicateX.nor(first, second, CompositePredicateX.none());
     }
 
     /**
@@ -347,18 +454,16 @@ public interface PredicateX<T> extends Predicate<T> {
      *               starting from the result of the {@code first} and the {@code second}
      * @return a composed predicate that represents the short-circuiting logical
      * NOR of the {@code first} predicate, the {@code second} predicate and the {@code others} predicates
+     * @throws NullPointerException if any predicate is {@code null}
      * @see java.util.function.Predicate
      * @see #nor(java.util.function.Predicate, java.util.function.Predicate)
      * @since 0.3.0
      */
     @SafeVarargs
+    @SuppressWarnings("varargs")
     static <T> PredicateX<T> nor(Predicate<? super T> first, Predicate<? super T> second,
                                  Predicate<? super T>... others) {
-        PredicateX<T> predicate = nor(first, second);
-        for (Predicate<? super T> other : others) {
-            predicate = nor(predicate, other);
-        }
-        return predicate;
+        return CompositePredicateX.nor(first, second, others);
     }
 
     /**
@@ -370,11 +475,12 @@ public interface PredicateX<T> extends Predicate<T> {
      * @param second a predicate that will be logically-XNORed with the {@code first}
      * @return a composed predicate that represents the short-circuiting logical
      * XNOR of the {@code first} predicate and the {@code second} predicate
+     * @throws NullPointerException if {@code first} or {@code second} is {@code null}
      * @see java.util.function.Predicate
      * @since 0.3.0
      */
     static <T> PredicateX<T> xnor(Predicate<? super T> first, Predicate<? super T> second) {
-        return t -> first.test(t) == second.test(t);
+        return CompositePredicateX.xnor(first, second, CompositePredicateX.none());
     }
 
     /**
@@ -387,32 +493,238 @@ public interface PredicateX<T> extends Predicate<T> {
      *               starting from the result of the {@code first} and the {@code second}
      * @return a composed predicate that represents the short-circuiting logical
      * XNOR of the {@code first} predicate and the {@code second} predicate
+     * @throws NullPointerException if any predicate is {@code null}
      * @see java.util.function.Predicate
      * @since 0.3.0
      */
     @SafeVarargs
+    @SuppressWarnings("varargs")
     static <T> PredicateX<T> xnor(Predicate<? super T> first, Predicate<? super T> second,
                                   Predicate<? super T>... others) {
-        PredicateX<T> predicate = xnor(first, second);
-        for (Predicate<? super T> other : others) {
-            predicate = xnor(predicate, other);
-        }
-        return predicate;
+        return CompositePredicateX.xnor(first, second, others);
+    }
+
+    /**
+     * Returns the items that match the predicate in their order, evaluating the predicate in parallel on the common {@link java.util.concurrent.ForkJoinPool}.
+     * The items are split into ranges by size.
+     *
+     * @param items     the items
+     * @param predicate the predicate to apply to the items
+     * @param <T>       the type of the items
+     * @return a new list of the matching items
+     * @throws NullPointerException if {@code items} or {@code predicate} is {@code null}
+     * @since 0.6.0
+     */
+    static <T> List<T> filterParallel(List<T> items, Predicate<? super T> predicate) {
+        return PredicateBatchX.filter(items.size(), PredicateBatchX.accessor(items), predicate, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Returns the items that match the predicate in their order, evaluating the predicate in parallel on the pool.
+     * The items are split into ranges by size.
+     *
+     * @param items     the items
+     * @param predicate the predicate to apply to the items
+     * @param pool      the pool to run on
+     * @param <T>       the type of the items
+     * @return a new list of the matching items
+     * @throws NullPointerException if {@code items}, {@code predicate} or {@code pool} is {@code null}
+     * @since 0.6.0
+     */
+    static <T> List<T> filterParallel(List<T> items, Predicate<? super T> predicate, ForkJoinPool pool) {
+        return PredicateBatchX.filter(items.size(), PredicateBatchX.accessor(items), predicate, PredicateBatchX.requirePool(pool));
+    }
+
+    /**
+     * Returns the number of the items that match the predicate, evaluating the predicate in parallel on the common {@link java.util.concurrent.ForkJoinPool}.
+     * The items are split into ranges by size.
+     *
+     * @param items     the items
+     * @param predicate the predicate to apply to the items
+     * @param <T>       the type of the items
+     * @return the number of the matching items
+     * @throws NullPointerException if {@code items} or {@code predicate} is {@code null}
+     * @since 0.6.0
+     */
+    static <T> long countMatches(T[] items, Predicate<? super T> predicate) {
+        return PredicateBatchX.count(items.length, PredicateBatchX.accessor(items), predicate, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Returns the number of the items that match the predicate, evaluating the predicate in parallel on the pool.
+     * The items are split into ranges by size.
+     *
+     * @param items     the items
+     * @param predicate the predicate to apply to the items
+     * @param pool      the pool to run on
+     * @param <T>       the type of the items
+     * @return the number of the matching items
+     * @throws NullPointerException if {@code items}, {@code predicate} or {@code pool} is {@code null}
+     * @since 0.6.0
+     */
+    static <T> long countMatches(T[] items, Predicate<? super T> predicate, ForkJoinPool pool) {
+        return PredicateBatchX.count(items.length, PredicateBatchX.accessor(items), predicate, PredicateBatchX.requirePool(pool));
+    }
+
+    /**
+     * Returns whether any of the items matches the predicate, evaluating the predicate in parallel on the common {@link java.util.concurrent.ForkJoinPool}.
+     * The items are split into ranges by size.
+     *
+     * @param items     the items
+     * @param predicate the predicate to apply to the items
+     * @param <T>       the type of the items
+     * @return {@code true} if any of the items matches {@code predicate}, otherwise {@code false}
+     * @throws NullPointerException if {@code items} or {@code predicate} is {@code null}
+     * @since 0.6.0
+     */
+    static <T> boolean anyMatch(T[] items, Predicate<? super T> predicate) {
+        return PredicateBatchX.any(items.length, PredicateBatchX.accessor(items), predicate, true, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Returns whether any of the items matches the predicate, evaluating the predicate in parallel on the pool.
+     * The items are split into ranges by size.
+     *
+     * @param items     the items
+     * @param predicate the predicate to apply to the items
+     * @param pool      the pool to run on
+     * @param <T>       the type of the items
+     * @return {@code true} if any of the items matches {@code predicate}, otherwise {@code false}
+     * @throws NullPointerException if {@code items}, {@code predicate} or {@code pool} is {@code null}
+     * @since 0.6.0
+     */
+    static <T> boolean anyMatch(T[] items, Predicate<? super T> predicate, ForkJoinPool pool) {
+        return PredicateBatchX.any(items.length, PredicateBatchX.accessor(items), predicate, true, PredicateBatchX.requirePool(pool));
+    }
+
+    /**
+     * Returns whether all of the items match the predicate, evaluating the predicate in parallel on the common {@link java.util.concurrent.ForkJoinPool}.
+     * The items are split into ranges by size.
+     *
+     * @param items     the items
+     * @param predicate the predicate to apply to the items
+     * @param <T>       the type of the items
+     * @return {@code true} if all of the items match {@code predicate} or there are no items, otherwise {@code false}
+     * @throws NullPointerException if {@code items} or {@code predicate} is {@code null}
+     * @since 0.6.0
+     */
+    static <T> boolean allMatch(T[] items, Predicate<? super T> predicate) {
+        return !PredicateBatchX.any(items.length, PredicateBatchX.accessor(items), predicate, false, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Returns whether all of the items match the predicate, evaluating the predicate in parallel on the pool.
+     * The items are split into ranges by size.
+     *
+     * @param items     the items
+     * @param predicate the predicate to apply to the items
+     * @param pool      the pool to run on
+     * @param <T>       the type of the items
+     * @return {@code true} if all of the items match {@code predicate} or there are no items, otherwise {@code false}
+     * @throws NullPointerException if {@code items}, {@code predicate} or {@code pool} is {@code null}
+     * @since 0.6.0
+     */
+    static <T> boolean allMatch(T[] items, Predicate<? super T> predicate, ForkJoinPool pool) {
+        return !PredicateBatchX.any(items.length, PredicateBatchX.accessor(items), predicate, false, PredicateBatchX.requirePool(pool));
+    }
+
+    @Override
+    default PredicateX<T> and(Predicate<? super T> other) {
+        return PredicateX.and(this, other);
+    }
+
+    @Override
+    default PredicateX<T> or(Predicate<? super T> other) {
+        return PredicateX.or(this, other);
     }
 
     default PredicateX<T> xor(Predicate<? super T> other) {
-        return t -> test(t) ^ other.test(t);
+        return PredicateX.xor(this, other);
     }
 
     default PredicateX<T> nand(Predicate<? super T> other) {
-        return t -> !(test(t) && other.test(t));
+        return PredicateX.nand(this, other);
     }
 
     default PredicateX<T> nor(Predicate<? super T> other) {
-        return t -> !(test(t) || other.test(t));
+        return PredicateX.nor(this, other);
     }
 
     default PredicateX<T> xnor(Predicate<? super T> other) {
-        return t -> test(t) == other.test(t);
+        return PredicateX.xnor(this, other);
+    }
+
+    /**
+     * Returns the bitmap of the items that match this predicate, evaluating it in parallel on the common {@link java.util.concurrent.ForkJoinPool}.
+     * The bit at an index is set if the item at the index matches.
+     * <p>
+     * Bitmaps of several predicates over the same items may be combined
+     * by {@link java.util.BitSet#and(java.util.BitSet)} and {@link java.util.BitSet#or(java.util.BitSet)}
+     * instead of evaluating them again.
+     *
+     * @param items the items
+     * @return the bitmap of the matching items
+     * @throws NullPointerException if {@code items} is {@code null}
+     * @see java.util.BitSet
+     * @since 0.6.0
+     */
+    default BitSet evaluate(T[] items) {
+        return PredicateBatchX.evaluate(items.length, PredicateBatchX.accessor(items), this, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Returns the bitmap of the items that match this predicate, evaluating it in parallel on the pool.
+     * The bit at an index is set if the item at the index matches.
+     * <p>
+     * Bitmaps of several predicates over the same items may be combined
+     * by {@link java.util.BitSet#and(java.util.BitSet)} and {@link java.util.BitSet#or(java.util.BitSet)}
+     * instead of evaluating them again.
+     *
+     * @param items the items
+     * @param pool  the pool to run on
+     * @return the bitmap of the matching items
+     * @throws NullPointerException if {@code items} or {@code pool} is {@code null}
+     * @see java.util.BitSet
+     * @since 0.6.0
+     */
+    default BitSet evaluate(T[] items, ForkJoinPool pool) {
+        return PredicateBatchX.evaluate(items.length, PredicateBatchX.accessor(items), this, PredicateBatchX.requirePool(pool));
+    }
+
+    /**
+     * Returns the bitmap of the items that match this predicate, evaluating it in parallel on the common {@link java.util.concurrent.ForkJoinPool}.
+     * The bit at an index is set if the item at the index matches.
+     * <p>
+     * Bitmaps of several predicates over the same items may be combined
+     * by {@link java.util.BitSet#and(java.util.BitSet)} and {@link java.util.BitSet#or(java.util.BitSet)}
+     * instead of evaluating them again.
+     *
+     * @param items the items
+     * @return the bitmap of the matching items
+     * @throws NullPointerException if {@code items} is {@code null}
+     * @see java.util.BitSet
+     * @since 0.6.0
+     */
+    default BitSet evaluate(List<? extends T> items) {
+        return PredicateBatchX.evaluate(items.size(), PredicateBatchX.accessor(items), this, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Returns the bitmap of the items that match this predicate, evaluating it in parallel on the pool.
+     * The bit at an index is set if the item at the index matches.
+     * <p>
+     * Bitmaps of several predicates over the same items may be combined
+     * by {@link java.util.BitSet#and(java.util.BitSet)} and {@link java.util.BitSet#or(java.util.BitSet)}
+     * instead of evaluating them again.
+     *
+     * @param items the items
+     * @param pool  the pool to run on
+     * @return the bitmap of the matching items
+     * @throws NullPointerException if {@code items} or {@code pool} is {@code null}
+     * @see java.util.BitSet
+     * @since 0.6.0
+     */
+    default BitSet evaluate(List<? extends T> items, ForkJoinPool pool) {
+        return PredicateBatchX.evaluate(items.size(), PredicateBatchX.accessor(items), this, PredicateBatchX.requirePool(pool));
     }
 }
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2019 - 2020 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.alexengrig.lambdax.function;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * A function that shares one in-flight computation of a key between concurrent callers.
+ *
+ * <p>
+ * The first caller of a key applies the function in its own thread,
+ * the others wait for its result or its exception.
+ * A result may be kept for a time to live, an exception is never kept.
+ * Expired results are removed when their key is requested again, and swept out after as many new flights
+ * as results were left by the previous sweep, at least 64, so keys that are never requested again do not accumulate.
+ *
+ * @param <T> the type of the input to the function
+ * @param <R> the type of the result of the function
+ * @author Grig Alex
+ * @version 0.6.0
+ * @see io.github.alexengrig.lambdax.function.FunctionX#singleFlight(Function)
+ * @since 0.6.0
+ */
+final class SingleFlightFunction<T, R> implements Function<T, R> {
+    private static final Object NULL_KEY = new Object();
+    private static final int SWEEP_INTERVAL = 64;
+
+    private final ConcurrentHashMap<Object, Flight<R>> flights = new ConcurrentHashMap<>();
+    private final Function<? super T, ? extends R> function;
+    private final long timeToLiveNanos;
+    private final LongSupplier ticker;
+    private final AtomicInteger flightsSinceSweep = new AtomicInteger();
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+    private volatile int sweepInterval = SWEEP_INTERVAL;
+
+    SingleFlightFunction(Function<? super T, ? extends R> function, long timeToLiveNanos, LongSupplier ticker) {
+        this.function = Objects.requireNonNull(function, "The function must not be null");
+        this.timeToLiveNanos = timeToLiveNanos;
+        this.ticker = ticker;
+    }
+
+    @Override
+    public R apply(T t) {
+        final Object key = t == null ? NULL_KEY : t;
+        while (true) {
+            final Flight<R> flight = flights.get(key);
+            if (flight == null) {
+                final Flight<R> created = new Flight<>(Thread.currentThread());
+                if (flights.putIfAbsent(key, created) == null) {
+                    if (timeToLiveNanos > 0 && flightsSinceSweep.incrementAndGet() >= sweepInterval) {
+                        sweep();
+                    }
+                    return fly(key, t, created);
+                }
+            } else if (flight.isExpired(ticker)) {
+                flights.remove(key, flight);
+            } else {
+                return flight.await();
+            }
+        }
+    }
+
+    int size() {
+        return flights.size();
+    }
+
+    private void sweep() {
+        if (!sweeping.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            flightsSinceSweep.set(0);
+            flights.values().removeIf(flight -> flight.isExpired(ticker));
+            sweepInterval = Math.max(SWEEP_INTERVAL, flights.size());
+        } finally {
+            sweeping.set(false);
+        }
+    }
+
+    private R fly(Object key, T t, Flight<R> flight) {
+        final R result;
+        try {
+            result = function.apply(t);
+        } catch (Throwable throwable) {
+            flights.remove(key, flight);
+            flight.future.completeExceptionally(throwable);
+            throw throwable;
+        }
+        if (timeToLiveNanos > 0) {
+            flight.expiresAt = ticker.getAsLong() + timeToLiveNanos;
+        } else {
+            flights.remove(key, flight);
+        }
+        flight.future.complete(result);
+        return result;
+    }
+
+    /**
+     * A computation of a key.
+     *
+     * @param <R> the type of the result
+     * @since 0.6.0
+     */
+    static final class Flight<R> {
+        final CompletableFuture<R> future = new CompletableFuture<>();
+        final Thread owner;
+        volatile long expiresAt;
+
+        Flight(Thread owner) {
+            this.owner = owner;
+        }
+
+        boolean isExpired(LongSupplier ticker) {
+            return future.isDone() && ticker.getAsLong() - expiresAt >= 0;
+        }
+
+        R await() {
+            if (owner == Thread.currentThread() && !future.isDone()) {
+                throw new IllegalStateException("Recursive call with the same key");
+            }
+            try {
+                return future.join();
+            } catch (CompletionException e) {
+                final Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw e;
+            }
+        }
+    }
+}
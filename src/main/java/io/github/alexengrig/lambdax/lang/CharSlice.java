@@ -0,0 +1,462 @@
+/*
+ * Copyright 2019 - 2020 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.alexengrig.lambdax.lang;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A view of a range of a {@link java.lang.CharSequence} without copying its chars.
+ *
+ * <p>
+ * A slice keeps its source with an offset and a length,
+ * so slicing a slice, searching and parsing never copy chars;
+ * a {@link java.lang.String} is created only by {@link #toString()}.
+ * A slice of a {@code char[]} shares the array and reads it directly,
+ * so changes of the array are visible through the slice.
+ * Two slices are equal if their chars are equal, and the hash code of a slice is the hash code
+ * of the {@link java.lang.String} of its chars;
+ * it is cached only for a slice of a {@link java.lang.String}, whose chars cannot change.
+ * A slice of a mutable source is thread-safe only if the source is not modified.
+ *
+ * @author Grig Alex
+ * @version 0.6.0
+ * @see io.github.alexengrig.lambdax.lang.CharSliceX
+ * @since 0.6.0
+ */
+public final class CharSlice implements CharSequence, Comparable<CharSlice> {
+    private static final CharSlice EMPTY = new CharSlice("", null, 0, 0);
+
+    private final CharSequence source;
+    private final char[] chars;
+    private final int offset;
+    private final int length;
+    private int hash;
+
+    private CharSlice(CharSequence source, char[] chars, int offset, int length) {
+        this.source = source;
+        this.chars = chars;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    /**
+     * Returns the slice of all chars of the source.
+     *
+     * @param source a source of chars
+     * @return the slice of {@code source}
+     * @throws NullPointerException if {@code source} is {@code null}
+     * @since 0.6.0
+     */
+    public static CharSlice of(CharSequence source) {
+        if (source instanceof CharSlice) {
+            return (CharSlice) source;
+        }
+        return new CharSlice(source, null, 0, source.length());
+    }
+
+    /**
+     * Returns the slice of chars of the source from the begin index, inclusive, to the end index, exclusive.
+     *
+     * @param source     a source of chars
+     * @param beginIndex the begin index, inclusive
+     * @param endIndex   the end index, exclusive
+     * @return the slice of {@code source}
+     * @throws NullPointerException      if {@code source} is {@code null}
+     * @throws IndexOutOfBoundsException if the range is out of {@code source}
+     * @since 0.6.0
+     */
+    public static CharSlice of(CharSequence source, int beginIndex, int endIndex) {
+        return of(source).subSequence(beginIndex, endIndex);
+    }
+
+    /**
+     * Returns the slice sharing all chars of the array.
+     *
+     * @param chars an array of chars
+     * @return the slice of {@code chars}
+     * @throws NullPointerException if {@code chars} is {@code null}
+     * @since 0.6.0
+     */
+    public static CharSlice of(char[] chars) {
+        return of(chars, 0, chars.length);
+    }
+
+    /**
+     * Returns the slice sharing chars of the array from the offset.
+     *
+     * @param chars  an array of chars
+     * @param offset the index of the first char
+     * @param length the number of chars
+     * @return the slice of {@code chars}
+     * @throws NullPointerException      if {@code chars} is {@code null}
+     * @throws IndexOutOfBoundsException if the range is out of {@code chars}
+     * @since 0.6.0
+     */
+    public static CharSlice of(char[] chars, int offset, int length) {
+        checkRange(offset, offset + length, chars.length);
+        return new CharSlice(null, chars, offset, length);
+    }
+
+    private static void checkRange(int beginIndex, int endIndex, int length) {
+        if (beginIndex < 0 || beginIndex > endIndex || endIndex > length) {
+            throw new IndexOutOfBoundsException("begin " + beginIndex + ", end " + endIndex + ", length " + length);
+        }
+    }
+
+//    Access
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    /**
+     * Checks whether the slice has no chars.
+     *
+     * @return {@code true} if the length is 0
+     * @since 0.6.0
+     */
+    public boolean isEmpty() {
+        return length == 0;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("index " + index + ", length " + length);
+        }
+        return at(index);
+    }
+
+    private char at(int index) {
+        return chars != null ? chars[offset + index] : source.charAt(offset + index);
+    }
+
+    @Override
+    public CharSlice subSequence(int beginIndex, int endIndex) {
+        checkRange(beginIndex, endIndex, length);
+        if (beginIndex == endIndex) {
+            return EMPTY;
+        }
+        if (beginIndex == 0 && endIndex == length) {
+            return this;
+        }
+        return new CharSlice(source, chars, offset + beginIndex, endIndex - beginIndex);
+    }
+
+    /**
+     * Returns the slice of chars from the begin index to the end.
+     *
+     * @param beginIndex the begin index, inclusive
+     * @return the slice sharing the source
+     * @throws IndexOutOfBoundsException if {@code beginIndex} is negative or greater than the length
+     * @since 0.6.0
+     */
+    public CharSlice subSequence(int beginIndex) {
+        return subSequence(beginIndex, length);
+    }
+
+    /**
+     * Returns the slice without leading and trailing chars less than or equal to a space,
+     * as {@link java.lang.String#trim()} does.
+     *
+     * @return the trimmed slice sharing the source
+     * @since 0.6.0
+     */
+    public CharSlice trim() {
+        int begin = 0;
+        int end = length;
+        while (begin < end && at(begin) <= ' ') {
+            begin++;
+        }
+        while (begin < end && at(end - 1) <= ' ') {
+            end--;
+        }
+        return subSequence(begin, end);
+    }
+
+    /**
+     * Splits the slice around the separator, as {@link java.lang.String#split(String)} does
+     * for a literal separator: trailing empty slices are removed,
+     * and the slice itself is the only slice if there is no separator.
+     *
+     * @param separator the separator
+     * @return the slices sharing the source
+     * @since 0.6.0
+     */
+    public List<CharSlice> split(char separator) {
+        final List<CharSlice> slices = new ArrayList<>();
+        int begin = 0;
+        for (int end; (end = indexOf(separator, begin)) >= 0; begin = end + 1) {
+            slices.add(subSequence(begin, end));
+        }
+        if (begin == 0) {
+            slices.add(this);
+            return slices;
+        }
+        slices.add(subSequence(begin));
+        int size = slices.size();
+        while (size > 0 && slices.get(size - 1).isEmpty()) {
+            slices.remove(--size);
+        }
+        return slices;
+    }
+
+//    Search
+
+    /**
+     * Returns the index of the first occurrence of the char.
+     *
+     * @param ch a char
+     * @return the index of {@code ch}, or -1 if there is no such char
+     * @since 0.6.0
+     */
+    public int indexOf(char ch) {
+        return indexOf(ch, 0);
+    }
+
+    /**
+     * Returns the index of the first occurrence of the char from the index.
+     *
+     * @param ch        a char
+     * @param fromIndex the index to start from
+     * @return the index of {@code ch}, or -1 if there is no such char
+     * @since 0.6.0
+     */
+    public int indexOf(char ch, int fromIndex) {
+        for (int i = Math.max(fromIndex, 0); i < length; i++) {
+            if (at(i) == ch) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the last occurrence of the char.
+     *
+     * @param ch a char
+     * @return the index of {@code ch}, or -1 if there is no such char
+     * @since 0.6.0
+     */
+    public int lastIndexOf(char ch) {
+        for (int i = length - 1; i >= 0; i--) {
+            if (at(i) == ch) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the chars.
+     *
+     * @param str chars to search
+     * @return the index of {@code str}, or -1 if there are no such chars
+     * @since 0.6.0
+     */
+    public int indexOf(CharSequence str) {
+        return indexOf(str, 0);
+    }
+
+    /**
+     * Returns the index of the first occurrence of the chars from the index.
+     *
+     * @param str       chars to search
+     * @param fromIndex the index to start from
+     * @return the index of {@code str}, or -1 if there are no such chars
+     * @since 0.6.0
+     */
+    public int indexOf(CharSequence str, int fromIndex) {
+        final int last = length - str.length();
+        for (int i = Math.max(fromIndex, 0); i <= last; i++) {
+            if (regionMatches(i, str)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private boolean regionMatches(int index, CharSequence str) {
+        for (int i = 0, n = str.length(); i < n; i++) {
+            if (at(index + i) != str.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether the slice starts with the prefix.
+     *
+     * @param prefix a prefix
+     * @return {@code true} if the slice starts with {@code prefix}
+     * @since 0.6.0
+     */
+    public boolean startsWith(CharSequence prefix) {
+        return prefix.length() <= length && regionMatches(0, prefix);
+    }
+
+    /**
+     * Checks whether the slice ends with the suffix.
+     *
+     * @param suffix a suffix
+     * @return {@code true} if the slice ends with {@code suffix}
+     * @since 0.6.0
+     */
+    public boolean endsWith(CharSequence suffix) {
+        return suffix.length() <= length && regionMatches(length - suffix.length(), suffix);
+    }
+
+//    Comparison
+
+    /**
+     * Checks whether the slice has the same chars as the sequence.
+     *
+     * @param cs a sequence of chars
+     * @return {@code true} if the chars are equal
+     * @since 0.6.0
+     */
+    public boolean contentEquals(CharSequence cs) {
+        return cs.length() == length && regionMatches(0, cs);
+    }
+
+    /**
+     * Compares the chars lexicographically, as {@link java.lang.String#compareTo(String)} does.
+     *
+     * @param other a sequence of chars
+     * @return a negative integer, zero, or a positive integer as the slice is less than,
+     * equal to, or greater than {@code other}
+     * @since 0.6.0
+     */
+    public int compareTo(CharSequence other) {
+        final int n = Math.min(length, other.length());
+        for (int i = 0; i < n; i++) {
+            final char c = at(i);
+            final char o = other.charAt(i);
+            if (c != o) {
+                return c - o;
+            }
+        }
+        return length - other.length();
+    }
+
+    @Override
+    public int compareTo(CharSlice other) {
+        return compareTo((CharSequence) other);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof CharSlice)) {
+            return false;
+        }
+        final CharSlice other = (CharSlice) o;
+        return length == other.length && (hash == 0 || other.hash == 0 || hash == other.hash) && contentEquals(other);
+    }
+
+    @Override
+    public int hashCode() {
+        int h = hash;
+        if (h == 0 && length > 0) {
+            for (int i = 0; i < length; i++) {
+                h = 31 * h + at(i);
+            }
+            if (source instanceof String) {
+                hash = h;
+            }
+        }
+        return h;
+    }
+
+//    Parse
+
+    /**
+     * Parses the chars as a signed decimal int, as {@link java.lang.Integer#parseInt(String)} does.
+     *
+     * @return the int
+     * @throws NumberFormatException if the chars are not a parsable int
+     * @since 0.6.0
+     */
+    public int parseInt() {
+        return (int) parse(Integer.MIN_VALUE);
+    }
+
+    /**
+     * Parses the chars as a signed decimal long, as {@link java.lang.Long#parseLong(String)} does.
+     *
+     * @return the long
+     * @throws NumberFormatException if the chars are not a parsable long
+     * @since 0.6.0
+     */
+    public long parseLong() {
+        return parse(Long.MIN_VALUE);
+    }
+
+    private long parse(long min) {
+        if (length == 0) {
+            throw new NumberFormatException("For input string: \"\"");
+        }
+        final char first = at(0);
+        final boolean negative = first == '-';
+        int i = negative || first == '+' ? 1 : 0;
+        if (i == length) {
+            throw numberFormatException();
+        }
+        final long limit = negative ? min : min + 1;
+        final long multiplyLimit = limit / 10;
+        long result = 0;
+        for (; i < length; i++) {
+            final int digit = Character.digit(at(i), 10);
+            if (digit < 0 || result < multiplyLimit) {
+                throw numberFormatException();
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                throw numberFormatException();
+            }
+            result -= digit;
+        }
+        return negative ? result : -result;
+    }
+
+    private NumberFormatException numberFormatException() {
+        return new NumberFormatException("For input string: \"" + this + "\"");
+    }
+
+//    Materialize
+
+    /**
+     * Returns a {@link java.lang.String} of the chars; the only method which copies them.
+     *
+     * @return a string of the chars
+     */
+    @Override
+    public String toString() {
+        if (chars != null) {
+            return new String(chars, offset, length);
+        }
+        if (source instanceof String) {
+            return ((String) source).substring(offset, offset + length);
+        }
+        return new StringBuilder(length).append(source, offset, offset + length).toString();
+    }
+}
@@ -0,0 +1,277 @@
+/*
+ * Copyright 2019 - 2020 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.alexengrig.lambdax.lang;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * This utility class contains useful lambdas for {@link io.github.alexengrig.lambdax.lang.CharSlice}.
+ *
+ * <p>
+ * The functions slice, search and parse without copying chars,
+ * so a chain of them tokenizes a string without creating a {@link java.lang.String} per token;
+ * {@link #materialize()} creates one when it is needed.
+ * The factories without arguments return non-capturing functions, which are the same instance on each call.
+ *
+ * @author Grig Alex
+ * @version 0.6.0
+ * @see io.github.alexengrig.lambdax.lang.CharSlice
+ * @see io.github.alexengrig.lambdax.lang.StringX
+ * @since 0.6.0
+ */
+public final class CharSliceX {
+    private CharSliceX() {
+    }
+
+    /**
+     * Returns the {@link io.github.alexengrig.lambdax.lang.CharSlice#of(CharSequence)} function:
+     *
+     * <pre>{@code
+     * s -&gt; CharSlice.of(s)
+     * }</pre>
+     *
+     * @return the {@link io.github.alexengrig.lambdax.lang.CharSlice#of(CharSequence)} function
+     * @see io.github.alexengrig.lambdax.lang.CharSlice#of(CharSequence)
+     * @see java.util.function.Function
+     * @since 0.6.0
+     */
+    public static Function<CharSequence, CharSlice> view() {
+        return CharSlice::of;
+    }
+
+    /**
+     * Returns the carrying {@link io.github.alexengrig.lambdax.lang.CharSlice#subSequence(int)} function:
+     *
+     * <pre>{@code
+     * s -&gt; CharSlice.of(s).subSequence(beginIndex)
+     * }</pre>
+     *
+     * @param beginIndex the begin index, inclusive
+     * @return the carrying {@link io.github.alexengrig.lambdax.lang.CharSlice#subSequence(int)} function
+     * @see io.github.alexengrig.lambdax.lang.CharSlice#subSequence(int)
+     * @see java.util.function.Function
+     * @since 0.6.0
+     */
+    public static Function<CharSequence, CharSlice> slice(int beginIndex) {
+        return s -> CharSlice.of(s).subSequence(beginIndex);
+    }
+
+    /**
+     * Returns the carrying {@link io.github.alexengrig.lambdax.lang.CharSlice#subSequence(int, int)} function:
+     *
+     * <pre>{@code
+     * s -&gt; CharSlice.of(s).subSequence(beginIndex, endIndex)
+     * }</pre>
+     *
+     * @param beginIndex the begin index, inclusive
+     * @param endIndex   the end index, exclusive
+     * @return the carrying {@link io.github.alexengrig.lambdax.lang.CharSlice#subSequence(int, int)} function
+     * @see io.github.alexengrig.lambdax.lang.CharSlice#subSequence(int, int)
+     * @see java.util.function.Function
+     * @since 0.6.0
+     */
+    public static Function<CharSequence, CharSlice> slice(int beginIndex, int endIndex) {
+        return s -> CharSlice.of(s, beginIndex, endIndex);
+    }
+
+    /**
+     * Returns the carrying {@link io.github.alexengrig.lambdax.lang.CharSlice#split(char)} function:
+     *
+     * <pre>{@code
+     * s -&gt; CharSlice.of(s).split(separator)
+     * }</pre>
+     *
+     * @param separator the argument of {@link io.github.alexengrig.lambdax.lang.CharSlice#split(char)}
+     * @return the carrying {@link io.github.alexengrig.lambdax.lang.CharSlice#split(char)} function
+     * @see io.github.alexengrig.lambdax.lang.CharSlice#split(char)
+     * @see java.util.function.Function
+     * @since 0.6.0
+     */
+    public static Function<CharSequence, List<CharSlice>> split(char separator) {
+        return s -> CharSlice.of(s).split(separator);
+    }
+
+    /**
+     * Returns the {@link io.github.alexengrig.lambdax.lang.CharSlice#trim()} function:
+     *
+     * <pre>{@code
+     * s -&gt; s.trim()
+     * }</pre>
+     *
+     * @return the {@link io.github.alexengrig.lambdax.lang.CharSlice#trim()} function
+     * @see io.github.alexengrig.lambdax.lang.CharSlice#trim()
+     * @see java.util.function.Function
+     * @since 0.6.0
+     */
+    public static Function<CharSlice, CharSlice> trim() {
+        return CharSlice::trim;
+    }
+
+    /**
+     * Returns the carrying {@link io.github.alexengrig.lambdax.lang.CharSlice#indexOf(char)} function:
+     *
+     * <pre>{@code
+     * s -&gt; s.indexOf(ch)
+     * }</pre>
+     *
+     * @param ch the argument of {@link io.github.alexengrig.lambdax.lang.CharSlice#indexOf(char)}
+     * @return the carrying {@link io.github.alexengrig.lambdax.lang.CharSlice#indexOf(char)} function
+     * @see io.github.alexengrig.lambdax.lang.CharSlice#indexOf(char)
+     * @see java.util.function.Function
+     * @since 0.6.0
+     */
+    public static Function<CharSlice, Integer> indexOf(char ch) {
+        return s -> s.indexOf(ch);
+    }
+
+    /**
+     * Returns the carrying {@link io.github.alexengrig.lambdax.lang.CharSlice#indexOf(CharSequence)} function:
+     *
+     * <pre>{@code
+     * s -&gt; s.indexOf(str)
+     * }</pre>
+     *
+     * @param str the argument of {@link io.github.alexengrig.lambdax.lang.CharSlice#indexOf(CharSequence)}
+     * @return the carrying {@link io.github.alexengrig.lambdax.lang.CharSlice#indexOf(CharSequence)} function
+     * @see io.github.alexengrig.lambdax.lang.CharSlice#indexOf(CharSequence)
+     * @see java.util.function.Function
+     * @since 0.6.0
+     */
+    public static Function<CharSlice, Integer> indexOf(CharSequence str) {
+        return s -> s.indexOf(str);
+    }
+
+    /**
+     * Returns the carrying {@link io.github.alexengrig.lambdax.lang.CharSlice#startsWith(CharSequence)} predicate:
+     *
+     * <pre>{@code
+     * s -&gt; s.startsWith(prefix)
+     * }</pre>
+     *
+     * @param prefix the argument of {@link io.github.alexengrig.lambdax.lang.CharSlice#startsWith(CharSequence)}
+     * @return the carrying {@link io.github.alexengrig.lambdax.lang.CharSlice#startsWith(CharSequence)} predicate
+     * @see io.github.alexengrig.lambdax.lang.CharSlice#startsWith(CharSequence)
+     * @see java.util.function.Predicate
+     * @since 0.6.0
+     */
+    public static Predicate<CharSlice> startsWith(CharSequence prefix) {
+        return s -> s.startsWith(prefix);
+    }
+
+    /**
+     * Returns the carrying {@link io.github.alexengrig.lambdax.lang.CharSlice#endsWith(CharSequence)} predicate:
+     *
+     * <pre>{@code
+     * s -&gt; s.endsWith(suffix)
+     * }</pre>
+     *
+     * @param suffix the argument of {@link io.github.alexengrig.lambdax.lang.CharSlice#endsWith(CharSequence)}
+     * @return the carrying {@link io.github.alexengrig.lambdax.lang.CharSlice#endsWith(CharSequence)} predicate
+     * @see io.github.alexengrig.lambdax.lang.CharSlice#endsWith(CharSequence)
+     * @see java.util.function.Predicate
+     * @since 0.6.0
+     */
+    public static Predicate<CharSlice> endsWith(CharSequence suffix) {
+        return s -> s.endsWith(suffix);
+    }
+
+    /**
+     * Returns the carrying {@link io.github.alexengrig.lambdax.lang.CharSlice#contentEquals(CharSequence)} predicate:
+     *
+     * <pre>{@code
+     * s -&gt; s.contentEquals(cs)
+     * }</pre>
+     *
+     * @param cs the argument of {@link io.github.alexengrig.lambdax.lang.CharSlice#contentEquals(CharSequence)}
+     * @return the carrying {@link io.github.alexengrig.lambdax.lang.CharSlice#contentEquals(CharSequence)} predicate
+     * @see io.github.alexengrig.lambdax.lang.CharSlice#contentEquals(CharSequence)
+     * @see java.util.function.Predicate
+     * @since 0.6.0
+     */
+    public static Predicate<CharSlice> equalsTo(CharSequence cs) {
+        return s -> s.contentEquals(cs);
+    }
+
+    /**
+     * Returns the carrying {@link io.github.alexengrig.lambdax.lang.CharSlice#compareTo(CharSequence)} function:
+     *
+     * <pre>{@code
+     * s -&gt; s.compareTo(other)
+     * }</pre>
+     *
+     * @param other the argument of {@link io.github.alexengrig.lambdax.lang.CharSlice#compareTo(CharSequence)}
+     * @return the carrying {@link io.github.alexengrig.lambdax.lang.CharSlice#compareTo(CharSequence)} function
+     * @see io.github.alexengrig.lambdax.lang.CharSlice#compareTo(CharSequence)
+     * @see java.util.function.Function
+     * @since 0.6.0
+     */
+    public static Function<CharSlice, Integer> compareTo(CharSequence other) {
+        return s -> s.compareTo(other);
+    }
+
+    /**
+     * Returns the {@link io.github.alexengrig.lambdax.lang.CharSlice#parseInt()} function:
+     *
+     * <pre>{@code
+     * s -&gt; s.parseInt()
+     * }</pre>
+     *
+     * @return the {@link io.github.alexengrig.lambdax.lang.CharSlice#parseInt()} function
+     * @see io.github.alexengrig.lambdax.lang.CharSlice#parseInt()
+     * @see java.util.function.ToIntFunction
+     * @since 0.6.0
+     */
+    public static ToIntFunction<CharSlice> parseInt() {
+        return CharSlice::parseInt;
+    }
+
+    /**
+     * Returns the {@link io.github.alexengrig.lambdax.lang.CharSlice#parseLong()} function:
+     *
+     * <pre>{@code
+     * s -&gt; s.parseLong()
+     * }</pre>
+     *
+     * @return the {@link io.github.alexengrig.lambdax.lang.CharSlice#parseLong()} function
+     * @see io.github.alexengrig.lambdax.lang.CharSlice#parseLong()
+     * @see java.util.function.ToLongFunction
+     * @since 0.6.0
+     */
+    public static ToLongFunction<CharSlice> parseLong() {
+        return CharSlice::parseLong;
+    }
+
+    /**
+     * Returns the {@link io.github.alexengrig.lambdax.lang.CharSlice#toString()} function:
+     *
+     * <pre>{@code
+     * s -&gt; s.toString()
+     * }</pre>
+     *
+     * @return the {@link io.github.alexengrig.lambdax.lang.CharSlice#toString()} function
+     * @see io.github.alexengrig.lambdax.lang.CharSlice#toString()
+     * @see java.util.function.Function
+     * @since 0.6.0
+     */
+    public static Function<CharSlice, String> materialize() {
+        return CharSlice::toString;
+    }
+}
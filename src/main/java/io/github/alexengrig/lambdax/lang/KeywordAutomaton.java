@@ -0,0 +1,248 @@
+/*
+ * Copyright 2019 - 2020 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.alexengrig.lambdax.lang;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * An Aho&ndash;Corasick automaton of keywords.
+ *
+ * <p>
+ * The automaton is built once and is immutable, so it can be shared between threads.
+ * A state keeps its transitions in a sorted array of chars, so a transition is a binary search;
+ * the transitions of the root are looked up in a table for chars below 128.
+ * A failure link of a state points to the state of the longest proper suffix of its path
+ * which is a path of the trie, and an output link to the nearest state of this chain ending a keyword,
+ * so a string is scanned in a single pass whatever the number of keywords is.
+ * A reversed automaton is built of the reversed keywords and scans strings from the end.
+ *
+ * @author Grig Alex
+ * @version 0.6.0
+ * @see io.github.alexengrig.lambdax.lang.StringX#containsAny(Collection)
+ * @see io.github.alexengrig.lambdax.lang.StringX#startsWithAny(Collection)
+ * @see io.github.alexengrig.lambdax.lang.StringX#endsWithAny(Collection)
+ * @see io.github.alexengrig.lambdax.lang.StringX#findAll(Collection)
+ * @since 0.6.0
+ */
+final class KeywordAutomaton {
+    private static final char[] NO_LABELS = {};
+    private static final int[] NO_TARGETS = {};
+    private static final int ROOT_TABLE_SIZE = 128;
+
+    private final String[] keywords;
+    private final boolean reversed;
+    private final int[] rootTable = new int[ROOT_TABLE_SIZE];
+    private final char[][] labels;
+    private final int[][] targets;
+    private final int[] keyword;
+    private final int[] fail;
+    private final int[] output;
+    private final boolean[] accepts;
+    private int size;
+
+    private KeywordAutomaton(String[] keywords, boolean reversed) {
+        this.keywords = keywords;
+        this.reversed = reversed;
+        final int capacity = 1 + Arrays.stream(keywords).mapToInt(String::length).sum();
+        labels = new char[capacity][];
+        targets = new int[capacity][];
+        keyword = new int[capacity];
+        fail = new int[capacity];
+        output = new int[capacity];
+        accepts = new boolean[capacity];
+        newState();
+        for (int i = 0; i < keywords.length; i++) {
+            insert(i);
+        }
+        for (int c = 0; c < ROOT_TABLE_SIZE; c++) {
+            rootTable[c] = child(0, (char) c);
+        }
+        link();
+    }
+
+    static KeywordAutomaton of(Collection<String> keywords, boolean reversed) {
+        final LinkedHashSet<String> distinct = new LinkedHashSet<>(keywords.size());
+        for (String keyword : keywords) {
+            distinct.add(Objects.requireNonNull(keyword, "The keyword must not be null"));
+        }
+        return new KeywordAutomaton(distinct.toArray(new String[0]), reversed);
+    }
+
+    private int newState() {
+        final int state = size++;
+        labels[state] = NO_LABELS;
+        targets[state] = NO_TARGETS;
+        keyword[state] = -1;
+        output[state] = -1;
+        return state;
+    }
+
+    private char charAt(String string, int index) {
+        return reversed ? string.charAt(string.length() - 1 - index) : string.charAt(index);
+    }
+
+    private void insert(int index) {
+        final String word = keywords[index];
+        int state = 0;
+        for (int i = 0; i < word.length(); i++) {
+            final char c = charAt(word, i);
+            final char[] stateLabels = labels[state];
+            int position = Arrays.binarySearch(stateLabels, c);
+            if (position < 0) {
+                position = -position - 1;
+                final int child = newState();
+                labels[state] = insert(stateLabels, position, c);
+                targets[state] = insert(targets[state], position, child);
+                state = child;
+            } else {
+                state = targets[state][position];
+            }
+        }
+        keyword[state] = index;
+    }
+
+    private static char[] insert(char[] array, int position, char value) {
+        final char[] result = new char[array.length + 1];
+        System.arraycopy(array, 0, result, 0, position);
+        result[position] = value;
+        System.arraycopy(array, position, result, position + 1, array.length - position);
+        return result;
+    }
+
+    private static int[] insert(int[] array, int position, int value) {
+        final int[] result = new int[array.length + 1];
+        System.arraycopy(array, 0, result, 0, position);
+        result[position] = value;
+        System.arraycopy(array, position, result, position + 1, array.length - position);
+        return result;
+    }
+
+    private void link() {
+        final int[] queue = new int[size];
+        int head = 0;
+        int tail = 0;
+        accepts[0] = keyword[0] >= 0;
+        for (int child : targets[0]) {
+            fail[child] = 0;
+            queue[tail++] = child;
+        }
+        while (head < tail) {
+            final int state = queue[head++];
+            final int suffix = fail[state];
+            output[state] = keyword[suffix] >= 0 ? suffix : output[suffix];
+            accepts[state] = keyword[state] >= 0 || accepts[suffix];
+            final char[] stateLabels = labels[state];
+            final int[] stateTargets = targets[state];
+            for (int i = 0; i < stateLabels.length; i++) {
+                final int child = stateTargets[i];
+                fail[child] = next(suffix, stateLabels[i]);
+                queue[tail++] = child;
+            }
+        }
+    }
+
+    private int child(int state, char c) {
+        final int position = Arrays.binarySearch(labels[state], c);
+        return position < 0 ? -1 : targets[state][position];
+    }
+
+    private int next(int state, char c) {
+        while (true) {
+            if (state == 0) {
+                return c < ROOT_TABLE_SIZE ? Math.max(rootTable[c], 0) : Math.max(child(0, c), 0);
+            }
+            final int child = child(state, c);
+            if (child >= 0) {
+                return child;
+            }
+            state = fail[state];
+        }
+    }
+
+    /**
+     * Checks whether the string contains a keyword.
+     *
+     * @param string a string to scan
+     * @return {@code true} if a keyword occurs in {@code string}
+     */
+    boolean containsAny(String string) {
+        if (accepts[0]) {
+            return true;
+        }
+        int state = 0;
+        for (int i = 0, length = string.length(); i < length; i++) {
+            state = next(state, charAt(string, i));
+            if (accepts[state]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether a keyword is a prefix of the string,
+     * or a suffix for a reversed automaton.
+     *
+     * @param string a string to scan
+     * @return {@code true} if {@code string} starts, or ends for a reversed automaton, with a keyword
+     */
+    boolean hasPrefix(String string) {
+        int state = 0;
+        for (int i = 0, length = string.length(); keyword[state] < 0; i++) {
+            if (i == length || (state = child(state, charAt(string, i))) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Finds the distinct keywords occurring in the string.
+     *
+     * @param string a string to scan
+     * @return the keywords in the order of the ends of their first occurrences, longer ones first
+     */
+    List<String> findAll(String string) {
+        final List<String> found = new ArrayList<>();
+        boolean[] seen = null;
+        int state = 0;
+        for (int i = 0, length = string.length(); i <= length; i++) {
+            if (i > 0) {
+                state = next(state, charAt(string, i - 1));
+            }
+            if (!accepts[state]) {
+                continue;
+            }
+            if (seen == null) {
+                seen = new boolean[keywords.length];
+            }
+            for (int match = keyword[state] >= 0 ? state : output[state]; match >= 0; match = output[match]) {
+                final int index = keyword[match];
+                if (!seen[index]) {
+                    seen[index] = true;
+                    found.add(keywords[index]);
+                }
+            }
+        }
+        return found;
+    }
+}
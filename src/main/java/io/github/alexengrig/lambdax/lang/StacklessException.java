@@ -0,0 +1,58 @@
+/*
+ * Copyright 2019 - 2020 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.alexengrig.lambdax.lang;
+
+/**
+ * A {@link java.lang.RuntimeException} without a stack trace and suppressed exceptions.
+ *
+ * <p>
+ * Creating it does not walk the stack, so it is cheap for expected failures,
+ * e.g. invalid input of a parser.
+ * It has no mutable state, so a known failure may be pre-allocated once and shared:
+ * <pre>{@code
+ * static final StacklessException NOT_A_NUMBER = new StacklessException("Not a number");
+ * }</pre>
+ *
+ * @author Grig Alex
+ * @version 0.6.0
+ * @see io.github.alexengrig.lambdax.AttemptX#failure(String)
+ * @since 0.6.0
+ */
+public class StacklessException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Constructs an exception with the message.
+     *
+     * @param message the detail message
+     * @since 0.6.0
+     */
+    public StacklessException(String message) {
+        this(message, null);
+    }
+
+    /**
+     * Constructs an exception with the message and the cause.
+     *
+     * @param message the detail message
+     * @param cause   the cause, may be {@code null}
+     * @since 0.6.0
+     */
+    public StacklessException(String message, Throwable cause) {
+        super(message, cause, false, false);
+    }
+}
@@ -17,21 +17,66 @@
 package io.github.alexengrig.lambdax.lang;
 
 import java.nio.charset.Charset;
+import java.util.Collection;
+import java.util.List;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * This utility class contains useful lambdas for {@link java.lang.String}.
  *
+ * <p>
+ * The regex-based functions compile the regex once, when the function is created,
+ * and reuse a {@link java.util.regex.Matcher} per thread, which drops its input after each call.
+ * The split functions of a regex which {@link java.lang.String#split(String)} splits without the regex engine,
+ * such as a single literal character, keep using {@link java.lang.String#split(String)}.
+ *
+ * <p>
+ * Every factory captures its arguments, so none of them returns a non-capturing singleton.
+ * Instead, a factory of {@link java.lang.String}, {@code char}, {@code int}
+ * and {@link java.nio.charset.Charset} arguments returns a canonical function:
+ * equal arguments give the same instance, so a call site with constant arguments
+ * neither allocates nor compiles a regex again and sees a single function class.
+ * A call which finds its function in the cache allocates nothing.
+ * Up to 1024 canonical functions are kept; beyond that, functions which have not been used recently are evicted.
+ * The factories of a {@link java.util.regex.Pattern}, a {@link java.lang.StringBuffer}
+ * or another mutable {@link java.lang.CharSequence} return a new function on each call.
+ * The left and right carrying functions return the canonical functions of their arguments.
+ *
  * @author Grig Alex
- * @version 0.5.0
+ * @version 0.6.0
  * @see java.lang.String
+ * @see io.github.alexengrig.lambdax.lang.CharSliceX
  * @since 0.5.0
  */
 public final class StringX {
     private StringX() {
     }
 
+    private static ThreadLocal<Matcher> matcherOf(Pattern pattern) {
+        return ThreadLocal.withInitial(() -> pattern.matcher(""));
+    }
+
+    private static boolean isLiteralSplit(String regex) {
+        final char ch;
+        if (regex.length() == 1) {
+            ch = regex.charAt(0);
+            if (".$|()[{^?*+\\".indexOf(ch) != -1) {
+                return false;
+            }
+        } else if (regex.length() == 2 && regex.charAt(0) == '\\') {
+            ch = regex.charAt(1);
+            if (ch >= '0' && ch <= '9' || ch >= 'a' && ch <= 'z' || ch >= 'A' && ch <= 'Z') {
+                return false;
+            }
+        } else {
+            return false;
+        }
+        return !Character.isSurrogate(ch);
+    }
+
     /**
      * Returns the carrying {@link java.lang.String#concat(String)} function:
      *
@@ -46,7 +91,8 @@ public final class StringX {
      * @since 0.5.0
      */
     public static Function<String, String> concat(String str) {
-        return s -> s.concat(str);
+        final Function<String, String> cached = StringXCache.get("concat(String)", str, null, 0);
+        return cached != null ? cached : StringXCache.put("concat(String)", str, null, 0, s -> s.concat(str));
     }
 
     /**
@@ -63,7 +109,9 @@ public final class StringX {
      * @since 0.5.0
      */
     public static Function<String, String> substring(int beginIndex) {
-        return s -> s.substring(beginIndex);
+        final Function<String, String> cached = StringXCache.get("substring(int)", null, null, beginIndex);
+        return cached != null ? cached : StringXCache.put("substring(int)", null, null, beginIndex,
+                s -> s.substring(beginIndex));
     }
 
     /**
@@ -81,7 +129,10 @@ public final class StringX {
      * @since 0.5.0
      */
     public static Function<String, String> substring(int beginIndex, int endIndex) {
-        return s -> s.substring(beginIndex, endIndex);
+        final long ints = StringXCache.ints(beginIndex, endIndex);
+        final Function<String, String> cached = StringXCache.get("substring(int, int)", null, null, ints);
+        return cached != null ? cached : StringXCache.put("substring(int, int)", null, null, ints,
+                s -> s.substring(beginIndex, endIndex));
     }
 
     /**
@@ -98,7 +149,7 @@ public final class StringX {
      * @since 0.5.0
      */
     public static Function<Integer, Function<String, String>> leftSubstring(int beginIndex) {
-        return endIndex -> s -> s.substring(beginIndex, endIndex);
+        return endIndex -> substring(beginIndex, endIndex);
     }
 
     /**
@@ -115,7 +166,7 @@ public final class StringX {
      * @since 0.5.0
      */
     public static Function<Integer, Function<String, String>> rightSubstring(int endIndex) {
-        return beginIndex -> s -> s.substring(beginIndex, endIndex);
+        return beginIndex -> substring(beginIndex, endIndex);
     }
 
     /**
@@ -128,12 +179,41 @@ public final class StringX {
      * @param regex       the first argument of {@link java.lang.String#replaceFirst(String, String)}
      * @param replacement the second argument of {@link java.lang.String#replaceFirst(String, String)}
      * @return the carrying {@link java.lang.String#replaceFirst(String, String)} function
+     * @throws java.util.regex.PatternSyntaxException if {@code regex}'s syntax is invalid
      * @see java.lang.String#replaceFirst(String, String)
      * @see java.util.function.Function
      * @since 0.5.0
      */
     public static Function<String, String> replaceFirst(String regex, String replacement) {
-        return s -> s.replaceFirst(regex, replacement);
+        final Function<String, String> cached = StringXCache.get("replaceFirst(String, String)", regex, replacement, 0);
+        return cached != null ? cached : StringXCache.put("replaceFirst(String, String)", regex, replacement, 0,
+                replaceFirst(Pattern.compile(regex), replacement));
+    }
+
+    /**
+     * Returns the carrying {@link java.util.regex.Matcher#replaceFirst(String)} function:
+     *
+     * <pre>{@code
+     * s -&gt; pattern.matcher(s).replaceFirst(replacement)
+     * }</pre>
+     *
+     * @param pattern     the compiled regex
+     * @param replacement the argument of {@link java.util.regex.Matcher#replaceFirst(String)}
+     * @return the carrying {@link java.util.regex.Matcher#replaceFirst(String)} function
+     * @see java.util.regex.Matcher#replaceFirst(String)
+     * @see java.util.function.Function
+     * @since 0.6.0
+     */
+    public static Function<String, String> replaceFirst(Pattern pattern, String replacement) {
+        ThreadLocal<Matcher> matcher = matcherOf(pattern);
+        return s -> {
+            final Matcher m = matcher.get().reset(s);
+            try {
+                return m.replaceFirst(replacement);
+            } finally {
+                m.reset("");
+            }
+        };
     }
 
     /**
@@ -145,12 +225,14 @@ public final class StringX {
      *
      * @param regex the first argument of {@link java.lang.String#replaceFirst(String, String)}
      * @return the left carrying {@link java.lang.String#replaceFirst(String, String)} function
+     * @throws java.util.regex.PatternSyntaxException if {@code regex}'s syntax is invalid
      * @see java.lang.String#replaceFirst(String, String)
      * @see java.util.function.Function
      * @since 0.5.0
      */
     public static Function<String, Function<String, String>> leftReplaceFirst(String regex) {
-        return replacement -> s -> s.replaceFirst(regex, replacement);
+        Pattern pattern = Pattern.compile(regex);
+        return replacement -> replaceFirst(pattern, replacement);
     }
 
     /**
@@ -167,7 +249,7 @@ public final class StringX {
      * @since 0.5.0
      */
     public static Function<String, Function<String, String>> rightReplaceFirst(String replacement) {
-        return regex -> s -> s.replaceFirst(regex, replacement);
+        return regex -> replaceFirst(regex, replacement);
     }
 
     /**
@@ -180,12 +262,41 @@ public final class StringX {
      * @param regex       the first argument of {@link java.lang.String#replaceAll(String, String)}
      * @param replacement the second argument of {@link java.lang.String#replaceAll(String, String)}
      * @return the carrying {@link java.lang.String#replaceAll(String, String)} function
+     * @throws java.util.regex.PatternSyntaxException if {@code regex}'s syntax is invalid
      * @see java.lang.String#replaceAll(String, String)
      * @see java.util.function.Function
      * @since 0.5.0
      */
     public static Function<String, String> replaceAll(String regex, String replacement) {
-        return s -> s.replaceAll(regex, replacement);
+        final Function<String, String> cached = StringXCache.get("replaceAll(String, String)", regex, replacement, 0);
+        return cached != null ? cached : StringXCache.put("replaceAll(String, String)", regex, replacement, 0,
+                replaceAll(Pattern.compile(regex), replacement));
+    }
+
+    /**
+     * Returns the carrying {@link java.util.regex.Matcher#replaceAll(String)} function:
+     *
+     * <pre>{@code
+     * s -&gt; pattern.matcher(s).replaceAll(replacement)
+     * }</pre>
+     *
+     * @param pattern     the compiled regex
+     * @param replacement the argument of {@link java.util.regex.Matcher#replaceAll(String)}
+     * @return the carrying {@link java.util.regex.Matcher#replaceAll(String)} function
+     * @see java.util.regex.Matcher#replaceAll(String)
+     * @see java.util.function.Function
+     * @since 0.6.0
+     */
+    public static Function<String, String> replaceAll(Pattern pattern, String replacement) {
+        ThreadLocal<Matcher> matcher = matcherOf(pattern);
+        return s -> {
+            final Matcher m = matcher.get().reset(s);
+            try {
+                return m.replaceAll(replacement);
+            } finally {
+                m.reset("");
+            }
+        };
     }
 
     /**
@@ -197,12 +308,14 @@ public final class StringX {
      *
      * @param regex the first argument of {@link java.lang.String#replaceAll(String, String)}
      * @return the left carrying {@link java.lang.String#replaceAll(String, String)} function
+     * @throws java.util.regex.PatternSyntaxException if {@code regex}'s syntax is invalid
      * @see java.lang.String#replaceAll(String, String)
      * @see java.util.function.Function
      * @since 0.5.0
      */
     public static Function<String, Function<String, String>> leftReplaceAll(String regex) {
-        return replacement -> s -> s.replaceAll(regex, replacement);
+        Pattern pattern = Pattern.compile(regex);
+        return replacement -> replaceAll(pattern, replacement);
     }
 
     /**
@@ -219,7 +332,7 @@ public final class StringX {
      * @since 0.5.0
      */
     public static Function<String, Function<String, String>> rightReplaceAll(String replacement) {
-        return regex -> s -> s.replaceAll(regex, replacement);
+        return regex -> replaceAll(regex, replacement);
     }
 
     /**
@@ -237,7 +350,10 @@ public final class StringX {
      * @since 0.5.0
      */
     public static Function<String, String> replace(CharSequence target, CharSequence replacement) {
-        return s -> s.replace(target, replacement);
+        final Function<String, String> cached =
+                StringXCache.get("replace(CharSequence, CharSequence)", target, replacement, 0);
+        return cached != null ? cached : StringXCache.put("replace(CharSequence, CharSequence)", target, replacement, 0,
+                s -> s.replace(target, replacement));
     }
 
     /**
@@ -254,7 +370,7 @@ public final class StringX {
      * @since 0.5.0
      */
     public static Function<String, Function<String, String>> leftReplace(CharSequence target) {
-        return replacement -> s -> s.replace(target, replacement);
+        return replacement -> replace(target, replacement);
     }
 
     /**
@@ -271,7 +387,7 @@ public final class StringX {
      * @since 0.5.0
      */
     public static Function<String, Function<String, String>> rightReplace(CharSequence replacement) {
-        return target -> s -> s.replace(target, replacement);
+        return target -> replace(target, replacement);
     }
 
     /**
@@ -289,7 +405,10 @@ public final class StringX {
      * @since 0.5.0
      */
     public static Function<String, String> replace(char oldChar, char newChar) {
-        return s -> s.replace(oldChar, newChar);
+        final long ints = StringXCache.ints(oldChar, newChar);
+        final Function<String, String> cached = StringXCache.get("replace(char, char)", null, null, ints);
+        return cached != null ? cached : StringXCache.put("replace(char, char)", null, null, ints,
+                s -> s.replace(oldChar, newChar));
     }
 
     /**
@@ -306,7 +425,7 @@ public final class StringX {
      * @since 0.5.0
      */
     public static Function<Character, Function<String, String>> leftReplace(char oldChar) {
-        return newChar -> s -> s.replace(oldChar, newChar);
+        return newChar -> replace(oldChar, newChar);
     }
 
     /**
@@ -323,7 +442,7 @@ public final class StringX {
      * @since 0.5.0
      */
     public static Function<Character, Function<String, String>> rightReplace(char newChar) {
-        return oldChar -> s -> s.replace(oldChar, newChar);
+        return oldChar -> replace(oldChar, newChar);
     }
 
     /**
@@ -335,12 +454,32 @@ public final class StringX {
      *
      * @param regex the argument of {@link java.lang.String#split(String)}
      * @return the carrying {@link java.lang.String#split(String)} function
+     * @throws java.util.regex.PatternSyntaxException if {@code regex}'s syntax is invalid
      * @see java.lang.String#split(String)
      * @see java.util.function.Function
      * @since 0.5.0
      */
     public static Function<String, String[]> split(String regex) {
-        return s -> s.split(regex);
+        final Function<String, String[]> cached = StringXCache.get("split(String)", regex, null, 0);
+        return cached != null ? cached : StringXCache.put("split(String)", regex, null, 0,
+                isLiteralSplit(regex) ? s -> s.split(regex) : split(Pattern.compile(regex)));
+    }
+
+    /**
+     * Returns the carrying {@link java.util.regex.Pattern#split(CharSequence)} function:
+     *
+     * <pre>{@code
+     * s -&gt; pattern.split(s)
+     * }</pre>
+     *
+     * @param pattern the compiled regex
+     * @return the carrying {@link java.util.regex.Pattern#split(CharSequence)} function
+     * @see java.util.regex.Pattern#split(CharSequence)
+     * @see java.util.function.Function
+     * @since 0.6.0
+     */
+    public static Function<String, String[]> split(Pattern pattern) {
+        return pattern::split;
     }
 
     /**
@@ -353,12 +492,33 @@ public final class StringX {
      * @param regex the first argument of {@link java.lang.String#split(String, int)}
      * @param limit the second argument of {@link java.lang.String#split(String, int)}
      * @return the carrying {@link java.lang.String#split(String, int)} function
+     * @throws java.util.regex.PatternSyntaxException if {@code regex}'s syntax is invalid
      * @see java.lang.String#split(String, int)
      * @see java.util.function.Function
      * @since 0.5.0
      */
     public static Function<String, String[]> split(String regex, int limit) {
-        return s -> s.split(regex, limit);
+        final Function<String, String[]> cached = StringXCache.get("split(String, int)", regex, null, limit);
+        return cached != null ? cached : StringXCache.put("split(String, int)", regex, null, limit,
+                isLiteralSplit(regex) ? s -> s.split(regex, limit) : split(Pattern.compile(regex), limit));
+    }
+
+    /**
+     * Returns the carrying {@link java.util.regex.Pattern#split(CharSequence, int)} function:
+     *
+     * <pre>{@code
+     * s -&gt; pattern.split(s, limit)
+     * }</pre>
+     *
+     * @param pattern the compiled regex
+     * @param limit   the second argument of {@link java.util.regex.Pattern#split(CharSequence, int)}
+     * @return the carrying {@link java.util.regex.Pattern#split(CharSequence, int)} function
+     * @see java.util.regex.Pattern#split(CharSequence, int)
+     * @see java.util.function.Function
+     * @since 0.6.0
+     */
+    public static Function<String, String[]> split(Pattern pattern, int limit) {
+        return s -> pattern.split(s, limit);
     }
 
     /**
@@ -370,12 +530,17 @@ public final class StringX {
      *
      * @param regex the first argument of {@link java.lang.String#split(String, int)}
      * @return the left carrying {@link java.lang.String#split(String, int)} function
+     * @throws java.util.regex.PatternSyntaxException if {@code regex}'s syntax is invalid
      * @see java.lang.String#split(String, int)
      * @see java.util.function.Function
      * @since 0.5.0
      */
     public static Function<Integer, Function<String, String[]>> leftSplit(String regex) {
-        return limit -> s -> s.split(regex, limit);
+        if (isLiteralSplit(regex)) {
+            return limit -> split(regex, limit);
+        }
+        Pattern pattern = Pattern.compile(regex);
+        return limit -> split(pattern, limit);
     }
 
     /**
@@ -392,7 +557,7 @@ public final class StringX {
      * @since 0.5.0
      */
     public static Function<String, Function<String, String[]>> rightSplit(int limit) {
-        return regex -> s -> s.split(regex, limit);
+        return regex -> split(regex, limit);
     }
 
     /**
@@ -410,7 +575,10 @@ public final class StringX {
      * @since 0.5.0
      */
     public static Function<String, CharSequence> subSequence(int beginIndex, int endIndex) {
-        return s -> s.subSequence(beginIndex, endIndex);
+        final long ints = StringXCache.ints(beginIndex, endIndex);
+        final Function<String, CharSequence> cached = StringXCache.get("subSequence(int, int)", null, null, ints);
+        return cached != null ? cached : StringXCache.put("subSequence(int, int)", null, null, ints,
+                s -> s.subSequence(beginIndex, endIndex));
     }
 
     /**
@@ -427,7 +595,7 @@ public final class StringX {
      * @since 0.5.0
      */
     public static Function<Integer, Function<String, CharSequence>> leftSubSequence(int beginIndex) {
-        return endIndex -> s -> s.subSequence(beginIndex, endIndex);
+        return endIndex -> subSequence(beginIndex, endIndex);
     }
 
     /**
@@ -444,7 +612,7 @@ public final class StringX {
      * @since 0.5.0
      */
     public static Function<Integer, Function<String, CharSequence>> rightSubSequence(int endIndex) {
-        return beginIndex -> s -> s.subSequence(beginIndex, endIndex);
+        return beginIndex -> subSequence(beginIndex, endIndex);
     }
 
     /**
@@ -461,7 +629,8 @@ public final class StringX {
      * @since 0.5.0
      */
     public static Function<String, Character> charAt(int index) {
-        return s -> s.charAt(index);
+        final Function<String, Character> cached = StringXCache.get("charAt(int)", null, null, index);
+        return cached != null ? cached : StringXCache.put("charAt(int)", null, null, index, s -> s.charAt(index));
     }
 
     /**
@@ -478,7 +647,8 @@ public final class StringX {
      * @since 0.5.0
      */
     public static Function<String, Integer> indexOf(int ch) {
-        return s -> s.indexOf(ch);
+        final Function<String, Integer> cached = StringXCache.get("indexOf(int)", null, null, ch);
+        return cached != null ? cached : StringXCache.put("indexOf(int)", null, null, ch, s -> s.indexOf(ch));
     }
 
     /**
@@ -496,7 +666,10 @@ public final class StringX {
      * @since 0.5.0
      */
     public static Function<String, Integer> indexOf(int ch, int fromIndex) {
-        return s -> s.indexOf(ch, fromIndex);
+        final long ints = StringXCache.ints(ch, fromIndex);
+        final Function<String, Integer> cached = StringXCache.get("indexOf(int, int)", null, null, ints);
+        return cached != null ? cached : StringXCache.put("indexOf(int, int)", null, null, ints,
+                s -> s.indexOf(ch, fromIndex));
     }
 
     /**
@@ -513,7 +686,7 @@ public final class StringX {
      * @since 0.5.0
      */
     public static Function<Integer, Function<String, Integer>> leftIndexOf(int ch) {
-        return fromIndex -> s -> s.indexOf(ch, fromIndex);
+        return fromIndex -> indexOf(ch, fromIndex);
     }
 
     /**
@@ -530,7 +703,7 @@ public final class StringX {
      * @since 0.5.0
      */
     public static Function<Integer, Function<String, Integer>> rightIndexOfChar(int fromIndex) {
-        return ch -> s -> s.indexOf(ch, fromIndex);
+        return ch -> indexOf(ch, fromIndex);
     }
 
     /**
@@ -547,7 +720,8 @@ public final class StringX {
      * @since 0.5.0
      */
     public static Function<String, Integer> lastIndexOf(int ch) {
-        return s -> s.lastIndexOf(ch);
+        final Function<String, Integer> cached = StringXCache.get("lastIndexOf(int)", null, null, ch);
+        return cached != null ? cached : StringXCache.put("lastIndexOf(int)", null, null, ch, s -> s.lastIndexOf(ch));
     }
 
     /**
@@ -565,7 +739,10 @@ public final class StringX {
      * @since 0.5.0
      */
     public static Function<String, Integer> lastIndexOf(int ch, int fromIndex) {
-        return s -> s.lastIndexOf(ch, fromIndex);
+        final long ints = StringXCache.ints(ch, fromIndex);
+        final Function<String, Integer> cached = StringXCache.get("lastIndexOf(int, int)", null, null, ints);
+        return cached != null ? cached : StringXCache.put("lastIndexOf(int, int)", null, null, ints,
+                s -> s.lastIndexOf(ch, fromIndex));
     }
 
     /**
@@ -582,7 +759,7 @@ public final class StringX {
      * @since 0.5.0
      */
     public static Function<Integer, Function<String, Integer>> leftLastIndexOf(int ch) {
-        return fromIndex -> s -> s.lastIndexOf(ch, fromIndex);
+        return fromIndex -> lastIndexOf(ch, fromIndex);
     }
 
     /**
@@ -599,7 +776,7 @@ public final class StringX {
      * @since 0.5.0
      */
     public static Function<Integer, Function<String, Integer>> rightLastIndexOfChar(int fromIndex) {
-        return ch -> s -> s.lastIndexOf(ch, fromIndex);
+        return ch -> lastIndexOf(ch, fromIndex);
     }
 
     /**
@@ -616,7 +793,8 @@ public final class StringX {
      * @since 0.5.0
      */
     public static Function<String, Integer> indexOf(String str) {
-        return s -> s.indexOf(str);
+        final Function<String, Integer> cached = StringXCache.get("indexOf(String)", str, null, 0);
+        return cached != null ? cached : StringXCache.put("indexOf(String)", str, null, 0, s -> s.indexOf(str));
     }
 
     /**
@@ -634,7 +812,9 @@ public final class StringX {
      * @since 0.5.0
      */
     public static Function<String, Integer> indexOf(String str, int fromIndex) {
-        return s -> s.indexOf(str, fromIndex);
+        final Function<String, Integer> cached = StringXCache.get("indexOf(String, int)", str, null, fromIndex);
+        return cached != null ? cached : StringXCache.put("indexOf(String, int)", str, null, fromIndex,
+                s -> s.indexOf(str, fromIndex));
     }
 
     /**
@@ -651,7 +831,7 @@ public final class StringX {
      * @since 0.5.0
      */
     public static Function<Integer, Function<String, Integer>> leftIndexOf(String str) {
-        return fromIndex -> s -> s.indexOf(str, fromIndex);
+        return fromIndex -> indexOf(str, fromIndex);
     }
 
     /**
@@ -668,7 +848,7 @@ public final class StringX {
      * @since 0.5.0
      */
     public static Function<String, Function<String, Integer>> rightIndexOfString(int fromIndex) {
-        return str -> s -> s.indexOf(str, fromIndex);
+        return str -> indexOf(str, fromIndex);
     }
 
     /**
@@ -685,7 +865,8 @@ public final class StringX {
      * @since 0.5.0
      */
     public static Function<String, Integer> lastIndexOf(String str) {
-        return s -> s.lastIndexOf(str);
+        final Function<String, Integer> cached = StringXCache.get("lastIndexOf(String)", str, null, 0);
+        return cached != null ? cached : StringXCache.put("lastIndexOf(String)", str, null, 0, s -> s.lastIndexOf(str));
     }
 
     /**
@@ -703,7 +884,9 @@ public final class StringX {
      * @since 0.5.0
      */
     public static Function<String, Integer> lastIndexOf(String str, int fromIndex) {
-        return s -> s.lastIndexOf(str, fromIndex);
+        final Function<String, Integer> cached = StringXCache.get("lastIndexOf(String, int)", str, null, fromIndex);
+        return cached != null ? cached : StringXCache.put("lastIndexOf(String, int)", str, null, fromIndex,
+                s -> s.lastIndexOf(str, fromIndex));
     }
 
     /**
@@ -720,7 +903,7 @@ public final class StringX {
      * @since 0.5.0
      */
     public static Function<Integer, Function<String, Integer>> leftLastIndexOf(String str) {
-        return fromIndex -> s -> s.lastIndexOf(str, fromIndex);
+        return fromIndex -> lastIndexOf(str, fromIndex);
     }
 
     /**
@@ -737,7 +920,7 @@ public final class StringX {
      * @since 0.5.0
      */
     public static Function<String, Function<String, Integer>> rightLastIndexOfString(int fromIndex) {
-        return str -> s -> s.lastIndexOf(str, fromIndex);
+        return str -> lastIndexOf(str, fromIndex);
     }
 
     /**
@@ -754,7 +937,9 @@ public final class StringX {
      * @since 0.5.0
      */
     public static Function<String, Integer> codePointAt(int index) {
-        return s -> s.codePointAt(index);
+        final Function<String, Integer> cached = StringXCache.get("codePointAt(int)", null, null, index);
+        return cached != null ? cached : StringXCache.put("codePointAt(int)", null, null, index,
+                s -> s.codePointAt(index));
     }
 
     /**
@@ -771,7 +956,9 @@ public final class StringX {
      * @since 0.5.0
      */
     public static Function<String, Integer> codePointBefore(int index) {
-        return s -> s.codePointBefore(index);
+        final Function<String, Integer> cached = StringXCache.get("codePointBefore(int)", null, null, index);
+        return cached != null ? cached : StringXCache.put("codePointBefore(int)", null, null, index,
+                s -> s.codePointBefore(index));
     }
 
     /**
@@ -789,7 +976,10 @@ public final class StringX {
      * @since 0.5.0
      */
     public static Function<String, Integer> codePointCount(int beginIndex, int endIndex) {
-        return s -> s.codePointCount(beginIndex, endIndex);
+        final long ints = StringXCache.ints(beginIndex, endIndex);
+        final Function<String, Integer> cached = StringXCache.get("codePointCount(int, int)", null, null, ints);
+        return cached != null ? cached : StringXCache.put("codePointCount(int, int)", null, null, ints,
+                s -> s.codePointCount(beginIndex, endIndex));
     }
 
     /**
@@ -806,7 +996,7 @@ public final class StringX {
      * @since 0.5.0
      */
     public static Function<Integer, Function<String, Integer>> leftCodePointCount(int beginIndex) {
-        return endIndex -> s -> s.codePointCount(beginIndex, endIndex);
+        return endIndex -> codePointCount(beginIndex, endIndex);
     }
 
     /**
@@ -823,7 +1013,7 @@ public final class StringX {
      * @since 0.5.0
      */
     public static Function<Integer, Function<String, Integer>> rightCodePointCount(int endIndex) {
-        return beginIndex -> s -> s.codePointCount(beginIndex, endIndex);
+        return beginIndex -> codePointCount(beginIndex, endIndex);
     }
 
     /**
@@ -841,7 +1031,10 @@ public final class StringX {
      * @since 0.5.0
      */
     public static Function<String, Integer> offsetByCodePoints(int index, int codePointOffset) {
-        return s -> s.offsetByCodePoints(index, codePointOffset);
+        final long ints = StringXCache.ints(index, codePointOffset);
+        final Function<String, Integer> cached = StringXCache.get("offsetByCodePoints(int, int)", null, null, ints);
+        return cached != null ? cached : StringXCache.put("offsetByCodePoints(int, int)", null, null, ints,
+                s -> s.offsetByCodePoints(index, codePointOffset));
     }
 
     /**
@@ -858,7 +1051,7 @@ public final class StringX {
      * @since 0.5.0
      */
     public static Function<Integer, Function<String, Integer>> leftOffsetByCodePoints(int index) {
-        return codePointOffset -> s -> s.offsetByCodePoints(index, codePointOffset);
+        return codePointOffset -> offsetByCodePoints(index, codePointOffset);
     }
 
     /**
@@ -875,7 +1068,7 @@ public final class StringX {
      * @since 0.5.0
      */
     public static Function<Integer, Function<String, Integer>> rightOffsetByCodePoints(int codePointOffset) {
-        return index -> s -> s.offsetByCodePoints(index, codePointOffset);
+        return index -> offsetByCodePoints(index, codePointOffset);
     }
 
     /**
@@ -892,7 +1085,8 @@ public final class StringX {
      * @since 0.5.0
      */
     public static Function<String, Integer> compareTo(String other) {
-        return s -> s.compareTo(other);
+        final Function<String, Integer> cached = StringXCache.get("compareTo(String)", other, null, 0);
+        return cached != null ? cached : StringXCache.put("compareTo(String)", other, null, 0, s -> s.compareTo(other));
     }
 
     /**
@@ -909,7 +1103,9 @@ public final class StringX {
      * @since 0.5.0
      */
     public static Function<String, Integer> compareToIgnoreCase(String other) {
-        return s -> s.compareToIgnoreCase(other);
+        final Function<String, Integer> cached = StringXCache.get("compareToIgnoreCase(String)", other, null, 0);
+        return cached != null ? cached : StringXCache.put("compareToIgnoreCase(String)", other, null, 0,
+                s -> s.compareToIgnoreCase(other));
     }
 
     /**
@@ -926,7 +1122,9 @@ public final class StringX {
      * @since 0.5.0
      */
     public static Function<String, byte[]> getBytes(Charset charset) {
-        return s -> s.getBytes(charset);
+        final Function<String, byte[]> cached = StringXCache.get("getBytes(Charset)", charset, null, 0);
+        return cached != null ? cached : StringXCache.put("getBytes(Charset)", charset, null, 0,
+                s -> s.getBytes(charset));
     }
 
     /**
@@ -943,7 +1141,9 @@ public final class StringX {
      * @since 0.5.0
      */
     public static Predicate<String> startsWith(String prefix) {
-        return s -> s.startsWith(prefix);
+        final Predicate<String> cached = StringXCache.get("startsWith(String)", prefix, null, 0);
+        return cached != null ? cached : StringXCache.put("startsWith(String)", prefix, null, 0,
+                s -> s.startsWith(prefix));
     }
 
     /**
@@ -961,7 +1161,9 @@ public final class StringX {
      * @since 0.5.0
      */
     public static Predicate<String> startsWith(String prefix, int offset) {
-        return s -> s.startsWith(prefix, offset);
+        final Predicate<String> cached = StringXCache.get("startsWith(String, int)", prefix, null, offset);
+        return cached != null ? cached : StringXCache.put("startsWith(String, int)", prefix, null, offset,
+                s -> s.startsWith(prefix, offset));
     }
 
     /**
@@ -978,7 +1180,7 @@ public final class StringX {
      * @since 0.5.0
      */
     public static Function<Integer, Predicate<String>> leftStartsWith(String prefix) {
-        return offset -> s -> s.startsWith(prefix, offset);
+        return offset -> startsWith(prefix, offset);
     }
 
     /**
@@ -995,7 +1197,7 @@ public final class StringX {
      * @since 0.5.0
      */
     public static Function<String, Predicate<String>> rightStartsWith(int offset) {
-        return prefix -> s -> s.startsWith(prefix, offset);
+        return prefix -> startsWith(prefix, offset);
     }
 
     /**
@@ -1012,7 +1214,8 @@ public final class StringX {
      * @since 0.5.0
      */
     public static Predicate<String> endsWith(String suffix) {
-        return s -> s.endsWith(suffix);
+        final Predicate<String> cached = StringXCache.get("endsWith(String)", suffix, null, 0);
+        return cached != null ? cached : StringXCache.put("endsWith(String)", suffix, null, 0, s -> s.endsWith(suffix));
     }
 
     /**
@@ -1029,7 +1232,98 @@ public final class StringX {
      * @since 0.5.0
      */
     public static Predicate<String> contains(CharSequence cs) {
-        return s -> s.contains(cs);
+        final Predicate<String> cached = StringXCache.get("contains(CharSequence)", cs, null, 0);
+        return cached != null ? cached : StringXCache.put("contains(CharSequence)", cs, null, 0, s -> s.contains(cs));
+    }
+
+    /**
+     * Returns the predicate checking whether a string contains any of the keywords:
+     *
+     * <pre>{@code
+     * s -&gt; keywords.stream().anyMatch(s::contains)
+     * }</pre>
+     *
+     * <p>
+     * The keywords are compiled into an Aho&ndash;Corasick automaton once, when the predicate is created,
+     * so a string is scanned in a single pass whatever the number of keywords is.
+     *
+     * @param keywords the keywords, each of them is an argument of {@link java.lang.String#contains(CharSequence)}
+     * @return the predicate checking whether a string contains any of the keywords
+     * @throws NullPointerException if {@code keywords} is or contains {@code null}
+     * @see java.lang.String#contains(CharSequence)
+     * @see java.util.function.Predicate
+     * @since 0.6.0
+     */
+    public static Predicate<String> containsAny(Collection<String> keywords) {
+        return KeywordAutomaton.of(keywords, false)::containsAny;
+    }
+
+    /**
+     * Returns the predicate checking whether a string starts with any of the prefixes:
+     *
+     * <pre>{@code
+     * s -&gt; prefixes.stream().anyMatch(s::startsWith)
+     * }</pre>
+     *
+     * <p>
+     * The prefixes are compiled into a trie once, when the predicate is created,
+     * so a string is checked in a single pass over its prefix.
+     *
+     * @param prefixes the prefixes, each of them is an argument of {@link java.lang.String#startsWith(String)}
+     * @return the predicate checking whether a string starts with any of the prefixes
+     * @throws NullPointerException if {@code prefixes} is or contains {@code null}
+     * @see java.lang.String#startsWith(String)
+     * @see java.util.function.Predicate
+     * @since 0.6.0
+     */
+    public static Predicate<String> startsWithAny(Collection<String> prefixes) {
+        return KeywordAutomaton.of(prefixes, false)::hasPrefix;
+    }
+
+    /**
+     * Returns the predicate checking whether a string ends with any of the suffixes:
+     *
+     * <pre>{@code
+     * s -&gt; suffixes.stream().anyMatch(s::endsWith)
+     * }</pre>
+     *
+     * <p>
+     * The reversed suffixes are compiled into a trie once, when the predicate is created,
+     * so a string is checked in a single pass over its suffix from the end.
+     *
+     * @param suffixes the suffixes, each of them is an argument of {@link java.lang.String#endsWith(String)}
+     * @return the predicate checking whether a string ends with any of the suffixes
+     * @throws NullPointerException if {@code suffixes} is or contains {@code null}
+     * @see java.lang.String#endsWith(String)
+     * @see java.util.function.Predicate
+     * @since 0.6.0
+     */
+    public static Predicate<String> endsWithAny(Collection<String> suffixes) {
+        return KeywordAutomaton.of(suffixes, true)::hasPrefix;
+    }
+
+    /**
+     * Returns the function finding which of the keywords a string contains:
+     *
+     * <pre>{@code
+     * s -&gt; keywords.stream().filter(s::contains).collect(toList())
+     * }</pre>
+     *
+     * <p>
+     * The keywords are compiled into an Aho&ndash;Corasick automaton once, when the function is created,
+     * so a string is scanned in a single pass whatever the number of keywords is.
+     * The found keywords are distinct and ordered by the ends of their first occurrences,
+     * longer ones first.
+     *
+     * @param keywords the keywords, each of them is an argument of {@link java.lang.String#contains(CharSequence)}
+     * @return the function returning the keywords which a string contains
+     * @throws NullPointerException if {@code keywords} is or contains {@code null}
+     * @see java.lang.String#contains(CharSequence)
+     * @see java.util.function.Function
+     * @since 0.6.0
+     */
+    public static Function<String, List<String>> findAll(Collection<String> keywords) {
+        return KeywordAutomaton.of(keywords, false)::findAll;
     }
 
     /**
@@ -1041,12 +1335,40 @@ public final class StringX {
      *
      * @param regex the argument of {@link java.lang.String#matches(String)}
      * @return the carrying {@link java.lang.String#matches(String)} predicate
+     * @throws java.util.regex.PatternSyntaxException if {@code regex}'s syntax is invalid
      * @see java.lang.String#matches(String)
      * @see java.util.function.Predicate
      * @since 0.5.0
      */
     public static Predicate<String> matches(String regex) {
-        return s -> s.matches(regex);
+        final Predicate<String> cached = StringXCache.get("matches(String)", regex, null, 0);
+        return cached != null ? cached : StringXCache.put("matches(String)", regex, null, 0,
+                matches(Pattern.compile(regex)));
+    }
+
+    /**
+     * Returns the carrying {@link java.util.regex.Matcher#matches()} predicate:
+     *
+     * <pre>{@code
+     * s -&gt; pattern.matcher(s).matches()
+     * }</pre>
+     *
+     * @param pattern the compiled regex
+     * @return the carrying {@link java.util.regex.Matcher#matches()} predicate
+     * @see java.util.regex.Matcher#matches()
+     * @see java.util.function.Predicate
+     * @since 0.6.0
+     */
+    public static Predicate<String> matches(Pattern pattern) {
+        ThreadLocal<Matcher> matcher = matcherOf(pattern);
+        return s -> {
+            final Matcher m = matcher.get().reset(s);
+            try {
+                return m.matches();
+            } finally {
+                m.reset("");
+            }
+        };
     }
 
     /**
@@ -1080,7 +1402,9 @@ public final class StringX {
      * @since 0.5.0
      */
     public static Predicate<String> contentEqualsTo(CharSequence cs) {
-        return s -> s.contentEquals(cs);
+        final Predicate<String> cached = StringXCache.get("contentEqualsTo(CharSequence)", cs, null, 0);
+        return cached != null ? cached : StringXCache.put("contentEqualsTo(CharSequence)", cs, null, 0,
+                s -> s.contentEquals(cs));
     }
 
     /**
@@ -1097,7 +1421,9 @@ public final class StringX {
      * @since 0.5.0
      */
     public static Predicate<String> equalsIgnoreCaseTo(String other) {
-        return s -> s.equalsIgnoreCase(other);
+        final Predicate<String> cached = StringXCache.get("equalsIgnoreCaseTo(String)", other, null, 0);
+        return cached != null ? cached : StringXCache.put("equalsIgnoreCaseTo(String)", other, null, 0,
+                s -> s.equalsIgnoreCase(other));
     }
 
     /**
@@ -1114,6 +1440,7 @@ public final class StringX {
      * @since 0.5.0
      */
     public static Predicate<String> equalsTo(Object other) {
-        return s -> s.equals(other);
+        final Predicate<String> cached = StringXCache.get("equalsTo(Object)", other, null, 0);
+        return cached != null ? cached : StringXCache.put("equalsTo(Object)", other, null, 0, s -> s.equals(other));
     }
 }
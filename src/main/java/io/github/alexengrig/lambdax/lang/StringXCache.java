@@ -0,0 +1,180 @@
+/*
+ * Copyright 2019 - 2020 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.alexengrig.lambdax.lang;
+
+import java.nio.charset.Charset;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A bounded cache of canonical functions of {@link io.github.alexengrig.lambdax.lang.StringX}.
+ *
+ * <p>
+ * A function is keyed by the signature of its factory, up to two object arguments and up to two int arguments,
+ * the int arguments are packed into a {@code long}, so they are not boxed.
+ * Only functions of immutable object arguments are cached:
+ * {@link java.lang.String} and {@link java.nio.charset.Charset};
+ * a function of any other argument is created on each call.
+ * A hit looks up a reusable key of the thread in a {@link java.util.concurrent.ConcurrentHashMap},
+ * so it allocates nothing; a factory creates its function only after a miss.
+ * When the cache holds {@link #MAXIMUM_SIZE} functions, one thread evicts the functions
+ * which have not been hit since the previous eviction, as a second-chance policy does,
+ * so hot functions stay canonical while functions of one-off arguments are replaced.
+ *
+ * @author Grig Alex
+ * @version 0.6.0
+ * @see io.github.alexengrig.lambdax.lang.StringX
+ * @since 0.6.0
+ */
+final class StringXCache {
+    static final int MAXIMUM_SIZE = 1024;
+
+    private static final ConcurrentHashMap<Key, Entry> FUNCTIONS = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Key> PROBE = ThreadLocal.withInitial(Key::new);
+    private static final AtomicBoolean EVICTING = new AtomicBoolean();
+
+    private StringXCache() {
+    }
+
+    static long ints(int first, int second) {
+        return (long) first << 32 | second & 0xFFFFFFFFL;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <F> F get(String factory, Object first, Object second, long ints) {
+        if (!isImmutable(first) || !isImmutable(second)) {
+            return null;
+        }
+        final Key probe = PROBE.get().set(factory, first, second, ints);
+        final Entry entry = FUNCTIONS.get(probe);
+        probe.set(null, null, null, 0);
+        if (entry == null) {
+            return null;
+        }
+        if (!entry.referenced) {
+            entry.referenced = true;
+        }
+        return (F) entry.function;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <F> F put(String factory, Object first, Object second, long ints, F function) {
+        if (!isImmutable(first) || !isImmutable(second)) {
+            return function;
+        }
+        if (FUNCTIONS.size() >= MAXIMUM_SIZE) {
+            evict();
+        }
+        final Entry existing = FUNCTIONS.putIfAbsent(new Key().set(factory, first, second, ints), new Entry(function));
+        return existing == null ? function : (F) existing.function;
+    }
+
+    private static boolean isImmutable(Object argument) {
+        return argument == null || argument instanceof String || argument instanceof Charset;
+    }
+
+    private static void evict() {
+        if (!EVICTING.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            final int target = MAXIMUM_SIZE - (MAXIMUM_SIZE >> 3);
+            while (FUNCTIONS.size() > target) {
+                for (Iterator<Entry> i = FUNCTIONS.values().iterator(); i.hasNext() && FUNCTIONS.size() > target; ) {
+                    final Entry entry = i.next();
+                    if (entry.referenced) {
+                        entry.referenced = false;
+                    } else {
+                        i.remove();
+                    }
+                }
+            }
+        } finally {
+            EVICTING.set(false);
+        }
+    }
+
+    static int size() {
+        return FUNCTIONS.size();
+    }
+
+    static void clear() {
+        FUNCTIONS.clear();
+    }
+
+    /**
+     * A factory signature with its arguments; the key of a thread is reused to look up.
+     *
+     * @since 0.6.0
+     */
+    private static final class Key {
+        private String factory;
+        private Object first;
+        private Object second;
+        private long ints;
+        private int hash;
+
+        Key set(String factory, Object first, Object second, long ints) {
+            this.factory = factory;
+            this.first = first;
+            this.second = second;
+            this.ints = ints;
+            this.hash = factory == null ? 0
+                    : ((factory.hashCode() * 31 + Objects.hashCode(first)) * 31 + Objects.hashCode(second)) * 31
+                    + Long.hashCode(ints);
+            return this;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) o;
+            return hash == other.hash
+                    && ints == other.ints
+                    && Objects.equals(factory, other.factory)
+                    && Objects.equals(first, other.first)
+                    && Objects.equals(second, other.second);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * A cached function with its reference bit; the bit is updated without synchronization,
+     * a lost update only affects which function is evicted.
+     *
+     * @since 0.6.0
+     */
+    private static final class Entry {
+        final Object function;
+        volatile boolean referenced;
+
+        Entry(Object function) {
+            this.function = function;
+        }
+    }
+}
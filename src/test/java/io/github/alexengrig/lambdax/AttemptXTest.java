@@ -0,0 +1,156 @@
+/*
+ * Copyright 2019 - 2020 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.alexengrig.lambdax;
+
+import io.github.alexengrig.lambdax.exception.ExpectedException;
+import io.github.alexengrig.lambdax.exception.UnexpectedException;
+import io.github.alexengrig.lambdax.lang.StacklessException;
+import org.junit.Test;
+
+import java.util.NoSuchElementException;
+
+import static org.junit.Assert.*;
+
+public class AttemptXTest {
+    private static final AttemptX<Integer> NOT_A_NUMBER = AttemptX.failure("Not a number");
+
+    private static AttemptX<Integer> parse(String s) {
+        return s.chars().allMatch(Character::isDigit) ? AttemptX.success(Integer.valueOf(s)) : NOT_A_NUMBER;
+    }
+
+    @Test
+    public void checkSuccess() {
+        final AttemptX<String> attempt = AttemptX.success("value");
+        assertTrue("Attempt succeeded", attempt.isSuccess());
+        assertFalse("Attempt succeeded", attempt.isFailure());
+        assertEquals("value", attempt.get());
+        assertNull(AttemptX.success(null).get());
+    }
+
+    @Test
+    public void checkFailure() {
+        final ExpectedException exception = new ExpectedException();
+        final AttemptX<String> attempt = AttemptX.failure(exception);
+        assertTrue("Attempt failed", attempt.isFailure());
+        assertSame(exception, attempt.getFailure());
+        assertEquals("other", attempt.orElse("other"));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void checkNullFailure() {
+        AttemptX.failure((Throwable) null);
+    }
+
+    @Test
+    public void checkStacklessFailure() {
+        final Throwable failure = NOT_A_NUMBER.getFailure();
+        assertTrue(failure instanceof StacklessException);
+        assertEquals("Not a number", failure.getMessage());
+        assertEquals(0, failure.getStackTrace().length);
+    }
+
+    @Test
+    public void checkOf() {
+        assertEquals(AttemptX.success(3), AttemptX.of("abc", String::length));
+        final AttemptX<Object> attempt = AttemptX.of("abc", s -> {
+            throw new ExpectedException();
+        });
+        assertTrue(attempt.getFailure() instanceof ExpectedException);
+    }
+
+    @Test
+    public void checkMap() {
+        assertEquals(AttemptX.success(3), AttemptX.success("abc").map(String::length));
+        assertSame(NOT_A_NUMBER, NOT_A_NUMBER.map(i -> {
+            fail("Fail mapper");
+            return i;
+        }));
+        assertTrue(AttemptX.<String>success(null).map(s -> {
+            fail("Fail mapper");
+            return s;
+        }).isSuccess());
+    }
+
+    @Test
+    public void checkFlatMap() {
+        assertEquals(AttemptX.success(42), AttemptX.success("42").flatMap(AttemptXTest::parse));
+        assertSame(NOT_A_NUMBER, AttemptX.success("4x").flatMap(AttemptXTest::parse));
+    }
+
+    @Test
+    public void checkAttemptMap() {
+        assertEquals(AttemptX.success(42), AttemptX.success("42").attemptMap(Integer::valueOf));
+        assertTrue(AttemptX.success("4x").attemptMap(Integer::valueOf).getFailure() instanceof NumberFormatException);
+    }
+
+    @Test
+    public void checkFilter() {
+        assertEquals(AttemptX.success(42), AttemptX.success(42).filter(i -> i > 0, i -> new UnexpectedException()));
+        assertEquals("-1", AttemptX.success(-1)
+                .filter(i -> i > 0, i -> new StacklessException(String.valueOf(i)))
+                .getFailure().getMessage());
+    }
+
+    @Test
+    public void checkRecover() {
+        assertEquals(Integer.valueOf(-1), NOT_A_NUMBER.recover(failure -> -1).get());
+        assertEquals(Integer.valueOf(1), AttemptX.success(1).recover(failure -> {
+            fail("Fail recoverer");
+            return -1;
+        }).get());
+    }
+
+    @Test
+    public void checkChain() {
+        assertEquals(ChainX.of(1), AttemptX.success(1).chain());
+        assertTrue("Value is null", NOT_A_NUMBER.chain().isNull());
+    }
+
+    @Test
+    public void checkGetOfFailure() {
+        try {
+            NOT_A_NUMBER.get();
+            fail("Get of failure");
+        } catch (NoSuchElementException e) {
+            assertSame(NOT_A_NUMBER.getFailure(), e.getCause());
+        }
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void checkGetFailureOfSuccess() {
+        AttemptX.success(1).getFailure();
+    }
+
+    @Test
+    public void checkOrElseCatch() {
+        assertEquals("Not a number", NOT_A_NUMBER.map(String::valueOf).orElseCatch(Throwable::getMessage));
+    }
+
+    @Test(expected = ExpectedException.class)
+    public void checkOrElseThrow() {
+        NOT_A_NUMBER.orElseThrow(failure -> new ExpectedException());
+    }
+
+    @Test
+    public void checkIf() {
+        final Throwable[] failures = new Throwable[1];
+        NOT_A_NUMBER.ifSuccess(value -> fail("Fail consumer"));
+        NOT_A_NUMBER.ifFailure(failure -> failures[0] = failure);
+        AttemptX.success(1).ifFailure(failure -> fail("Fail consumer"));
+        assertSame(NOT_A_NUMBER.getFailure(), failures[0]);
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2019 - 2020 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.alexengrig.lambdax;
+
+import io.github.alexengrig.lambdax.entity.Ref;
+import io.github.alexengrig.lambdax.exception.ExpectedException;
+import io.github.alexengrig.lambdax.function.ThrowableFunction;
+import io.github.alexengrig.lambdax.function.ThrowablePredicate;
+import org.junit.Test;
+
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.function.Function;
+
+import static org.junit.Assert.*;
+
+public class ChainPipelineXTest {
+    private final Function<String, String> failFunction = t -> {
+        fail("Fail function");
+        return t;
+    };
+    private final ThrowablePredicate<String, ExpectedException> throwingPredicate = t -> {
+        throw new ExpectedException();
+    };
+    private final ThrowableFunction<String, String, ExpectedException> throwingFunction = t -> {
+        throw new ExpectedException();
+    };
+
+    @Test
+    public void checkEmptyPipeline() {
+        ChainPipelineX<String, String> pipeline = ChainX.pipeline(String.class);
+        assertEquals(0, pipeline.size());
+        assertEquals("value", pipeline.get().apply("value"));
+        assertNull(pipeline.get().apply(null));
+    }
+
+    @Test
+    public void checkMapAndFilter() {
+        Function<String, Integer> function = ChainX.pipeline(String.class)
+                .map(String::length)
+                .filter(length -> length > 3)
+                .orElse(-1);
+        assertEquals(Integer.valueOf(6), function.apply("string"));
+        assertEquals(Integer.valueOf(-1), function.apply("str"));
+        assertEquals(Integer.valueOf(-1), function.apply(null));
+    }
+
+    @Test
+    public void checkSize() {
+        assertEquals(3, ChainX.pipeline(String.class).map(String::trim).filter(s -> true).or(ChainX.of("")).size());
+    }
+
+    @Test
+    public void checkNullShortCircuit() {
+        Function<String, String> function = ChainX.pipeline(String.class)
+                .map(s -> (String) null)
+                .map(failFunction)
+                .get();
+        assertNull(function.apply("value"));
+    }
+
+    @Test
+    public void checkOr() {
+        Function<String, String> function = ChainX.pipeline(String.class)
+                .filter(String::isEmpty)
+                .or(ChainX.of("other"))
+                .map(String::toUpperCase)
+                .get();
+        assertEquals("OTHER", function.apply("value"));
+        assertEquals("", function.apply(""));
+        assertEquals("OTHER", ChainX.pipeline(String.class).or(() -> ChainX.of("other"))
+                .map(String::toUpperCase).get().apply(null));
+    }
+
+    @Test
+    public void checkMutate() {
+        Function<Ref<String>, String> function = ChainX.<Ref<String>>pipeline(cast(Ref.class))
+                .mutate(ref -> ref.set("mutated"))
+                .map(Ref::get)
+                .get();
+        assertEquals("mutated", function.apply(new Ref<>("value")));
+    }
+
+    @Test
+    public void checkFlatMap() {
+        Function<String, Optional<String>> function = ChainX.pipeline(String.class)
+                .flatMap(s -> ChainX.of(s.trim()))
+                .flatMapOptional(s -> s.isEmpty() ? Optional.empty() : Optional.of(s))
+                .optional();
+        assertEquals(Optional.of("value"), function.apply(" value "));
+        assertEquals(Optional.empty(), function.apply("  "));
+    }
+
+    @Test
+    public void checkOrElseGet() {
+        assertEquals("other", ChainX.pipeline(String.class).orElseGet(() -> "other").apply(null));
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void checkOrElseThrow() {
+        ChainX.pipeline(String.class).orElseThrow().apply(null);
+    }
+
+    @Test
+    public void checkTryFilterLikeChainX() {
+        for (String value : new String[]{"value", null}) {
+            assertEquals(ChainX.of(value).tryFilter(throwingPredicate).get(),
+                    ChainX.pipeline(String.class).tryFilter(throwingPredicate).get().apply(value));
+            assertEquals(ChainX.of(value).tryFilterOrEmpty(throwingPredicate).get(),
+                    ChainX.pipeline(String.class).tryFilterOrEmpty(throwingPredicate).get().apply(value));
+            assertEquals(ChainX.of(value).tryFilterOrElse(throwingPredicate, false).get(),
+                    ChainX.pipeline(String.class).tryFilterOrElse(throwingPredicate, false).get().apply(value));
+            assertEquals(ChainX.of(value).tryFilterOrGet(throwingPredicate, () -> true).get(),
+                    ChainX.pipeline(String.class).tryFilterOrGet(throwingPredicate, () -> true).get().apply(value));
+            assertEquals(ChainX.of(value).tryFilterOrCatch(throwingPredicate, e -> true).get(),
+                    ChainX.pipeline(String.class).tryFilterOrCatch(throwingPredicate, e -> true).get().apply(value));
+        }
+    }
+
+    @Test
+    public void checkTryMapLikeChainX() {
+        for (String value : new String[]{"value", null}) {
+            assertEquals(ChainX.of(value).tryMapOrEmpty(throwingFunction).get(),
+                    ChainX.pipeline(String.class).tryMapOrEmpty(throwingFunction).get().apply(value));
+            assertEquals(ChainX.of(value).tryMapOrElse(throwingFunction, "other").get(),
+                    ChainX.pipeline(String.class).tryMapOrElse(throwingFunction, "other").get().apply(value));
+            assertEquals(ChainX.of(value).tryMapOrGet(throwingFunction, () -> "other").get(),
+                    ChainX.pipeline(String.class).tryMapOrGet(throwingFunction, () -> "other").get().apply(value));
+            assertEquals(ChainX.of(value).tryMapOrCatch(throwingFunction, e -> "caught").get(),
+                    ChainX.pipeline(String.class).tryMapOrCatch(throwingFunction, e -> "caught").get().apply(value));
+        }
+    }
+
+    @Test
+    public void checkTryFlatMapLikeChainX() {
+        ThrowableFunction<String, ChainX<String>, ExpectedException> chainMapper = t -> {
+            throw new ExpectedException();
+        };
+        ThrowableFunction<String, Optional<String>, ExpectedException> optionalMapper = t -> {
+            throw new ExpectedException();
+        };
+        for (String value : new String[]{"value", null}) {
+            assertEquals(ChainX.of(value).tryFlatMapOrEmpty(chainMapper).get(),
+                    ChainX.pipeline(String.class).tryFlatMapOrEmpty(chainMapper).get().apply(value));
+            assertEquals(ChainX.of(value).tryFlatMapOrElse(chainMapper, ChainX.of("other")).get(),
+                    ChainX.pipeline(String.class).tryFlatMapOrElse(chainMapper, ChainX.of("other")).get().apply(value));
+            assertEquals(ChainX.of(value).tryFlatMapOptionalOrGet(optionalMapper, () -> Optional.of("other")).get(),
+                    ChainX.pipeline(String.class)
+                            .tryFlatMapOptionalOrGet(optionalMapper, () -> Optional.of("other")).get().apply(value));
+        }
+    }
+
+    @Test
+    public void checkTryMutateWithCatcher() {
+        Ref<Throwable> caught = new Ref<>();
+        ChainX.pipeline(String.class)
+                .tryMutate(s -> {
+                    throw new ExpectedException();
+                }, caught::set)
+                .get()
+                .apply("value");
+        assertTrue(caught.get() instanceof ExpectedException);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Class<T> cast(Class<?> type) {
+        return (Class<T>) type;
+    }
+}
@@ -135,6 +135,51 @@ public class ChainXTest {
         assertTrue(chain.isNull());
     }
 
+    @Test
+    public void checkFlatMapNullResult() {
+        assertTrue(ChainX.of("").flatMap(s -> (ChainX<String>) null).isNull());
+        assertTrue(ChainX.of("").flatMapOptional(s -> (Optional<String>) null).isNull());
+    }
+
+    @Test
+    public void checkAttemptMap() {
+        assertEquals(Integer.valueOf(42), ChainX.of("42").attemptMap(Integer::valueOf).get());
+        assertTrue(ChainX.of("4x").attemptMap(Integer::valueOf).getFailure() instanceof NumberFormatException);
+        assertTrue(ChainX.<String>empty().attemptMap(failThrowableFunction).isSuccess());
+    }
+
+    @Test
+    public void checkAttemptFlatMap() {
+        assertEquals(Integer.valueOf(42), ChainX.of("42").attemptFlatMap(s -> AttemptX.success(Integer.valueOf(s))).get());
+        assertEquals(Integer.valueOf(-1), ChainX.of("4x")
+                .attemptFlatMap(s -> AttemptX.<Integer>failure("Not a number"))
+                .recover(failure -> -1)
+                .get());
+        assertTrue(ChainX.<String>empty().attemptFlatMap(s -> {
+            fail("Fail attempt function");
+            return AttemptX.success(s);
+        }).chain().isNull());
+    }
+
+    @Test
+    public void checkMapToPrimitive() {
+        assertEquals(3, ChainX.of("abc").mapToInt(String::length).filter(length -> length > 0).orElseThrow());
+        assertEquals(3L, ChainX.of("abc").mapToLong(String::length).orElseThrow());
+        assertEquals(3.0, ChainX.of("abc").mapToDouble(String::length).orElseThrow(), 0.0);
+        assertTrue("Value is not present", ChainX.<String>empty().mapToInt(s -> {
+            fail("Fail mapper");
+            return 0;
+        }).isEmpty());
+        assertTrue("Value is not present", ChainX.<String>empty().mapToLong(s -> {
+            fail("Fail mapper");
+            return 0L;
+        }).isEmpty());
+        assertTrue("Value is not present", ChainX.<String>empty().mapToDouble(s -> {
+            fail("Fail mapper");
+            return 0.0;
+        }).isEmpty());
+    }
+
     @Test
     public void checkMutate() {
         ChainX<String[]> chain = ChainX.of(new String[]{""});
@@ -617,6 +662,7 @@ public class ChainXTest {
     public void checkOrSupplier() {
         assertFalse(ChainX.of("").or(ChainX::empty).isNull());
         assertFalse(ChainX.empty().or(() -> ChainX.of("")).isNull());
+        assertTrue(ChainX.empty().or(() -> null).isNull());
     }
 
     @Test
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2019 - 2020 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.alexengrig.lambdax;
+
+import io.github.alexengrig.lambdax.exception.ExpectedException;
+import org.junit.Test;
+
+import java.util.NoSuchElementException;
+import java.util.OptionalDouble;
+
+import static org.junit.Assert.*;
+
+public class DoubleChainXTest {
+    @Test
+    public void checkEmpty() {
+        final DoubleChainX chain = DoubleChainX.empty();
+        assertTrue("Value is not present", chain.isEmpty());
+        assertFalse("Value is not present", chain.isPresent());
+    }
+
+    @Test
+    public void checkOf() {
+        final DoubleChainX chain = DoubleChainX.of(4.2);
+        assertTrue("Value is present", chain.isPresent());
+        assertEquals(4.2, chain.orElseThrow(), 0.0);
+    }
+
+    @Test
+    public void checkOfOptional() {
+        assertEquals(DoubleChainX.of(4.2), DoubleChainX.of(OptionalDouble.of(4.2)));
+        assertEquals(DoubleChainX.empty(), DoubleChainX.of(OptionalDouble.empty()));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void checkOfNullOptional() {
+        DoubleChainX.of((OptionalDouble) null);
+    }
+
+    @Test
+    public void checkFilter() {
+        assertTrue("Value is present", DoubleChainX.of(4.2).filter(value -> value == 4.2).isPresent());
+        assertTrue("Value is not present", DoubleChainX.of(4.2).filter(value -> value != 4.2).isEmpty());
+        assertTrue("Value is not present", DoubleChainX.empty().filter(value -> {
+            fail("Fail predicate");
+            return true;
+        }).isEmpty());
+    }
+
+    @Test
+    public void checkMap() {
+        assertEquals(7.0, DoubleChainX.of(4.2).map(value -> 7.0).orElseThrow(), 0.0);
+        assertTrue("Value is not present", DoubleChainX.empty().map(value -> {
+            fail("Fail operator");
+            return value;
+        }).isEmpty());
+    }
+
+    @Test
+    public void checkMapToObj() {
+        assertEquals("4.2", DoubleChainX.of(4.2).mapToObj(value -> "4.2").get());
+        assertTrue("Value is null", DoubleChainX.empty().mapToObj(value -> {
+            fail("Fail mapper");
+            return value;
+        }).isNull());
+    }
+
+    @Test
+    public void checkMapToInt() {
+        assertEquals(42, DoubleChainX.of(4.2).mapToInt(value -> 42).orElseThrow());
+        assertTrue("Value is not present", DoubleChainX.empty().mapToInt(value -> {
+            fail("Fail mapper");
+            return 0;
+        }).isEmpty());
+    }
+
+    @Test
+    public void checkMapToLong() {
+        assertEquals(42L, DoubleChainX.of(4.2).mapToLong(value -> 42L).orElseThrow());
+        assertTrue("Value is not present", DoubleChainX.empty().mapToLong(value -> {
+            fail("Fail mapper");
+            return 0L;
+        }).isEmpty());
+    }
+
+    @Test
+    public void checkOr() {
+        assertEquals(4.2, DoubleChainX.of(4.2).or(DoubleChainX.of(7.0)).orElseThrow(), 0.0);
+        assertEquals(7.0, DoubleChainX.empty().or(DoubleChainX.of(7.0)).orElseThrow(), 0.0);
+        assertEquals(4.2, DoubleChainX.of(4.2).or(() -> {
+            fail("Fail producer");
+            return DoubleChainX.empty();
+        }).orElseThrow(), 0.0);
+        assertEquals(7.0, DoubleChainX.empty().or(() -> DoubleChainX.of(7.0)).orElseThrow(), 0.0);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void checkOrNullChain() {
+        DoubleChainX.empty().or((DoubleChainX) null);
+    }
+
+    @Test
+    public void checkValue() {
+        assertArrayEquals(new double[]{4.2}, DoubleChainX.of(4.2).stream().toArray(), 0.0);
+        assertEquals(0, DoubleChainX.empty().stream().count());
+        assertEquals(OptionalDouble.of(4.2), DoubleChainX.of(4.2).optional());
+        assertEquals(OptionalDouble.empty(), DoubleChainX.empty().optional());
+        assertEquals(Double.valueOf(4.2), DoubleChainX.of(4.2).boxed().get());
+        assertTrue("Value is null", DoubleChainX.empty().boxed().isNull());
+    }
+
+    @Test
+    public void checkOrElse() {
+        assertEquals(4.2, DoubleChainX.of(4.2).orElse(7.0), 0.0);
+        assertEquals(7.0, DoubleChainX.empty().orElse(7.0), 0.0);
+        assertEquals(7.0, DoubleChainX.empty().orElseGet(() -> 7.0), 0.0);
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void checkOrElseThrow() {
+        DoubleChainX.empty().orElseThrow();
+    }
+
+    @Test(expected = ExpectedException.class)
+    public void checkOrElseThrowGet() {
+        DoubleChainX.empty().orElseThrowGet(ExpectedException::new);
+    }
+
+    @Test
+    public void checkIf() {
+        final boolean[] called = new boolean[2];
+        DoubleChainX.of(4.2).ifPresent(value -> called[0] = true);
+        DoubleChainX.empty().ifEmpty(() -> called[1] = true);
+        DoubleChainX.of(4.2).ifEmpty(() -> fail("Fail runnable"));
+        DoubleChainX.empty().ifPresent(value -> fail("Fail consumer"));
+        assertTrue("Consumer is called", called[0]);
+        assertTrue("Runnable is called", called[1]);
+    }
+
+    @Test
+    public void checkObject() {
+        assertEquals(DoubleChainX.of(4.2), DoubleChainX.of(4.2));
+        assertEquals(DoubleChainX.of(4.2).hashCode(), DoubleChainX.of(4.2).hashCode());
+        assertNotEquals(DoubleChainX.of(4.2), DoubleChainX.of(7.0));
+        assertEquals(DoubleChainX.empty(), DoubleChainX.of(4.2).filter(value -> false));
+        assertNotEquals(DoubleChainX.empty(), DoubleChainX.of(0.0));
+        assertEquals("DoubleChainX[" + 4.2 + "]", DoubleChainX.of(4.2).toString());
+        assertEquals("DoubleChainX.empty", DoubleChainX.empty().toString());
+    }
+}
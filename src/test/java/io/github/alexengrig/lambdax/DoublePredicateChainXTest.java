@@ -0,0 +1,181 @@
+/*
+ * Copyright 2019 - 2020 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.alexengrig.lambdax;
+
+import io.github.alexengrig.lambdax.entity.Entities;
+import io.github.alexengrig.lambdax.entity.Gun;
+import io.github.alexengrig.lambdax.function.PredicateX;
+import org.junit.Test;
+
+import java.util.function.ToDoubleFunction;
+
+import static io.github.alexengrig.lambdax.DoublePredicateChainX.of;
+
+public class DoublePredicateChainXTest extends PredicateTester implements Entities {
+    private static final ToDoubleFunction<Gun> DAMAGE = gun -> (double) gun.getDamage();
+
+    public DoublePredicateChainXTest() {
+        super("DoublePredicateChainX");
+    }
+
+    @Test
+    public void checkCheck() {
+        assertTrueByMethod(
+                "check",
+                of(DAMAGE).check(damage -> damage % 5 == 0),
+                CROWBAR
+        );
+    }
+
+    @Test
+    public void checkEqualTo() {
+        assertTrueByMethod(
+                "equalTo",
+                of(DAMAGE).equalTo(5.0),
+                CROWBAR
+        );
+        assertFalseByMethod(
+                "equalTo",
+                of(DAMAGE).equalTo(5.0),
+                SNARK
+        );
+    }
+
+    @Test
+    public void checkLess() {
+        assertTrueByMethod("less", of(DAMAGE).less(10.0), CROWBAR);
+        assertFalseByMethod("less", of(DAMAGE).less(10.0), SNARK);
+    }
+
+    @Test
+    public void checkGreater() {
+        assertTrueByMethod("greater", of(DAMAGE).greater(5.0), SNARK);
+        assertFalseByMethod("greater", of(DAMAGE).greater(5.0), CROWBAR);
+    }
+
+    @Test
+    public void checkLessOrEqual() {
+        assertTrueByMethod("lessOrEqual", of(DAMAGE).lessOrEqual(5.0), CROWBAR);
+        assertFalseByMethod("lessOrEqual", of(DAMAGE).lessOrEqual(5.0), SNARK);
+    }
+
+    @Test
+    public void checkGreaterOrEqual() {
+        assertTrueByMethod("greaterOrEqual", of(DAMAGE).greaterOrEqual(10.0), SNARK);
+        assertFalseByMethod("greaterOrEqual", of(DAMAGE).greaterOrEqual(10.0), CROWBAR);
+    }
+
+    @Test
+    public void checkBetween() {
+        assertTrueByMethod("between", of(DAMAGE).between(5.0, 10.0), CROWBAR);
+        assertTrueByMethod("between", of(DAMAGE).between(5.0, 10.0), SNARK);
+        assertFalseByMethod("between", of(DAMAGE).between(6.0, 9.0), SNARK);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void checkBetweenWithWrongBounds() {
+        of(DAMAGE).between(10.0, 5.0);
+    }
+
+    @Test
+    public void checkIn() {
+        assertTrueByMethod("in", of(DAMAGE).in(10.0, 1.0, 5.0), CROWBAR);
+        assertFalseByMethod("in", of(DAMAGE).in(10.0, 1.0), CROWBAR);
+        assertFalseByMethod("in", of(DAMAGE).in(), CROWBAR);
+    }
+
+    @Test
+    public void checkNaN() {
+        assertTrueByMethod(
+                "equalTo",
+                of((Double value) -> value).equalTo(Double.NaN),
+                Double.NaN
+        );
+        assertTrueByMethod(
+                "in",
+                of((Double value) -> value).in(0.0, Double.NaN),
+                Double.NaN
+        );
+        assertFalseByMethod(
+                "greater",
+                of((Double value) -> value).greater(0.0),
+                -0.0
+        );
+    }
+
+    @Test
+    public void checkChain() {
+        assertTrueByMethod(
+                "chainDouble",
+                PredicateX.chainDouble(DAMAGE).greater(0.0).and(gun -> gun.getName().startsWith("C")),
+                CROWBAR
+        );
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void checkNullInput() {
+        of(DAMAGE).greater(0.0).test(null);
+    }
+
+    public static class Result extends PredicateTester {
+        public Result() {
+            super("DoublePredicateChainX.Result");
+        }
+
+        @Test
+        public void checkOrElseWithPredicate() {
+            String method = "orElse(Predicate)";
+            assertTrueByMethod(
+                    method,
+                    of(DAMAGE).greater(0.0).orElse(gun -> gun == null),
+                    null
+            );
+            assertTrueByMethod(
+                    method,
+                    of(DAMAGE).greater(0.0).orElse(failPredicateByMethod(method)),
+                    CROWBAR
+            );
+        }
+
+        @Test
+        public void checkOrElseWithBoolean() {
+            String method = "orElse(boolean)";
+            assertTrueByMethod(method, of(DAMAGE).less(0.0).orElse(true), null);
+            assertFalseByMethod(method, of(DAMAGE).less(0.0).orElse(true), CROWBAR);
+        }
+
+        @Test
+        public void checkOrElseWithSupplier() {
+            String method = "orElse(BooleanSupplier)";
+            assertTrueByMethod(method, of(DAMAGE).less(0.0).orElse(() -> true), null);
+            assertTrueByMethod(method, of(DAMAGE).greater(0.0).orElse(failBooleanSupplierByMethod(method)), CROWBAR);
+        }
+
+        @Test
+        public void checkOrTruth() {
+            assertTrueByMethod("orTruth", of(DAMAGE).less(0.0).orTruth(), null);
+            assertFalseByMethod("orTruth", of(DAMAGE).less(0.0).orTruth(), CROWBAR);
+        }
+
+        @Test
+        public void checkOrLie() {
+            assertFalseByMethod("orLie", of(DAMAGE).greater(0.0).orLie(), null);
+            assertTrueByMethod("orLie", of(DAMAGE).greater(0.0).orLie(), CROWBAR);
+        }
+    }
+}
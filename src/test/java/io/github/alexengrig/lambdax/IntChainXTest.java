@@ -0,0 +1,164 @@
+/*
+ * Copyright 2019 - 2020 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.alexengrig.lambdax;
+
+import io.github.alexengrig.lambdax.exception.ExpectedException;
+import org.junit.Test;
+
+import java.util.NoSuchElementException;
+import java.util.OptionalInt;
+
+import static org.junit.Assert.*;
+
+public class IntChainXTest {
+    @Test
+    public void checkEmpty() {
+        final IntChainX chain = IntChainX.empty();
+        assertTrue("Value is not present", chain.isEmpty());
+        assertFalse("Value is not present", chain.isPresent());
+    }
+
+    @Test
+    public void checkOf() {
+        final IntChainX chain = IntChainX.of(42);
+        assertTrue("Value is present", chain.isPresent());
+        assertEquals(42, chain.orElseThrow());
+    }
+
+    @Test
+    public void checkOfOptional() {
+        assertEquals(IntChainX.of(42), IntChainX.of(OptionalInt.of(42)));
+        assertEquals(IntChainX.empty(), IntChainX.of(OptionalInt.empty()));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void checkOfNullOptional() {
+        IntChainX.of((OptionalInt) null);
+    }
+
+    @Test
+    public void checkFilter() {
+        assertTrue("Value is present", IntChainX.of(42).filter(value -> value == 42).isPresent());
+        assertTrue("Value is not present", IntChainX.of(42).filter(value -> value != 42).isEmpty());
+        assertTrue("Value is not present", IntChainX.empty().filter(value -> {
+            fail("Fail predicate");
+            return true;
+        }).isEmpty());
+    }
+
+    @Test
+    public void checkMap() {
+        assertEquals(7, IntChainX.of(42).map(value -> 7).orElseThrow());
+        assertTrue("Value is not present", IntChainX.empty().map(value -> {
+            fail("Fail operator");
+            return value;
+        }).isEmpty());
+    }
+
+    @Test
+    public void checkMapToObj() {
+        assertEquals("42", IntChainX.of(42).mapToObj(value -> "42").get());
+        assertTrue("Value is null", IntChainX.empty().mapToObj(value -> {
+            fail("Fail mapper");
+            return value;
+        }).isNull());
+    }
+
+    @Test
+    public void checkMapToLong() {
+        assertEquals(42L, IntChainX.of(42).mapToLong(value -> 42L).orElseThrow());
+        assertTrue("Value is not present", IntChainX.empty().mapToLong(value -> {
+            fail("Fail mapper");
+            return 0L;
+        }).isEmpty());
+    }
+
+    @Test
+    public void checkMapToDouble() {
+        assertEquals(4.2, IntChainX.of(42).mapToDouble(value -> 4.2).orElseThrow(), 0.0);
+        assertTrue("Value is not present", IntChainX.empty().mapToDouble(value -> {
+            fail("Fail mapper");
+            return 0.0;
+        }).isEmpty());
+    }
+
+    @Test
+    public void checkOr() {
+        assertEquals(42, IntChainX.of(42).or(IntChainX.of(7)).orElseThrow());
+        assertEquals(7, IntChainX.empty().or(IntChainX.of(7)).orElseThrow());
+        assertEquals(42, IntChainX.of(42).or(() -> {
+            fail("Fail producer");
+            return IntChainX.empty();
+        }).orElseThrow());
+        assertEquals(7, IntChainX.empty().or(() -> IntChainX.of(7)).orElseThrow());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void checkOrNullChain() {
+        IntChainX.empty().or((IntChainX) null);
+    }
+
+    @Test
+    public void checkValue() {
+        assertArrayEquals(new int[]{42}, IntChainX.of(42).stream().toArray());
+        assertEquals(0, IntChainX.empty().stream().count());
+        assertEquals(OptionalInt.of(42), IntChainX.of(42).optional());
+        assertEquals(OptionalInt.empty(), IntChainX.empty().optional());
+        assertEquals(Integer.valueOf(42), IntChainX.of(42).boxed().get());
+        assertTrue("Value is null", IntChainX.empty().boxed().isNull());
+    }
+
+    @Test
+    public void checkOrElse() {
+        assertEquals(42, IntChainX.of(42).orElse(7));
+        assertEquals(7, IntChainX.empty().orElse(7));
+        assertEquals(7, IntChainX.empty().orElseGet(() -> 7));
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void checkOrElseThrow() {
+        IntChainX.empty().orElseThrow();
+    }
+
+    @Test(expected = ExpectedException.class)
+    public void checkOrElseThrowGet() {
+        IntChainX.empty().orElseThrowGet(ExpectedException::new);
+    }
+
+    @Test
+    public void checkIf() {
+        final boolean[] called = new boolean[2];
+        IntChainX.of(42).ifPresent(value -> called[0] = true);
+        IntChainX.empty().ifEmpty(() -> called[1] = true);
+        IntChainX.of(42).ifEmpty(() -> fail("Fail runnable"));
+        IntChainX.empty().ifPresent(value -> fail("Fail consumer"));
+        assertTrue("Consumer is called", called[0]);
+        assertTrue("Runnable is called", called[1]);
+    }
+
+    @Test
+    public void checkObject() {
+        assertEquals(IntChainX.of(42), IntChainX.of(42));
+        assertEquals(IntChainX.of(42).hashCode(), IntChainX.of(42).hashCode());
+        assertNotEquals(IntChainX.of(42), IntChainX.of(7));
+        assertEquals(IntChainX.empty(), IntChainX.of(42).filter(value -> false));
+        assertNotEquals(IntChainX.empty(), IntChainX.of(0));
+        assertEquals("IntChainX[" + 42 + "]", IntChainX.of(42).toString());
+        assertEquals("IntChainX.empty", IntChainX.empty().toString());
+    }
+}
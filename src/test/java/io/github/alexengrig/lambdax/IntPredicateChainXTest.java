@@ -0,0 +1,162 @@
+/*
+ * Copyright 2019 - 2020 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.alexengrig.lambdax;
+
+import io.github.alexengrig.lambdax.entity.Entities;
+import io.github.alexengrig.lambdax.entity.Gun;
+import io.github.alexengrig.lambdax.function.PredicateX;
+import org.junit.Test;
+
+import java.util.function.ToIntFunction;
+
+import static io.github.alexengrig.lambdax.IntPredicateChainX.of;
+
+public class IntPredicateChainXTest extends PredicateTester implements Entities {
+    private static final ToIntFunction<Gun> DAMAGE = Gun::getDamage;
+
+    public IntPredicateChainXTest() {
+        super("IntPredicateChainX");
+    }
+
+    @Test
+    public void checkCheck() {
+        assertTrueByMethod(
+                "check",
+                of(DAMAGE).check(damage -> damage % 5 == 0),
+                CROWBAR
+        );
+    }
+
+    @Test
+    public void checkEqualTo() {
+        assertTrueByMethod(
+                "equalTo",
+                of(DAMAGE).equalTo(5),
+                CROWBAR
+        );
+        assertFalseByMethod(
+                "equalTo",
+                of(DAMAGE).equalTo(5),
+                SNARK
+        );
+    }
+
+    @Test
+    public void checkLess() {
+        assertTrueByMethod("less", of(DAMAGE).less(10), CROWBAR);
+        assertFalseByMethod("less", of(DAMAGE).less(10), SNARK);
+    }
+
+    @Test
+    public void checkGreater() {
+        assertTrueByMethod("greater", of(DAMAGE).greater(5), SNARK);
+        assertFalseByMethod("greater", of(DAMAGE).greater(5), CROWBAR);
+    }
+
+    @Test
+    public void checkLessOrEqual() {
+        assertTrueByMethod("lessOrEqual", of(DAMAGE).lessOrEqual(5), CROWBAR);
+        assertFalseByMethod("lessOrEqual", of(DAMAGE).lessOrEqual(5), SNARK);
+    }
+
+    @Test
+    public void checkGreaterOrEqual() {
+        assertTrueByMethod("greaterOrEqual", of(DAMAGE).greaterOrEqual(10), SNARK);
+        assertFalseByMethod("greaterOrEqual", of(DAMAGE).greaterOrEqual(10), CROWBAR);
+    }
+
+    @Test
+    public void checkBetween() {
+        assertTrueByMethod("between", of(DAMAGE).between(5, 10), CROWBAR);
+        assertTrueByMethod("between", of(DAMAGE).between(5, 10), SNARK);
+        assertFalseByMethod("between", of(DAMAGE).between(6, 9), SNARK);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void checkBetweenWithWrongBounds() {
+        of(DAMAGE).between(10, 5);
+    }
+
+    @Test
+    public void checkIn() {
+        assertTrueByMethod("in", of(DAMAGE).in(10, 1, 5), CROWBAR);
+        assertFalseByMethod("in", of(DAMAGE).in(10, 1), CROWBAR);
+        assertFalseByMethod("in", of(DAMAGE).in(), CROWBAR);
+    }
+
+    @Test
+    public void checkChain() {
+        assertTrueByMethod(
+                "chainInt",
+                PredicateX.chainInt(DAMAGE).greater(0).and(gun -> gun.getName().startsWith("C")),
+                CROWBAR
+        );
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void checkNullInput() {
+        of(DAMAGE).greater(0).test(null);
+    }
+
+    public static class Result extends PredicateTester {
+        public Result() {
+            super("IntPredicateChainX.Result");
+        }
+
+        @Test
+        public void checkOrElseWithPredicate() {
+            String method = "orElse(Predicate)";
+            assertTrueByMethod(
+                    method,
+                    of(DAMAGE).greater(0).orElse(gun -> gun == null),
+                    null
+            );
+            assertTrueByMethod(
+                    method,
+                    of(DAMAGE).greater(0).orElse(failPredicateByMethod(method)),
+                    CROWBAR
+            );
+        }
+
+        @Test
+        public void checkOrElseWithBoolean() {
+            String method = "orElse(boolean)";
+            assertTrueByMethod(method, of(DAMAGE).less(0).orElse(true), null);
+            assertFalseByMethod(method, of(DAMAGE).less(0).orElse(true), CROWBAR);
+        }
+
+        @Test
+        public void checkOrElseWithSupplier() {
+            String method = "orElse(BooleanSupplier)";
+            assertTrueByMethod(method, of(DAMAGE).less(0).orElse(() -> true), null);
+            assertTrueByMethod(method, of(DAMAGE).greater(0).orElse(failBooleanSupplierByMethod(method)), CROWBAR);
+        }
+
+        @Test
+        public void checkOrTruth() {
+            assertTrueByMethod("orTruth", of(DAMAGE).less(0).orTruth(), null);
+            assertFalseByMethod("orTruth", of(DAMAGE).less(0).orTruth(), CROWBAR);
+        }
+
+        @Test
+        public void checkOrLie() {
+            assertFalseByMethod("orLie", of(DAMAGE).greater(0).orLie(), null);
+            assertTrueByMethod("orLie", of(DAMAGE).greater(0).orLie(), CROWBAR);
+        }
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2019 - 2020 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.alexengrig.lambdax;
+
+import io.github.alexengrig.lambdax.exception.ExpectedException;
+import org.junit.Test;
+
+import java.util.NoSuchElementException;
+import java.util.OptionalLong;
+
+import static org.junit.Assert.*;
+
+public class LongChainXTest {
+    @Test
+    public void checkEmpty() {
+        final LongChainX chain = LongChainX.empty();
+        assertTrue("Value is not present", chain.isEmpty());
+        assertFalse("Value is not present", chain.isPresent());
+    }
+
+    @Test
+    public void checkOf() {
+        final LongChainX chain = LongChainX.of(42L);
+        assertTrue("Value is present", chain.isPresent());
+        assertEquals(42L, chain.orElseThrow());
+    }
+
+    @Test
+    public void checkOfOptional() {
+        assertEquals(LongChainX.of(42L), LongChainX.of(OptionalLong.of(42L)));
+        assertEquals(LongChainX.empty(), LongChainX.of(OptionalLong.empty()));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void checkOfNullOptional() {
+        LongChainX.of((OptionalLong) null);
+    }
+
+    @Test
+    public void checkFilter() {
+        assertTrue("Value is present", LongChainX.of(42L).filter(value -> value == 42L).isPresent());
+        assertTrue("Value is not present", LongChainX.of(42L).filter(value -> value != 42L).isEmpty());
+        assertTrue("Value is not present", LongChainX.empty().filter(value -> {
+            fail("Fail predicate");
+            return true;
+        }).isEmpty());
+    }
+
+    @Test
+    public void checkMap() {
+        assertEquals(7L, LongChainX.of(42L).map(value -> 7L).orElseThrow());
+        assertTrue("Value is not present", LongChainX.empty().map(value -> {
+            fail("Fail operator");
+            return value;
+        }).isEmpty());
+    }
+
+    @Test
+    public void checkMapToObj() {
+        assertEquals("42L", LongChainX.of(42L).mapToObj(value -> "42L").get());
+        assertTrue("Value is null", LongChainX.empty().mapToObj(value -> {
+            fail("Fail mapper");
+            return value;
+        }).isNull());
+    }
+
+    @Test
+    public void checkMapToInt() {
+        assertEquals(42, LongChainX.of(42L).mapToInt(value -> 42).orElseThrow());
+        assertTrue("Value is not present", LongChainX.empty().mapToInt(value -> {
+            fail("Fail mapper");
+            return 0;
+        }).isEmpty());
+    }
+
+    @Test
+    public void checkMapToDouble() {
+        assertEquals(4.2, LongChainX.of(42L).mapToDouble(value -> 4.2).orElseThrow(), 0.0);
+        assertTrue("Value is not present", LongChainX.empty().mapToDouble(value -> {
+            fail("Fail mapper");
+            return 0.0;
+        }).isEmpty());
+    }
+
+    @Test
+    public void checkOr() {
+        assertEquals(42L, LongChainX.of(42L).or(LongChainX.of(7L)).orElseThrow());
+        assertEquals(7L, LongChainX.empty().or(LongChainX.of(7L)).orElseThrow());
+        assertEquals(42L, LongChainX.of(42L).or(() -> {
+            fail("Fail producer");
+            return LongChainX.empty();
+        }).orElseThrow());
+        assertEquals(7L, LongChainX.empty().or(() -> LongChainX.of(7L)).orElseThrow());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void checkOrNullChain() {
+        LongChainX.empty().or((LongChainX) null);
+    }
+
+    @Test
+    public void checkValue() {
+        assertArrayEquals(new long[]{42L}, LongChainX.of(42L).stream().toArray());
+        assertEquals(0, LongChainX.empty().stream().count());
+        assertEquals(OptionalLong.of(42L), LongChainX.of(42L).optional());
+        assertEquals(OptionalLong.empty(), LongChainX.empty().optional());
+        assertEquals(Long.valueOf(42L), LongChainX.of(42L).boxed().get());
+        assertTrue("Value is null", LongChainX.empty().boxed().isNull());
+    }
+
+    @Test
+    public void checkOrElse() {
+        assertEquals(42L, LongChainX.of(42L).orElse(7L));
+        assertEquals(7L, LongChainX.empty().orElse(7L));
+        assertEquals(7L, LongChainX.empty().orElseGet(() -> 7L));
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void checkOrElseThrow() {
+        LongChainX.empty().orElseThrow();
+    }
+
+    @Test(expected = ExpectedException.class)
+    public void checkOrElseThrowGet() {
+        LongChainX.empty().orElseThrowGet(ExpectedException::new);
+    }
+
+    @Test
+    public void checkIf() {
+        final boolean[] called = new boolean[2];
+        LongChainX.of(42L).ifPresent(value -> called[0] = true);
+        LongChainX.empty().ifEmpty(() -> called[1] = true);
+        LongChainX.of(42L).ifEmpty(() -> fail("Fail runnable"));
+        LongChainX.empty().ifPresent(value -> fail("Fail consumer"));
+        assertTrue("Consumer is called", called[0]);
+        assertTrue("Runnable is called", called[1]);
+    }
+
+    @Test
+    public void checkObject() {
+        assertEquals(LongChainX.of(42L), LongChainX.of(42L));
+        assertEquals(LongChainX.of(42L).hashCode(), LongChainX.of(42L).hashCode());
+        assertNotEquals(LongChainX.of(42L), LongChainX.of(7L));
+        assertEquals(LongChainX.empty(), LongChainX.of(42L).filter(value -> false));
+        assertNotEquals(LongChainX.empty(), LongChainX.of(0L));
+        assertEquals("LongChainX[" + 42L + "]", LongChainX.of(42L).toString());
+        assertEquals("LongChainX.empty", LongChainX.empty().toString());
+    }
+}
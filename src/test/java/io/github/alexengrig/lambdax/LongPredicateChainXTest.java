@@ -0,0 +1,162 @@
+/*
+ * Copyright 2019 - 2020 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.alexengrig.lambdax;
+
+import io.github.alexengrig.lambdax.entity.Entities;
+import io.github.alexengrig.lambdax.entity.Gun;
+import io.github.alexengrig.lambdax.function.PredicateX;
+import org.junit.Test;
+
+import java.util.function.ToLongFunction;
+
+import static io.github.alexengrig.lambdax.LongPredicateChainX.of;
+
+public class LongPredicateChainXTest extends PredicateTester implements Entities {
+    private static final ToLongFunction<Gun> DAMAGE = gun -> (long) gun.getDamage();
+
+    public LongPredicateChainXTest() {
+        super("LongPredicateChainX");
+    }
+
+    @Test
+    public void checkCheck() {
+        assertTrueByMethod(
+                "check",
+                of(DAMAGE).check(damage -> damage % 5 == 0),
+                CROWBAR
+        );
+    }
+
+    @Test
+    public void checkEqualTo() {
+        assertTrueByMethod(
+                "equalTo",
+                of(DAMAGE).equalTo(5L),
+                CROWBAR
+        );
+        assertFalseByMethod(
+                "equalTo",
+                of(DAMAGE).equalTo(5L),
+                SNARK
+        );
+    }
+
+    @Test
+    public void checkLess() {
+        assertTrueByMethod("less", of(DAMAGE).less(10L), CROWBAR);
+        assertFalseByMethod("less", of(DAMAGE).less(10L), SNARK);
+    }
+
+    @Test
+    public void checkGreater() {
+        assertTrueByMethod("greater", of(DAMAGE).greater(5L), SNARK);
+        assertFalseByMethod("greater", of(DAMAGE).greater(5L), CROWBAR);
+    }
+
+    @Test
+    public void checkLessOrEqual() {
+        assertTrueByMethod("lessOrEqual", of(DAMAGE).lessOrEqual(5L), CROWBAR);
+        assertFalseByMethod("lessOrEqual", of(DAMAGE).lessOrEqual(5L), SNARK);
+    }
+
+    @Test
+    public void checkGreaterOrEqual() {
+        assertTrueByMethod("greaterOrEqual", of(DAMAGE).greaterOrEqual(10L), SNARK);
+        assertFalseByMethod("greaterOrEqual", of(DAMAGE).greaterOrEqual(10L), CROWBAR);
+    }
+
+    @Test
+    public void checkBetween() {
+        assertTrueByMethod("between", of(DAMAGE).between(5L, 10L), CROWBAR);
+        assertTrueByMethod("between", of(DAMAGE).between(5L, 10L), SNARK);
+        assertFalseByMethod("between", of(DAMAGE).between(6L, 9L), SNARK);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void checkBetweenWithWrongBounds() {
+        of(DAMAGE).between(10L, 5L);
+    }
+
+    @Test
+    public void checkIn() {
+        assertTrueByMethod("in", of(DAMAGE).in(10L, 1L, 5L), CROWBAR);
+        assertFalseByMethod("in", of(DAMAGE).in(10L, 1L), CROWBAR);
+        assertFalseByMethod("in", of(DAMAGE).in(), CROWBAR);
+    }
+
+    @Test
+    public void checkChain() {
+        assertTrueByMethod(
+                "chainLong",
+                PredicateX.chainLong(DAMAGE).greater(0L).and(gun -> gun.getName().startsWith("C")),
+                CROWBAR
+        );
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void checkNullInput() {
+        of(DAMAGE).greater(0L).test(null);
+    }
+
+    public static class Result extends PredicateTester {
+        public Result() {
+            super("LongPredicateChainX.Result");
+        }
+
+        @Test
+        public void checkOrElseWithPredicate() {
+            String method = "orElse(Predicate)";
+            assertTrueByMethod(
+                    method,
+                    of(DAMAGE).greater(0L).orElse(gun -> gun == null),
+                    null
+            );
+            assertTrueByMethod(
+                    method,
+                    of(DAMAGE).greater(0L).orElse(failPredicateByMethod(method)),
+                    CROWBAR
+            );
+        }
+
+        @Test
+        public void checkOrElseWithBoolean() {
+            String method = "orElse(boolean)";
+            assertTrueByMethod(method, of(DAMAGE).less(0L).orElse(true), null);
+            assertFalseByMethod(method, of(DAMAGE).less(0L).orElse(true), CROWBAR);
+        }
+
+        @Test
+        public void checkOrElseWithSupplier() {
+            String method = "orElse(BooleanSupplier)";
+            assertTrueByMethod(method, of(DAMAGE).less(0L).orElse(() -> true), null);
+            assertTrueByMethod(method, of(DAMAGE).greater(0L).orElse(failBooleanSupplierByMethod(method)), CROWBAR);
+        }
+
+        @Test
+        public void checkOrTruth() {
+            assertTrueByMethod("orTruth", of(DAMAGE).less(0L).orTruth(), null);
+            assertFalseByMethod("orTruth", of(DAMAGE).less(0L).orTruth(), CROWBAR);
+        }
+
+        @Test
+        public void checkOrLie() {
+            assertFalseByMethod("orLie", of(DAMAGE).greater(0L).orLie(), null);
+            assertTrueByMethod("orLie", of(DAMAGE).greater(0L).orLie(), CROWBAR);
+        }
+    }
+}
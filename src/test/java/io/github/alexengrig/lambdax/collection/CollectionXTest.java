@@ -20,11 +20,20 @@ import io.github.alexengrig.lambdax.OptionalX;
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.junit.Assert.*;
 
@@ -422,4 +431,54 @@ public class CollectionXTest {
                 .orElseThrow(IllegalStateException::new);
         assertNotEquals(values, actual);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void checkRemoveAllLarge() {
+        Set<Integer> numbers = IntStream.range(0, 10).boxed().collect(Collectors.toCollection(HashSet::new));
+        List<Integer> values = IntStream.range(5, 100).boxed().collect(Collectors.toList());
+        Predicate<Collection<Integer>> removeAllValues = CollectionX.removeAll(values);
+        assertTrue(removeAllValues.test(numbers));
+        assertEquals(IntStream.range(0, 5).boxed().collect(Collectors.toSet()), numbers);
+        assertFalse(removeAllValues.test(numbers));
+    }
+
+    @Test
+    public void checkOnlyRetainAllLarge() {
+        Set<Integer> numbers = IntStream.range(0, 10).boxed().collect(Collectors.toCollection(HashSet::new));
+        List<Integer> values = IntStream.range(5, 100).boxed().collect(Collectors.toList());
+        CollectionX.<Integer>onlyRetainAll(values).accept(numbers);
+        assertEquals(IntStream.range(5, 10).boxed().collect(Collectors.toSet()), numbers);
+    }
+
+    @Test
+    public void checkRemoveAllFromFixedSizeList() {
+        List<Integer> numbers = Arrays.asList(1, 2, 3, 4);
+        try {
+            CollectionX.removeAll(Collections.singleton(2)).test(numbers);
+            fail();
+        } catch (UnsupportedOperationException ignore) {
+        }
+        assertEquals(Arrays.asList(1, 2, 3, 4), numbers);
+    }
+
+    @Test
+    public void checkRemoveAllFromCopyOnWriteList() {
+        List<Integer> numbers = new CopyOnWriteArrayList<>(IntStream.range(0, 100).boxed().collect(Collectors.toList()));
+        List<Integer> evens = IntStream.range(0, 100).filter(i -> i % 2 == 0).boxed().collect(Collectors.toList());
+        assertTrue(CollectionX.removeAll(evens).test(numbers));
+        assertEquals(IntStream.range(0, 100).filter(i -> i % 2 == 1).boxed().collect(Collectors.toList()), numbers);
+    }
+
+    @Test
+    public void checkRemoveAllFromLargerSetDoesNotScanIt() {
+        Set<Integer> numbers = new HashSet<Integer>(IntStream.range(0, 100).boxed().collect(Collectors.toList())) {
+            @Override
+            public Iterator<Integer> iterator() {
+                throw new AssertionError("The set must not be scanned");
+            }
+        };
+        assertTrue(CollectionX.removeAll(Arrays.asList(1, 2, 200)).test(numbers));
+        assertEquals(98, numbers.size());
+        assertFalse(numbers.contains(1));
+    }
+}
@@ -20,9 +20,15 @@ import io.github.alexengrig.lambdax.OptionalX;
 import org.junit.Test;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Deque;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.LinkedBlockingDeque;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 import static org.junit.Assert.*;
@@ -394,4 +400,25 @@ public class DequeXTest {
                 .orElseThrow(IllegalStateException::new);
         assertFalse(actual.contains(value));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void checkPollFirstN() {
+        Deque<Integer> numbers = new ArrayDeque<>(Arrays.asList(1, 2, 3));
+        Function<Deque<Integer>, List<Integer>> pollFirstTwo = DequeX.pollFirstN(2);
+        assertEquals(Arrays.asList(1, 2), pollFirstTwo.apply(numbers));
+        assertEquals(Collections.singletonList(3), pollFirstTwo.apply(numbers));
+        assertTrue(pollFirstTwo.apply(numbers).isEmpty());
+        Deque<Integer> blocking = new LinkedBlockingDeque<>(Arrays.asList(4, 5, 6));
+        assertEquals(Arrays.asList(4, 5), pollFirstTwo.apply(blocking));
+        assertEquals(Collections.singletonList(6), new ArrayList<>(blocking));
+    }
+
+    @Test
+    public void checkPollLastN() {
+        Deque<Integer> numbers = new ArrayDeque<>(Arrays.asList(1, 2, 3));
+        Function<Deque<Integer>, List<Integer>> pollLastTwo = DequeX.pollLastN(2);
+        assertEquals(Arrays.asList(3, 2), pollLastTwo.apply(numbers));
+        assertEquals(Collections.singletonList(1), pollLastTwo.apply(numbers));
+        assertTrue(DequeX.<Integer>pollLastN(0).apply(new ArrayDeque<>(Arrays.asList(1))).isEmpty());
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2019 - 2020 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.alexengrig.lambdax.collection;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class IntIntMapTest {
+    @Test
+    public void checkPutGetRemove() {
+        IntIntMap map = new IntIntMap();
+        assertEquals(0, map.put(1, 10));
+        assertEquals(10, map.put(1, 11));
+        assertEquals(0, map.put(0, 5));
+        assertEquals(11, map.get(1));
+        assertEquals(5, map.get(0));
+        assertEquals(-1, map.getOrDefault(2, -1));
+        assertTrue(map.containsKey(0));
+        assertFalse(map.containsKey(2));
+        assertEquals(2, map.size());
+        assertEquals(5, map.remove(0));
+        assertEquals(0, map.remove(0));
+        assertEquals(11, map.remove(1));
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    public void checkAddTo() {
+        IntIntMap map = new IntIntMap();
+        assertEquals(3, map.addTo(7, 3));
+        assertEquals(5, map.addTo(7, 2));
+        assertEquals(-1, map.addTo(0, -1));
+        assertEquals(2, map.size());
+    }
+
+    @Test
+    public void checkRandomAgainstHashMap() {
+        Random random = new Random(7);
+        IntIntMap map = new IntIntMap();
+        Map<Integer, Integer> expected = new HashMap<>();
+        for (int i = 0; i < 100_000; i++) {
+            int key = random.nextInt(5_000) - 100;
+            int value = random.nextInt();
+            if (random.nextInt(3) == 0) {
+                Integer previous = expected.remove(key);
+                assertEquals(previous == null ? 0 : previous, map.remove(key));
+            } else {
+                Integer previous = expected.put(key, value);
+                assertEquals(previous == null ? 0 : previous, map.put(key, value));
+            }
+        }
+        assertEquals(expected.size(), map.size());
+        expected.forEach((key, value) -> assertEquals((int) value, map.get(key)));
+        map.forEach((key, value) -> assertEquals(expected.get(key).intValue(), value));
+        int[] keys = map.keys();
+        Arrays.sort(keys);
+        assertArrayEquals(expected.keySet().stream().sorted().mapToInt(Integer::intValue).toArray(), keys);
+    }
+
+    @Test
+    public void checkEqualsAndHashCode() {
+        IntIntMap map = new IntIntMap();
+        map.put(0, 1);
+        map.put(2, 3);
+        IntIntMap other = new IntIntMap(100);
+        other.put(2, 3);
+        other.put(0, 1);
+        assertEquals(map, other);
+        assertEquals(map.hashCode(), other.hashCode());
+        other.put(2, 4);
+        assertNotEquals(map, other);
+        other.clear();
+        assertEquals("{}", other.toString());
+        assertEquals(new IntIntMap(), other);
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void checkGetAbsent() {
+        new IntIntMap().get(1);
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2019 - 2020 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.alexengrig.lambdax.collection;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class IntIntMapXTest {
+    @Test
+    public void checkContainsKey() {
+        IntIntMap map = new IntIntMap();
+        IntIntMapX.onlyPut(1, 10).accept(map);
+        assertTrue(IntIntMapX.containsKey(1).test(map));
+        assertFalse(IntIntMapX.notContainsKey(1).test(map));
+        assertTrue(IntIntMapX.notContainsKey(2).test(map));
+    }
+
+    @Test
+    public void checkGetAndPut() {
+        IntIntMap map = new IntIntMap();
+        assertEquals(0, IntIntMapX.put(1, 10).applyAsInt(map));
+        assertEquals(10, IntIntMapX.put(1, 11).applyAsInt(map));
+        assertEquals(11, IntIntMapX.get(1).applyAsInt(map));
+        assertEquals(-1, IntIntMapX.getOrDefault(2, -1).applyAsInt(map));
+    }
+
+    @Test
+    public void checkAddToAndRemove() {
+        IntIntMap map = new IntIntMap();
+        assertEquals(2, IntIntMapX.addTo(1, 2).applyAsInt(map));
+        IntIntMapX.onlyAddTo(1, 3).accept(map);
+        assertEquals(5, IntIntMapX.remove(1).applyAsInt(map));
+        IntIntMapX.onlyPut(2, 2).accept(map);
+        IntIntMapX.onlyRemove(2).accept(map);
+        assertTrue(map.isEmpty());
+    }
+}
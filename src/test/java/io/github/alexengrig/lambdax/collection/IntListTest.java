@@ -0,0 +1,101 @@
+/*
+ * Copyright 2019 - 2020 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.alexengrig.lambdax.collection;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class IntListTest {
+    @Test
+    public void checkAddAndGet() {
+        IntList list = new IntList();
+        for (int i = 0; i < 100; i++) {
+            assertTrue(list.add(i * 3));
+        }
+        assertEquals(100, list.size());
+        assertEquals(297, list.get(99));
+        assertEquals(33, list.indexOf(99));
+        assertTrue(list.contains(99));
+        assertFalse(list.contains(100));
+    }
+
+    @Test
+    public void checkAddAtIndex() {
+        IntList list = IntList.of(1, 3);
+        list.add(1, 2);
+        list.add(0, 0);
+        list.add(4, 4);
+        assertEquals(IntList.of(0, 1, 2, 3, 4), list);
+    }
+
+    @Test
+    public void checkSet() {
+        IntList list = IntList.of(1, 2, 3);
+        assertEquals(2, list.set(1, 20));
+        assertArrayEquals(new int[]{1, 20, 3}, list.toArray());
+    }
+
+    @Test
+    public void checkRemove() {
+        IntList list = IntList.of(1, 2, 3, 2);
+        assertEquals(1, list.removeAt(0));
+        assertTrue(list.remove(2));
+        assertFalse(list.remove(5));
+        assertEquals(IntList.of(3, 2), list);
+        assertEquals(1, list.lastIndexOf(2));
+    }
+
+    @Test
+    public void checkRemoveIf() {
+        IntList list = IntList.of(0, 1, 2, 3, 4, 5, 6);
+        assertTrue(list.removeIf(v -> v % 2 == 0));
+        assertEquals(IntList.of(1, 3, 5), list);
+        assertFalse(list.removeIf(v -> v % 2 == 0));
+    }
+
+    @Test
+    public void checkAddAll() {
+        IntList list = IntList.of(1);
+        assertTrue(list.addAll(IntList.of(2, 3)));
+        assertTrue(list.addAll(4, 5));
+        assertFalse(list.addAll());
+        assertEquals(15, list.stream().sum());
+    }
+
+    @Test
+    public void checkClearAndTrim() {
+        IntList list = IntList.of(3, 1, 2);
+        list.sort();
+        assertEquals("[1, 2, 3]", list.toString());
+        list.clear();
+        list.trimToSize();
+        assertTrue(list.isEmpty());
+        assertEquals(new IntList(), list);
+        assertEquals(new IntList().hashCode(), list.hashCode());
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void checkGetOutOfBounds() {
+        IntList.of(1).get(1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void checkNegativeCapacity() {
+        new IntList(-1);
+    }
+}
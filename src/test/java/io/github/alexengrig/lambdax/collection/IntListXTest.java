@@ -0,0 +1,71 @@
+/*
+ * Copyright 2019 - 2020 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.alexengrig.lambdax.collection;
+
+import org.junit.Test;
+
+import java.util.Optional;
+
+import static org.junit.Assert.*;
+
+public class IntListXTest {
+    @Test
+    public void checkContains() {
+        IntList list = IntList.of(1, 2);
+        assertTrue(IntListX.contains(1).test(list));
+        assertFalse(IntListX.notContains(1).test(list));
+        assertTrue(IntListX.notContains(3).test(list));
+    }
+
+    @Test
+    public void checkGetSetIndexOf() {
+        IntList list = IntList.of(1, 2);
+        assertEquals(2, IntListX.get(1).applyAsInt(list));
+        assertEquals(2, IntListX.set(1, 5).applyAsInt(list));
+        assertEquals(1, IntListX.indexOf(5).applyAsInt(list));
+    }
+
+    @Test
+    public void checkAdd() {
+        IntList list = new IntList();
+        assertTrue(IntListX.add(1).test(list));
+        IntListX.add(0, 0).accept(list);
+        IntListX.onlyAdd(2).accept(list);
+        assertTrue(IntListX.addAll(3, 4).test(list));
+        IntListX.onlyAddAll(5).accept(list);
+        assertArrayEquals(new int[]{0, 1, 2, 3, 4, 5}, IntListX.toArray().apply(list));
+    }
+
+    @Test
+    public void checkRemove() {
+        IntList list = IntList.of(1, 2, 3, 4, 5);
+        assertTrue(IntListX.remove(1).test(list));
+        IntListX.onlyRemove(2).accept(list);
+        assertTrue(IntListX.removeIf(v -> v == 3).test(list));
+        IntListX.onlyRemoveIf(v -> v == 4).accept(list);
+        assertTrue(IntListX.equalsTo(IntList.of(5)).test(list));
+        assertTrue(IntListX.notEqualsTo(IntList.of(4)).test(list));
+    }
+
+    @Test
+    public void checkOptional() {
+        IntList list = Optional.of(IntList.of(1))
+                .filter(IntListX.contains(1))
+                .orElseThrow(IllegalStateException::new);
+        assertEquals(1, list.size());
+    }
+}
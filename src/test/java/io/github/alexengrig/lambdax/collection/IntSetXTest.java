@@ -0,0 +1,60 @@
+/*
+ * Copyright 2019 - 2020 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.alexengrig.lambdax.collection;
+
+import org.junit.Test;
+
+import java.util.Optional;
+
+import static org.junit.Assert.*;
+
+public class IntSetXTest {
+    @Test
+    public void checkContains() {
+        IntHashSet set = IntHashSet.of(1, 2);
+        assertTrue(IntSetX.contains(1).test(set));
+        assertFalse(IntSetX.notContains(1).test(set));
+        assertTrue(IntSetX.notContains(3).test(set));
+    }
+
+    @Test
+    public void checkAddAndRemove() {
+        IntHashSet set = new IntHashSet();
+        assertTrue(IntSetX.add(1).test(set));
+        assertFalse(IntSetX.add(1).test(set));
+        IntSetX.onlyAdd(2).accept(set);
+        assertTrue(IntSetX.remove(1).test(set));
+        assertFalse(IntSetX.remove(1).test(set));
+        IntSetX.onlyRemove(2).accept(set);
+        assertArrayEquals(new int[0], IntSetX.toArray().apply(set));
+    }
+
+    @Test
+    public void checkEquals() {
+        IntHashSet set = IntHashSet.of(1, 2);
+        assertTrue(IntSetX.equalsTo(IntHashSet.of(2, 1)).test(set));
+        assertTrue(IntSetX.notEqualsTo(IntHashSet.of(1)).test(set));
+    }
+
+    @Test
+    public void checkOptional() {
+        IntHashSet set = Optional.of(IntHashSet.of(1))
+                .filter(IntSetX.contains(1))
+                .orElseThrow(IllegalStateException::new);
+        assertEquals(1, set.size());
+    }
+}
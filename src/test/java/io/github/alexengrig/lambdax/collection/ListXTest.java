@@ -17,12 +17,18 @@
 package io.github.alexengrig.lambdax.collection;
 
 import io.github.alexengrig.lambdax.OptionalX;
+import io.github.alexengrig.lambdax.exception.ExpectedException;
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Vector;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -637,4 +643,77 @@ public class ListXTest {
                 .orElseThrow(IllegalStateException::new);
         assertNotEquals(actual, values);
     }
+
+    @Test
+    public void checkRemoveAllLarge() {
+        List<Integer> evens = IntStream.range(0, 100).filter(i -> i % 2 == 0).boxed().collect(Collectors.toList());
+        List<Integer> odds = IntStream.range(0, 100).filter(i -> i % 2 != 0).boxed().collect(Collectors.toList());
+        for (List<Integer> numbers : numberLists(100)) {
+            assertTrue(ListX.<Integer>removeAll(evens).test(numbers));
+            assertEquals(odds, numbers);
+            assertFalse(ListX.<Integer>removeAll(evens).test(numbers));
+        }
+    }
+
+    @Test
+    public void checkRetainAllLarge() {
+        List<Integer> evens = IntStream.range(0, 100).filter(i -> i % 2 == 0).boxed().collect(Collectors.toList());
+        for (List<Integer> numbers : numberLists(100)) {
+            ListX.<Integer>onlyRetainAll(evens).accept(numbers);
+            assertEquals(evens, numbers);
+        }
+    }
+
+    @Test
+    public void checkRemoveIf() {
+        for (List<Integer> numbers : numberLists(10)) {
+            assertTrue(ListX.<Integer>removeIf(i -> i % 3 == 0).test(numbers));
+            assertEquals(Arrays.asList(1, 2, 4, 5, 7, 8), numbers);
+            assertFalse(ListX.<Integer>removeIf(i -> i % 3 == 0).test(numbers));
+        }
+    }
+
+    @Test
+    public void checkOnlyRemoveIf() {
+        for (List<Integer> numbers : numberLists(10)) {
+            ListX.<Integer>onlyRemoveIf(i -> i > 2).accept(numbers);
+            assertEquals(Arrays.asList(0, 1, 2), numbers);
+        }
+    }
+
+    @Test
+    public void checkRetainIf() {
+        for (List<Integer> numbers : numberLists(10)) {
+            assertTrue(ListX.<Integer>retainIf(i -> i % 3 == 0).test(numbers));
+            assertEquals(Arrays.asList(0, 3, 6, 9), numbers);
+            assertFalse(ListX.<Integer>retainIf(i -> i % 3 == 0).test(numbers));
+        }
+    }
+
+    @Test
+    public void checkOnlyRetainIf() {
+        for (List<Integer> numbers : numberLists(10)) {
+            ListX.<Integer>onlyRetainIf(i -> i > 7).accept(numbers);
+            assertEquals(Arrays.asList(8, 9), numbers);
+        }
+    }
+
+    @Test
+    public void checkRemoveIfFailure() {
+        List<Integer> numbers = new Vector<>(Arrays.asList(0, 1, 2, 3));
+        try {
+            ListX.<Integer>removeIf(i -> {
+                if (i == 3) throw new ExpectedException();
+                return i == 1;
+            }).test(numbers);
+            fail();
+        } catch (ExpectedException ignore) {
+        }
+        assertEquals(Arrays.asList(0, 1, 2, 3), numbers);
+    }
+
+    private static List<List<Integer>> numberLists(int size) {
+        List<Integer> numbers = IntStream.range(0, size).boxed().collect(Collectors.toList());
+        return Arrays.asList(new ArrayList<>(numbers), new LinkedList<>(numbers), new Vector<>(numbers));
+    }
 }
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2019 - 2020 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.alexengrig.lambdax.collection;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+public class LongHashSetTest {
+    @Test
+    public void checkAddContainsRemove() {
+        LongHashSet set = new LongHashSet();
+        assertTrue(set.add(1));
+        assertFalse(set.add(1));
+        assertTrue(set.add(0));
+        assertTrue(set.contains(0));
+        assertTrue(set.contains(1));
+        assertFalse(set.contains(2));
+        assertEquals(2, set.size());
+        assertTrue(set.remove(0));
+        assertFalse(set.remove(0));
+        assertTrue(set.remove(1));
+        assertTrue(set.isEmpty());
+    }
+
+    @Test
+    public void checkRandomAgainstHashSet() {
+        Random random = new Random(42);
+        LongHashSet set = new LongHashSet();
+        Set<Long> expected = new HashSet<>();
+        for (int i = 0; i < 100_000; i++) {
+            long value = random.nextInt(5_000) - 100;
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(value), set.remove(value));
+            } else {
+                assertEquals(expected.add(value), set.add(value));
+            }
+        }
+        assertEquals(expected.size(), set.size());
+        for (int i = -100; i < 4_900; i++) {
+            assertEquals(expected.contains((long) i), set.contains(i));
+        }
+        long[] values = set.toArray();
+        Arrays.sort(values);
+        assertArrayEquals(expected.stream().sorted().mapToLong(Long::longValue).toArray(), values);
+        assertEquals(expected.stream().mapToLong(Long::longValue).sum(), set.stream().sum());
+    }
+
+    @Test
+    public void checkEqualsAndHashCode() {
+        LongHashSet set = LongHashSet.of(0, 1, 2, 100);
+        LongHashSet other = new LongHashSet(100);
+        other.add(100);
+        other.add(2);
+        other.add(1);
+        other.add(0);
+        assertEquals(set, other);
+        assertEquals(set.hashCode(), other.hashCode());
+        other.remove(0);
+        assertNotEquals(set, other);
+    }
+
+    @Test
+    public void checkForEachAndClear() {
+        LongHashSet set = LongHashSet.of(0, 5, 7);
+        long[] sum = {0};
+        set.forEach(v -> sum[0] += v);
+        assertEquals(12, sum[0]);
+        set.clear();
+        assertTrue(set.isEmpty());
+        assertFalse(set.contains(5));
+        assertEquals("[]", set.toString());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void checkNegativeExpectedSize() {
+        new LongHashSet(-1);
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2019 - 2020 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.alexengrig.lambdax.collection;
+
+import org.junit.Test;
+
+import java.util.Optional;
+
+import static org.junit.Assert.*;
+
+public class LongListXTest {
+    @Test
+    public void checkContains() {
+        LongList list = LongList.of(1, 2);
+        assertTrue(LongListX.contains(1).test(list));
+        assertFalse(LongListX.notContains(1).test(list));
+        assertTrue(LongListX.notContains(3).test(list));
+    }
+
+    @Test
+    public void checkGetSetIndexOf() {
+        LongList list = LongList.of(1, 2);
+        assertEquals(2, LongListX.get(1).applyAsLong(list));
+        assertEquals(2, LongListX.set(1, 5).applyAsLong(list));
+        assertEquals(1, LongListX.indexOf(5).applyAsInt(list));
+    }
+
+    @Test
+    public void checkAdd() {
+        LongList list = new LongList();
+        assertTrue(LongListX.add(1).test(list));
+        LongListX.add(0, 0).accept(list);
+        LongListX.onlyAdd(2).accept(list);
+        assertTrue(LongListX.addAll(3, 4).test(list));
+        LongListX.onlyAddAll(5).accept(list);
+        assertArrayEquals(new long[]{0, 1, 2, 3, 4, 5}, LongListX.toArray().apply(list));
+    }
+
+    @Test
+    public void checkRemove() {
+        LongList list = LongList.of(1, 2, 3, 4, 5);
+        assertTrue(LongListX.remove(1).test(list));
+        LongListX.onlyRemove(2).accept(list);
+        assertTrue(LongListX.removeIf(v -> v == 3).test(list));
+        LongListX.onlyRemoveIf(v -> v == 4).accept(list);
+        assertTrue(LongListX.equalsTo(LongList.of(5)).test(list));
+        assertTrue(LongListX.notEqualsTo(LongList.of(4)).test(list));
+    }
+
+    @Test
+    public void checkOptional() {
+        LongList list = Optional.of(LongList.of(1))
+                .filter(LongListX.contains(1))
+                .orElseThrow(IllegalStateException::new);
+        assertEquals(1, list.size());
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2019 - 2020 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.alexengrig.lambdax.collection;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class LongObjectMapTest {
+    @Test
+    public void checkPutGetRemove() {
+        LongObjectMap<String> map = new LongObjectMap<>();
+        assertNull(map.put(1L, "a"));
+        assertEquals("a", map.put(1L, "b"));
+        assertNull(map.put(0L, "zero"));
+        assertEquals("b", map.get(1L));
+        assertEquals("zero", map.get(0L));
+        assertNull(map.get(2L));
+        assertEquals("c", map.getOrDefault(2L, "c"));
+        assertTrue(map.containsKey(0L));
+        assertEquals(2, map.size());
+        assertEquals("zero", map.remove(0L));
+        assertNull(map.remove(0L));
+        assertEquals("b", map.remove(1L));
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    public void checkPutIfAbsentAndComputeIfAbsent() {
+        LongObjectMap<String> map = new LongObjectMap<>();
+        assertNull(map.putIfAbsent(5L, "a"));
+        assertEquals("a", map.putIfAbsent(5L, "b"));
+        assertEquals("a", map.computeIfAbsent(5L, k -> "c"));
+        assertEquals("6", map.computeIfAbsent(6L, Long::toString));
+        assertEquals("0", map.computeIfAbsent(0L, Long::toString));
+        assertNull(map.computeIfAbsent(7L, k -> null));
+        assertFalse(map.containsKey(7L));
+        assertEquals(3, map.size());
+    }
+
+    @Test
+    public void checkRandomAgainstHashMap() {
+        Random random = new Random(11);
+        LongObjectMap<Long> map = new LongObjectMap<>();
+        Map<Long, Long> expected = new HashMap<>();
+        for (int i = 0; i < 100_000; i++) {
+            long key = (random.nextInt(5_000) - 100) * 0x1_0000_0001L;
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(key), map.remove(key));
+            } else {
+                assertEquals(expected.put(key, (long) i), map.put(key, (long) i));
+            }
+        }
+        assertEquals(expected.size(), map.size());
+        expected.forEach((key, value) -> assertEquals(value, map.get(key)));
+        map.forEach((key, value) -> assertEquals(expected.get(key), value));
+        long[] keys = map.keys();
+        Arrays.sort(keys);
+        assertArrayEquals(expected.keySet().stream().sorted().mapToLong(Long::longValue).toArray(), keys);
+    }
+
+    @Test
+    public void checkEqualsAndHashCode() {
+        LongObjectMap<String> map = new LongObjectMap<>();
+        map.put(0L, "a");
+        map.put(2L, "b");
+        LongObjectMap<String> other = new LongObjectMap<>(100);
+        other.put(2L, "b");
+        other.put(0L, "a");
+        assertEquals(map, other);
+        assertEquals(map.hashCode(), other.hashCode());
+        assertEquals("{0=a, 2=b}", map.toString());
+        other.clear();
+        assertNotEquals(map, other);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void checkNullValue() {
+        new LongObjectMap<String>().put(1L, null);
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2019 - 2020 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.alexengrig.lambdax.collection;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class LongObjectMapXTest {
+    @Test
+    public void checkContainsKey() {
+        LongObjectMap<String> map = new LongObjectMap<>();
+        LongObjectMapX.onlyPut(1L, "a").accept(map);
+        assertTrue(LongObjectMapX.<String>containsKey(1L).test(map));
+        assertFalse(LongObjectMapX.<String>notContainsKey(1L).test(map));
+        assertTrue(LongObjectMapX.<String>notContainsKey(2L).test(map));
+    }
+
+    @Test
+    public void checkGetAndPut() {
+        LongObjectMap<String> map = new LongObjectMap<>();
+        assertNull(LongObjectMapX.put(1L, "a").apply(map));
+        assertEquals("a", LongObjectMapX.put(1L, "b").apply(map));
+        assertEquals("b", LongObjectMapX.putIfAbsent(1L, "c").apply(map));
+        assertEquals("b", LongObjectMapX.<String>get(1L).apply(map));
+        assertEquals("2", LongObjectMapX.<String>computeIfAbsent(2L, Long::toString).apply(map));
+    }
+
+    @Test
+    public void checkRemove() {
+        LongObjectMap<String> map = new LongObjectMap<>();
+        map.put(1L, "a");
+        map.put(2L, "b");
+        assertEquals("a", LongObjectMapX.<String>remove(1L).apply(map));
+        LongObjectMapX.<String>onlyRemove(2L).accept(map);
+        assertTrue(map.isEmpty());
+    }
+}
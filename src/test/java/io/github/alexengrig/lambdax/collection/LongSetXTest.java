@@ -0,0 +1,60 @@
+/*
+ * Copyright 2019 - 2020 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.alexengrig.lambdax.collection;
+
+import org.junit.Test;
+
+import java.util.Optional;
+
+import static org.junit.Assert.*;
+
+public class LongSetXTest {
+    @Test
+    public void checkContains() {
+        LongHashSet set = LongHashSet.of(1, 2);
+        assertTrue(LongSetX.contains(1).test(set));
+        assertFalse(LongSetX.notContains(1).test(set));
+        assertTrue(LongSetX.notContains(3).test(set));
+    }
+
+    @Test
+    public void checkAddAndRemove() {
+        LongHashSet set = new LongHashSet();
+        assertTrue(LongSetX.add(1).test(set));
+        assertFalse(LongSetX.add(1).test(set));
+        LongSetX.onlyAdd(2).accept(set);
+        assertTrue(LongSetX.remove(1).test(set));
+        assertFalse(LongSetX.remove(1).test(set));
+        LongSetX.onlyRemove(2).accept(set);
+        assertArrayEquals(new long[0], LongSetX.toArray().apply(set));
+    }
+
+    @Test
+    public void checkEquals() {
+        LongHashSet set = LongHashSet.of(1, 2);
+        assertTrue(LongSetX.equalsTo(LongHashSet.of(2, 1)).test(set));
+        assertTrue(LongSetX.notEqualsTo(LongHashSet.of(1)).test(set));
+    }
+
+    @Test
+    public void checkOptional() {
+        LongHashSet set = Optional.of(LongHashSet.of(1))
+                .filter(LongSetX.contains(1))
+                .orElseThrow(IllegalStateException::new);
+        assertEquals(1, set.size());
+    }
+}
@@ -22,6 +22,9 @@ import org.junit.Test;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -306,4 +309,147 @@ public class MapXTest {
                 .orElseThrow(IllegalStateException::new);
         assertNotEquals(values, actual);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void checkPutIfAbsent() {
+        int key = 13;
+        Map<Number, CharSequence> numberWords = new HashMap<>();
+        Function<Map<Number, CharSequence>, CharSequence> putIfAbsent = MapX.putIfAbsent(key, "thirteen");
+        assertNull(putIfAbsent.apply(numberWords));
+        assertEquals("thirteen", MapX.<Number, CharSequence>putIfAbsent(key, "other").apply(numberWords));
+        assertEquals("thirteen", numberWords.get(key));
+    }
+
+    @Test
+    public void checkComputeIfAbsent() {
+        int key = 14;
+        Map<Number, CharSequence> numberWords = new HashMap<>();
+        Function<Map<Number, CharSequence>, CharSequence> computeIfAbsent = MapX.computeIfAbsent(key, k -> "fourteen");
+        assertEquals("fourteen", computeIfAbsent.apply(numberWords));
+        assertEquals("fourteen", MapX.<Number, CharSequence>computeIfAbsent(key, k -> {
+            throw new IllegalStateException();
+        }).apply(numberWords));
+    }
+
+    @Test
+    public void checkCompute() {
+        int key = 15;
+        Map<Number, CharSequence> numberWords = new HashMap<>();
+        Function<Map<Number, CharSequence>, CharSequence> compute = MapX.compute(key, (k, v) -> v == null ? "fif" : v + "teen");
+        assertEquals("fif", compute.apply(numberWords));
+        assertEquals("fifteen", compute.apply(numberWords));
+        assertNull(MapX.<Number, CharSequence>compute(key, (k, v) -> null).apply(numberWords));
+        assertFalse(numberWords.containsKey(key));
+    }
+
+    @Test
+    public void checkMerge() {
+        int key = 16;
+        Map<Number, CharSequence> numberWords = new HashMap<>();
+        Function<Map<Number, CharSequence>, CharSequence> merge = MapX.merge(key, "six", (v1, v2) -> v1 + "" + v2);
+        assertEquals("six", merge.apply(numberWords));
+        assertEquals("sixsix", merge.apply(numberWords));
+    }
+
+    @Test
+    public void checkReplace() {
+        int key = 17;
+        Map<Number, CharSequence> numberWords = new HashMap<>();
+        numberWords.put(key, "seven");
+        assertFalse(MapX.<Number, CharSequence>replace(key, "six", "seventeen").test(numberWords));
+        assertTrue(MapX.<Number, CharSequence>replace(key, "seven", "seventeen").test(numberWords));
+        assertEquals("seventeen", numberWords.get(key));
+    }
+
+    @Test
+    public void checkRemoveIf() {
+        int key = 18;
+        Map<Number, CharSequence> numberWords = new HashMap<>();
+        numberWords.put(key, "eighteen");
+        assertFalse(MapX.<Number, CharSequence>removeIf(key, v -> v.length() > 10).test(numberWords));
+        assertFalse(MapX.<Number, CharSequence>removeIf(19, v -> true).test(numberWords));
+        assertTrue(MapX.<Number, CharSequence>removeIf(key, v -> v.length() > 5).test(numberWords));
+        assertFalse(numberWords.containsKey(key));
+    }
+
+    @Test
+    public void checkConcurrentMerge() throws InterruptedException {
+        Map<String, Long> counters = new ConcurrentHashMap<>();
+        Function<Map<String, Long>, Long> increment = MapX.merge("hits", 1L, Long::sum);
+        Thread[] threads = new Thread[4];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < 10_000; j++) {
+                    increment.apply(counters);
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(Long.valueOf(40_000L), counters.get("hits"));
+    }
+
+    @Test
+    public void checkConcurrentComputeIfAbsent() {
+        Map<String, Long> cache = new ConcurrentHashMap<>();
+        cache.put("one", 1L);
+        assertEquals(Long.valueOf(1L), MapX.<String, Long>computeIfAbsent("one", k -> {
+            throw new IllegalStateException();
+        }).apply(cache));
+        assertEquals(Long.valueOf(1L), MapX.putIfAbsent("one", 2L).apply(cache));
+        assertEquals(Long.valueOf(3L), MapX.<String, Long>computeIfAbsent("three", k -> 3L).apply(cache));
+    }
+
+    @Test
+    public void checkConcurrentRemoveIf() {
+        ConcurrentMap<String, Long> map = new ConcurrentHashMap<>();
+        map.put("value", 1L);
+        Predicate<Map<String, Long>> removeIfOdd = MapX.removeIf("value", v -> {
+            map.replace("value", 1L, 3L);
+            return v % 2 != 0;
+        });
+        assertTrue(removeIfOdd.test(map));
+        assertTrue(map.isEmpty());
+        map.put("value", 2L);
+        assertFalse(removeIfOdd.test(map));
+        assertEquals(Long.valueOf(2L), map.get("value"));
+    }
+
+    @Test
+    public void checkIncrementAndAdd() throws InterruptedException {
+        Map<String, LongAdder> counters = new ConcurrentHashMap<>();
+        Consumer<Map<String, LongAdder>> increment = MapX.increment("hits");
+        Consumer<Map<String, LongAdder>> add = MapX.add("bytes", 10);
+        Thread[] threads = new Thread[4];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < 10_000; j++) {
+                    increment.accept(counters);
+                    add.accept(counters);
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(40_000L, MapX.<String>sum("hits").applyAsLong(counters));
+        assertEquals(400_000L, MapX.<String>sum("bytes").applyAsLong(counters));
+        assertEquals(0L, MapX.<String>sum("misses").applyAsLong(counters));
+    }
+
+    @Test
+    public void checkSnapshot() {
+        Map<String, LongAdder> counters = new ConcurrentHashMap<>();
+        MapX.<String>increment("one").accept(counters);
+        MapX.add("two", 2).accept(counters);
+        Map<String, Long> snapshot = MapX.<String>snapshot().apply(counters);
+        assertEquals(2, snapshot.size());
+        assertEquals(Long.valueOf(1L), snapshot.get("one"));
+        assertEquals(Long.valueOf(2L), snapshot.get("two"));
+        MapX.<String>increment("one").accept(counters);
+        assertEquals(Long.valueOf(1L), snapshot.get("one"));
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2019 - 2020 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.alexengrig.lambdax.collection;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class MpscArrayQueueTest {
+    @Test
+    public void checkOfferAndPoll() {
+        MpscArrayQueue<String> queue = new MpscArrayQueue<>(2);
+        assertTrue(queue.offer("a"));
+        assertTrue(queue.offer("b"));
+        assertFalse(queue.offer("c"));
+        assertEquals("a", queue.poll());
+        assertTrue(queue.offer("c"));
+        assertEquals(Arrays.asList("b", "c"), new ArrayList<>(queue));
+        queue.clear();
+        assertTrue(queue.isEmpty());
+        assertEquals(2, queue.remainingCapacity());
+    }
+
+    @Test
+    public void checkProducersConsumer() throws InterruptedException {
+        MpscArrayQueue<Integer> queue = new MpscArrayQueue<>(128);
+        int producers = 4;
+        int count = 200_000;
+        Thread[] threads = new Thread[producers];
+        for (int p = 0; p < producers; p++) {
+            int producer = p;
+            threads[p] = new Thread(() -> {
+                for (int i = 0; i < count; i++) {
+                    while (!queue.offer(producer * count + i)) {
+                        Thread.yield();
+                    }
+                }
+            });
+            threads[p].start();
+        }
+        int[] next = new int[producers];
+        for (int received = 0; received < producers * count; ) {
+            Integer value = queue.poll();
+            if (value == null) {
+                Thread.yield();
+                continue;
+            }
+            int producer = value / count;
+            assertEquals(next[producer]++, value % count);
+            received++;
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertNull(queue.poll());
+    }
+
+    @Test
+    public void checkBatchProducersConsumer() throws InterruptedException {
+        MpscArrayQueue<Integer> queue = new MpscArrayQueue<>(64);
+        int producers = 3;
+        int batches = 20_000;
+        int batchSize = 5;
+        Thread[] threads = new Thread[producers];
+        for (int p = 0; p < producers; p++) {
+            int producer = p;
+            threads[p] = new Thread(() -> {
+                List<Integer> batch = new ArrayList<>();
+                for (int b = 0; b < batches; b++) {
+                    batch.clear();
+                    for (int i = 0; i < batchSize; i++) {
+                        batch.add(producer * batches * batchSize + b * batchSize + i);
+                    }
+                    for (int offered = 0; offered < batchSize; ) {
+                        offered += queue.offerBatch(batch.subList(offered, batchSize));
+                        Thread.yield();
+                    }
+                }
+            });
+            threads[p].start();
+        }
+        int total = batches * batchSize;
+        int[] next = new int[producers];
+        int[] received = {0};
+        while (received[0] < producers * total) {
+            if (queue.drain(value -> {
+                int producer = value / total;
+                assertEquals(next[producer]++, value % total);
+                received[0]++;
+            }, 16) == 0) {
+                Thread.yield();
+            }
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void checkBatchWithNull() {
+        new MpscArrayQueue<Integer>(4).offerBatch(Arrays.asList(1, null));
+    }
+}
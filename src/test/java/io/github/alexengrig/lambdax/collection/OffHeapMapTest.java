@@ -0,0 +1,135 @@
+/*
+ * Copyright 2019 - 2020 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.alexengrig.lambdax.collection;
+
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class OffHeapMapTest {
+    @Test
+    public void checkPutGetRemove() {
+        Map<String, Long> map = new OffHeapMap<>(OffHeapSerializer.strings(), OffHeapSerializer.longs());
+        assertNull(map.put("a", 1L));
+        assertEquals(Long.valueOf(1L), map.put("a", 2L));
+        assertNull(map.put("b", 3L));
+        assertEquals(Long.valueOf(2L), map.get("a"));
+        assertNull(map.get("c"));
+        assertNull(map.get(1));
+        assertTrue(map.containsKey("b"));
+        assertTrue(map.containsValue(3L));
+        assertEquals(2, map.size());
+        assertEquals(Long.valueOf(3L), map.remove("b"));
+        assertNull(map.remove("b"));
+        assertEquals(1, map.size());
+        map.clear();
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    public void checkMapX() {
+        Map<Long, byte[]> map = new OffHeapMap<>(OffHeapSerializer.longs(), OffHeapSerializer.bytes());
+        byte[] value = "value".getBytes(StandardCharsets.UTF_8);
+        MapX.<Long, byte[]>onlyPut(1L, value).accept(map);
+        assertArrayEquals(value, MapX.<Long, byte[]>get(1L).apply(map));
+        assertTrue(MapX.<Long, byte[]>containsKey(1L).test(map));
+        assertArrayEquals(value, MapX.<Long, byte[]>remove(1L).apply(map));
+        assertTrue(MapX.<Long, byte[]>notContainsKey(1L).test(map));
+        Map<Long, byte[]> actual = Optional.of(map)
+                .filter(MapX.notContainsKey(1L))
+                .orElseThrow(IllegalStateException::new);
+        assertTrue(actual.isEmpty());
+    }
+
+    @Test
+    public void checkRandomAgainstHashMap() {
+        Random random = new Random(3);
+        OffHeapMap<Integer, String> map = new OffHeapMap<>(OffHeapSerializer.integers(), OffHeapSerializer.strings(),
+                0, 0);
+        Map<Integer, String> expected = new HashMap<>();
+        for (int i = 0; i < 50_000; i++) {
+            int key = random.nextInt(2_000);
+            if (random.nextInt(4) == 0) {
+                assertEquals(expected.remove(key), map.remove(key));
+            } else {
+                String value = Integer.toString(i, 36);
+                assertEquals(expected.put(key, value), map.put(key, value));
+            }
+        }
+        assertEquals(expected, map);
+        assertEquals(map, expected);
+        assertEquals(expected.hashCode(), map.hashCode());
+    }
+
+    @Test
+    public void checkStatistics() {
+        OffHeapMap<Integer, Integer> map = new OffHeapMap<>(OffHeapSerializer.integers(), OffHeapSerializer.integers(),
+                16, 1024);
+        assertEquals(0.0, map.occupancy(), 0.0);
+        map.put(1, 1);
+        map.put(2, 2);
+        assertEquals(2 / 32.0, map.occupancy(), 0.0);
+        assertEquals(40, map.liveBytes());
+        assertEquals(0, map.garbageBytes());
+        map.put(1, 3);
+        assertEquals(40, map.liveBytes());
+        assertEquals(20, map.garbageBytes());
+        assertEquals(32 * 8 + 1024, map.offHeapBytes());
+        for (int i = 0; i < 100; i++) {
+            map.put(i, i);
+        }
+        assertTrue(map.offHeapBytes() > 32 * 8 + 1024);
+        assertEquals(100 * 20, map.liveBytes());
+    }
+
+    @Test
+    public void checkIteratorRemove() {
+        Map<Integer, Integer> map = new OffHeapMap<>(OffHeapSerializer.integers(), OffHeapSerializer.integers());
+        for (int i = 0; i < 100; i++) {
+            map.put(i, i);
+        }
+        map.entrySet().removeIf(e -> e.getKey() % 2 == 0);
+        assertEquals(50, map.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i % 2 != 0, map.containsKey(i));
+        }
+    }
+
+    @Test(expected = ConcurrentModificationException.class)
+    public void checkConcurrentModification() {
+        Map<Integer, Integer> map = new OffHeapMap<>(OffHeapSerializer.integers(), OffHeapSerializer.integers());
+        map.put(1, 1);
+        map.put(2, 2);
+        Iterator<Map.Entry<Integer, Integer>> iterator = map.entrySet().iterator();
+        iterator.next();
+        map.put(3, 3);
+        iterator.next();
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void checkNullValue() {
+        new OffHeapMap<>(OffHeapSerializer.integers(), OffHeapSerializer.integers()).put(1, null);
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2019 - 2020 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.alexengrig.lambdax.collection;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+public class PersistentMapTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private static PersistentMap<Integer, String> open(Path directory, long compactionThreshold) throws IOException {
+        return PersistentMap.open(directory, OffHeapSerializer.integers(), OffHeapSerializer.strings(),
+                compactionThreshold);
+    }
+
+    @Test
+    public void checkReopen() throws IOException {
+        Path directory = folder.getRoot().toPath();
+        try (PersistentMap<Integer, String> map = open(directory, 1 << 20)) {
+            assertNull(map.put(1, "one"));
+            assertNull(map.put(2, "two"));
+            assertEquals("one", map.put(1, "uno"));
+            assertEquals("two", map.remove(2));
+            map.flush();
+        }
+        try (PersistentMap<Integer, String> map = open(directory, 1 << 20)) {
+            assertEquals(1, map.size());
+            assertEquals("uno", map.get(1));
+            assertFalse(map.containsKey(2));
+        }
+    }
+
+    @Test
+    public void checkCompaction() throws IOException {
+        Path directory = folder.getRoot().toPath();
+        Map<Integer, String> expected = new HashMap<>();
+        Random random = new Random(5);
+        try (PersistentMap<Integer, String> map = open(directory, 4096)) {
+            for (int i = 0; i < 20_000; i++) {
+                int key = random.nextInt(500);
+                if (random.nextInt(4) == 0) {
+                    assertEquals(expected.remove(key), map.remove(key));
+                } else {
+                    String value = Integer.toString(i);
+                    assertEquals(expected.put(key, value), map.put(key, value));
+                }
+            }
+            assertTrue(map.dataBytes() > 0);
+            assertTrue(map.logBytes() <= Math.max(4096, map.dataBytes()) + 64);
+            assertEquals(expected, map);
+        }
+        try (PersistentMap<Integer, String> map = open(directory, 4096)) {
+            assertEquals(expected, map);
+            map.compact();
+            assertEquals(0, map.logBytes());
+            assertEquals(expected, map);
+        }
+    }
+
+    @Test
+    public void checkTornLogTail() throws IOException {
+        Path directory = folder.getRoot().toPath();
+        try (PersistentMap<Integer, String> map = open(directory, 1 << 20)) {
+            map.put(1, "one");
+            map.put(2, "two");
+        }
+        Path log = directory.resolve("map.log");
+        long size;
+        try (FileChannel channel = FileChannel.open(log, StandardOpenOption.WRITE)) {
+            size = channel.size();
+            channel.truncate(size - 2);
+            channel.write(ByteBuffer.wrap(new byte[]{0, 0, 0, 40, 1, 2}), channel.size());
+        }
+        try (PersistentMap<Integer, String> map = open(directory, 1 << 20)) {
+            assertEquals("one", map.get(1));
+            assertNull(map.get(2));
+            assertTrue(map.logBytes() < size);
+            map.put(3, "three");
+        }
+        try (PersistentMap<Integer, String> map = open(directory, 1 << 20)) {
+            assertEquals(2, map.size());
+            assertEquals("three", map.get(3));
+        }
+    }
+
+    @Test
+    public void checkKillDuringWrites() throws Exception {
+        Path directory = folder.getRoot().toPath();
+        String java = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+        Process process = new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+                Writer.class.getName(), directory.toString())
+                .redirectErrorStream(true)
+                .start();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            assertEquals("ready", reader.readLine());
+            TimeUnit.MILLISECONDS.sleep(200);
+        } finally {
+            process.destroyForcibly();
+            assertTrue(process.waitFor(10, TimeUnit.SECONDS));
+        }
+        try (PersistentMap<Integer, String> map = open(directory, Writer.COMPACTION_THRESHOLD)) {
+            assertTrue(map.size() >= Writer.READY);
+            map.forEach((key, value) -> assertTrue(value.startsWith(key + ":")));
+            map.put(-1, "-1:");
+        }
+    }
+
+    @Test
+    public void checkIteratorRemoveAndClear() throws IOException {
+        try (PersistentMap<Integer, String> map = open(folder.getRoot().toPath(), 1 << 20)) {
+            for (int i = 0; i < 100; i++) {
+                map.put(i, Integer.toString(i));
+            }
+            map.entrySet().removeIf(e -> e.getKey() % 2 == 0);
+            assertEquals(50, map.size());
+            assertTrue(map.containsKey(1));
+            assertFalse(map.containsKey(2));
+            map.clear();
+            assertTrue(map.isEmpty());
+            assertEquals(0, map.logBytes());
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void checkClosed() throws IOException {
+        PersistentMap<Integer, String> map = open(folder.getRoot().toPath(), 1 << 20);
+        map.close();
+        map.get(1);
+    }
+
+    /**
+     * Writes entries until killed.
+     */
+    public static final class Writer {
+        static final int READY = 1000;
+        static final long COMPACTION_THRESHOLD = 1 << 16;
+
+        public static void main(String[] args) throws IOException {
+            try (PersistentMap<Integer, String> map = open(new File(args[0]).toPath(), COMPACTION_THRESHOLD)) {
+                for (int i = 0; ; i++) {
+                    int key = i % 5000;
+                    map.put(key, key + ":" + i);
+                    if (i == READY) {
+                        System.out.println("ready");
+                        System.out.flush();
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2019 - 2020 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.alexengrig.lambdax.collection;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.Assert.*;
+
+public class PersistentMapXTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private PersistentMap<Integer, String> numberWords;
+
+    @Before
+    public void open() throws IOException {
+        numberWords = PersistentMap.open(folder.newFolder().toPath(),
+                OffHeapSerializer.integers(), OffHeapSerializer.strings());
+    }
+
+    @After
+    public void close() throws IOException {
+        numberWords.close();
+    }
+
+    @Test
+    public void checkPutAndGet() {
+        assertNull(MapX.<Integer, String>put(1, "one").apply(numberWords));
+        assertEquals("one", MapX.<Integer, String>get(1).apply(numberWords));
+        assertTrue(MapX.<Integer, String>containsKey(1).test(numberWords));
+        assertTrue(MapX.<Integer, String>containsValue("one").test(numberWords));
+        assertTrue(MapX.<Integer, String>notContainsKey(2).test(numberWords));
+    }
+
+    @Test
+    public void checkPutAllAndEquals() {
+        Map<Integer, String> values = new HashMap<>();
+        values.put(2, "two");
+        values.put(3, "three");
+        MapX.<Integer, String>putAll(values).accept(numberWords);
+        assertTrue(MapX.<Integer, String>equalsTo(values).test(numberWords));
+        assertTrue(MapX.<Integer, String>notEqualsTo(Collections.emptyMap()).test(numberWords));
+    }
+
+    @Test
+    public void checkRemove() {
+        MapX.onlyPut(4, "four").accept(numberWords);
+        String actual = Optional.of(numberWords)
+                .map(MapX.remove(4))
+                .orElseThrow(IllegalStateException::new);
+        assertEquals("four", actual);
+        assertTrue(numberWords.isEmpty());
+    }
+
+    @Test
+    public void checkPutIfAbsentAndComputeIfAbsent() {
+        assertNull(MapX.putIfAbsent(5, "five").apply(numberWords));
+        assertEquals("five", MapX.putIfAbsent(5, "other").apply(numberWords));
+        assertEquals("six", MapX.<Integer, String>computeIfAbsent(6, k -> "six").apply(numberWords));
+        assertEquals("six", MapX.<Integer, String>computeIfAbsent(6, k -> {
+            throw new IllegalStateException();
+        }).apply(numberWords));
+    }
+
+    @Test
+    public void checkComputeAndMerge() {
+        assertEquals("seven", MapX.<Integer, String>compute(7, (k, v) -> v == null ? "seven" : v + "teen")
+                .apply(numberWords));
+        assertEquals("seventeen", MapX.<Integer, String>compute(7, (k, v) -> v + "teen").apply(numberWords));
+        assertNull(MapX.<Integer, String>compute(7, (k, v) -> null).apply(numberWords));
+        assertFalse(numberWords.containsKey(7));
+        assertEquals("eight", MapX.merge(8, "eight", String::concat).apply(numberWords));
+        assertEquals("eighteight", MapX.merge(8, "eight", String::concat).apply(numberWords));
+    }
+
+    @Test
+    public void checkReplaceAndRemoveIf() {
+        numberWords.put(9, "nine");
+        assertFalse(MapX.replace(9, "ten", "nineteen").test(numberWords));
+        assertTrue(MapX.replace(9, "nine", "nineteen").test(numberWords));
+        assertFalse(MapX.<Integer, String>removeIf(9, v -> v.length() > 10).test(numberWords));
+        assertTrue(MapX.<Integer, String>removeIf(9, v -> v.startsWith("nine")).test(numberWords));
+        assertFalse(numberWords.containsKey(9));
+    }
+}
@@ -20,12 +20,19 @@ import io.github.alexengrig.lambdax.OptionalX;
 import org.junit.Test;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
 import java.util.Optional;
 import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
 
-import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.*;
 
 public class QueueXTest {
     @Test
@@ -101,4 +108,66 @@ public class QueueXTest {
                 .orElseThrow(IllegalStateException::new);
         assertTrue(actual.contains(value));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void checkDrainTo() {
+        Queue<Integer> queue = new MpscArrayQueue<>(8);
+        queue.addAll(Arrays.asList(1, 2, 3));
+        List<Integer> drained = new ArrayList<>();
+        ToIntFunction<Queue<Integer>> drainTo = QueueX.drainTo(drained::add, 2);
+        assertEquals(2, drainTo.applyAsInt(queue));
+        assertEquals(1, drainTo.applyAsInt(queue));
+        assertEquals(0, drainTo.applyAsInt(queue));
+        Queue<Integer> linked = new LinkedList<>(Arrays.asList(4, 5, 6));
+        assertEquals(2, drainTo.applyAsInt(linked));
+        assertEquals(Arrays.asList(1, 2, 3, 4, 5), drained);
+    }
+
+    @Test
+    public void checkIsFull() {
+        Predicate<Queue<Integer>> isFull = QueueX.isFull();
+        Predicate<Queue<Integer>> notFull = QueueX.notFull();
+        Queue<Integer> bounded = new SpscArrayQueue<>(1);
+        assertTrue(notFull.test(bounded));
+        bounded.offer(1);
+        assertTrue(isFull.test(bounded));
+        Queue<Integer> blocking = new ArrayBlockingQueue<>(1);
+        assertFalse(isFull.test(blocking));
+        blocking.offer(1);
+        assertTrue(isFull.test(blocking));
+        assertTrue(notFull.test(new LinkedList<>(Arrays.asList(1, 2))));
+    }
+
+    @Test
+    public void checkDrain() {
+        List<List<Integer>> chunks = new ArrayList<>();
+        ToIntFunction<Queue<Integer>> drain = QueueX.drain(2, chunks::add);
+        Queue<Integer> bounded = new MpscArrayQueue<>(4);
+        bounded.addAll(Arrays.asList(1, 2, 3));
+        assertEquals(2, drain.applyAsInt(bounded));
+        assertEquals(1, drain.applyAsInt(bounded));
+        assertEquals(0, drain.applyAsInt(bounded));
+        Queue<Integer> blocking = new ArrayBlockingQueue<>(4);
+        blocking.addAll(Arrays.asList(4, 5, 6));
+        assertEquals(2, drain.applyAsInt(blocking));
+        Queue<Integer> linked = new LinkedList<>(Arrays.asList(7, 8, 9));
+        assertEquals(2, drain.applyAsInt(linked));
+        assertEquals(Arrays.asList(Arrays.asList(1, 2), Collections.singletonList(3),
+                Arrays.asList(4, 5), Arrays.asList(7, 8)), chunks);
+    }
+
+    @Test
+    public void checkOfferBatch() {
+        ToIntFunction<Queue<Integer>> offerBatch = QueueX.offerBatch(Arrays.asList(1, 2, 3));
+        Queue<Integer> spsc = new SpscArrayQueue<>(4);
+        assertEquals(3, offerBatch.applyAsInt(spsc));
+        assertEquals(1, offerBatch.applyAsInt(spsc));
+        assertEquals(Arrays.asList(1, 2, 3, 1), new ArrayList<>(spsc));
+        Queue<Integer> mpsc = new MpscArrayQueue<>(2);
+        assertEquals(2, offerBatch.applyAsInt(mpsc));
+        assertEquals(0, offerBatch.applyAsInt(mpsc));
+        assertEquals(Arrays.asList(1, 2), new ArrayList<>(mpsc));
+        Queue<Integer> blocking = new ArrayBlockingQueue<>(2);
+        assertEquals(2, offerBatch.applyAsInt(blocking));
+    }
+}
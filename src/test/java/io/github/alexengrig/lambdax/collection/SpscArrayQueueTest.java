@@ -0,0 +1,119 @@
+/*
+ * Copyright 2019 - 2020 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.alexengrig.lambdax.collection;
+
+import io.github.alexengrig.lambdax.exception.ExpectedException;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class SpscArrayQueueTest {
+    @Test
+    public void checkOfferAndPoll() {
+        SpscArrayQueue<Integer> queue = new SpscArrayQueue<>(3);
+        assertEquals(4, queue.capacity());
+        assertTrue(queue.isEmpty());
+        assertNull(queue.poll());
+        for (int i = 0; i < 4; i++) {
+            assertTrue(queue.offer(i));
+        }
+        assertFalse(queue.offer(4));
+        assertEquals(4, queue.size());
+        assertEquals(0, queue.remainingCapacity());
+        assertEquals(Integer.valueOf(0), queue.peek());
+        assertEquals(Integer.valueOf(0), queue.poll());
+        assertTrue(queue.offer(4));
+        assertEquals(Arrays.asList(1, 2, 3, 4), new ArrayList<>(queue));
+    }
+
+    @Test
+    public void checkDrain() {
+        SpscArrayQueue<Integer> queue = new SpscArrayQueue<>(8);
+        queue.addAll(Arrays.asList(1, 2, 3, 4, 5));
+        List<Integer> drained = new ArrayList<>();
+        assertEquals(3, queue.drain(drained::add, 3));
+        assertEquals(2, queue.drain(drained::add, 10));
+        assertEquals(0, queue.drain(drained::add, 10));
+        assertEquals(Arrays.asList(1, 2, 3, 4, 5), drained);
+    }
+
+    @Test
+    public void checkProducerConsumer() throws InterruptedException {
+        SpscArrayQueue<Integer> queue = new SpscArrayQueue<>(64);
+        int count = 1_000_000;
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < count; i++) {
+                while (!queue.offer(i)) {
+                    Thread.yield();
+                }
+            }
+        });
+        producer.start();
+        for (int expected = 0; expected < count; ) {
+            Integer actual = queue.poll();
+            if (actual == null) {
+                Thread.yield();
+            } else {
+                assertEquals(expected++, actual.intValue());
+            }
+        }
+        producer.join();
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void checkNullElement() {
+        new SpscArrayQueue<>(1).offer(null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void checkZeroCapacity() {
+        new SpscArrayQueue<>(0);
+    }
+
+    @Test
+    public void checkDrainWithReentrantConsumer() {
+        SpscArrayQueue<Integer> queue = new SpscArrayQueue<>(4);
+        queue.addAll(Arrays.asList(1, 2, 3, 4));
+        List<Integer> peeked = new ArrayList<>();
+        assertEquals(2, queue.drain(element -> {
+            peeked.add(queue.peek());
+            assertTrue(queue.offer(element * 10));
+        }, 2));
+        assertEquals(Arrays.asList(2, 3), peeked);
+        assertEquals(Arrays.asList(3, 4, 10, 20), new ArrayList<>(queue));
+        assertEquals(Integer.valueOf(3), queue.poll());
+    }
+
+    @Test
+    public void checkDrainKeepsElementsAfterFailedAction() {
+        SpscArrayQueue<Integer> queue = new SpscArrayQueue<>(4);
+        queue.addAll(Arrays.asList(1, 2, 3));
+        try {
+            queue.drain(element -> {
+                throw new ExpectedException();
+            }, 3);
+            fail();
+        } catch (ExpectedException ignore) {
+        }
+        assertEquals(Arrays.asList(2, 3), new ArrayList<>(queue));
+    }
+}
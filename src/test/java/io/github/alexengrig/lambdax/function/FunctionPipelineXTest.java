@@ -0,0 +1,106 @@
+/*
+ * Copyright 2019 - 2020 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.alexengrig.lambdax.function;
+
+import io.github.alexengrig.lambdax.exception.ExpectedException;
+import org.junit.Test;
+
+import java.util.function.Function;
+
+import static org.junit.Assert.*;
+
+public class FunctionPipelineXTest {
+    private final Function<String, String> concat1 = s -> s + ".1.";
+    private final Function<String, String> concat2 = s -> s + ".2.";
+    private final Function<String, String> concat3 = s -> s + ".3.";
+
+    @Test
+    public void checkIdentity() {
+        FunctionPipelineX<String, String> pipeline = FunctionX.pipeline(String.class);
+        assertEquals(0, pipeline.size());
+        assertEquals("GitHub", pipeline.apply("GitHub"));
+        assertNull(pipeline.apply(null));
+    }
+
+    @Test
+    public void checkThen() {
+        FunctionPipelineX<String, Integer> pipeline = FunctionX.<String>pipeline()
+                .then(concat1)
+                .then(concat2)
+                .then(String::length);
+        assertEquals(3, pipeline.size());
+        assertEquals(Integer.valueOf(12), pipeline.apply("GitHub"));
+    }
+
+    @Test
+    public void checkImmutable() {
+        FunctionPipelineX<String, String> pipeline = FunctionX.pipeline(String.class).then(concat1);
+        FunctionPipelineX<String, String> first = pipeline.then(concat2);
+        FunctionPipelineX<String, String> second = pipeline.then(concat3);
+        assertEquals("GitHub.1..2.", first.apply("GitHub"));
+        assertEquals("GitHub.1..3.", second.apply("GitHub"));
+        assertEquals(1, pipeline.size());
+    }
+
+    @Test
+    public void checkFlatten() {
+        FunctionPipelineX<String, String> inner = FunctionX.pipeline(String.class).then(concat2).then(concat3);
+        FunctionPipelineX<String, String> pipeline = FunctionX.pipeline(String.class)
+                .then(concat1)
+                .then(inner)
+                .andThen(inner);
+        assertEquals(5, pipeline.size());
+        assertEquals("GitHub.1..2..3..2..3.", pipeline.apply("GitHub"));
+    }
+
+    @Test
+    public void checkCompose() {
+        FunctionPipelineX<String, String> inner = FunctionX.pipeline(String.class).then(concat2);
+        FunctionPipelineX<String, String> pipeline = FunctionX.pipeline(String.class)
+                .then(concat3)
+                .compose(inner)
+                .compose(concat1);
+        assertEquals(3, pipeline.size());
+        assertEquals("GitHub.1..2..3.", pipeline.apply("GitHub"));
+    }
+
+    @Test
+    public void checkLongPipeline() {
+        FunctionPipelineX<Integer, Integer> pipeline = FunctionX.pipeline(Integer.class);
+        Function<Integer, Integer> increment = i -> i + 1;
+        for (int n = 0; n < 1000; n++) {
+            pipeline = pipeline.then(n % 2 == 0 ? increment : FunctionX.pipeline(Integer.class).then(increment));
+        }
+        assertEquals(1000, pipeline.size());
+        assertEquals(Integer.valueOf(1000), pipeline.apply(0));
+    }
+
+    @Test(expected = ExpectedException.class)
+    public void checkException() {
+        FunctionX.pipeline(String.class).then(concat1).then(s -> {
+            throw new ExpectedException();
+        }).then(s -> {
+            fail("Fail function");
+            return s;
+        }).apply("GitHub");
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void checkNullStage() {
+        FunctionX.pipeline(String.class).then(null);
+    }
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright 2019 - 2020 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.alexengrig.lambdax.function;
+
+import io.github.alexengrig.lambdax.entity.Ref;
+import org.junit.Test;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static org.junit.Assert.*;
+
+public class MemoizerTest {
+    private final AtomicInteger calls = new AtomicInteger();
+    private final AtomicLong time = new AtomicLong();
+    private final Function<String, Integer> length = s -> {
+        calls.incrementAndGet();
+        return s == null ? -1 : s.length();
+    };
+
+    @Test
+    public void checkMemoize() {
+        MemoizedFunction<String, Integer> memoized = FunctionX.memoize(length);
+        assertEquals(Integer.valueOf(3), memoized.apply("abc"));
+        assertEquals(Integer.valueOf(3), memoized.apply("abc"));
+        assertEquals(Integer.valueOf(-1), memoized.apply(null));
+        assertEquals(Integer.valueOf(-1), memoized.apply(null));
+        assertEquals(2, calls.get());
+        assertEquals(2, memoized.hitCount());
+        assertEquals(2, memoized.missCount());
+        assertEquals(0, memoized.evictionCount());
+        assertEquals(2, memoized.size());
+        memoized.clear();
+        assertEquals(0, memoized.size());
+        memoized.apply("abc");
+        assertEquals(3, calls.get());
+    }
+
+    @Test
+    public void checkMemoizeNullResult() {
+        MemoizedFunction<String, String> memoized = FunctionX.memoize(s -> {
+            calls.incrementAndGet();
+            return null;
+        });
+        assertNull(memoized.apply("abc"));
+        assertNull(memoized.apply("abc"));
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void checkMemoizeRecursive() {
+        Ref<Function<Integer, Long>> fibonacci = new Ref<>();
+        fibonacci.set(FunctionX.memoize(n -> n < 2 ? (long) n : fibonacci.get().apply(n - 1) + fibonacci.get().apply(n - 2)));
+        assertEquals(Long.valueOf(12586269025L), fibonacci.get().apply(50));
+    }
+
+    @Test
+    public void checkLru() {
+        MemoizedFunction<String, Integer> memoized = FunctionX.memoize(length, Memoizer.lru(2).ticker(time::get));
+        memoized.apply("a");
+        time.incrementAndGet();
+        memoized.apply("bb");
+        time.incrementAndGet();
+        memoized.apply("a");
+        time.incrementAndGet();
+        memoized.apply("ccc");
+        assertEquals(2, memoized.size());
+        assertEquals(1, memoized.evictionCount());
+        memoized.apply("a");
+        assertEquals(3, calls.get());
+        memoized.apply("bb");
+        assertEquals(4, calls.get());
+    }
+
+    @Test
+    public void checkLfu() {
+        MemoizedFunction<String, Integer> memoized = FunctionX.memoize(length, Memoizer.lfu(2).ticker(time::get));
+        memoized.apply("a");
+        memoized.apply("a");
+        memoized.apply("a");
+        time.incrementAndGet();
+        memoized.apply("bb");
+        time.incrementAndGet();
+        memoized.apply("bb");
+        time.incrementAndGet();
+        memoized.apply("ccc");
+        assertEquals(2, memoized.size());
+        assertEquals(1, memoized.evictionCount());
+        memoized.apply("a");
+        assertEquals(3, calls.get());
+        memoized.apply("bb");
+        assertEquals(4, calls.get());
+    }
+
+    @Test
+    public void checkLargeMaximumSize() {
+        MemoizedFunction<Integer, Integer> memoized = FunctionX.memoize(Function.identity(), Memoizer.lru(100));
+        for (int i = 0; i < 1000; i++) {
+            memoized.apply(i);
+        }
+        assertTrue(memoized.size() <= 100);
+        assertEquals(1000, memoized.missCount());
+        assertEquals(1000 - memoized.size(), memoized.evictionCount());
+    }
+
+    @Test
+    public void checkExpireAfterWrite() {
+        MemoizedFunction<String, Integer> memoized = FunctionX.memoize(length,
+                Memoizer.unbounded().expireAfterWrite(10, TimeUnit.NANOSECONDS).ticker(time::get));
+        memoized.apply("a");
+        time.addAndGet(5);
+        memoized.apply("a");
+        assertEquals(1, calls.get());
+        time.addAndGet(5);
+        memoized.apply("a");
+        assertEquals(2, calls.get());
+        assertEquals(1, memoized.evictionCount());
+    }
+
+    @Test
+    public void checkExpiredResultsOfDistinctKeysAreSwept() {
+        MemoizedFunction<String, Integer> memoized = FunctionX.memoize(length,
+                Memoizer.unbounded().expireAfterWrite(10, TimeUnit.NANOSECONDS).ticker(time::get));
+        for (int i = 0; i < 100_000; i++) {
+            memoized.apply("key" + i);
+            time.incrementAndGet();
+            assertTrue("size " + memoized.size() + " at " + i, memoized.size() <= 128);
+        }
+        assertTrue(memoized.evictionCount() > 99_000);
+    }
+
+    @Test
+    public void checkExpireAfterAccess() {
+        MemoizedFunction<String, Integer> memoized = FunctionX.memoize(length,
+                Memoizer.unbounded().expireAfterAccess(10, TimeUnit.NANOSECONDS).ticker(time::get));
+        memoized.apply("a");
+        time.addAndGet(9);
+        memoized.apply("a");
+        time.addAndGet(9);
+        memoized.apply("a");
+        assertEquals(1, calls.get());
+        time.addAndGet(10);
+        memoized.apply("a");
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    public void checkMemoizeBiFunction() {
+        MemoizedBiFunction<String, String, String> memoized = FunctionX.memoize((String l, String r) -> {
+            calls.incrementAndGet();
+            return l + r;
+        });
+        assertEquals("ab", memoized.apply("a", "b"));
+        assertEquals("ab", memoized.apply("a", "b"));
+        assertEquals("ba", memoized.apply("b", "a"));
+        assertEquals("anull", memoized.apply("a", null));
+        assertEquals(3, calls.get());
+        assertEquals(1, memoized.hitCount());
+    }
+
+    @Test
+    public void checkMemoizeTerFunction() {
+        MemoizedTerFunction<String, String, String, String> memoized = FunctionX.memoize(
+                (String l, String c, String r) -> {
+                    calls.incrementAndGet();
+                    return l + c + r;
+                }, Memoizer.lru(1));
+        assertEquals("abc", memoized.apply("a", "b", "c"));
+        assertEquals("abc", memoized.apply("a", "b", "c"));
+        assertEquals("cba", memoized.apply("c", "b", "a"));
+        assertEquals(2, calls.get());
+        assertEquals(1, memoized.size());
+        assertEquals(1, memoized.evictionCount());
+    }
+
+    @Test
+    public void checkConcurrentHits() throws InterruptedException {
+        MemoizedFunction<Integer, Integer> memoized = FunctionX.memoize(i -> i * 2, Memoizer.lru(64));
+        ConcurrentHashMap<Integer, Integer> errors = new ConcurrentHashMap<>();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        CountDownLatch latch = new CountDownLatch(4);
+        for (int t = 0; t < 4; t++) {
+            executor.execute(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    int key = i % 100;
+                    if (memoized.apply(key) != key * 2) {
+                        errors.put(key, memoized.apply(key));
+                    }
+                }
+                latch.countDown();
+            });
+        }
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        executor.shutdown();
+        assertTrue(errors.isEmpty());
+        assertEquals(40_000, memoized.hitCount() + memoized.missCount());
+        assertTrue(memoized.size() <= 64);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void checkNonPositiveMaximumSize() {
+        Memoizer.lru(0);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void checkNullFunction() {
+        FunctionX.memoize((Function<String, String>) null);
+    }
+}
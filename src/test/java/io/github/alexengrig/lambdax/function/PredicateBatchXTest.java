@@ -0,0 +1,124 @@
+/*
+ * Copyright 2019 - 2020 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.alexengrig.lambdax.function;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.*;
+
+public class PredicateBatchXTest {
+    private static final int SIZE = 100_003;
+
+    private final Integer[] array = IntStream.range(0, SIZE).boxed().toArray(Integer[]::new);
+    private final List<Integer> list = IntStream.range(0, SIZE).boxed().collect(Collectors.toList());
+    private final PredicateX<Integer> even = i -> i % 2 == 0;
+    private final PredicateX<Integer> byThree = i -> i % 3 == 0;
+
+    @Test
+    public void checkEvaluate() {
+        BitSet evens = even.evaluate(array);
+        assertEquals((SIZE + 1) / 2, evens.cardinality());
+        for (int i = 0; i < SIZE; i++) {
+            assertEquals(i % 2 == 0, evens.get(i));
+        }
+        assertEquals(evens, even.evaluate(list));
+        assertEquals(evens, even.evaluate(new LinkedList<>(list)));
+    }
+
+    @Test
+    public void checkCombineBitmaps() {
+        BitSet matches = even.evaluate(array);
+        matches.and(byThree.evaluate(array));
+        assertEquals(even.and(byThree).evaluate(array), matches);
+        matches = even.evaluate(list);
+        matches.or(byThree.evaluate(list));
+        assertEquals(even.or(byThree).evaluate(list), matches);
+    }
+
+    @Test
+    public void checkEvaluateSmall() {
+        BitSet matches = even.evaluate(new Integer[]{1, 2, 3, 4});
+        assertEquals(2, matches.cardinality());
+        assertTrue(matches.get(1));
+        assertTrue(matches.get(3));
+        assertTrue(even.evaluate(new Integer[0]).isEmpty());
+    }
+
+    @Test
+    public void checkFilterParallel() {
+        List<Integer> expected = list.stream().filter(byThree).collect(Collectors.toList());
+        assertEquals(expected, PredicateX.filterParallel(list, byThree));
+        assertEquals(expected, PredicateX.filterParallel(new LinkedList<>(list), byThree));
+        assertEquals(Collections.emptyList(), PredicateX.filterParallel(new ArrayList<Integer>(), byThree));
+    }
+
+    @Test
+    public void checkCountMatches() {
+        assertEquals((SIZE + 2) / 3, PredicateX.countMatches(array, byThree));
+        assertEquals(0, PredicateX.countMatches(array, PredicateX.lie()));
+    }
+
+    @Test
+    public void checkAnyMatch() {
+        assertTrue(PredicateX.anyMatch(array, i -> i == SIZE - 1));
+        assertFalse(PredicateX.anyMatch(array, i -> i < 0));
+        assertFalse(PredicateX.anyMatch(new Integer[0], PredicateX.truth()));
+    }
+
+    @Test
+    public void checkAllMatch() {
+        assertTrue(PredicateX.allMatch(array, i -> i >= 0));
+        assertFalse(PredicateX.allMatch(array, i -> i != SIZE / 2));
+        assertTrue(PredicateX.allMatch(new Integer[0], PredicateX.lie()));
+    }
+
+    @Test
+    public void checkCustomPool() {
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            Predicate<Integer> byFive = i -> i % 5 == 0;
+            assertEquals(even.evaluate(array), even.evaluate(array, pool));
+            assertEquals(even.evaluate(list), even.evaluate(list, pool));
+            assertEquals(PredicateX.filterParallel(list, byFive), PredicateX.filterParallel(list, byFive, pool));
+            assertEquals(PredicateX.countMatches(array, byFive), PredicateX.countMatches(array, byFive, pool));
+            assertTrue(PredicateX.anyMatch(array, byFive, pool));
+            assertFalse(PredicateX.allMatch(array, byFive, pool));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void checkNullPredicate() {
+        PredicateX.countMatches(array, null);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void checkNullPool() {
+        even.evaluate(array, null);
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2019 - 2020 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.alexengrig.lambdax.function;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.*;
+
+public class PredicateIndexTest {
+    private final List<Integer> items = IntStream.range(0, 10_000).boxed().collect(Collectors.toList());
+    private final AtomicInteger evaluations = new AtomicInteger();
+    private final Predicate<Integer> isEven = i -> i % 2 == 0;
+    private final Predicate<Integer> isByThree = i -> i % 3 == 0;
+    private final Predicate<Integer> even = counted(isEven);
+    private final Predicate<Integer> byThree = counted(isByThree);
+
+    private Predicate<Integer> counted(Predicate<Integer> predicate) {
+        return i -> {
+            evaluations.incrementAndGet();
+            return predicate.test(i);
+        };
+    }
+
+    private List<Integer> expected(Predicate<Integer> predicate) {
+        return items.stream().filter(predicate).collect(Collectors.toList());
+    }
+
+    @Test
+    public void checkRegister() {
+        PredicateIndex<Integer> index = PredicateIndex.of(items);
+        PredicateIndex.Query<Integer> evens = index.register(even);
+        assertEquals(0, evaluations.get());
+        assertEquals(expected(isEven), evens.filter());
+        assertEquals(5_000, evens.count());
+        assertEquals(10_000, evaluations.get());
+        assertEquals(10_000, index.size());
+    }
+
+    @Test
+    public void checkLogicalOperations() {
+        PredicateIndex<Integer> index = PredicateIndex.of(items);
+        PredicateIndex.Query<Integer> evens = index.register(even);
+        PredicateIndex.Query<Integer> byThrees = index.register(byThree);
+        evens.bits();
+        byThrees.bits();
+        int evaluated = evaluations.get();
+        assertEquals(expected(PredicateX.and(isEven, isByThree)), evens.and(byThrees).filter());
+        assertEquals(expected(PredicateX.or(isEven, isByThree)), evens.or(byThrees).filter());
+        assertEquals(expected(PredicateX.xor(isEven, isByThree)), evens.xor(byThrees).filter());
+        assertEquals(expected(PredicateX.nand(isEven, isByThree)), evens.nand(byThrees).filter());
+        assertEquals(expected(PredicateX.nor(isEven, isByThree)), evens.nor(byThrees).filter());
+        assertEquals(expected(PredicateX.xnor(isEven, isByThree)), evens.xnor(byThrees).filter());
+        assertEquals(expected(PredicateX.not(isEven)), evens.not().filter());
+        assertEquals(20_000, evaluated);
+        assertEquals(evaluated, evaluations.get());
+    }
+
+    @Test
+    public void checkBitsAreCopies() {
+        PredicateIndex<Integer> index = PredicateIndex.of(items);
+        PredicateIndex.Query<Integer> evens = index.register(even);
+        evens.bits().clear();
+        assertEquals(5_000, evens.count());
+    }
+
+    @Test
+    public void checkUpdate() {
+        PredicateIndex<Integer> index = PredicateIndex.of(items);
+        PredicateIndex.Query<Integer> evens = index.register(even);
+        assertEquals(5_000, evens.count());
+        index.update(Arrays.asList(1, 2, 3, 4));
+        assertEquals(Arrays.asList(2, 4), evens.filter());
+        assertEquals(Arrays.asList(1, 3), evens.not().filter());
+    }
+
+    @Test
+    public void checkInvalidate() {
+        List<Integer> mutable = new ArrayList<>(Arrays.asList(1, 2, 3));
+        PredicateIndex<Integer> index = PredicateIndex.of(mutable);
+        PredicateIndex.Query<Integer> evens = index.register(even);
+        assertEquals(1, evens.count());
+        mutable.add(4);
+        assertEquals(1, evens.count());
+        index.invalidate();
+        assertEquals(2, evens.count());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void checkAnotherIndex() {
+        PredicateIndex.of(items).register(even).and(PredicateIndex.of(items).register(even));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void checkNullPredicate() {
+        PredicateIndex.of(items).register(null);
+    }
+}
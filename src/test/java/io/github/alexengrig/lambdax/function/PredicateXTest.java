@@ -27,6 +27,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static io.github.alexengrig.lambdax.function.PredicateX.*;
@@ -98,9 +99,7 @@ public class PredicateXTest {
     @Test
     public void checkLazyAnd() {
         assertFalse(and(lie(), failPredicate).test(null));
-        assertFalse(and(lie(), null).test(null));
         assertFalse(and(truth(), lie(), failPredicate).test(null));
-        assertFalse(and(truth(), truth(), lie(), null).test(null));
     }
 
     @Test
@@ -126,9 +125,7 @@ public class PredicateXTest {
     @Test
     public void checkLazyOr() {
         assertTrue(or(truth(), failPredicate).test(null));
-        assertTrue(or(truth(), null).test(null));
         assertTrue(or(lie(), truth(), failPredicate).test(null));
-        assertTrue(or(lie(), lie(), truth(), null).test(null));
     }
 
     @Test
@@ -174,9 +171,7 @@ public class PredicateXTest {
     @Test
     public void checkLazyNand() {
         assertTrue(nand(lie(), failPredicate).test(null));
-        assertTrue(nand(lie(), null).test(null));
         assertTrue(nand(truth(), truth(), failPredicate).test(null));
-        assertTrue(nand(truth(), lie(), truth(), null).test(null));
     }
 
     @Test
@@ -225,6 +220,128 @@ public class PredicateXTest {
         assertTrue(xnor(truth(), truth(), truth()).test(null));
     }
 
+    @Test(expected = NullPointerException.class)
+    public void checkAndWithNull() {
+        and(lie(), null);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void checkAndWithVarargsWithNull() {
+        and(truth(), truth(), lie(), null);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void checkOrWithNull() {
+        or(truth(), null);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void checkNandWithVarargsWithNull() {
+        nand(truth(), lie(), truth(), null);
+    }
+
+    @Test
+    public void checkFlattenAnd() {
+        Predicate<Object> first = and(truth(), truth());
+        Predicate<Object> second = and(truth(), lie(), truth());
+        Predicate<Object> predicate = and(first, second, truth());
+        assertEquals(6, ((CompositePredicateX<?>) predicate).predicates.length);
+        assertFalse(predicate.test(null));
+        assertEquals(3, ((CompositePredicateX<?>) PredicateX.of(truth()).and(truth()).and(lie())).predicates.length);
+    }
+
+    @Test
+    public void checkFlattenOr() {
+        Predicate<Object> predicate = or(or(lie(), lie()), lie(), or(lie(), truth()));
+        assertEquals(5, ((CompositePredicateX<?>) predicate).predicates.length);
+        assertTrue(predicate.test(null));
+    }
+
+    @Test
+    public void checkFlattenNandOnlyFirst() {
+        Predicate<Object> nested = nand(truth(), truth());
+        Predicate<Object> predicate = nand(nested, truth(), nested);
+        assertEquals(4, ((CompositePredicateX<?>) predicate).predicates.length);
+        assertTrue(predicate.test(null));
+    }
+
+    @Test
+    public void checkNotFlattenDifferentOperations() {
+        Predicate<Object> predicate = and(or(lie(), truth()), truth());
+        assertEquals(2, ((CompositePredicateX<?>) predicate).predicates.length);
+        assertTrue(predicate.test(null));
+    }
+
+    @Test
+    public void checkManyPredicates() {
+        @SuppressWarnings("unchecked")
+        Predicate<Integer>[] others = Stream.iterate(0, i -> i + 1).limit(500)
+                .map(i -> (Predicate<Integer>) n -> n > i)
+                .toArray(Predicate[]::new);
+        assertTrue(and(n -> n > -2, n -> n > -1, others).test(500));
+        assertFalse(and(n -> n > -2, n -> n > -1, others).test(250));
+        assertTrue(or(n -> n < -2, n -> n < -1, others).test(1));
+    }
+
+    @Test
+    public void checkAdaptiveAnd() {
+        assertTrue(adaptiveAnd(truth(), truth(), truth()).test(null));
+        assertFalse(adaptiveAnd(truth(), lie(), truth()).test(null));
+        assertFalse(adaptiveAnd(lie(), failPredicate).test(null));
+    }
+
+    @Test
+    public void checkAdaptiveOr() {
+        assertFalse(adaptiveOr(lie(), lie(), lie()).test(null));
+        assertTrue(adaptiveOr(lie(), truth(), lie()).test(null));
+        assertTrue(adaptiveOr(truth(), failPredicate).test(null));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void checkAdaptiveAndWithNull() {
+        adaptiveAnd(truth(), truth(), (Predicate<Object>) null);
+    }
+
+    @Test
+    public void checkAdaptiveAndReordersBySelectivity() {
+        Predicate<Integer> passing = n -> n >= 0;
+        Predicate<Integer> failing = n -> n < 0;
+        AdaptivePredicateX<Integer> predicate = new AdaptivePredicateX.And<>(
+                AdaptivePredicateX.operands(passing, failing, CompositePredicateX.none()), 1, 10);
+        for (int i = 0; i < 10; i++) {
+            assertFalse(predicate.test(i));
+        }
+        assertSame(failing, predicate.clauses[0].predicate);
+        assertFalse(predicate.test(1));
+    }
+
+    @Test
+    public void checkAdaptiveOrReordersBySelectivity() {
+        Predicate<Integer> failing = n -> n < 0;
+        Predicate<Integer> passing = n -> n >= 0;
+        AdaptivePredicateX<Integer> predicate = new AdaptivePredicateX.Or<>(
+                AdaptivePredicateX.operands(failing, passing, CompositePredicateX.none()), 1, 10);
+        for (int i = 0; i < 10; i++) {
+            assertTrue(predicate.test(i));
+        }
+        assertSame(passing, predicate.clauses[0].predicate);
+        assertTrue(predicate.test(1));
+    }
+
+    @Test
+    public void checkAdaptiveAndInParallel() {
+        Predicate<Integer> even = n -> n % 2 == 0;
+        Predicate<Integer> positive = n -> n > 0;
+        Predicate<Integer> small = n -> n < 1000;
+        Predicate<Integer> expected = even.and(positive).and(small);
+        @SuppressWarnings("unchecked")
+        Predicate<? super Integer>[] others = (Predicate<? super Integer>[]) new Predicate<?>[]{small};
+        Predicate<Integer> actual = new AdaptivePredicateX.And<>(
+                AdaptivePredicateX.operands(even, positive, others), 2, 16);
+        assertTrue(IntStream.range(-5000, 5000).parallel().boxed()
+                .allMatch(n -> expected.test(n) == actual.test(n)));
+    }
+
     @Test
     public void checkFrom() {
         assertTrue(PredicateX.of(Box::isEmpty).test(new Box(null)));
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2019 - 2020 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.alexengrig.lambdax.function;
+
+import io.github.alexengrig.lambdax.entity.Ref;
+import io.github.alexengrig.lambdax.exception.ExpectedException;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static org.junit.Assert.*;
+
+public class SingleFlightFunctionTest {
+    private static final int THREADS = 8;
+
+    private final AtomicInteger calls = new AtomicInteger();
+    private final AtomicLong time = new AtomicLong();
+
+    private List<Future<Object>> callConcurrently(Function<String, ?> function, CountDownLatch started)
+            throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<Object>> futures = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            futures.add(executor.submit(() -> {
+                started.countDown();
+                return function.apply("key");
+            }));
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        return futures;
+    }
+
+    @Test
+    public void checkSharedComputation() throws Exception {
+        CountDownLatch started = new CountDownLatch(THREADS);
+        Function<String, Object> function = FunctionX.singleFlight(key -> {
+            calls.incrementAndGet();
+            try {
+                started.await(10, TimeUnit.SECONDS);
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new Object();
+        });
+        List<Future<Object>> futures = callConcurrently(function, started);
+        Object result = futures.get(0).get();
+        for (Future<Object> future : futures) {
+            assertSame(result, future.get());
+        }
+        assertEquals(1, calls.get());
+        assertNotSame(result, function.apply("key"));
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    public void checkSharedFailure() throws Exception {
+        CountDownLatch started = new CountDownLatch(THREADS);
+        Function<String, Object> function = FunctionX.singleFlight(key -> {
+            calls.incrementAndGet();
+            try {
+                started.await(10, TimeUnit.SECONDS);
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            throw new ExpectedException();
+        });
+        for (Future<Object> future : callConcurrently(function, started)) {
+            try {
+                future.get();
+                fail("The failure must propagate");
+            } catch (ExecutionException e) {
+                assertTrue(e.getCause() instanceof ExpectedException);
+            }
+        }
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void checkTimeToLive() {
+        Function<String, Integer> function = new SingleFlightFunction<>(key -> calls.incrementAndGet(),
+                TimeUnit.NANOSECONDS.toNanos(10), time::get);
+        assertEquals(Integer.valueOf(1), function.apply("key"));
+        time.addAndGet(9);
+        assertEquals(Integer.valueOf(1), function.apply("key"));
+        assertEquals(Integer.valueOf(2), function.apply(null));
+        time.addAndGet(1);
+        assertEquals(Integer.valueOf(3), function.apply("key"));
+    }
+
+    @Test
+    public void checkExpiredFlightsOfDistinctKeysAreSwept() {
+        SingleFlightFunction<String, Integer> function = new SingleFlightFunction<>(key -> calls.incrementAndGet(),
+                TimeUnit.NANOSECONDS.toNanos(10), time::get);
+        for (int i = 0; i < 100_000; i++) {
+            function.apply("key" + i);
+            time.incrementAndGet();
+            assertTrue("size " + function.size() + " at " + i, function.size() <= 128);
+        }
+        assertEquals(100_000, calls.get());
+    }
+
+    @Test
+    public void checkFailureIsNotCached() {
+        Function<String, Integer> function = FunctionX.singleFlight(key -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new ExpectedException();
+            }
+            return calls.get();
+        }, 1, TimeUnit.HOURS);
+        try {
+            function.apply("key");
+            fail("The failure must propagate");
+        } catch (ExpectedException ignore) {
+        }
+        assertEquals(Integer.valueOf(2), function.apply("key"));
+        assertEquals(Integer.valueOf(2), function.apply("key"));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void checkRecursiveCall() {
+        Ref<Function<String, String>> function = new Ref<>();
+        function.set(FunctionX.singleFlight(key -> function.get().apply(key)));
+        function.get().apply("key");
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void checkNullFunction() {
+        FunctionX.singleFlight(null);
+    }
+}
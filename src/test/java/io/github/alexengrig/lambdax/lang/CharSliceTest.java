@@ -0,0 +1,125 @@
+/*
+ * Copyright 2019 - 2020 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.alexengrig.lambdax.lang;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+public class CharSliceTest {
+    private static final String LINE = "2020-01-01 INFO  took=17ms user=alex";
+
+    @Test
+    public void checkSlicing() {
+        CharSlice line = CharSlice.of(LINE);
+        assertSame(line, CharSlice.of(line));
+        assertEquals(LINE.length(), line.length());
+        CharSlice level = line.subSequence(11, 15);
+        assertEquals("INFO", level.toString());
+        assertEquals('N', level.charAt(1));
+        assertEquals("NF", level.subSequence(1, 3).toString());
+        assertEquals("FO", level.subSequence(2).toString());
+        assertSame(level, level.subSequence(0, 4));
+        assertTrue(level.subSequence(2, 2).isEmpty());
+        assertEquals("INFO", CharSlice.of("  INFO \t").trim().toString());
+        assertTrue(CharSlice.of("   ").trim().isEmpty());
+    }
+
+    @Test
+    public void checkCharArray() {
+        char[] chars = "abcdef".toCharArray();
+        CharSlice slice = CharSlice.of(chars, 1, 3);
+        assertEquals("bcd", slice.toString());
+        chars[2] = 'X';
+        assertEquals("bXd", slice.toString());
+        assertEquals("abXdef", CharSlice.of(chars).toString());
+    }
+
+    @Test
+    public void checkCharArrayChangeAfterHashCode() {
+        char[] chars = "abc".toCharArray();
+        CharSlice slice = CharSlice.of(chars);
+        assertEquals("abc".hashCode(), slice.hashCode());
+        chars[1] = 'X';
+        assertEquals("aXc".hashCode(), slice.hashCode());
+        CharSlice other = CharSlice.of("aXc");
+        assertEquals("aXc".hashCode(), other.hashCode());
+        assertEquals(other, slice);
+        assertEquals(slice, other);
+    }
+
+    @Test
+    public void checkSplit() {
+        for (String string : Arrays.asList("a,b,,c", "a,b,,", ",a", "", ",,", "abc")) {
+            assertEquals(string, Arrays.asList(string.split(",")),
+                    CharSlice.of(string).split(',').stream().map(CharSlice::toString).collect(Collectors.toList()));
+        }
+        assertEquals(Collections.singletonList(CharSlice.of("")), CharSlice.of("").split(','));
+    }
+
+    @Test
+    public void checkSearch() {
+        CharSlice user = CharSlice.of(LINE).subSequence(LINE.indexOf("user"));
+        assertEquals(4, user.indexOf('='));
+        assertEquals(-1, user.indexOf('=', 5));
+        assertEquals(5, user.indexOf("alex"));
+        assertEquals(-1, user.indexOf("took"));
+        assertEquals(4, user.lastIndexOf('='));
+        assertTrue(user.startsWith("user="));
+        assertFalse(user.startsWith("took"));
+        assertTrue(user.endsWith("alex"));
+        assertFalse(user.endsWith("user=alexander"));
+    }
+
+    @Test
+    public void checkComparison() {
+        CharSlice took = CharSlice.of(LINE, 17, 21);
+        assertTrue(took.contentEquals("took"));
+        assertFalse(took.contentEquals("took="));
+        assertEquals(CharSlice.of("took".toCharArray()), took);
+        assertEquals("took".hashCode(), took.hashCode());
+        assertNotEquals(CharSlice.of("tool"), took);
+        assertEquals(0, took.compareTo("took"));
+        assertEquals(Integer.signum("took".compareTo("tool")), Integer.signum(took.compareTo(CharSlice.of("tool"))));
+        assertEquals(Integer.signum("took".compareTo("to")), Integer.signum(took.compareTo("to")));
+    }
+
+    @Test
+    public void checkParse() {
+        for (String number : Arrays.asList("0", "17", "-17", "+17", "2147483647", "-2147483648")) {
+            assertEquals(Integer.parseInt(number), CharSlice.of("[" + number + "]", 1, number.length() + 1).parseInt());
+        }
+        assertEquals(Long.MIN_VALUE, CharSlice.of(String.valueOf(Long.MIN_VALUE)).parseLong());
+        assertEquals(Long.MAX_VALUE, CharSlice.of(String.valueOf(Long.MAX_VALUE)).parseLong());
+        for (String invalid : Arrays.asList("", "-", "+", "1a", "2147483648", "-2147483649", " 1")) {
+            try {
+                CharSlice.of(invalid).parseInt();
+                fail(invalid);
+            } catch (NumberFormatException ignored) {
+            }
+        }
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void checkOutOfBounds() {
+        CharSlice.of("abc").subSequence(1).charAt(2);
+    }
+}
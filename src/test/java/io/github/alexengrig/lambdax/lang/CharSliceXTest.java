@@ -0,0 +1,71 @@
+/*
+ * Copyright 2019 - 2020 Alexengrig Dev.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.alexengrig.lambdax.lang;
+
+import org.junit.Test;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
+import static org.junit.Assert.*;
+
+public class CharSliceXTest {
+    private static final String LINE = "GET /index.html 200 1532";
+
+    @Test
+    public void checkPipeline() {
+        Function<CharSequence, List<CharSlice>> split = CharSliceX.split(' ');
+        ToIntFunction<CharSlice> parseInt = CharSliceX.parseInt();
+        List<CharSlice> tokens = split.apply(LINE);
+        assertEquals(4, tokens.size());
+        assertEquals(200, parseInt.applyAsInt(tokens.get(2)));
+        assertEquals(1532L, CharSliceX.parseLong().applyAsLong(tokens.get(3)));
+        assertEquals("/index.html", CharSliceX.materialize().apply(tokens.get(1)));
+    }
+
+    @Test
+    public void checkSlice() {
+        assertEquals(CharSlice.of("index.html"), CharSliceX.slice(5, 15).apply(LINE));
+        assertEquals(CharSlice.of("1532"), CharSliceX.slice(20).apply(LINE));
+        assertEquals(CharSlice.of(LINE), CharSliceX.view().apply(LINE));
+        assertEquals(CharSlice.of("a b"), CharSliceX.trim().apply(CharSlice.of(" a b ")));
+    }
+
+    @Test
+    public void checkSearch() {
+        CharSlice line = CharSlice.of(LINE);
+        assertEquals(Integer.valueOf(3), CharSliceX.indexOf(' ').apply(line));
+        assertEquals(Integer.valueOf(4), CharSliceX.indexOf("/index").apply(line));
+        Predicate<CharSlice> isGet = CharSliceX.startsWith("GET ");
+        assertTrue(isGet.test(line));
+        assertTrue(CharSliceX.endsWith("1532").test(line));
+        assertTrue(CharSliceX.equalsTo(LINE).test(line));
+        assertFalse(CharSliceX.equalsTo("GET").test(line));
+        assertEquals(Integer.valueOf(0), CharSliceX.compareTo(LINE).apply(line));
+    }
+
+    @Test
+    public void checkNonCapturingFunctions() {
+        assertSame(CharSliceX.view(), CharSliceX.view());
+        assertSame(CharSliceX.trim(), CharSliceX.trim());
+        assertSame(CharSliceX.parseInt(), CharSliceX.parseInt());
+        assertSame(CharSliceX.parseLong(), CharSliceX.parseLong());
+        assertSame(CharSliceX.materialize(), CharSliceX.materialize());
+    }
+}
@@ -19,13 +19,21 @@ package io.github.alexengrig.lambdax.lang;
 import org.junit.Test;
 
 import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import java.util.stream.Collectors;
 
-import static org.junit.Assert.assertArrayEquals;
-import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.*;
 
 public class StringXTest {
     private static final int ONE = 1;
@@ -36,6 +44,8 @@ public class StringXTest {
     private static final String STR = "str";
     private static final String REPLACEMENT = "replacement";
     private static final String REGEX = "\\.";
+    private static final Pattern PATTERN = Pattern.compile(REGEX);
+    private static final String DOTTED = "1.2.3";
     private static final StringBuffer SB = new StringBuffer(STR);
     private static final Charset CHARSET = Charset.defaultCharset();
 
@@ -162,6 +172,36 @@ public class StringXTest {
         doCheckEqualsRightFunctionResult(STRING::replaceAll, REGEX, REPLACEMENT, StringX::rightReplaceAll, STRING);
     }
 
+    @Test
+    public void checkReplaceFirstWithPattern() {
+        Function<String, String> replaceFirst = StringX.replaceFirst(PATTERN, "#");
+        assertEquals("1#2.3", replaceFirst.apply(DOTTED));
+        assertEquals(STRING, replaceFirst.apply(STRING));
+    }
+
+    @Test
+    public void checkReplaceAllWithPattern() {
+        Function<String, String> replaceAll = StringX.replaceAll(PATTERN, "#");
+        assertEquals("1#2#3", replaceAll.apply(DOTTED));
+        assertEquals("4#5", replaceAll.apply("4.5"));
+    }
+
+    @Test
+    public void checkReplaceAllWithPatternInAnotherThread() throws InterruptedException {
+        Function<String, String> replaceAll = StringX.replaceAll(PATTERN, "#");
+        String[] actual = new String[1];
+        Thread thread = new Thread(() -> actual[0] = replaceAll.apply("4.5"));
+        assertEquals("1#2#3", replaceAll.apply(DOTTED));
+        thread.start();
+        thread.join();
+        assertEquals("4#5", actual[0]);
+    }
+
+    @Test(expected = PatternSyntaxException.class)
+    public void checkReplaceAllWithInvalidRegex() {
+        StringX.replaceAll("(", REPLACEMENT);
+    }
+
     @Test
     public void checkReplaceWithChar() {
         doCheckEqualsFunctionResult(STRING::replace, S, C, StringX::replace, STRING);
@@ -227,6 +267,22 @@ public class StringXTest {
         doCheckEqualsFunctionArrayResult(STRING::split, REGEX, ONE, StringX::split, STRING);
     }
 
+    @Test
+    public void checkSplitWithPattern() {
+        assertArrayEquals(new String[]{"1", "2", "3"}, StringX.split(PATTERN).apply(DOTTED));
+        assertArrayEquals(new String[]{"1", "2.3"}, StringX.split(PATTERN, 2).apply(DOTTED));
+    }
+
+    @Test
+    public void checkSplitWithLiteral() {
+        String value = "a,b.c|d,,";
+        for (String regex : new String[]{",", ".", "|", "\\.", "\\|", "\\d", ",|\\."}) {
+            assertArrayEquals(regex, value.split(regex), StringX.split(regex).apply(value));
+            assertArrayEquals(regex, value.split(regex, -1), StringX.split(regex, -1).apply(value));
+            assertArrayEquals(regex, value.split(regex, 2), StringX.leftSplit(regex).apply(2).apply(value));
+        }
+    }
+
     @Test
     public void checkLeftSplitWithLimit() {
         doCheckEqualsLeftFunctionArrayResult(STRING::split, REGEX, ONE, StringX::leftSplit, STRING);
@@ -427,6 +483,13 @@ public class StringXTest {
         doCheckEqualsPredicateResult(STRING::matches, REGEX, StringX::matches, STRING);
     }
 
+    @Test
+    public void checkMatchesWithPattern() {
+        Predicate<String> matches = StringX.matches(Pattern.compile("\\d(\\.\\d)*"));
+        assertTrue(matches.test(DOTTED));
+        assertFalse(matches.test(STRING));
+    }
+
     @Test
     public void checkContentEqualsToWithStringBuffer() {
         doCheckEqualsPredicateResult(STRING::contentEquals, SB, StringX::contentEqualsTo, STRING);
@@ -446,4 +509,111 @@ public class StringXTest {
     public void checkEqualsTo() {
         doCheckEqualsPredicateResult(STRING::equals, STR, StringX::equalsTo, STRING);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void checkCanonicalFunctions() {
+        assertSame(StringX.startsWith("pre"), StringX.startsWith(new String("pre")));
+        assertSame(StringX.replace('a', 'b'), StringX.replace('a', 'b'));
+        assertSame(StringX.replaceAll("\\d+", "#"), StringX.replaceAll("\\d+", "#"));
+        assertSame(StringX.substring(1000), StringX.substring(1000));
+        assertSame(StringX.substring(1, 2), StringX.leftSubstring(1).apply(2));
+        assertSame(StringX.startsWith("pre", 1), StringX.rightStartsWith(1).apply("pre"));
+        assertNotSame(StringX.startsWith("pre"), StringX.startsWith("pre", 0));
+        assertNotSame(StringX.indexOf('a'), StringX.indexOf("a"));
+        assertNotSame(StringX.contains(new StringBuilder("a")), StringX.contains(new StringBuilder("a")));
+        Pattern pattern = Pattern.compile("a");
+        assertNotSame(StringX.split(pattern), StringX.split(pattern));
+    }
+
+    @Test
+    public void checkCanonicalFunctionsAreBounded() {
+        StringXCache.clear();
+        Predicate<String> hot = StringX.endsWith("hot");
+        for (int i = 0; i < 10 * StringXCache.MAXIMUM_SIZE; i++) {
+            assertTrue(StringX.endsWith("suffix" + i).test("the suffix" + i));
+            if (i % 100 == 0) {
+                assertSame(hot, StringX.endsWith("hot"));
+            }
+            assertTrue(StringXCache.size() <= StringXCache.MAXIMUM_SIZE);
+        }
+        assertSame(hot, StringX.endsWith("hot"));
+        String recent = "suffix" + (10 * StringXCache.MAXIMUM_SIZE - 1);
+        assertSame(StringX.endsWith(recent), StringX.endsWith(recent));
+        StringXCache.clear();
+    }
+
+    @Test
+    public void checkContainsAny() {
+        Predicate<String> containsAny = StringX.containsAny(Arrays.asList("he", "she", "his", "hers"));
+        assertTrue(containsAny.test("ushers"));
+        assertTrue(containsAny.test("this"));
+        assertFalse(containsAny.test("hi, sir"));
+        assertFalse(containsAny.test(""));
+        assertFalse(StringX.containsAny(Collections.emptyList()).test("any"));
+        assertTrue(StringX.containsAny(Collections.singletonList("")).test(""));
+    }
+
+    @Test
+    public void checkStartsWithAny() {
+        Predicate<String> startsWithAny = StringX.startsWithAny(Arrays.asList("http://", "https://", "ftp"));
+        assertTrue(startsWithAny.test("https://example.org"));
+        assertTrue(startsWithAny.test("ftp"));
+        assertFalse(startsWithAny.test("http:/"));
+        assertFalse(startsWithAny.test("file://ftp"));
+        assertTrue(StringX.startsWithAny(Arrays.asList("x", "")).test("abc"));
+    }
+
+    @Test
+    public void checkEndsWithAny() {
+        Predicate<String> endsWithAny = StringX.endsWithAny(Arrays.asList(".java", ".kt", "ЖЖ"));
+        assertTrue(endsWithAny.test("StringX.java"));
+        assertTrue(endsWithAny.test("Main.kt"));
+        assertTrue(endsWithAny.test("ЖЖЖ"));
+        assertFalse(endsWithAny.test("java"));
+        assertFalse(endsWithAny.test("Main.kts"));
+    }
+
+    @Test
+    public void checkFindAll() {
+        Function<String, List<String>> findAll = StringX.findAll(Arrays.asList("he", "she", "his", "hers", "he"));
+        assertEquals(Arrays.asList("she", "he", "hers"), findAll.apply("ushers"));
+        assertEquals(Arrays.asList("his", "he"), findAll.apply("his hehe"));
+        assertEquals(Collections.emptyList(), findAll.apply("nothing"));
+    }
+
+    @Test
+    public void checkKeywordsAgainstNaiveSearch() {
+        Random random = new Random(42);
+        for (int round = 0; round < 200; round++) {
+            List<String> keywords = new ArrayList<>();
+            for (int i = random.nextInt(8); i >= 0; i--) {
+                keywords.add(randomString(random, 1 + random.nextInt(4)));
+            }
+            Predicate<String> containsAny = StringX.containsAny(keywords);
+            Predicate<String> startsWithAny = StringX.startsWithAny(keywords);
+            Predicate<String> endsWithAny = StringX.endsWithAny(keywords);
+            Function<String, List<String>> findAll = StringX.findAll(keywords);
+            for (int i = 0; i < 20; i++) {
+                String string = randomString(random, random.nextInt(12));
+                assertEquals(keywords.stream().anyMatch(string::contains), containsAny.test(string));
+                assertEquals(keywords.stream().anyMatch(string::startsWith), startsWithAny.test(string));
+                assertEquals(keywords.stream().anyMatch(string::endsWith), endsWithAny.test(string));
+                assertEquals(keywords.stream().filter(string::contains).collect(Collectors.toSet()),
+                        new HashSet<>(findAll.apply(string)));
+            }
+        }
+    }
+
+    private static String randomString(Random random, int length) {
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = (char) ('a' + random.nextInt(3));
+        }
+        return new String(chars);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void checkContainsAnyWithNullKeyword() {
+        StringX.containsAny(Arrays.asList("a", null));
+    }
+}